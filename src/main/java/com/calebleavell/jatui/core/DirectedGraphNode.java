@@ -79,6 +79,18 @@ public interface DirectedGraphNode<P extends Enum<?>, A extends DirectedGraphNod
      */
     Map<P, PropertyUpdateFlag> getPropertyUpdateFlags();
 
+    /**
+     * <p>Get the flag set for one property.</p>
+     * @param property The property to get the flag for.
+     * @return The flag for {@code property}.
+     * @implSpec The default implementation reads {@link DirectedGraphNode#getPropertyUpdateFlags()}.
+     * Implementations that don't store their flags in a map should override this, since it's called
+     * for every node a property update reaches.
+     */
+    default PropertyUpdateFlag getPropertyUpdateFlag(P property) {
+        return getPropertyUpdateFlags().get(property);
+    }
+
     /** Get the {@code Class<T>} type of the current Node **/
     Class<T> getType();
 
@@ -194,7 +206,7 @@ public interface DirectedGraphNode<P extends Enum<?>, A extends DirectedGraphNod
         if(visited.contains(self)) return;
         visited.add(self);
 
-        PropertyUpdateFlag flag = this.getPropertyUpdateFlags().get(property);
+        PropertyUpdateFlag flag = this.getPropertyUpdateFlag(property);
         switch(flag) {
             case UPDATE -> {
                 updater.accept(self);
@@ -22,6 +22,13 @@
 
 package com.calebleavell.jatui.modules;
 
+import com.calebleavell.jatui.monitoring.EventLog;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.lang.reflect.Array;
+import java.util.concurrent.atomic.AtomicLongArray;
+
 import static org.fusesource.jansi.Ansi.ansi;
 
 import java.util.*;
@@ -59,13 +66,37 @@ public class ApplicationModule extends TUIModule {
      * The frequency of names of all children of this application. <br>
      * This is used to support {@link ApplicationModule#checkForNameDuplicates()}.
      * An error is logged if there are name collisions.
+     * It is the sum of the {@link SubtreeNames#names} of {@link ApplicationModule#validatedSubtrees}.
      */
     private final Map<String, Integer> nameFrequencyMap = new HashMap<>();
 
+    /** The children of this application when they were last validated, or null if they haven't been. **/
+    private List<TUIModule.Builder<?>> validatedChildren = null;
+
+    /** The names found under each (non-null) child when it was last validated. **/
+    private final Map<TUIModule.Builder<?>, SubtreeNames> validatedSubtrees = new IdentityHashMap<>();
+
+    /** The limits on the resources this application may use. **/
+    private final ResourceQuota quota;
+
+    /** The estimated size of {@link ApplicationModule#inputMap}; only tracked if the quota limits it. **/
+    private long stateBytes = 0;
+
+    /** When the current one-second window for {@link ResourceQuota#getMaxBuildsPerSecond()} began. **/
+    private long buildWindowStart = System.nanoTime();
+
+    /** The number of modules built in the current one-second window. **/
+    private int buildsInWindow = 0;
+
+    /** The number of quota violations, indexed by {@link QuotaExceededException.Kind#ordinal()}. **/
+    private final AtomicLongArray quotaViolations = new AtomicLongArray(QuotaExceededException.Kind.values().length);
+
     /**
      * Overrides {@link TUIModule#start()}. <br>
      * Checks and logs name duplicates, runs children (where "home" is the first child),
-     * and then runs {@link ApplicationModule#onExit} if not disabled.
+     * and then runs {@link ApplicationModule#onExit} if not disabled. Like any run started from outside another
+     * run, each of these flushes the output sink when it finishes, so buffered or asynchronous output is written
+     * before returning.
      * @implNote overrides run instead of shallowRun to ensure onExit runs exactly once per run, regardless of
      * restarting or termination.
      */
@@ -78,26 +109,188 @@ public class ApplicationModule extends TUIModule {
         onExit.build().start();
     }
 
+    /**
+     * Like {@link ApplicationModule#start()}, but suspends while waiting for input (see {@link EventLoop}).
+     * {@link ApplicationModule#onExit} runs once the run finishes, and is expected not to collect input.
+     */
+    @Override
+    TUIModule startSuspendable() {
+        logger.info("Running ApplicationModule \"{}\" as a suspendable source", getName());
+
+        checkForNameDuplicates();
+        return super.startSuspendable();
+    }
+
+    @Override
+    void finishSuspendable() {
+        onExit.build().start();
+        super.finishSuspendable();
+    }
+
     @Override
     public void doRunLogic() {/* no additional behavior needed in shallowRun */}
 
     /**
      * Checks every child attached to this application and logs an error
-     * for every name collision found.
+     * for every name collision and every null child found. This runs when the application starts and
+     * again whenever a {@link LazyModule} in it creates its subtree.
+     * <br><br>
+     * The names under each child are counted separately and kept, so only the children that have been
+     * attached, detached, or changed (tracked by {@link TUIModule.Builder#getStructureStamp()}) since the last check
+     * are walked again. If nothing changed, the check is skipped entirely, so restarting an application doesn't
+     * walk the graph again.
      */
-    private void checkForNameDuplicates() {
-        nameFrequencyMap.clear();
+    void checkForNameDuplicates() {
+        if(isValidated()) {
+            logger.trace("skipping validation for application \"{}\" since nothing has changed", getName());
+            return;
+        }
 
-        for(TUIModule.Builder<?> child : getChildren()) {
+        List<TUIModule.Builder<?>> children = new ArrayList<>(getChildren());
+
+        Map<TUIModule.Builder<?>, Integer> occurrences = new IdentityHashMap<>();
+        for(TUIModule.Builder<?> child : children) {
+            if(child != null) occurrences.merge(child, 1, Integer::sum);
+        }
+
+        // detach the subtrees that are no longer children (as often as before) or have changed
+        Iterator<Map.Entry<TUIModule.Builder<?>, SubtreeNames>> entries = validatedSubtrees.entrySet().iterator();
+        while(entries.hasNext()) {
+            Map.Entry<TUIModule.Builder<?>, SubtreeNames> entry = entries.next();
+            SubtreeNames names = entry.getValue();
+            if(names.occurrences == occurrences.getOrDefault(entry.getKey(), 0)
+                    && names.stamp == entry.getKey().getStructureStamp()) continue;
+            names.names.forEach((name, count) -> nameFrequencyMap.computeIfPresent(name,
+                    (n, total) -> total == count * names.occurrences ? null : total - count * names.occurrences));
+            entries.remove();
+        }
+
+        // walk the subtrees that were attached or changed
+        List<TUIModule.Builder<?>> stale = new ArrayList<>();
+        Set<TUIModule.Builder<?>> queued = Collections.newSetFromMap(new IdentityHashMap<>());
+        for(TUIModule.Builder<?> child : children) {
+            if(child != null && !validatedSubtrees.containsKey(child) && queued.add(child)) stale.add(child);
+        }
+
+        Set<String> changedNames = new HashSet<>();
+        for(TUIModule.Builder<?> child : stale) {
+            SubtreeNames names = new SubtreeNames(child);
+            names.occurrences = occurrences.get(child);
+            names.names.forEach((name, count) -> nameFrequencyMap.merge(name, count * names.occurrences, Integer::sum));
+            changedNames.addAll(names.names.keySet());
+            for(String parent : names.nullParents) logger.error("Module \"{}\" has a null child", parent);
+            validatedSubtrees.put(child, names);
+        }
+
+        if(children.contains(null)) logger.error("Application \"{}\" has a null child", getName());
+        for(String name : changedNames) {
+            int frequency = nameFrequencyMap.getOrDefault(name, 0);
+            if(frequency >= 2) logger.error("Duplicate name detected: \"{}\" appears in {} modules", name, frequency);
+        }
+
+        logger.trace("validated application \"{}\" by walking {} of {} children", getName(), stale.size(), children.size());
+        validatedChildren = children;
+    }
+
+    /**
+     * @return Whether the children are unchanged since {@link ApplicationModule#checkForNameDuplicates()} last walked them.
+     */
+    boolean isValidated() {
+        List<TUIModule.Builder<?>> children = getChildren();
+        if(validatedChildren == null || validatedChildren.size() != children.size()) return false;
+        for(int i = 0; i < children.size(); i ++) {
+            TUIModule.Builder<?> child = children.get(i);
+            if(child != validatedChildren.get(i)) return false;
+            if(child != null && child.getStructureStamp() != validatedSubtrees.get(child).stamp) return false;
+        }
+        return true;
+    }
+
+    /**
+     * @param name The name of a module.
+     * @return How many modules reachable from the children of this application had {@code name} when they were
+     * last validated by {@link ApplicationModule#checkForNameDuplicates()}.
+     */
+    int getNameFrequency(String name) {
+        return nameFrequencyMap.getOrDefault(name, 0);
+    }
+
+    /**
+     * The names of every module reachable from one child of an application, and the modules that have a null child.
+     * Kept per child so that only changed children are walked again.
+     */
+    private static final class SubtreeNames {
+        /** The structure stamp of the child when it was walked. **/
+        private final long stamp;
+        /** The frequency of each name in the subtree. **/
+        private final Map<String, Integer> names = new HashMap<>();
+        /** The names of the modules in the subtree that have a null child. **/
+        private final List<String> nullParents = new ArrayList<>();
+        /** How many times the child appears in the children of the application. **/
+        private int occurrences = 0;
+
+        private SubtreeNames(TUIModule.Builder<?> child) {
+            // read the stamp first, so a concurrent change makes the entry stale rather than wrong
+            this.stamp = child.getStructureStamp();
+            // names and null children are checked in the same walk
             child.forEach(c -> {
-                nameFrequencyMap.computeIfAbsent(c.getName(), ignored -> 0);
-                nameFrequencyMap.put(c.getName(), nameFrequencyMap.get(c.getName()) + 1);
+                names.merge(c.getName(), 1, Integer::sum);
+                if(c.getChildren().contains(null)) nullParents.add(c.getName());
             });
         }
-        for(Map.Entry<String, Integer> entry : nameFrequencyMap.entrySet()) {
-            if(entry.getValue() >= 2)
-                logger.error("Duplicate name detected: \"{}\" appears in {} modules", entry.getKey(), entry.getValue());
-        }
+    }
+
+    /**
+     * Captures the inputs of this application and, if it is running, where its run is, so another instance of
+     * the application can continue from there via {@link ApplicationModule#restore(ApplicationSnapshot)}
+     * (e.g., after a restart or on another node). See {@link ApplicationSnapshot} and {@link SnapshotStore}.
+     * <br><br>
+     * A run can only be captured while it is suspended, e.g., between the steps of an {@link EventLoop}.
+     * Call this on the loop's thread or while the loop isn't running.
+     *
+     * @return The snapshot.
+     * @throws IllegalStateException if a module of this application is running.
+     * @throws IllegalArgumentException if an input can't be serialized.
+     */
+    public ApplicationSnapshot snapshot() {
+        ApplicationSnapshot snapshot = ApplicationSnapshot.capture(this);
+        logger.debug("captured {}", snapshot);
+        return snapshot;
+    }
+
+    /**
+     * Replaces the inputs of this application with those of {@code snapshot}, and sets up the captured run (if any)
+     * to continue the next time this application is started, either via {@link ApplicationModule#start()} or by
+     * submitting it to an {@link EventLoop}. The modules on the captured run stack are rebuilt from this
+     * application's builders, and the module that was waiting for input displays its prompt again.
+     *
+     * @param snapshot A snapshot of an application with the same name and structure.
+     * @throws IllegalStateException if this application is running.
+     * @throws IllegalArgumentException if the snapshot is of another application or refers to modules this
+     * application doesn't have.
+     * @throws java.io.UncheckedIOException if an input of the snapshot can't be read.
+     */
+    public void restore(ApplicationSnapshot snapshot) {
+        Objects.requireNonNull(snapshot, "snapshot cannot be null");
+        logger.debug("restoring application \"{}\" from {}", getName(), snapshot);
+        snapshot.restoreInto(this);
+    }
+
+    /**
+     * @return An unmodifiable view of the inputs of this application.
+     */
+    Map<String, Object> getInputs() {
+        return Collections.unmodifiableMap(inputMap);
+    }
+
+    /**
+     * Replaces the inputs of this application, e.g., when restoring an {@link ApplicationSnapshot}.
+     *
+     * @param inputs The new inputs.
+     */
+    void restoreInputs(Map<String, Object> inputs) {
+        resetMemory();
+        inputs.forEach(this::putInput);
     }
 
     /**
@@ -114,6 +307,7 @@ public class ApplicationModule extends TUIModule {
         }
 
         inputMap.clear();
+        stateBytes = 0;
     }
 
     /**
@@ -177,8 +371,8 @@ public class ApplicationModule extends TUIModule {
      * @param input The new input to store.
      */
     public void updateInput(TUIModule module, Object input) {
-        logInput(module.getName(), input);
-        inputMap.put(module.getName(), input);
+        EventLog.inputUpdated(getName(), module.getName(), input, false);
+        putInput(module.getName(), input);
     }
 
     /**
@@ -207,17 +401,143 @@ public class ApplicationModule extends TUIModule {
      * @param input The new input to store.
      */
     public void forceUpdateInput(String identifier, Object input) {
-        logger.info("force-updating input in app \"{}\" for module \"{}\" to \"{}\"", getName(), identifier, (input == null) ? "null" : input.toString());
-        inputMap.put(identifier, input);
+        EventLog.inputUpdated(getName(), identifier, input, true);
+        putInput(identifier, input);
+    }
+
+    /**
+     * Stores input, enforcing {@link ResourceQuota#getMaxStateEntries()} and {@link ResourceQuota#getMaxStateBytes()}.
+     *
+     * @throws QuotaExceededException if storing the input would exceed the quota. The input isn't stored.
+     */
+    private void putInput(String key, Object input) {
+        int maxEntries = quota.getMaxStateEntries();
+        long maxBytes = quota.getMaxStateBytes();
+        if(maxEntries == 0 && maxBytes == 0) {
+            inputMap.put(key, input);
+            return;
+        }
+
+        boolean isNew = !inputMap.containsKey(key);
+        if(isNew && maxEntries != 0 && inputMap.size() >= maxEntries)
+            throw quotaExceeded(QuotaExceededException.Kind.STATE_ENTRIES, maxEntries, inputMap.size() + 1L);
+
+        if(maxBytes != 0) {
+            long previous = isNew ? 0 : estimateSize(key) + estimateSize(inputMap.get(key));
+            long updated = stateBytes - previous + estimateSize(key) + estimateSize(input);
+            if(updated > maxBytes) throw quotaExceeded(QuotaExceededException.Kind.STATE_BYTES, maxBytes, updated);
+            stateBytes = updated;
+        }
+
+        inputMap.put(key, input);
+    }
+
+    /**
+     * A rough, shallow estimate of the heap used by a value stored as input. Strings and arrays are sized by their
+     * length; collections and maps by their size; anything else counts as a small object.
+     *
+     * @param value The value to estimate.
+     * @return The estimated size in bytes.
+     */
+    static long estimateSize(Object value) {
+        return switch(value) {
+            case null -> 0;
+            case CharSequence text -> 40 + 2L * text.length();
+            case char[] chars -> 16 + 2L * chars.length;
+            case byte[] bytes -> 16 + (long) bytes.length;
+            case Collection<?> collection -> 32 + 16L * collection.size();
+            case Map<?, ?> map -> 48 + 32L * map.size();
+            default -> value.getClass().isArray() ? 16 + 8L * Array.getLength(value) : 16;
+        };
+    }
+
+    /**
+     * @return The limits on the resources this application may use.
+     */
+    public ResourceQuota getQuota() {
+        return quota;
+    }
+
+    /**
+     * @param kind The limit to count violations of.
+     * @return How many times this application has exceeded the given limit of its {@link ResourceQuota}.
+     */
+    public long getQuotaViolations(QuotaExceededException.Kind kind) {
+        return quotaViolations.get(kind.ordinal());
+    }
+
+    /**
+     * Only applications with a quota are tracked by the scheduler.
+     */
+    @Override
+    ApplicationModule quotaOwner() {
+        return quota.isUnlimited() ? null : this;
+    }
+
+    /**
+     * Enforces {@link ResourceQuota#getMaxRunStackDepth()}.
+     *
+     * @param depth The current depth of the run stack.
+     */
+    void checkRunStackDepth(int depth) {
+        int max = quota.getMaxRunStackDepth();
+        if(max != 0 && depth > max) throw quotaExceeded(QuotaExceededException.Kind.RUN_STACK_DEPTH, max, depth);
+    }
+
+    /**
+     * Enforces {@link ResourceQuota#getMaxBuildsPerSecond()}. Called by the scheduler before it builds a module.
+     */
+    void recordBuild() {
+        int max = quota.getMaxBuildsPerSecond();
+        if(max == 0) return;
+
+        long now = System.nanoTime();
+        if(now - buildWindowStart >= 1_000_000_000L) {
+            buildWindowStart = now;
+            buildsInWindow = 0;
+        }
+        buildsInWindow ++;
+        if(buildsInWindow > max) throw quotaExceeded(QuotaExceededException.Kind.BUILD_RATE, max, buildsInWindow);
+    }
+
+    /**
+     * Starts timing a handler for {@link ResourceQuota#getMaxHandlerCpuTime()}.
+     * Pass the result to {@link ApplicationModule#checkHandlerCpuTime(String, long)} once the handler returns.
+     *
+     * @return The CPU time of the current thread, or -1 if the quota doesn't limit handlers
+     * (or the JVM doesn't support measuring it).
+     */
+    public long startHandlerCpuTimer() {
+        if(quota.getMaxHandlerCpuTime().isZero()) return -1;
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        return threads.isCurrentThreadCpuTimeSupported() ? threads.getCurrentThreadCpuTime() : -1;
+    }
+
+    /**
+     * Enforces {@link ResourceQuota#getMaxHandlerCpuTime()} for a handler that has returned.
+     *
+     * @param handlerName The name of the handler, for logging.
+     * @param start The value returned by {@link ApplicationModule#startHandlerCpuTimer()} before the handler ran.
+     */
+    public void checkHandlerCpuTime(String handlerName, long start) {
+        if(start < 0) return;
+        long used = ManagementFactory.getThreadMXBean().getCurrentThreadCpuTime() - start;
+        long max = quota.getMaxHandlerCpuTime().toNanos();
+        if(used > max) {
+            logger.debug("handler \"{}\" used {}ns of CPU time", handlerName, used);
+            throw quotaExceeded(QuotaExceededException.Kind.HANDLER_CPU_TIME, max, used);
+        }
     }
 
     /**
-     * Logs that input is being updated.
-     * @param moduleName The name of the relevant module
-     * @param input The new input
+     * Counts, logs, and creates the exception for a quota violation.
      */
-    private void logInput(String moduleName, Object input) {
-        logger.info("updating input in app \"{}\" for module \"{}\" to \"{}\"", getName(), moduleName, (input == null) ? "null" : input.toString());
+    private QuotaExceededException quotaExceeded(QuotaExceededException.Kind kind, long limit, long actual) {
+        quotaViolations.incrementAndGet(kind.ordinal());
+        getMetrics().recordQuotaViolation();
+        QuotaExceededException e = new QuotaExceededException(kind, getName(), limit, actual);
+        logger.warn(e.getMessage());
+        return e;
     }
 
     /**
@@ -237,8 +557,8 @@ public class ApplicationModule extends TUIModule {
 
         for(TUIModule.Builder<?> child : getChildren()) {
             child.application(this);
-            child.printStream(this.getPrintStream());
-            child.scanner(this.getScanner());
+            child.outputSink(this.getOutputSink());
+            child.inputSource(this.getInputSource());
             child.enableAnsi(this.getAnsiEnabled());
         }
     }
@@ -263,8 +583,8 @@ public class ApplicationModule extends TUIModule {
         logger.debug("setting onExit for application \"{}\" to module \"{}\"", getName(), onExit.getName());
         this.onExit = onExit;
         onExit.application(this);
-        onExit.printStream(this.getPrintStream());
-        onExit.scanner(this.getScanner());
+        onExit.outputSink(this.getOutputSink());
+        onExit.inputSource(this.getInputSource());
         onExit.enableAnsi(this.getAnsiEnabled());
     }
 
@@ -297,11 +617,15 @@ public class ApplicationModule extends TUIModule {
         super(builder);
         this.inputMap = builder.inputMap;
         this.onExit = builder.onExit;
+        this.quota = builder.quota;
+        if(quota.getMaxStateBytes() != 0) {
+            for(Map.Entry<String, Object> entry : inputMap.entrySet()) stateBytes += estimateSize(entry.getKey()) + estimateSize(entry.getValue());
+        }
 
         for(TUIModule.Builder<?> child : getChildren()) {
             child.application(this);
-            child.printStream(this.getPrintStream());
-            child.scanner(this.getScanner());
+            child.outputSink(this.getOutputSink());
+            child.inputSource(this.getInputSource());
             child.enableAnsi(this.getAnsiEnabled());
         }
 
@@ -322,11 +646,11 @@ public class ApplicationModule extends TUIModule {
      * Builder for {@link ApplicationModule}.
      * <br><br>
      * Required fields: {@code name} <br>
-     * Optional fields (with default values): {@code inputMap}, {@code onExit}
+     * Optional fields (with default values): {@code inputMap}, {@code onExit}, {@code quota}
      *
      * @implNote
-     * This class doesn't override {@link TUIModule.Builder#shallowCopy(TUIModule.Builder)}
-     * because {@code inputMap} is private and thus is known to not be touched before building,
+     * {@code inputMap} isn't copied by {@link ApplicationModule.Builder#shallowCopy(Builder)}
+     * because it is private and thus is known to not be touched before building,
      * and {@code onExit} is added to children until building, which means it's automatically handled
      * by the super method.
      */
@@ -346,6 +670,9 @@ public class ApplicationModule extends TUIModule {
          */
         private TUIModule.Builder<?> onExit = DEFAULT_EXIT.getCopy();
 
+        /** The limits on the resources the application may use. Unlimited by default. **/
+        private ResourceQuota quota = ResourceQuota.UNLIMITED;
+
         protected Builder(String name) {
             super(Builder.class, name);
             this.children.add(ModuleFactory.empty("home"));
@@ -369,6 +696,35 @@ public class ApplicationModule extends TUIModule {
             return new Builder();
         }
 
+        /**
+         * Copies {@code quota} and delegates to {@link TUIModule.Builder#shallowCopy(TUIModule.Builder)}.
+         * @param original The builder to copy from.
+         */
+        @Override
+        protected void shallowCopy(Builder original) {
+            this.quota = original.quota;
+            super.shallowCopy(original);
+        }
+
+        /**
+         * Sets the limits on the resources the application may use (see {@link ResourceQuota}).
+         *
+         * @param quota The quota to enforce. {@link ResourceQuota#UNLIMITED} by default.
+         * @return self
+         */
+        public Builder quota(ResourceQuota quota) {
+            logger.debug("setting quota for application builder \"{}\" to {}", getName(), quota);
+            this.quota = Objects.requireNonNull(quota, "quota cannot be null");
+            return self();
+        }
+
+        /**
+         * @return The limits on the resources the application may use.
+         */
+        public ResourceQuota getQuota() {
+            return quota;
+        }
+
         /**
          * Sets the home of the application.
          * The home of a {@link ApplicationModule} is simply it's first child. This means it will be the first
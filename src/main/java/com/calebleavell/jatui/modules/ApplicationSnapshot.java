@@ -0,0 +1,687 @@
+/*
+    Copyright (c) 2026 Caleb Leavell
+
+    Permission is hereby granted, free of charge, to any person obtaining a copy
+    of this software and associated documentation files (the "Software"), to deal
+    in the Software without restriction, including without limitation the rights
+    to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+    copies of the Software, and to permit persons to whom the Software is
+    furnished to do so, subject to the following conditions:
+
+    The above copyright notice and this permission notice shall be included in all
+    copies or substantial portions of the Software.
+
+    THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+    IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+    FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+    AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+    LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+    OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+    SOFTWARE.
+ */
+
+package com.calebleavell.jatui.modules;
+
+import com.calebleavell.jatui.core.RunFrame;
+
+import java.io.*;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The state of an {@link ApplicationModule} at one point of its run: its inputs and, if it is running,
+ * its run stack. Taken via {@link ApplicationModule#snapshot()} and applied to another instance of the same
+ * application (e.g., after a restart or on another node) via {@link ApplicationModule#restore(ApplicationSnapshot)},
+ * typically after being kept in a {@link SnapshotStore}.
+ * <br><br>
+ * A run can only be captured while it is suspended (see {@link EventLoop}), since the run stack of a module that
+ * is running isn't consistent. Each frame refers to its modules by name, and restoring rebuilds them from the
+ * builders of the application (a module is looked up among the children of its parent first, and then anywhere
+ * in the application), so every module on the stack must be reachable from the application by name.
+ * The module that was waiting for input runs again from the start, so it displays its prompt again.
+ * <br><br>
+ * Inputs of type {@link String}, {@link Boolean}, {@link Character}, {@link Integer}, {@link Long}, {@link Float},
+ * {@link Double}, {@link BigInteger}, {@link BigDecimal}, and enums are saved compactly; any other
+ * {@link Serializable} input is saved via Java serialization. When reading, only arrays, and the value types,
+ * enums, and collections of {@code java.base} (e.g., {@link java.util.ArrayList}, {@link java.util.HashMap},
+ * {@link java.util.UUID}, and {@code java.time}) may be created, plus the classes (including enums) registered via
+ * {@link ApplicationSnapshot#allowClasses(Class[])}; a snapshot with any other class fails to read.
+ * A class named by a snapshot is never loaded unless it is one of those.
+ * {@code char[]} inputs (e.g., from {@link com.calebleavell.jatui.templates.PasswordInput}) are never saved.
+ * <br><br>
+ * Snapshots are saved in a compact binary format: a 4-byte magic number, the application name and capture time,
+ * the inputs as tagged values, and the run as a table of modules followed by the frames from the bottom of the
+ * stack to the top, which refer to modules by their index in the table. Counts and indices are variable-length.
+ * <br><br>
+ * This class is immutable.
+ */
+public final class ApplicationSnapshot {
+
+    /** The magic number every saved snapshot starts with ("JTA1"). **/
+    public static final int MAGIC = 0x4A544131;
+
+    private static final int NULL = 0, STRING = 1, BOOLEAN = 2, CHARACTER = 3, INTEGER = 4, LONG = 5, FLOAT = 6,
+            DOUBLE = 7, BIG_INTEGER = 8, BIG_DECIMAL = 9, ENUM = 10, SERIALIZED = 11;
+
+    /** The most bytes a single string or value may have, so a corrupt length can't exhaust memory. **/
+    private static final int MAX_LENGTH = 1 << 26;
+
+    /** The most entries a table (inputs, modules, or frames) may have. **/
+    private static final int MAX_COUNT = 1 << 20;
+
+    /**
+     * The classes of {@code java.base} that Java serialization may create when an input is read, besides enums of
+     * {@code java.base}, arrays, and {@code java.time}. Includes the superclasses, serial proxies, and resolved classes that
+     * the filter is asked about for them.
+     */
+    private static final Set<String> ALLOWED_CLASSES = Set.of(
+            "java.lang.String", "java.lang.Boolean", "java.lang.Character", "java.lang.Number", "java.lang.Byte",
+            "java.lang.Short", "java.lang.Integer", "java.lang.Long", "java.lang.Float", "java.lang.Double",
+            "java.lang.Enum", "java.math.BigInteger", "java.math.BigDecimal", "java.util.UUID", "java.time.Ser",
+            "java.util.ArrayList", "java.util.LinkedList", "java.util.ArrayDeque", "java.util.HashMap",
+            "java.util.LinkedHashMap", "java.util.TreeMap", "java.util.HashSet", "java.util.LinkedHashSet",
+            "java.util.TreeSet", "java.util.CollSer", "java.util.Arrays$ArrayList", "java.util.ImmutableCollections$List12",
+            "java.util.ImmutableCollections$ListN", "java.util.ImmutableCollections$Set12",
+            "java.util.ImmutableCollections$SetN", "java.util.ImmutableCollections$Map1",
+            "java.util.ImmutableCollections$MapN");
+
+    /** The classes registered via {@link ApplicationSnapshot#allowClasses(Class[])}, by name. **/
+    private static final Map<String, Class<?>> registeredClasses = new ConcurrentHashMap<>();
+
+    /**
+     * Decides what Java serialization may create when an input is read: only {@link ApplicationSnapshot#ALLOWED_CLASSES},
+     * {@code java.time}, enums of {@code java.base}, registered classes, and arrays of those (or of primitives or {@link Object}, whose elements are
+     * checked on their own), within limits on depth, references, and array length. Everything else is rejected.
+     */
+    private static final ObjectInputFilter FILTER = info -> {
+        if(info.depth() > 32 || info.references() > 65536 || info.arrayLength() > MAX_LENGTH) return ObjectInputFilter.Status.REJECTED;
+        Class<?> type = info.serialClass();
+        if(type == null) return ObjectInputFilter.Status.ALLOWED; // only a check of the limits above
+        if(type.isArray()) {
+            while(type.isArray()) type = type.getComponentType();
+            if(type.isPrimitive() || type == Object.class) return ObjectInputFilter.Status.ALLOWED;
+        }
+        if(ALLOWED_CLASSES.contains(type.getName()) || isRegistered(type)) return ObjectInputFilter.Status.ALLOWED;
+        boolean javaBase = type.getModule() == Object.class.getModule();
+        if(javaBase && (type.isEnum() || type.getPackageName().equals("java.time"))) return ObjectInputFilter.Status.ALLOWED;
+        return ObjectInputFilter.Status.REJECTED;
+    };
+
+    /**
+     * @return Whether {@code type} itself (not just a class of the same name) was registered via
+     * {@link ApplicationSnapshot#allowClasses(Class[])}.
+     */
+    private static boolean isRegistered(Class<?> type) {
+        return registeredClasses.get(type.getName()) == type;
+    }
+
+    /**
+     * Finds the enum a snapshot names without loading any class that isn't allowed: a registered enum,
+     * or an enum of {@code java.base} (which is loaded by the bootstrap loader only).
+     *
+     * @param name The binary name of the enum.
+     * @return The enum class.
+     * @throws IOException if the name isn't an allowed enum.
+     */
+    private static Class<?> allowedEnum(String name) throws IOException {
+        Class<?> type = registeredClasses.get(name);
+        if(type == null) {
+            try {
+                type = Class.forName(name, false, null); // the bootstrap loader only finds platform classes
+            }
+            catch(ClassNotFoundException e) {
+                type = null;
+            }
+            if(type != null && type.getModule() != Object.class.getModule()) type = null;
+        }
+        if(type == null || !type.isEnum()) {
+            throw new IOException("can't restore input of enum " + name
+                    + ", which isn't allowed (see ApplicationSnapshot.allowClasses)");
+        }
+        return type;
+    }
+
+    private final String applicationName;
+    private final Instant capturedAt;
+    private final int inputCount;
+    /** The inputs as tagged values, encoded when the snapshot is taken so later changes to them aren't captured. **/
+    private final byte[] inputData;
+    private final List<ModuleEntry> modules;
+    private final List<FrameEntry> frames;
+
+    /**
+     * A module of the captured run. The application is always the first.
+     */
+    private static final class ModuleEntry {
+        /** The name of the module. **/
+        private final String name;
+        /** The index of the module's parent, or -1 (for the application, or if unknown). **/
+        private final int parent;
+        /** Whether the module was flagged to run again. **/
+        private final boolean restart;
+        /** The index of the child the module was running, or -1. **/
+        private final int runningChild;
+
+        private ModuleEntry(String name, int parent, boolean restart, int runningChild) {
+            this.name = name;
+            this.parent = parent;
+            this.restart = restart;
+            this.runningChild = runningChild;
+        }
+    }
+
+    /**
+     * A frame of the captured run stack (see {@link RunFrame}). Modules are indices into {@link ApplicationSnapshot#modules},
+     * or -1 for null.
+     */
+    private static final class FrameEntry {
+        private final int module;
+        private final int parent;
+        private final RunFrame.State state;
+        private final int displacedChild;
+
+        private FrameEntry(int module, int parent, RunFrame.State state, int displacedChild) {
+            this.module = module;
+            this.parent = parent;
+            this.state = state;
+            this.displacedChild = displacedChild;
+        }
+    }
+
+    private ApplicationSnapshot(String applicationName, Instant capturedAt, int inputCount, byte[] inputData,
+                                List<ModuleEntry> modules, List<FrameEntry> frames) {
+        this.applicationName = applicationName;
+        this.capturedAt = capturedAt;
+        this.inputCount = inputCount;
+        this.inputData = inputData;
+        this.modules = List.copyOf(modules);
+        this.frames = List.copyOf(frames);
+    }
+
+    /**
+     * Captures the inputs and (suspended) run of {@code application}. See {@link ApplicationModule#snapshot()}.
+     */
+    static ApplicationSnapshot capture(ApplicationModule application) {
+        List<RunFrame> runFrames = application.getRunFrames();
+
+        ByteArrayOutputStream inputBytes = new ByteArrayOutputStream();
+        DataOutputStream inputData = new DataOutputStream(inputBytes);
+        int inputCount = 0;
+        for(Map.Entry<String, Object> input : application.getInputs().entrySet()) {
+            Object value = input.getValue();
+            if(value instanceof char[]) continue; // never persist passwords
+            try {
+                writeString(inputData, input.getKey());
+                writeValue(inputData, value);
+            }
+            catch(IOException e) {
+                throw new IllegalArgumentException("Input \"" + input.getKey() + "\" of application \""
+                        + application.getName() + "\" can't be serialized: " + value.getClass().getName(), e);
+            }
+            inputCount ++;
+        }
+
+        Map<TUIModule, Integer> indices = new IdentityHashMap<>();
+        List<TUIModule> modules = new ArrayList<>();
+        List<Integer> parents = new ArrayList<>();
+        indexOf(application, null, indices, modules, parents);
+
+        List<FrameEntry> frames = new ArrayList<>();
+        if(runFrames != null) {
+            for(RunFrame frame : runFrames) {
+                int parent = indexOf(frame.parent, null, indices, modules, parents);
+                int module = indexOf(frame.module, frame.parent, indices, modules, parents);
+                int displaced = indexOf(frame.displacedChild, frame.parent, indices, modules, parents);
+                frames.add(new FrameEntry(module, parent, frame.state, displaced));
+            }
+        }
+
+        List<ModuleEntry> entries = new ArrayList<>();
+        for(int i = 0; i < modules.size(); i ++) { // running children are indexed as the table grows
+            TUIModule module = modules.get(i);
+            int child = indexOf(module.getCurrentRunningChild(), module, indices, modules, parents);
+            entries.add(new ModuleEntry(module.getName(), parents.get(i), module.isRestarting(), child));
+        }
+
+        return new ApplicationSnapshot(application.getName(), Instant.now(), inputCount, inputBytes.toByteArray(), entries, frames);
+    }
+
+    private static int indexOf(TUIModule module, TUIModule parent, Map<TUIModule, Integer> indices,
+                               List<TUIModule> modules, List<Integer> parents) {
+        if(module == null) return -1;
+        Integer index = indices.get(module);
+        if(index != null) return index;
+
+        index = modules.size();
+        indices.put(module, index);
+        modules.add(module);
+        parents.add(parent == null ? -1 : indices.getOrDefault(parent, -1));
+        return index;
+    }
+
+    /**
+     * Restores this snapshot into {@code application}. See {@link ApplicationModule#restore(ApplicationSnapshot)}.
+     */
+    void restoreInto(ApplicationModule application) {
+        if(!application.getName().equals(applicationName)) throw new IllegalArgumentException(
+                "Snapshot of application \"" + applicationName + "\" can't be restored into \"" + application.getName() + "\"");
+        Map<String, Object> inputs;
+        try {
+            inputs = decodeInputs(inputCount, inputData);
+        }
+        catch(IOException e) {
+            throw new UncheckedIOException("Inputs of the snapshot of application \"" + applicationName + "\" can't be read", e);
+        }
+
+        List<TUIModule> built = new ArrayList<>(modules.size());
+        built.add(application);
+        for(int i = 1; i < modules.size(); i ++) {
+            ModuleEntry entry = modules.get(i);
+            TUIModule parent = entry.parent < 0 ? null : built.get(entry.parent);
+            TUIModule.Builder<?> builder = find(application, parent, entry.name);
+            if(builder == null) throw new IllegalArgumentException(
+                    "Module \"" + entry.name + "\" of the snapshot can't be found in application \"" + applicationName + "\"");
+            built.add(builder.build());
+        }
+
+        List<RunFrame> runFrames = new ArrayList<>(frames.size());
+        for(FrameEntry frame : frames) {
+            runFrames.add(new RunFrame(built.get(frame.module), module(built, frame.parent),
+                    frame.state, module(built, frame.displacedChild)));
+        }
+
+        application.restoreRun(runFrames);
+        for(int i = 0; i < modules.size(); i ++) {
+            ModuleEntry entry = modules.get(i);
+            built.get(i).restoreRunState(entry.restart, module(built, entry.runningChild));
+        }
+        application.restoreInputs(inputs);
+    }
+
+    private static TUIModule.Builder<?> find(ApplicationModule application, TUIModule parent, String name) {
+        if(parent != null) {
+            for(TUIModule.Builder<?> child : parent.getChildren()) {
+                if(child != null && child.getName().equals(name)) return child;
+            }
+        }
+        return application.getChild(name);
+    }
+
+    private static TUIModule module(List<TUIModule> built, int index) {
+        return index < 0 ? null : built.get(index);
+    }
+
+    /**
+     * @return The name of the application this snapshot was taken of.
+     */
+    public String getApplicationName() {
+        return applicationName;
+    }
+
+    /**
+     * @return When this snapshot was taken.
+     */
+    public Instant getCapturedAt() {
+        return capturedAt;
+    }
+
+    /**
+     * @return A new copy of the inputs of the application (without {@code char[]} inputs), by name.
+     * @throws UncheckedIOException if an input can't be read (e.g., its class is missing).
+     */
+    public Map<String, Object> getInputs() {
+        try {
+            return decodeInputs(inputCount, inputData);
+        }
+        catch(IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static Map<String, Object> decodeInputs(int count, byte[] data) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(data));
+        Map<String, Object> inputs = new LinkedHashMap<>();
+        for(int i = 0; i < count; i ++) inputs.put(readString(in), readValue(in));
+        return inputs;
+    }
+
+    /**
+     * @return Whether the application was running (suspended) when this snapshot was taken.
+     */
+    public boolean hasRun() {
+        return !frames.isEmpty();
+    }
+
+    /**
+     * @return The number of frames on the captured run stack, or 0 if there was no run.
+     */
+    public int getFrameCount() {
+        return frames.size();
+    }
+
+    /**
+     * Writes this snapshot in the compact binary format.
+     *
+     * @param out The stream to write to. It is not closed.
+     * @throws IOException if writing fails.
+     */
+    public void write(OutputStream out) throws IOException {
+        DataOutputStream data = new DataOutputStream(new BufferedOutputStream(out));
+        data.writeInt(MAGIC);
+        writeString(data, applicationName);
+        data.writeLong(capturedAt.toEpochMilli());
+
+        writeVarLong(data, inputCount);
+        writeBytes(data, inputData);
+
+        writeVarLong(data, modules.size());
+        for(ModuleEntry module : modules) {
+            writeString(data, module.name);
+            writeVarLong(data, module.parent + 1L);
+            data.writeBoolean(module.restart);
+            writeVarLong(data, module.runningChild + 1L);
+        }
+
+        writeVarLong(data, frames.size());
+        for(FrameEntry frame : frames) {
+            writeVarLong(data, frame.module);
+            writeVarLong(data, frame.parent + 1L);
+            data.writeByte(frame.state.ordinal());
+            writeVarLong(data, frame.displacedChild + 1L);
+        }
+        data.flush();
+    }
+
+    /**
+     * @return This snapshot in the compact binary format.
+     */
+    public byte[] toByteArray() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try {
+            write(out);
+        }
+        catch(IOException e) {
+            throw new UncheckedIOException(e); // not thrown by ByteArrayOutputStream
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * Saves this snapshot to a file in the compact binary format.
+     *
+     * @param path The file to write, which is replaced if it exists.
+     * @throws IOException if writing fails.
+     */
+    public void save(Path path) throws IOException {
+        try(OutputStream out = Files.newOutputStream(path)) {
+            write(out);
+        }
+    }
+
+    /**
+     * Allows instances of {@code types} to be created when reading the inputs of a snapshot.
+     * Inputs of other classes than the value types, enums, and collections of {@code java.base} (including the
+     * application's own enums) must be registered before a snapshot with them is read, along with any serializable
+     * superclasses and the classes of their fields.
+     * Only register classes whose deserialization can't be abused by a crafted snapshot.
+     *
+     * @param types The classes to allow.
+     */
+    public static void allowClasses(Class<?>... types) {
+        for(Class<?> type : types) {
+            Objects.requireNonNull(type, "types cannot contain null");
+            registeredClasses.put(type.getName(), type);
+        }
+    }
+
+    /**
+     * Reads a snapshot written by {@link ApplicationSnapshot#write(OutputStream)}.
+     *
+     * @param in The stream to read from. It is not closed.
+     * @return The snapshot.
+     * @throws IOException if reading fails or the data is not a snapshot.
+     */
+    public static ApplicationSnapshot read(InputStream in) throws IOException {
+        DataInputStream data = new DataInputStream(new BufferedInputStream(in));
+        if(data.readInt() != MAGIC) throw new IOException("not an application snapshot");
+        String applicationName = readString(data);
+        Instant capturedAt = Instant.ofEpochMilli(data.readLong());
+
+        int inputCount = readCount(data);
+        byte[] inputData = readBytes(data);
+        decodeInputs(inputCount, inputData); // fail early on malformed inputs
+
+        int moduleCount = readCount(data);
+        if(moduleCount == 0) throw new IOException("malformed application snapshot: no application module");
+        List<ModuleEntry> modules = new ArrayList<>(Math.min(moduleCount, 64));
+        for(int i = 0; i < moduleCount; i ++) {
+            String name = readString(data);
+            int parent = readIndex(data, moduleCount) - 1;
+            boolean restart = data.readBoolean();
+            int runningChild = readIndex(data, moduleCount) - 1;
+            modules.add(new ModuleEntry(name, parent, restart, runningChild));
+        }
+
+        int frameCount = readCount(data);
+        List<FrameEntry> frames = new ArrayList<>(Math.min(frameCount, 64));
+        RunFrame.State[] states = RunFrame.State.values();
+        for(int i = 0; i < frameCount; i ++) {
+            int module = readIndex(data, moduleCount - 1);
+            int parent = readIndex(data, moduleCount) - 1;
+            int state = data.readUnsignedByte();
+            if(state >= states.length) throw new IOException("malformed application snapshot: bad frame state " + state);
+            int displaced = readIndex(data, moduleCount) - 1;
+            frames.add(new FrameEntry(module, parent, states[state], displaced));
+        }
+
+        for(int i = 1; i < moduleCount; i ++) {
+            if(modules.get(i).parent >= i) throw new IOException("malformed application snapshot: module listed before its parent");
+        }
+
+        return new ApplicationSnapshot(applicationName, capturedAt, inputCount, inputData, modules, frames);
+    }
+
+    /**
+     * Reads a snapshot from its compact binary format.
+     *
+     * @param bytes The bytes written by {@link ApplicationSnapshot#toByteArray()}.
+     * @return The snapshot.
+     * @throws IOException if the bytes are not a snapshot.
+     */
+    public static ApplicationSnapshot fromByteArray(byte[] bytes) throws IOException {
+        return read(new ByteArrayInputStream(bytes));
+    }
+
+    /**
+     * Loads a snapshot saved by {@link ApplicationSnapshot#save(Path)}.
+     *
+     * @param path The file to read.
+     * @return The snapshot.
+     * @throws IOException if reading fails or the file is not a snapshot.
+     */
+    public static ApplicationSnapshot load(Path path) throws IOException {
+        try(InputStream in = Files.newInputStream(path)) {
+            return read(in);
+        }
+    }
+
+    private static void writeValue(DataOutputStream out, Object value) throws IOException {
+        switch(value) {
+            case null -> out.writeByte(NULL);
+            case String s -> {
+                out.writeByte(STRING);
+                writeString(out, s);
+            }
+            case Boolean b -> {
+                out.writeByte(BOOLEAN);
+                out.writeBoolean(b);
+            }
+            case Character c -> {
+                out.writeByte(CHARACTER);
+                out.writeChar(c);
+            }
+            case Integer i -> {
+                out.writeByte(INTEGER);
+                out.writeInt(i);
+            }
+            case Long l -> {
+                out.writeByte(LONG);
+                out.writeLong(l);
+            }
+            case Float f -> {
+                out.writeByte(FLOAT);
+                out.writeFloat(f);
+            }
+            case Double d -> {
+                out.writeByte(DOUBLE);
+                out.writeDouble(d);
+            }
+            case BigInteger i -> {
+                out.writeByte(BIG_INTEGER);
+                writeBytes(out, i.toByteArray());
+            }
+            case BigDecimal d -> {
+                out.writeByte(BIG_DECIMAL);
+                out.writeInt(d.scale());
+                writeBytes(out, d.unscaledValue().toByteArray());
+            }
+            case Enum<?> e -> {
+                out.writeByte(ENUM);
+                writeString(out, e.getDeclaringClass().getName());
+                writeString(out, e.name());
+            }
+            default -> {
+                ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+                try(ObjectOutputStream objects = new ObjectOutputStream(bytes)) {
+                    objects.writeObject(value);
+                }
+                out.writeByte(SERIALIZED);
+                writeBytes(out, bytes.toByteArray());
+            }
+        }
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Object readValue(DataInputStream in) throws IOException {
+        int tag = in.readUnsignedByte();
+        return switch(tag) {
+            case NULL -> null;
+            case STRING -> readString(in);
+            case BOOLEAN -> in.readBoolean();
+            case CHARACTER -> in.readChar();
+            case INTEGER -> in.readInt();
+            case LONG -> in.readLong();
+            case FLOAT -> in.readFloat();
+            case DOUBLE -> in.readDouble();
+            case BIG_INTEGER -> new BigInteger(readBytes(in));
+            case BIG_DECIMAL -> {
+                int scale = in.readInt();
+                yield new BigDecimal(new BigInteger(readBytes(in)), scale);
+            }
+            case ENUM -> {
+                String type = readString(in);
+                String constant = readString(in);
+                Class<?> enumType = allowedEnum(type);
+                try {
+                    yield Enum.valueOf((Class<? extends Enum>) enumType, constant);
+                }
+                catch(IllegalArgumentException e) {
+                    throw new IOException("can't restore input " + type + "." + constant, e);
+                }
+            }
+            case SERIALIZED -> {
+                try(ObjectInputStream objects = new ObjectInputStream(new ByteArrayInputStream(readBytes(in)))) {
+                    objects.setObjectInputFilter(FILTER);
+                    yield objects.readObject();
+                }
+                catch(ClassNotFoundException e) {
+                    throw new IOException("can't restore input of a missing class", e);
+                }
+                catch(InvalidClassException e) {
+                    throw new IOException("can't restore input of a class that isn't allowed"
+                            + " (see ApplicationSnapshot.allowClasses): " + e.getMessage(), e);
+                }
+            }
+            default -> throw new IOException("malformed application snapshot: unknown value tag " + tag);
+        };
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        writeBytes(out, value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        return new String(readBytes(in), StandardCharsets.UTF_8);
+    }
+
+    private static void writeBytes(DataOutputStream out, byte[] bytes) throws IOException {
+        if(bytes.length > MAX_LENGTH) throw new IOException("value of " + bytes.length + " bytes is too large for a snapshot");
+        writeVarLong(out, bytes.length);
+        out.write(bytes);
+    }
+
+    private static byte[] readBytes(DataInputStream in) throws IOException {
+        long length = readVarLong(in);
+        if(length < 0 || length > MAX_LENGTH) throw new IOException("malformed application snapshot: length " + length);
+        // read rather than allocate up front, so a length past the end of the data fails without allocating it
+        byte[] bytes = in.readNBytes((int) length);
+        if(bytes.length != length) throw new EOFException("application snapshot ends in the middle of a value");
+        return bytes;
+    }
+
+    private static int readCount(DataInputStream in) throws IOException {
+        long count = readVarLong(in);
+        if(count < 0 || count > MAX_COUNT) throw new IOException("malformed application snapshot: count " + count);
+        return (int) count;
+    }
+
+    private static int readIndex(DataInputStream in, int max) throws IOException {
+        long index = readVarLong(in);
+        if(index < 0 || index > max) throw new IOException("malformed application snapshot: index " + index + " out of range");
+        return (int) index;
+    }
+
+    private static void writeVarLong(DataOutputStream out, long value) throws IOException {
+        while((value & ~0x7FL) != 0) {
+            out.writeByte((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    private static long readVarLong(DataInputStream in) throws IOException {
+        long value = 0;
+        int shift = 0;
+        int b;
+        do {
+            if(shift > 63) throw new IOException("malformed application snapshot");
+            b = in.readUnsignedByte();
+            value |= (long) (b & 0x7F) << shift;
+            shift += 7;
+        } while((b & 0x80) != 0);
+        return value;
+    }
+
+    /**
+     * Format: "ApplicationSnapshot({@code <name>} | inputs: {@code <count>} | frames: {@code <count>} | captured: {@code <time>})".
+     *
+     * @return the formatted string
+     */
+    @Override
+    public String toString() {
+        return String.format("ApplicationSnapshot(%s | inputs: %d | frames: %d | captured: %s)",
+                applicationName, inputCount, frames.size(), capturedAt);
+    }
+}
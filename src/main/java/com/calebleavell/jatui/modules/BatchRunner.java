@@ -0,0 +1,311 @@
+/*
+    Copyright (c) 2026 Caleb Leavell
+
+    Permission is hereby granted, free of charge, to any person obtaining a copy
+    of this software and associated documentation files (the "Software"), to deal
+    in the Software without restriction, including without limitation the rights
+    to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+    copies of the Software, and to permit persons to whom the Software is
+    furnished to do so, subject to the following conditions:
+
+    The above copyright notice and this permission notice shall be included in all
+    copies or substantial portions of the Software.
+
+    THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+    IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+    FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+    AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+    LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+    OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+    SOFTWARE.
+ */
+
+package com.calebleavell.jatui.modules;
+
+import com.calebleavell.jatui.util.InputSource;
+import com.calebleavell.jatui.util.OutputSink;
+import com.calebleavell.jatui.util.ReaderSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * Runs an {@link ApplicationModule} non-interactively from a script of input lines.
+ * <br><br>
+ * Input is read through an {@link InputSource} (for files, a {@link ReaderSource} over an NIO buffered reader)
+ * instead of a {@link java.util.Scanner}. Output is discarded unless an {@link OutputSink} is given, and ansi is
+ * disabled. Every line read is reported as a {@link Step} with the module that read it and the input the
+ * application stored for that module afterward. Steps are streamed to {@link BatchRunner#onStep(Consumer)}
+ * and only kept in the {@link Result} if {@link BatchRunner#recordSteps(boolean)} is set.
+ * <br><br>
+ * Each run configures a copy of {@code app} (input source, output sink, ansi), so {@code app} itself is left
+ * as it was, and modules that locked those properties keep their own values. Example usage:
+ * <pre><code>
+ * BatchRunner.Result result = new BatchRunner(app)
+ *         .onStep(step -&gt; log.info("{}", step))
+ *         .run(Path.of("answers.txt"), StandardCharsets.UTF_8);
+ * </code></pre>
+ */
+public class BatchRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(BatchRunner.class);
+
+    private final ApplicationModule.Builder app;
+    private OutputSink output = OutputSink.discard();
+    private boolean recordSteps = false;
+    private Consumer<Step> onStep = null;
+
+    /**
+     * @param app The application to run.
+     */
+    public BatchRunner(ApplicationModule.Builder app) {
+        this.app = Objects.requireNonNull(app, "app cannot be null");
+    }
+
+    /**
+     * Sets where output is written. It is discarded by default.
+     *
+     * @param output The sink to write output to.
+     * @return self
+     */
+    public BatchRunner output(OutputSink output) {
+        this.output = Objects.requireNonNull(output, "output cannot be null");
+        return this;
+    }
+
+    /**
+     * Sets whether steps are kept in {@link Result#getSteps()}. Leaving this disabled keeps memory constant
+     * for very long scripts; steps are passed to {@link BatchRunner#onStep(Consumer)} either way.
+     *
+     * @param recordSteps Whether steps are kept in the result (false by default).
+     * @return self
+     */
+    public BatchRunner recordSteps(boolean recordSteps) {
+        this.recordSteps = recordSteps;
+        return this;
+    }
+
+    /**
+     * @param onStep Called with every step as soon as its result is known. May be null.
+     * @return self
+     */
+    public BatchRunner onStep(Consumer<Step> onStep) {
+        this.onStep = onStep;
+        return this;
+    }
+
+    /**
+     * Runs the application with input read from a file, which is closed afterward.
+     *
+     * @param script The file of input lines.
+     * @param charset The charset the file is encoded in.
+     * @return The result of the run.
+     * @throws IOException if the file could not be opened or closed.
+     */
+    public Result run(Path script, Charset charset) throws IOException {
+        try(ReaderSource source = InputSource.of(script, charset)) {
+            return run(source);
+        }
+    }
+
+    /**
+     * Runs a copy of the application with input read from {@code source}.
+     * If the application throws, the run stops and the exception is available via {@link Result#getFailure()}.
+     *
+     * @param source The input lines.
+     * @return The result of the run.
+     */
+    public Result run(InputSource source) {
+        StepSource steps = new StepSource(Objects.requireNonNull(source, "source cannot be null"));
+        ApplicationModule built = app.getCopy()
+                .inputSource(steps)
+                .outputSink(output)
+                .enableAnsi(false)
+                .build();
+        steps.application = built;
+
+        logger.debug("running application \"{}\" in batch mode", built.getName());
+        long start = System.nanoTime();
+        RuntimeException failure = null;
+        boolean exhausted = false;
+        try {
+            built.start();
+        }
+        catch(NoSuchElementException e) {
+            logger.debug("input for application \"{}\" ran out after {} lines", built.getName(), steps.lines);
+            exhausted = true;
+            failure = e;
+        }
+        catch(RuntimeException e) {
+            logger.warn("application \"{}\" failed after {} lines: {}", built.getName(), steps.lines, e.toString());
+            failure = e;
+        }
+        finally {
+            steps.finish();
+            output.flush();
+        }
+
+        return new Result(steps.recorded, steps.lines, exhausted, failure, Duration.ofNanos(System.nanoTime() - start));
+    }
+
+    /**
+     * Reports a step for each line read from the delegate. A step is completed when the next line is read
+     * (or the run ends), since that's when the module that read it has stored its input.
+     */
+    private final class StepSource implements InputSource {
+        private final InputSource delegate;
+        private final List<Step> recorded = new ArrayList<>();
+        private ApplicationModule application;
+        private long lines = 0;
+        private long pendingLine;
+        private long pendingStart;
+        private String pendingModule;
+        private String pendingText;
+
+        private StepSource(InputSource delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public String nextLine() {
+            finish();
+            return step(delegate.nextLine());
+        }
+
+        @Override
+        public String nextLine(Duration timeout) {
+            finish();
+            String line = delegate.nextLine(timeout);
+            return line == null ? null : step(line);
+        }
+
+        private String step(String line) {
+            lines ++;
+            pendingLine = lines;
+            pendingModule = runningModule();
+            pendingText = line;
+            pendingStart = System.nanoTime();
+            return line;
+        }
+
+        @Override
+        public boolean canTimeOut() {
+            return delegate.canTimeOut();
+        }
+
+        @Override
+        public boolean ready() {
+            return delegate.ready();
+        }
+
+        private String runningModule() {
+            if(application == null) return null;
+            List<TUIModule> branch = application.getCurrentRunningBranch();
+            return branch.getLast().getName();
+        }
+
+        private void finish() {
+            if(pendingText == null) return;
+            Duration processingTime = Duration.ofNanos(System.nanoTime() - pendingStart);
+            Object value = (application == null || pendingModule == null) ? null : application.getInput(pendingModule);
+            Step step = new Step(pendingLine, pendingModule, pendingText, value, processingTime);
+            pendingText = null;
+            if(recordSteps) recorded.add(step);
+            if(onStep != null) onStep.accept(step);
+        }
+    }
+
+    /**
+     * One line of input read during a batch run.
+     */
+    public static class Step {
+        private final long lineNumber;
+        private final String moduleName;
+        private final String line;
+        private final Object value;
+        private final Duration processingTime;
+
+        Step(long lineNumber, String moduleName, String line, Object value, Duration processingTime) {
+            this.lineNumber = lineNumber;
+            this.moduleName = moduleName;
+            this.line = line;
+            this.value = value;
+            this.processingTime = processingTime;
+        }
+
+        /** @return The 1-based number of the line in the script. **/
+        public long getLineNumber() {return lineNumber;}
+
+        /** @return The name of the module that read the line. **/
+        public String getModuleName() {return moduleName;}
+
+        /** @return The line that was read. **/
+        public String getLine() {return line;}
+
+        /** @return The input the application stored for {@link Step#getModuleName()} afterward, or null if none. **/
+        public Object getValue() {return value;}
+
+        /**
+         * @return How long the application ran between reading the line and asking for the next one (or finishing).
+         * Time spent waiting for input isn't included.
+         */
+        public Duration getProcessingTime() {return processingTime;}
+
+        /**
+         * Format: "{@code <lineNumber>}: {@code <moduleName>} &lt;- \"{@code <line>}\" = {@code <value>}".
+         *
+         * @return the formatted string
+         */
+        @Override
+        public String toString() {
+            return String.format("%d: %s <- \"%s\" = %s", lineNumber, moduleName, line, value);
+        }
+    }
+
+    /**
+     * The outcome of a batch run.
+     */
+    public static class Result {
+        private final List<Step> steps;
+        private final long linesRead;
+        private final boolean exhausted;
+        private final RuntimeException failure;
+        private final Duration elapsed;
+
+        Result(List<Step> steps, long linesRead, boolean exhausted, RuntimeException failure, Duration elapsed) {
+            this.steps = Collections.unmodifiableList(steps);
+            this.linesRead = linesRead;
+            this.exhausted = exhausted;
+            this.failure = failure;
+            this.elapsed = elapsed;
+        }
+
+        /** @return The steps of the run, if they were recorded (see {@link BatchRunner#recordSteps(boolean)}). **/
+        public List<Step> getSteps() {return steps;}
+
+        /** @return How many lines were read. **/
+        public long getLinesRead() {return linesRead;}
+
+        /** @return Whether the application finished without throwing. **/
+        public boolean isCompleted() {return failure == null;}
+
+        /** @return Whether the application stopped because it needed more input than the script had. **/
+        public boolean isExhausted() {return exhausted;}
+
+        /** @return The exception the application threw, or null if it completed. **/
+        public RuntimeException getFailure() {return failure;}
+
+        /** @return How long the run took. **/
+        public Duration getElapsed() {return elapsed;}
+    }
+}
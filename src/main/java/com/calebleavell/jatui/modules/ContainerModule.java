@@ -33,7 +33,7 @@ public class ContainerModule extends TUIModule {
      */
     @Override
     public void doRunLogic() {
-        logger.info("Running ContainerModule \"{}\"", getName());
+        logger.trace("Running ContainerModule \"{}\"", getName());
     }
     /**
      * Builds a ContainerModule based on the state of {@code builder}
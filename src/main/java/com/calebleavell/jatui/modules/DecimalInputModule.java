@@ -0,0 +1,285 @@
+/*
+    Copyright (c) 2026 Caleb Leavell
+
+    Permission is hereby granted, free of charge, to any person obtaining a copy
+    of this software and associated documentation files (the "Software"), to deal
+    in the Software without restriction, including without limitation the rights
+    to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+    copies of the Software, and to permit persons to whom the Software is
+    furnished to do so, subject to the following conditions:
+
+    The above copyright notice and this permission notice shall be included in all
+    copies or substantial portions of the Software.
+
+    THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+    IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+    FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+    AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+    LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+    OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+    SOFTWARE.
+ */
+
+package com.calebleavell.jatui.modules;
+
+/**
+ * Handles collecting a {@code double} from the user. The input is parsed directly into a primitive
+ * field and validated against the declared range (see {@link DecimalInputModule.Builder#range(double, double)});
+ * invalid input is recollected without throwing.
+ * <br><br>
+ * Accepted input is a plain decimal number with an optional sign and exponent
+ * (e.g., "3", "-2.5", ".5", "6.02e23"). "NaN" and "Infinity" are not accepted.
+ * <br><br>
+ * Example usage:
+ * <pre><code>
+ * DecimalInputModule.Builder price = DecimalInputModule.builder("price", "Price: ")
+ *         .min(0);
+ * </code></pre>
+ * The value can be retrieved via {@link DecimalInputModule#getValue()} or
+ * {@code app.getInput("price", Double.class)}.
+ */
+public class DecimalInputModule extends TypedInputModule {
+
+    /** Powers of ten that are exactly representable as a {@code double}. **/
+    private static final double[] POWERS_OF_TEN = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+            1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+
+    /** The smallest accepted value (inclusive). **/
+    private final double min;
+
+    /** The largest accepted value (inclusive). **/
+    private final double max;
+
+    /** The most recently collected value. **/
+    private double value;
+
+    /**
+     * Parses {@code input} as a decimal number within {@code [min, max]}.
+     *
+     * @implNote The syntax is validated by hand so that invalid input never throws.
+     * Numbers with at most 15 significant digits and a decimal exponent of at most 22 are
+     * converted exactly without allocating (both operands are exactly representable, so
+     * a single multiplication or division is correctly rounded). Anything else falls back to
+     * {@link Double#parseDouble(String)} on input that is already known to be valid.
+     */
+    @Override
+    protected boolean parse(CharSequence input, int start, int end) {
+        int i = start;
+        boolean negative = false;
+        if(i < end && (input.charAt(i) == '-' || input.charAt(i) == '+')) {
+            negative = input.charAt(i) == '-';
+            i ++;
+        }
+
+        long mantissa = 0;
+        int significantDigits = 0;
+        int exponent = 0;
+        int digits = 0;
+        boolean seenDot = false;
+
+        for(; i < end; i ++) {
+            char c = input.charAt(i);
+            if(c == '.') {
+                if(seenDot) return false;
+                seenDot = true;
+                continue;
+            }
+            if(c < '0' || c > '9') break;
+
+            digits ++;
+            if(mantissa == 0 && c == '0') {
+                if(seenDot) exponent --;
+                continue;
+            }
+            if(significantDigits < 18) {
+                mantissa = mantissa * 10 + (c - '0');
+                if(seenDot) exponent --;
+            }
+            else if(!seenDot) exponent ++;
+            significantDigits ++;
+        }
+
+        if(digits == 0) return false;
+
+        if(i < end) {
+            char c = input.charAt(i);
+            if(c != 'e' && c != 'E') return false;
+            i ++;
+            boolean negativeExponent = false;
+            if(i < end && (input.charAt(i) == '-' || input.charAt(i) == '+')) {
+                negativeExponent = input.charAt(i) == '-';
+                i ++;
+            }
+            if(i == end) return false;
+
+            int explicitExponent = 0;
+            for(; i < end; i ++) {
+                int digit = input.charAt(i) - '0';
+                if(digit < 0 || digit > 9) return false;
+                if(explicitExponent < 100_000) explicitExponent = explicitExponent * 10 + digit;
+            }
+            exponent += negativeExponent ? -explicitExponent : explicitExponent;
+        }
+
+        double parsed;
+        if(mantissa == 0) parsed = 0;
+        else if(significantDigits <= 15 && exponent >= 0 && exponent < POWERS_OF_TEN.length)
+            parsed = mantissa * POWERS_OF_TEN[exponent];
+        else if(significantDigits <= 15 && exponent < 0 && -exponent < POWERS_OF_TEN.length)
+            parsed = mantissa / POWERS_OF_TEN[-exponent];
+        else
+            parsed = Math.abs(Double.parseDouble(input.subSequence(start, end).toString()));
+
+        if(negative) parsed = -parsed;
+        if(Double.isInfinite(parsed) || parsed < min || parsed > max) return false;
+
+        value = parsed;
+        return true;
+    }
+
+    @Override
+    protected Object getBoxedValue() {
+        return value;
+    }
+
+    /**
+     * Retrieve the value collected on {@link TypedInputModule#doRunLogic()}.
+     * @return The most recently collected value, or 0 if this module hasn't run yet.
+     */
+    public double getValue() {
+        return value;
+    }
+
+    /**
+     * Constructs a new {@link DecimalInputModule} given a builder. Copies {@code min} and {@code max} from the builder.
+     * @param builder The builder to construct the new module from.
+     */
+    public DecimalInputModule(Builder builder) {
+        super(builder);
+        this.min = builder.min;
+        this.max = builder.max;
+    }
+
+    /**
+     * Constructs a new {@link DecimalInputModule} builder.
+     *
+     * @param name The name of the builder.
+     * @param displayText The text that displays before getting input (e.g., "Your Input: ").
+     * @return The new builder.
+     */
+    public static Builder builder(String name, String displayText) {
+        return new Builder(name, displayText);
+    }
+
+    /**
+     * Builder for {@link DecimalInputModule}.
+     * <br><br>
+     * Required fields: {@code name}, {@code displayText} <br>
+     * Optional fields (with default values): {@code min}, {@code max}, {@code invalidMessage}
+     */
+    public static class Builder extends TypedInputModule.Builder<Builder> {
+
+        /** The smallest accepted value (inclusive). **/
+        protected double min = -Double.MAX_VALUE;
+
+        /** The largest accepted value (inclusive). **/
+        protected double max = Double.MAX_VALUE;
+
+        protected Builder(String name, String displayText) {
+            super(Builder.class, name, displayText);
+        }
+
+        protected Builder() {
+            super(Builder.class);
+        }
+
+        /**
+         * Gets a fresh instance of this type of Builder.
+         *  Note, this is intended only for copying utility and may have unknown consequences if used in other ways.
+         * @return A fresh, empty instance.
+         */
+        @Override
+        protected Builder createInstance() {
+            return new Builder();
+        }
+
+        /**
+         * Copies {@code min} and {@code max}, and delegates to {@link TypedInputModule.Builder#shallowCopy(TypedInputModule.Builder)}.
+         * @param original The builder to copy from
+         */
+        @Override
+        protected void shallowCopy(Builder original) {
+            this.min = original.min;
+            this.max = original.max;
+            super.shallowCopy(original);
+        }
+
+        /**
+         * Sets the smallest accepted value (inclusive).
+         * @param min The minimum value.
+         * @return self
+         */
+        public Builder min(double min) {
+            this.min = min;
+            return self();
+        }
+
+        /**
+         * Sets the largest accepted value (inclusive).
+         * @param max The maximum value.
+         * @return self
+         */
+        public Builder max(double max) {
+            this.max = max;
+            return self();
+        }
+
+        /**
+         * Sets the range of accepted values (both inclusive).
+         * @param min The minimum value.
+         * @param max The maximum value.
+         * @return self
+         */
+        public Builder range(double min, double max) {
+            this.min = min;
+            this.max = max;
+            return self();
+        }
+
+        /** @return The smallest accepted value (inclusive). **/
+        public double getMin() {
+            return min;
+        }
+
+        /** @return The largest accepted value (inclusive). **/
+        public double getMax() {
+            return max;
+        }
+
+        /**
+         * Checks equality for properties given by the builder. For {@link DecimalInputModule}, this includes
+         * {@code min} and {@code max}, as well as other requirements provided by
+         * {@link TypedInputModule.Builder#shallowStructuralEquals(TypedInputModule.Builder, TypedInputModule.Builder)}.
+         */
+        @Override
+        public boolean shallowStructuralEquals(Builder first, Builder second) {
+            if(first == second) return true;
+            if(first == null || second == null) return false;
+
+            return Double.compare(first.min, second.min) == 0 &&
+                    Double.compare(first.max, second.max) == 0 &&
+                    super.shallowStructuralEquals(first, second);
+        }
+
+        /**
+         * Builds a new {@link DecimalInputModule} based on the configuration of this builder.
+         * @return The new {@link DecimalInputModule}.
+         */
+        @Override
+        public DecimalInputModule build() {
+            return build(DecimalInputModule::new);
+        }
+    }
+}
@@ -0,0 +1,236 @@
+/*
+    Copyright (c) 2026 Caleb Leavell
+
+    Permission is hereby granted, free of charge, to any person obtaining a copy
+    of this software and associated documentation files (the "Software"), to deal
+    in the Software without restriction, including without limitation the rights
+    to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+    copies of the Software, and to permit persons to whom the Software is
+    furnished to do so, subject to the following conditions:
+
+    The above copyright notice and this permission notice shall be included in all
+    copies or substantial portions of the Software.
+
+    THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+    IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+    FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+    AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+    LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+    OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+    SOFTWARE.
+ */
+
+package com.calebleavell.jatui.modules;
+
+import java.util.Objects;
+
+/**
+ * Handles collecting a constant of an enum from the user. Input matches a constant if it equals the
+ * constant's name (ignoring case), or, if enabled via {@link EnumChoiceModule.Builder#acceptNumbers(boolean)},
+ * the constant's 1-based position in the enum. Invalid input is recollected without throwing.
+ * <br><br>
+ * Example usage:
+ * <pre><code>
+ * enum Size { SMALL, MEDIUM, LARGE }
+ *
+ * EnumChoiceModule.Builder&lt;Size&gt; size = EnumChoiceModule.builder("size", "Size (small/medium/large): ", Size.class);
+ * </code></pre>
+ * The value can be retrieved via {@link EnumChoiceModule#getValue()} or
+ * {@code app.getInput("size", Size.class)}.
+ *
+ * @param <E> The enum to choose a constant of.
+ */
+public class EnumChoiceModule<E extends Enum<E>> extends TypedInputModule {
+
+    /** The enum to choose a constant of. **/
+    private final Class<E> enumType;
+
+    /** The constants of {@code enumType}, cached so that parsing doesn't clone the array every time. **/
+    private final E[] constants;
+
+    /** Whether a constant can also be chosen by its 1-based position in the enum. **/
+    private final boolean acceptNumbers;
+
+    /** The most recently collected value. **/
+    private E value;
+
+    /**
+     * Matches {@code input} against the names of the constants (ignoring case),
+     * then against their 1-based positions if {@code acceptNumbers} is enabled.
+     */
+    @Override
+    protected boolean parse(CharSequence input, int start, int end) {
+        int length = end - start;
+        for(E constant : constants) {
+            String name = constant.name();
+            if(name.length() != length) continue;
+
+            boolean match = true;
+            for(int i = 0; i < length && match; i ++) {
+                char a = input.charAt(start + i);
+                char b = name.charAt(i);
+                match = a == b || Character.toUpperCase(a) == Character.toUpperCase(b);
+            }
+
+            if(match) {
+                value = constant;
+                return true;
+            }
+        }
+
+        if(acceptNumbers && parseLong(input, start, end, 1, constants.length)) {
+            value = constants[(int) parsedLong - 1];
+            return true;
+        }
+
+        return false;
+    }
+
+    @Override
+    protected Object getBoxedValue() {
+        return value;
+    }
+
+    /**
+     * Retrieve the value collected on {@link TypedInputModule#doRunLogic()}.
+     * @return The most recently collected value, or null if this module hasn't run yet.
+     */
+    public E getValue() {
+        return value;
+    }
+
+    /**
+     * @return The enum to choose a constant of.
+     */
+    public Class<E> getEnumType() {
+        return enumType;
+    }
+
+    /**
+     * Constructs a new {@link EnumChoiceModule} given a builder. Copies {@code enumType} and {@code acceptNumbers} from the builder.
+     * @param builder The builder to construct the new module from.
+     */
+    public EnumChoiceModule(Builder<E> builder) {
+        super(builder);
+        this.enumType = builder.enumType;
+        this.constants = builder.enumType.getEnumConstants();
+        this.acceptNumbers = builder.acceptNumbers;
+    }
+
+    /**
+     * Constructs a new {@link EnumChoiceModule} builder.
+     *
+     * @param name The name of the builder.
+     * @param displayText The text that displays before getting input (e.g., "Your Input: ").
+     * @param enumType The enum to choose a constant of.
+     * @return The new builder.
+     * @param <E> The enum to choose a constant of.
+     */
+    public static <E extends Enum<E>> Builder<E> builder(String name, String displayText, Class<E> enumType) {
+        return new Builder<>(name, displayText, enumType);
+    }
+
+    /**
+     * Builder for {@link EnumChoiceModule}.
+     * <br><br>
+     * Required fields: {@code name}, {@code displayText}, {@code enumType} <br>
+     * Optional fields (with default values): {@code acceptNumbers}, {@code invalidMessage}
+     *
+     * @param <E> The enum to choose a constant of.
+     */
+    public static class Builder<E extends Enum<E>> extends TypedInputModule.Builder<Builder<E>> {
+
+        /** The enum to choose a constant of. **/
+        protected Class<E> enumType;
+
+        /** Whether a constant can also be chosen by its 1-based position in the enum. **/
+        protected boolean acceptNumbers = false;
+
+        protected Builder(String name, String displayText, Class<E> enumType) {
+            super(builderType(), name, displayText);
+            this.enumType = enumType;
+        }
+
+        protected Builder() {
+            super(builderType());
+        }
+
+        /**
+         * Provides the CRTP type for the generic builder.
+         *
+         * @implNote Safe because the erasure of {@code Builder<E>} is {@code Builder}.
+         */
+        @SuppressWarnings("unchecked")
+        private static <E extends Enum<E>> Class<Builder<E>> builderType() {
+            return (Class<Builder<E>>) (Class<?>) Builder.class;
+        }
+
+        /**
+         * Gets a fresh instance of this type of Builder.
+         *  Note, this is intended only for copying utility and may have unknown consequences if used in other ways.
+         * @return A fresh, empty instance.
+         */
+        @Override
+        protected Builder<E> createInstance() {
+            return new Builder<>();
+        }
+
+        /**
+         * Copies {@code enumType} and {@code acceptNumbers}, and delegates to
+         * {@link TypedInputModule.Builder#shallowCopy(TypedInputModule.Builder)}.
+         * @param original The builder to copy from
+         */
+        @Override
+        protected void shallowCopy(Builder<E> original) {
+            this.enumType = original.enumType;
+            this.acceptNumbers = original.acceptNumbers;
+            super.shallowCopy(original);
+        }
+
+        /**
+         * If true, a constant can also be chosen by its 1-based position in the enum
+         * (e.g., "1" chooses the first constant). Disabled by default.
+         *
+         * @param acceptNumbers Whether to accept positions.
+         * @return self
+         */
+        public Builder<E> acceptNumbers(boolean acceptNumbers) {
+            this.acceptNumbers = acceptNumbers;
+            return self();
+        }
+
+        /** @return Whether a constant can also be chosen by its 1-based position in the enum. **/
+        public boolean getAcceptNumbers() {
+            return acceptNumbers;
+        }
+
+        /** @return The enum to choose a constant of. **/
+        public Class<E> getEnumType() {
+            return enumType;
+        }
+
+        /**
+         * Checks equality for properties given by the builder. For {@link EnumChoiceModule}, this includes
+         * {@code enumType} and {@code acceptNumbers}, as well as other requirements provided by
+         * {@link TypedInputModule.Builder#shallowStructuralEquals(TypedInputModule.Builder, TypedInputModule.Builder)}.
+         */
+        @Override
+        public boolean shallowStructuralEquals(Builder<E> first, Builder<E> second) {
+            if(first == second) return true;
+            if(first == null || second == null) return false;
+
+            return Objects.equals(first.enumType, second.enumType) &&
+                    first.acceptNumbers == second.acceptNumbers &&
+                    super.shallowStructuralEquals(first, second);
+        }
+
+        /**
+         * Builds a new {@link EnumChoiceModule} based on the configuration of this builder.
+         * @return The new {@link EnumChoiceModule}.
+         */
+        @Override
+        public EnumChoiceModule<E> build() {
+            return build(EnumChoiceModule::new);
+        }
+    }
+}
@@ -0,0 +1,402 @@
+/*
+    Copyright (c) 2026 Caleb Leavell
+
+    Permission is hereby granted, free of charge, to any person obtaining a copy
+    of this software and associated documentation files (the "Software"), to deal
+    in the Software without restriction, including without limitation the rights
+    to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+    copies of the Software, and to permit persons to whom the Software is
+    furnished to do so, subject to the following conditions:
+
+    The above copyright notice and this permission notice shall be included in all
+    copies or substantial portions of the Software.
+
+    THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+    IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+    FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+    AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+    LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+    OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+    SOFTWARE.
+ */
+
+package com.calebleavell.jatui.modules;
+
+import com.calebleavell.jatui.util.ChannelSource;
+import com.calebleavell.jatui.util.InputSource;
+import com.calebleavell.jatui.util.QueueSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.SelectableChannel;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs many {@link ApplicationModule}s cooperatively on a single thread.
+ * <br><br>
+ * {@link TUIModule#start()} owns its thread until the application exits, blocking whenever a module waits for input.
+ * An event loop instead runs each application until one of its input modules is waiting for a line that isn't
+ * ready yet ({@link InputSource#ready()}), suspends it there (after its prompt is displayed), and moves on to
+ * another application. The suspended application is resumed once its input is ready, so idle sessions cost
+ * no thread at all.
+ * <br><br>
+ * How readiness is noticed depends on the input source of the waiting module:
+ * <ul>
+ *     <li>{@link QueueSource}: the loop is woken when a line is offered or the source is closed.</li>
+ *     <li>{@link ChannelSource}: the channel is registered with the loop's {@link Selector}.</li>
+ *     <li>Anything else: the source is polled every {@link EventLoop#pollInterval(Duration)}.
+ *     Sources that are always ready (e.g., a {@link java.util.Scanner}) block the whole loop while they wait.</li>
+ * </ul>
+ * A module with an {@link InputDeadline} is resumed once its deadline passes even if its input isn't ready,
+ * and the deadline's outcome applies. The loop keeps a timer per waiting session rather than a thread.
+ * <br><br>
+ * Applications are submitted from any thread via {@link EventLoop#submit(ApplicationModule)}, and the loop runs on
+ * the thread that calls {@link EventLoop#run()} or {@link EventLoop#runUntilIdle()}. Modules should not block in
+ * any other way, since that blocks every session. Input collected inside a {@link FunctionModule}
+ * (e.g., {@link com.calebleavell.jatui.templates.PasswordInput}) can't be suspended and blocks as usual.
+ * <br><br>
+ * While the loop is stopped, the applications of unfinished sessions can be captured via
+ * {@link ApplicationModule#snapshot()}, and an application restored via {@link ApplicationModule#restore(ApplicationSnapshot)}
+ * continues from its snapshot once submitted.
+ * <br><br>
+ * Example usage:
+ * <pre><code>
+ * EventLoop loop = new EventLoop();
+ * for(SocketChannel client : clients) {
+ *     ChannelSource input = new ChannelSource(client, StandardCharsets.UTF_8);
+ *     loop.submit(MyApp.builder()
+ *             .inputSource(input)
+ *             .outputSink(new ChannelSink(client, StandardCharsets.UTF_8))
+ *             .build());
+ * }
+ * loop.runUntilIdle();
+ * </code></pre>
+ */
+public class EventLoop implements Closeable {
+
+    private static final Logger logger = LoggerFactory.getLogger(EventLoop.class);
+
+    private final Selector selector;
+    private final Queue<Session> ready = new ConcurrentLinkedQueue<>();
+    private final List<Session> polled = new ArrayList<>();
+    private final PriorityQueue<Timer> timers = new PriorityQueue<>();
+    private final AtomicInteger active = new AtomicInteger();
+    private volatile boolean stopped = false;
+    private Duration pollInterval = Duration.ofMillis(10);
+
+    /**
+     * @throws IOException if the selector can't be opened.
+     */
+    public EventLoop() throws IOException {
+        this.selector = Selector.open();
+    }
+
+    /**
+     * @param pollInterval How often sources that can't notify the loop are checked for input. Defaults to 10ms.
+     * @return self
+     */
+    public EventLoop pollInterval(Duration pollInterval) {
+        Objects.requireNonNull(pollInterval, "pollInterval cannot be null");
+        if(pollInterval.isNegative() || pollInterval.isZero()) throw new IllegalArgumentException("pollInterval must be positive");
+        this.pollInterval = pollInterval;
+        return this;
+    }
+
+    /**
+     * Schedules {@code application} to start on the loop. Safe to call from any thread, including from a module
+     * running on the loop.
+     *
+     * @param application The application to run. Its input source should be set before it is submitted.
+     * @return The handle for the submitted session.
+     */
+    public Session submit(ApplicationModule application) {
+        Session session = new Session(Objects.requireNonNull(application, "application cannot be null"));
+        active.incrementAndGet();
+        logger.debug("submitted application \"{}\" to event loop", application.getName());
+        wake(session);
+        return session;
+    }
+
+    /**
+     * Runs sessions on the calling thread until {@link EventLoop#stop()} is called.
+     */
+    public void run() {
+        loop(false);
+    }
+
+    /**
+     * Runs sessions on the calling thread until every submitted session has finished,
+     * or until {@link EventLoop#stop()} is called.
+     */
+    public void runUntilIdle() {
+        loop(true);
+    }
+
+    /**
+     * Makes {@link EventLoop#run()} or {@link EventLoop#runUntilIdle()} return after the session currently running.
+     * Unfinished sessions stay suspended and continue if the loop is run again. Safe to call from any thread.
+     */
+    public void stop() {
+        stopped = true;
+        selector.wakeup();
+    }
+
+    /**
+     * @return The number of submitted sessions that haven't finished.
+     */
+    public int getSessionCount() {
+        return active.get();
+    }
+
+    /**
+     * Closes the loop's selector. Unfinished sessions are abandoned.
+     *
+     * @throws IOException if the selector fails to close.
+     */
+    @Override
+    public void close() throws IOException {
+        selector.close();
+    }
+
+    private void loop(boolean untilIdle) {
+        try {
+            while(!stopped) {
+                Session next;
+                while(!stopped && (next = ready.poll()) != null) step(next);
+
+                if(stopped || (untilIdle && active.get() == 0)) break;
+                select();
+            }
+        }
+        finally {
+            stopped = false;
+        }
+    }
+
+    /**
+     * Runs {@code session} until it finishes or suspends, then arranges for it to be woken once its input is ready.
+     */
+    private void step(Session session) {
+        session.queued.set(false);
+        if(session.isDone()) return;
+
+        TUIModule waiting;
+        try {
+            if(session.started) waiting = session.application.resume();
+            else {
+                session.started = true;
+                waiting = session.application.startSuspendable();
+            }
+            session.resumes ++;
+        }
+        catch(RuntimeException e) {
+            logger.warn("application \"{}\" failed on event loop: {}", session.application.getName(), e.toString());
+            finish(session, e);
+            return;
+        }
+
+        if(waiting == null) finish(session, null);
+        else {
+            await(session, waiting.getInputSource());
+            if(!session.isDone()) schedule(session, waiting);
+        }
+    }
+
+    /**
+     * Adds a timer for the input deadline of {@code waiting}, unless the session already has one for it.
+     */
+    private void schedule(Session session, TUIModule waiting) {
+        if(!waiting.hasInputDeadline()) return;
+        long deadline = waiting.getInputDeadlineNanos();
+        if(session.timed == waiting && session.timerNanos == deadline) return;
+
+        session.timed = waiting;
+        session.timerNanos = deadline;
+        timers.add(new Timer(deadline, session, waiting));
+    }
+
+    private void await(Session session, InputSource source) {
+        session.waitingOn = source;
+        if(source instanceof QueueSource queue) {
+            queue.whenReady(() -> wake(session));
+        }
+        else if(source instanceof ChannelSource channelSource) {
+            SelectableChannel channel = channelSource.getChannel();
+            try {
+                SelectionKey key = channel.keyFor(selector);
+                if(key == null || !key.isValid()) key = channel.register(selector, SelectionKey.OP_READ, session);
+                else {
+                    key.attach(session);
+                    key.interestOps(SelectionKey.OP_READ);
+                }
+                session.key = key;
+            }
+            catch(IOException e) {
+                finish(session, new UncheckedIOException(e));
+            }
+        }
+        else polled.add(session);
+    }
+
+    private void select() {
+        long timeout = polled.isEmpty() ? 0 : Math.max(1, pollInterval.toMillis());
+        Timer timer = timers.peek();
+        if(timer != null) {
+            long untilTimer = TimeUnit.NANOSECONDS.toMillis(timer.deadline - System.nanoTime() + 999_999);
+            timeout = timeout == 0 ? untilTimer : Math.min(timeout, untilTimer);
+        }
+
+        try {
+            if(timer != null && timeout <= 0) selector.selectNow();
+            else selector.select(timeout);
+        }
+        catch(IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+        while(keys.hasNext()) {
+            SelectionKey key = keys.next();
+            keys.remove();
+            if(key.isValid()) key.interestOps(0);
+            if(key.attachment() instanceof Session session) wake(session);
+        }
+
+        polled.removeIf(session -> {
+            boolean isReady;
+            try {
+                isReady = session.waitingOn.ready();
+            }
+            catch(RuntimeException e) {
+                isReady = true; // resuming surfaces the failure
+            }
+            if(isReady) wake(session);
+            return isReady;
+        });
+
+        expireTimers();
+    }
+
+    /**
+     * Resumes every session whose input deadline has passed, so the deadline's outcome applies.
+     */
+    private void expireTimers() {
+        long now = System.nanoTime();
+        Timer timer;
+        while((timer = timers.peek()) != null && timer.deadline - now <= 0) {
+            timers.poll();
+            Session session = timer.session;
+            if(session.timed == timer.module && session.timerNanos == timer.deadline) session.timed = null;
+
+            TUIModule module = timer.module;
+            // skip timers whose read already completed (or that belong to an earlier read)
+            if(session.isDone() || !module.hasInputDeadline() || module.getInputDeadlineNanos() != timer.deadline) continue;
+
+            logger.debug("input deadline passed for module \"{}\" on event loop", module.getName());
+            module.expireInput();
+            polled.remove(session);
+            if(session.key != null && session.key.isValid()) session.key.interestOps(0);
+            wake(session);
+        }
+    }
+
+    private void wake(Session session) {
+        if(session.queued.compareAndSet(false, true)) {
+            ready.add(session);
+            selector.wakeup();
+        }
+    }
+
+    private void finish(Session session, RuntimeException failure) {
+        session.failure = failure;
+        session.waitingOn = null;
+        session.timed = null;
+        if(session.key != null) {
+            session.key.cancel();
+            session.key = null;
+        }
+        session.done.countDown();
+        active.decrementAndGet();
+        logger.debug("application \"{}\" finished on event loop after {} resumes", session.application.getName(), session.resumes);
+    }
+
+    /**
+     * When the input deadline of a module waiting in {@code session} passes.
+     */
+    private static class Timer implements Comparable<Timer> {
+        private final long deadline;
+        private final Session session;
+        private final TUIModule module;
+
+        private Timer(long deadline, Session session, TUIModule module) {
+            this.deadline = deadline;
+            this.session = session;
+            this.module = module;
+        }
+
+        @Override
+        public int compareTo(Timer other) {
+            return Long.compare(deadline - other.deadline, 0);
+        }
+    }
+
+    /**
+     * An application submitted to an {@link EventLoop}.
+     */
+    public static class Session {
+        private final ApplicationModule application;
+        private final CountDownLatch done = new CountDownLatch(1);
+        private final AtomicBoolean queued = new AtomicBoolean(false);
+        private boolean started = false;
+        private volatile long resumes = 0;
+        private volatile RuntimeException failure = null;
+        private InputSource waitingOn = null;
+        private SelectionKey key = null;
+        /** The module the session's latest timer belongs to, and when it expires. **/
+        private TUIModule timed = null;
+        private long timerNanos;
+
+        private Session(ApplicationModule application) {
+            this.application = application;
+        }
+
+        /** @return The application running in this session. **/
+        public ApplicationModule getApplication() {return application;}
+
+        /** @return Whether the application finished (or failed). **/
+        public boolean isDone() {return done.getCount() == 0;}
+
+        /** @return The exception that ended the application, or null if it finished normally or is still running. **/
+        public RuntimeException getFailure() {return failure;}
+
+        /** @return How many times the application has been started or resumed by the loop. **/
+        public long getResumeCount() {return resumes;}
+
+        /**
+         * Waits for the application to finish.
+         *
+         * @param timeout How long to wait at most.
+         * @return Whether the application finished in time.
+         * @throws InterruptedException if interrupted while waiting.
+         */
+        public boolean await(Duration timeout) throws InterruptedException {
+            return done.await(timeout.toNanos(), TimeUnit.NANOSECONDS);
+        }
+    }
+}
@@ -0,0 +1,150 @@
+/*
+    Copyright (c) 2026 Caleb Leavell
+
+    Permission is hereby granted, free of charge, to any person obtaining a copy
+    of this software and associated documentation files (the "Software"), to deal
+    in the Software without restriction, including without limitation the rights
+    to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+    copies of the Software, and to permit persons to whom the Software is
+    furnished to do so, subject to the following conditions:
+
+    The above copyright notice and this permission notice shall be included in all
+    copies or substantial portions of the Software.
+
+    THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+    IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+    FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+    AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+    LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+    OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+    SOFTWARE.
+ */
+
+package com.calebleavell.jatui.modules;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * A {@link SnapshotStore} that keeps each snapshot in a file named {@code <key>.snapshot} in a directory.
+ * <br><br>
+ * Snapshots are written to a temporary file first, forced to the storage device, and then moved into place
+ * (atomically, where the file system supports it), so a crash while saving leaves either the previous snapshot
+ * or the complete new one. Keys may only contain letters, digits,
+ * {@code '.'}, {@code '_'}, and {@code '-'}, and can't start with {@code '.'}, so they can't escape the directory.
+ * This class is thread-safe, but two stores shouldn't save the same key in the same directory at once.
+ */
+public class FileSnapshotStore implements SnapshotStore {
+
+    /** The extension of snapshot files. **/
+    public static final String EXTENSION = ".snapshot";
+
+    private static final Logger logger = LoggerFactory.getLogger(FileSnapshotStore.class);
+
+    private static final Pattern KEY = Pattern.compile("[A-Za-z0-9_-][A-Za-z0-9._-]*");
+
+    private final Path directory;
+
+    /**
+     * @param directory The directory to keep snapshots in. It is created if it doesn't exist.
+     * @throws IOException if the directory can't be created.
+     */
+    public FileSnapshotStore(Path directory) throws IOException {
+        this.directory = Files.createDirectories(Objects.requireNonNull(directory, "directory cannot be null"));
+    }
+
+    /**
+     * @return The directory snapshots are kept in.
+     */
+    public Path getDirectory() {
+        return directory;
+    }
+
+    @Override
+    public void save(String key, ApplicationSnapshot snapshot) throws IOException {
+        Path target = pathOf(key);
+        Path temp = Files.createTempFile(directory, key, ".tmp");
+        try {
+            try(FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                OutputStream out = new BufferedOutputStream(Channels.newOutputStream(channel));
+                snapshot.write(out);
+                out.flush();
+                // the data must be on disk before the rename, or a crash could leave an empty or partial snapshot
+                channel.force(true);
+            }
+            try {
+                Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            }
+            catch(AtomicMoveNotSupportedException e) {
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+            forceDirectory();
+        }
+        finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * Forces the directory entry of a renamed snapshot to the storage device, where the platform allows
+     * opening a directory (it doesn't on Windows, which doesn't need it).
+     */
+    private void forceDirectory() {
+        try(FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        }
+        catch(IOException e) {
+            logger.trace("can't force snapshot directory \"{}\": {}", directory, e.getMessage());
+        }
+    }
+
+    @Override
+    public ApplicationSnapshot load(String key) throws IOException {
+        try {
+            return ApplicationSnapshot.load(pathOf(key));
+        }
+        catch(NoSuchFileException e) {
+            return null;
+        }
+    }
+
+    @Override
+    public boolean delete(String key) throws IOException {
+        return Files.deleteIfExists(pathOf(key));
+    }
+
+    @Override
+    public Set<String> keys() throws IOException {
+        Set<String> keys = new HashSet<>();
+        try(DirectoryStream<Path> files = Files.newDirectoryStream(directory, "*" + EXTENSION)) {
+            for(Path file : files) {
+                String name = file.getFileName().toString();
+                keys.add(name.substring(0, name.length() - EXTENSION.length()));
+            }
+        }
+        return keys;
+    }
+
+    private Path pathOf(String key) {
+        Objects.requireNonNull(key, "key cannot be null");
+        if(!KEY.matcher(key).matches()) throw new IllegalArgumentException("invalid snapshot key: \"" + key + "\"");
+        return directory.resolve(key + EXTENSION);
+    }
+}
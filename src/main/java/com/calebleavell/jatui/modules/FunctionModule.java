@@ -30,6 +30,9 @@ import java.util.function.Supplier;
  * Handles arbitrary logic execution for the application by executing a {@link Supplier} when the module is run.
  * If tied to an {@link ApplicationModule}, whatever the supplier returns is updated in the app's inputMap and can
  * be accessed via {@link ApplicationModule#getInput(String)}.
+ * <br><br>
+ * A function that reads from the module's input source should be marked via {@link Builder#readsInput(boolean)},
+ * so that a suspendable run (e.g., by an {@link EventLoop}) waits for input to be ready instead of blocking.
  */
 public class FunctionModule extends TUIModule {
 
@@ -38,6 +41,10 @@ public class FunctionModule extends TUIModule {
      */
     private final Supplier<?> function;
 
+    /**
+     * Whether {@link FunctionModule#function} reads from the input source.
+     */
+    private final boolean readsInput;
 
     /**
      *  Runs the stored function, attempts to update the application input
@@ -46,7 +53,8 @@ public class FunctionModule extends TUIModule {
      */
     @Override
     public void doRunLogic() {
-        logger.info("Running FunctionModule \"{}\"", getName());
+        logger.trace("Running FunctionModule \"{}\"", getName());
+        if(readsInput && suspendUntilInputReady()) return;
         Object output = function.get();
         if(getApplication() != null)
             getApplication().updateInput(this, output);
@@ -72,6 +80,7 @@ public class FunctionModule extends TUIModule {
     public FunctionModule(Builder builder) {
         super(builder);
         this.function = builder.function;
+        this.readsInput = builder.readsInput;
     }
 
     /**
@@ -113,6 +122,11 @@ public class FunctionModule extends TUIModule {
          */
         Supplier<?> function;
 
+        /**
+         * Whether {@link Builder#function} reads from the input source.
+         */
+        private boolean readsInput = false;
+
         /**
          * Constructs a builder based on a provided name and Supplier
          * @param name The unique name of the module
@@ -172,6 +186,26 @@ public class FunctionModule extends TUIModule {
             return self();
         }
 
+        /**
+         * Sets whether the function reads from the input source (see {@link TUIModule#getInputSource()}).
+         * If it does, a run started via {@link EventLoop} suspends this module until a line is ready,
+         * instead of blocking the loop in the function. Runs started via {@link TUIModule#start()} are unaffected.
+         *
+         * @param readsInput Whether the function reads input (false by default).
+         * @return self
+         */
+        public Builder readsInput(boolean readsInput) {
+            this.readsInput = readsInput;
+            return self();
+        }
+
+        /**
+         * @return Whether the function reads from the input source.
+         */
+        public boolean getReadsInput() {
+            return readsInput;
+        }
+
         protected Builder() {
             super(Builder.class);
         }
@@ -195,6 +229,7 @@ public class FunctionModule extends TUIModule {
         @Override
         public void shallowCopy(Builder original) {
             this.function = original.function;
+            this.readsInput = original.readsInput;
             super.shallowCopy(original);
         }
 
@@ -0,0 +1,134 @@
+/*
+    Copyright (c) 2026 Caleb Leavell
+
+    Permission is hereby granted, free of charge, to any person obtaining a copy
+    of this software and associated documentation files (the "Software"), to deal
+    in the Software without restriction, including without limitation the rights
+    to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+    copies of the Software, and to permit persons to whom the Software is
+    furnished to do so, subject to the following conditions:
+
+    The above copyright notice and this permission notice shall be included in all
+    copies or substantial portions of the Software.
+
+    THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+    IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+    FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+    AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+    LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+    OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+    SOFTWARE.
+ */
+
+package com.calebleavell.jatui.modules;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * How long an input module waits for a line, and what happens if none arrives in time.
+ * Set on a single module via {@link TUIModule.Builder#inputDeadline(InputDeadline)}; set on an
+ * {@link ApplicationModule}, it applies to every input module of the application that doesn't set its own.
+ * <br><br>
+ * The possible outcomes are:
+ * <ul>
+ *     <li>{@link Outcome#DEFAULT}: the module continues as if {@link InputDeadline#getDefaultInput()} had been entered.</li>
+ *     <li>{@link Outcome#TERMINATE}: the application (or the module, if it has none) is terminated,
+ *     so an abandoned session ends and its state can be reclaimed.</li>
+ *     <li>{@link Outcome#NAVIGATE}: the module is terminated and {@link InputDeadline#getTarget()} runs in its place.</li>
+ * </ul>
+ * No thread is used per pending read: a module run by {@link TUIModule#start()} waits via
+ * {@link com.calebleavell.jatui.util.InputSource#nextLine(Duration)}, and an {@link EventLoop} keeps a timer for
+ * every suspended module. Sources that can't wait with a timeout (see
+ * {@link com.calebleavell.jatui.util.InputSource#canTimeOut()}), such as a {@link java.util.Scanner} like the default
+ * one on {@link System#in}, block as usual when run by {@link TUIModule#start()}, and a warning is logged.
+ * To read {@link System#in} with a deadline, give the application a {@link com.calebleavell.jatui.util.ReaderSource}.
+ * <br><br>
+ * Example usage:
+ * <pre><code>
+ * ApplicationModule app = ApplicationModule.builder("app")
+ *         .inputDeadline(InputDeadline.terminate(Duration.ofMinutes(5)))
+ *         .build();
+ *
+ * TextInputModule.builder("confirm", "Continue (y/n)? ")
+ *         .inputDeadline(InputDeadline.useDefault(Duration.ofSeconds(30), "n"));
+ * </code></pre>
+ */
+public final class InputDeadline {
+
+    /**
+     * What happens when an input module's deadline passes.
+     */
+    public enum Outcome {
+        /** Continue with {@link InputDeadline#getDefaultInput()} as the input. **/
+        DEFAULT,
+
+        /** Terminate the application. **/
+        TERMINATE,
+
+        /** Terminate the module and run {@link InputDeadline#getTarget()} instead. **/
+        NAVIGATE
+    }
+
+    private final Duration timeout;
+    private final Outcome outcome;
+    private final String defaultInput;
+    private final TUIModule.Builder<?> target;
+
+    private InputDeadline(Duration timeout, Outcome outcome, String defaultInput, TUIModule.Builder<?> target) {
+        Objects.requireNonNull(timeout, "timeout cannot be null");
+        if(timeout.isNegative() || timeout.isZero()) throw new IllegalArgumentException("timeout must be positive");
+        this.timeout = timeout;
+        this.outcome = outcome;
+        this.defaultInput = defaultInput;
+        this.target = target;
+    }
+
+    /**
+     * @param timeout How long to wait for a line.
+     * @param defaultInput The input to continue with if no line arrives in time.
+     * @return A deadline with the {@link Outcome#DEFAULT} outcome.
+     */
+    public static InputDeadline useDefault(Duration timeout, String defaultInput) {
+        return new InputDeadline(timeout, Outcome.DEFAULT, Objects.requireNonNull(defaultInput, "defaultInput cannot be null"), null);
+    }
+
+    /**
+     * @param timeout How long to wait for a line.
+     * @return A deadline with the {@link Outcome#TERMINATE} outcome.
+     */
+    public static InputDeadline terminate(Duration timeout) {
+        return new InputDeadline(timeout, Outcome.TERMINATE, null, null);
+    }
+
+    /**
+     * @param timeout How long to wait for a line.
+     * @param target The module to run if no line arrives in time.
+     * @return A deadline with the {@link Outcome#NAVIGATE} outcome.
+     */
+    public static InputDeadline navigateTo(Duration timeout, TUIModule.Builder<?> target) {
+        return new InputDeadline(timeout, Outcome.NAVIGATE, null, Objects.requireNonNull(target, "target cannot be null"));
+    }
+
+    /** @return How long to wait for a line. **/
+    public Duration getTimeout() {return timeout;}
+
+    /** @return What happens when the deadline passes. **/
+    public Outcome getOutcome() {return outcome;}
+
+    /** @return The input to continue with for {@link Outcome#DEFAULT}, otherwise null. **/
+    public String getDefaultInput() {return defaultInput;}
+
+    /** @return The module to run for {@link Outcome#NAVIGATE}, otherwise null. **/
+    public TUIModule.Builder<?> getTarget() {return target;}
+
+    /**
+     * Format: "InputDeadline(timeout=... outcome=...)".
+     *
+     * @return the formatted string
+     */
+    @Override
+    public String toString() {
+        return String.format("InputDeadline(timeout=%s outcome=%s)", timeout, outcome);
+    }
+}
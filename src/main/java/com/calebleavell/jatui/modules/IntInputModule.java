@@ -0,0 +1,203 @@
+/*
+    Copyright (c) 2026 Caleb Leavell
+
+    Permission is hereby granted, free of charge, to any person obtaining a copy
+    of this software and associated documentation files (the "Software"), to deal
+    in the Software without restriction, including without limitation the rights
+    to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+    copies of the Software, and to permit persons to whom the Software is
+    furnished to do so, subject to the following conditions:
+
+    The above copyright notice and this permission notice shall be included in all
+    copies or substantial portions of the Software.
+
+    THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+    IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+    FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+    AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+    LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+    OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+    SOFTWARE.
+ */
+
+package com.calebleavell.jatui.modules;
+
+/**
+ * Handles collecting an {@code int} from the user. The input is parsed directly into a primitive
+ * field and validated against the declared range (see {@link IntInputModule.Builder#range(int, int)});
+ * invalid input is recollected without throwing.
+ * <br><br>
+ * Example usage:
+ * <pre><code>
+ * IntInputModule.Builder age = IntInputModule.builder("age", "Your age: ")
+ *         .range(0, 150)
+ *         .invalidMessage("Please enter a whole number between 0 and 150.");
+ * </code></pre>
+ * The value can be retrieved via {@link IntInputModule#getValue()} or
+ * {@code app.getInput("age", Integer.class)}.
+ */
+public class IntInputModule extends TypedInputModule {
+
+    /** The smallest accepted value (inclusive). **/
+    private final int min;
+
+    /** The largest accepted value (inclusive). **/
+    private final int max;
+
+    /** The most recently collected value. **/
+    private int value;
+
+    /**
+     * Parses {@code input} as a base-10 {@code int} within {@code [min, max]}.
+     */
+    @Override
+    protected boolean parse(CharSequence input, int start, int end) {
+        if(!parseLong(input, start, end, min, max)) return false;
+        value = (int) parsedLong;
+        return true;
+    }
+
+    @Override
+    protected Object getBoxedValue() {
+        return value;
+    }
+
+    /**
+     * Retrieve the value collected on {@link TypedInputModule#doRunLogic()}.
+     * @return The most recently collected value, or 0 if this module hasn't run yet.
+     */
+    public int getValue() {
+        return value;
+    }
+
+    /**
+     * Constructs a new {@link IntInputModule} given a builder. Copies {@code min} and {@code max} from the builder.
+     * @param builder The builder to construct the new module from.
+     */
+    public IntInputModule(Builder builder) {
+        super(builder);
+        this.min = builder.min;
+        this.max = builder.max;
+    }
+
+    /**
+     * Constructs a new {@link IntInputModule} builder.
+     *
+     * @param name The name of the builder.
+     * @param displayText The text that displays before getting input (e.g., "Your Input: ").
+     * @return The new builder.
+     */
+    public static Builder builder(String name, String displayText) {
+        return new Builder(name, displayText);
+    }
+
+    /**
+     * Builder for {@link IntInputModule}.
+     * <br><br>
+     * Required fields: {@code name}, {@code displayText} <br>
+     * Optional fields (with default values): {@code min}, {@code max}, {@code invalidMessage}
+     */
+    public static class Builder extends TypedInputModule.Builder<Builder> {
+
+        /** The smallest accepted value (inclusive). **/
+        protected int min = Integer.MIN_VALUE;
+
+        /** The largest accepted value (inclusive). **/
+        protected int max = Integer.MAX_VALUE;
+
+        protected Builder(String name, String displayText) {
+            super(Builder.class, name, displayText);
+        }
+
+        protected Builder() {
+            super(Builder.class);
+        }
+
+        /**
+         * Gets a fresh instance of this type of Builder.
+         *  Note, this is intended only for copying utility and may have unknown consequences if used in other ways.
+         * @return A fresh, empty instance.
+         */
+        @Override
+        protected Builder createInstance() {
+            return new Builder();
+        }
+
+        /**
+         * Copies {@code min} and {@code max}, and delegates to {@link TypedInputModule.Builder#shallowCopy(TypedInputModule.Builder)}.
+         * @param original The builder to copy from
+         */
+        @Override
+        protected void shallowCopy(Builder original) {
+            this.min = original.min;
+            this.max = original.max;
+            super.shallowCopy(original);
+        }
+
+        /**
+         * Sets the smallest accepted value (inclusive).
+         * @param min The minimum value.
+         * @return self
+         */
+        public Builder min(int min) {
+            this.min = min;
+            return self();
+        }
+
+        /**
+         * Sets the largest accepted value (inclusive).
+         * @param max The maximum value.
+         * @return self
+         */
+        public Builder max(int max) {
+            this.max = max;
+            return self();
+        }
+
+        /**
+         * Sets the range of accepted values (both inclusive).
+         * @param min The minimum value.
+         * @param max The maximum value.
+         * @return self
+         */
+        public Builder range(int min, int max) {
+            this.min = min;
+            this.max = max;
+            return self();
+        }
+
+        /** @return The smallest accepted value (inclusive). **/
+        public int getMin() {
+            return min;
+        }
+
+        /** @return The largest accepted value (inclusive). **/
+        public int getMax() {
+            return max;
+        }
+
+        /**
+         * Checks equality for properties given by the builder. For {@link IntInputModule}, this includes
+         * {@code min} and {@code max}, as well as other requirements provided by
+         * {@link TypedInputModule.Builder#shallowStructuralEquals(TypedInputModule.Builder, TypedInputModule.Builder)}.
+         */
+        @Override
+        public boolean shallowStructuralEquals(Builder first, Builder second) {
+            if(first == second) return true;
+            if(first == null || second == null) return false;
+
+            return first.min == second.min &&
+                    first.max == second.max &&
+                    super.shallowStructuralEquals(first, second);
+        }
+
+        /**
+         * Builds a new {@link IntInputModule} based on the configuration of this builder.
+         * @return The new {@link IntInputModule}.
+         */
+        @Override
+        public IntInputModule build() {
+            return build(IntInputModule::new);
+        }
+    }
+}
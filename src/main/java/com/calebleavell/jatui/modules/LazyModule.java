@@ -0,0 +1,398 @@
+/*
+    Copyright (c) 2026 Caleb Leavell
+
+    Permission is hereby granted, free of charge, to any person obtaining a copy
+    of this software and associated documentation files (the "Software"), to deal
+    in the Software without restriction, including without limitation the rights
+    to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+    copies of the Software, and to permit persons to whom the Software is
+    furnished to do so, subject to the following conditions:
+
+    The above copyright notice and this permission notice shall be included in all
+    copies or substantial portions of the Software.
+
+    THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+    IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+    FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+    AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+    LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+    OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+    SOFTWARE.
+ */
+
+package com.calebleavell.jatui.modules;
+
+import com.calebleavell.jatui.core.DirectedGraphNode;
+
+import java.lang.ref.SoftReference;
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Defers creating a subtree of modules until it's first needed.
+ * <br><br>
+ * A {@link LazyModule} holds a {@link Supplier} of a {@link TUIModule.Builder} rather than the builder itself.
+ * The supplier is called the first time the module is built (i.e., the first time it's navigated to or run),
+ * or when a name it declares with {@link Builder#provides(String...)} is searched for via {@link TUIModule.Builder#getChild(String)}.
+ * Searching for any other name doesn't create the subtree unless the search asks for it
+ * ({@link TUIModule.Builder#getChild(String, boolean)}).
+ * This keeps screens that are rarely opened (submenus, confirmation prompts, etc.) from costing startup time and memory.
+ * <br><br>
+ * Property updates (e.g., {@link TUIModule.Builder#application(ApplicationModule)} or
+ * {@link TUIModule.Builder#printStream(java.io.PrintStream)}) that reach a lazy module before its subtree exists
+ * are remembered and applied to the subtree when it's created, so the subtree ends up as if it had been there all along.
+ * <br><br>
+ * If {@link Builder#releasable(boolean)} is set, the subtree is only softly referenced between runs,
+ * so the garbage collector may release it under memory pressure. It's created again the next time it's needed.
+ * <br><br>
+ * Example:
+ * <pre><code>
+ * LazyModule.builder("settings", () -&gt; buildSettingsMenu())
+ *     .provides("settings-menu")
+ *     .releasable(true);
+ * </code></pre>
+ */
+public class LazyModule extends TUIModule {
+
+    /**
+     * Simply logs the run; the subtree is run as this module's child.
+     */
+    @Override
+    public void doRunLogic() {
+        logger.trace("Running LazyModule \"{}\"", getName());
+    }
+
+    /**
+     * Builds a {@link LazyModule} based on the state of {@code builder}, creating the subtree if needed.
+     * The subtree runs before any children added directly to the builder.
+     * @param builder The {@link LazyModule.Builder} that is building the module.
+     */
+    public LazyModule(Builder builder) {
+        super(builder);
+    }
+
+    /**
+     * Constructs a new {@link LazyModule} builder.
+     *
+     * @param name The name of the builder.
+     * @param supplier Creates the subtree when it's first needed. It must not return null.
+     * @return The new builder.
+     */
+    public static Builder builder(String name, Supplier<? extends TUIModule.Builder<?>> supplier) {
+        return new Builder(name, supplier);
+    }
+
+    /**
+     * Builder for {@link LazyModule}.
+     * <br><br>
+     * Required fields: {@code name}, {@code supplier}
+     * <br>
+     * Optional fields: {@code releasable}, {@code provides}
+     * <br><br>
+     * The subtree isn't one of this builder's children (so it doesn't affect structural equality or hashing),
+     * but it's included in searches ({@link TUIModule.Builder#dfs(Function)}) and property updates once it exists.
+     */
+    public static class Builder extends TUIModule.Builder<Builder> {
+
+        /**
+         * Creates the subtree.
+         *
+         * @implNote
+         * This isn't checked in {@link DirectedGraphNode#structuralEquals(DirectedGraphNode)},
+         * for the same reason as {@link FunctionModule.Builder#function}.
+         */
+        private Supplier<? extends TUIModule.Builder<?>> supplier;
+
+        /** The names in the subtree that {@link TUIModule.Builder#getChild(String)} may create the subtree to find. **/
+        private final Set<String> provided = new HashSet<>();
+
+        /** Whether the subtree may be released by the garbage collector between runs. **/
+        private boolean releasable = false;
+
+        /** The subtree, if it exists and isn't releasable. **/
+        private TUIModule.Builder<?> subtree;
+
+        /** The subtree, if it exists and is releasable. **/
+        private SoftReference<TUIModule.Builder<?>> softSubtree;
+
+        /** The number of times the subtree has been created. **/
+        private int materializations = 0;
+
+        /**
+         * The latest update to each property that reached this module, to apply to the subtree when it's created.
+         * Merged ansi is kept separately in {@link Builder#mergedAnsi} since every merge applies.
+         */
+        private final Map<Property, Consumer<TUIModule.Builder<?>>> updates = new EnumMap<>(Property.class);
+
+        /** Every ansi merge since ansi was last set. **/
+        private final List<Consumer<TUIModule.Builder<?>>> mergedAnsi = new ArrayList<>();
+
+        protected Builder(String name, Supplier<? extends TUIModule.Builder<?>> supplier) {
+            super(Builder.class, name);
+            this.supplier = supplier;
+        }
+
+        protected Builder() {
+            super(Builder.class);
+        }
+
+        /**
+         * Gets a fresh instance of this type of Builder.
+         *  Note, this is intended only for copying utility and may have unknown consequences if used in other ways.
+         * @return A fresh, empty instance.
+         */
+        @Override
+        protected Builder createInstance() {
+            return new Builder();
+        }
+
+        /**
+         * Creates a copy of {@code original} by mutating this instance.
+         * The subtree isn't copied; the copy creates its own when needed.
+         * This is a utility method for {@link TUIModule.Builder#getCopy()}
+         * @param original The builder to copy from
+         */
+        @Override
+        public void shallowCopy(Builder original) {
+            this.supplier = original.supplier;
+            this.releasable = original.releasable;
+            this.provided.addAll(original.provided);
+            this.updates.putAll(original.updates);
+            this.mergedAnsi.addAll(original.mergedAnsi);
+            super.shallowCopy(original);
+        }
+
+        /**
+         * Gets the children the built module runs: the subtree (created if needed), then the children of this builder.
+         *
+         * @return A new list of the children the built module runs, in order.
+         */
+        @Override
+        protected List<TUIModule.Builder<?>> getChildrenToRun() {
+            List<TUIModule.Builder<?>> toRun = super.getChildrenToRun();
+            toRun.addFirst(materialize());
+            return toRun;
+        }
+
+        /**
+         * Sets whether the subtree may be released by the garbage collector when memory runs low.
+         * A released subtree is created again (by calling the supplier) the next time it's needed,
+         * so any changes made directly to it are lost.
+         *
+         * @param releasable Whether the subtree is only softly referenced.
+         * @return self
+         */
+        public Builder releasable(boolean releasable) {
+            logger.debug("setting releasable for LazyModule builder \"{}\" to {}", getName(), releasable);
+            this.releasable = releasable;
+
+            TUIModule.Builder<?> current = getSubtree();
+            if(current != null) hold(current);
+
+            return self();
+        }
+
+        /**
+         * Declares names of modules in the subtree, so that searching for one of them by name
+         * ({@link TUIModule.Builder#getChild(String)}) creates the subtree if it doesn't exist yet.
+         * Other names are only found in the subtree once it exists, or when the search asks for every lazy subtree.
+         *
+         * @param names The names of modules the subtree contains.
+         * @return self
+         */
+        public Builder provides(String... names) {
+            provided.addAll(Arrays.asList(names));
+            return self();
+        }
+
+        /**
+         * @return The names declared with {@link Builder#provides(String...)}.
+         */
+        public Set<String> getProvided() {
+            return Collections.unmodifiableSet(provided);
+        }
+
+        /**
+         * @return Whether the subtree may be released by the garbage collector.
+         */
+        public boolean isReleasable() {
+            return releasable;
+        }
+
+        /**
+         * @return The supplier that creates the subtree.
+         */
+        public Supplier<? extends TUIModule.Builder<?>> getSupplier() {
+            return supplier;
+        }
+
+        /**
+         * @return The subtree, or null if it hasn't been created (or has been released).
+         */
+        public TUIModule.Builder<?> getSubtree() {
+            if(subtree != null) return subtree;
+            if(softSubtree != null) return softSubtree.get();
+            return null;
+        }
+
+        /**
+         * @return Whether the subtree currently exists.
+         */
+        public boolean isMaterialized() {
+            return getSubtree() != null;
+        }
+
+        /**
+         * @return The number of times the subtree has been created.
+         */
+        public int getMaterializations() {
+            return materializations;
+        }
+
+        /**
+         * Gets the subtree, creating it if it doesn't exist. Remembered property updates are applied to a new subtree,
+         * and, if this module belongs to an application, the application checks for duplicate names again.
+         *
+         * @return The subtree.
+         */
+        public TUIModule.Builder<?> materialize() {
+            TUIModule.Builder<?> current = getSubtree();
+            if(current != null) return current;
+
+            logger.debug("creating subtree of LazyModule \"{}\"", getName());
+            current = Objects.requireNonNull(supplier.get(), "LazyModule supplier returned null");
+
+            for(Map.Entry<Property, Consumer<TUIModule.Builder<?>>> update : updates.entrySet()) {
+                current.updateProperty(update.getKey(), update.getValue());
+            }
+            for(Consumer<TUIModule.Builder<?>> merge : mergedAnsi) {
+                current.updateProperty(Property.MERGE_ANSI, merge);
+            }
+
+            hold(current);
+            current.addParent(this); // changes inside the subtree reach the applications this module is in
+            materializations++;
+            structureChanged(); // the modules reachable from this one have changed
+
+            if(application != null) application.checkForNameDuplicates();
+
+            return current;
+        }
+
+        /**
+         * Drops the subtree. It's created again the next time it's needed.
+         *
+         * @return self
+         */
+        public Builder release() {
+            logger.debug("releasing subtree of LazyModule \"{}\"", getName());
+            TUIModule.Builder<?> current = getSubtree();
+            if(current != null) current.removeParent(this);
+            subtree = null;
+            softSubtree = null;
+            structureChanged();
+            return self();
+        }
+
+        /**
+         * Keeps a reference to {@code current} according to {@link Builder#releasable}.
+         */
+        private void hold(TUIModule.Builder<?> current) {
+            if(releasable) {
+                subtree = null;
+                softSubtree = new SoftReference<>(current);
+            }
+            else {
+                subtree = current;
+                softSubtree = null;
+            }
+        }
+
+        /**
+         * Searches this module and the subtree (if it exists). The subtree isn't created by searching.
+         */
+        @Override
+        public TUIModule.Builder<?> dfs(Function<TUIModule.Builder<?>, Boolean> criteria, Set<TUIModule.Builder<?>> visited) {
+            if(visited.contains(this)) return null;
+
+            TUIModule.Builder<?> found = super.dfs(criteria, visited);
+            if(found != null) return found;
+
+            TUIModule.Builder<?> current = getSubtree();
+            return current == null ? null : current.dfs(criteria, visited);
+        }
+
+        /**
+         * Updates this module, then either updates the subtree or remembers the update for when the subtree is created
+         * (if the flag for {@code property} continues the recursion).
+         */
+        @Override
+        public void updateProperty(Property property, Consumer<TUIModule.Builder<?>> updater, Set<TUIModule.Builder<?>> visited) {
+            if(visited.contains(this)) return;
+
+            super.updateProperty(property, updater, visited);
+
+            PropertyUpdateFlag flag = getPropertyUpdateFlag(property);
+            if(flag != PropertyUpdateFlag.UPDATE && flag != PropertyUpdateFlag.SKIP) return;
+
+            if(property == Property.MERGE_ANSI) mergedAnsi.add(updater);
+            else {
+                if(property == Property.SET_ANSI) mergedAnsi.clear();
+                updates.put(property, updater);
+            }
+
+            TUIModule.Builder<?> current = getSubtree();
+            if(current != null) current.updateProperty(property, updater, visited);
+        }
+
+        /**
+         * Checks equality for properties given by the builder. For {@link LazyModule}, this includes
+         * {@code releasable}, as well as other requirements provided by {@link TUIModule.Builder#shallowStructuralEquals(TUIModule.Builder, TUIModule.Builder)}.
+         */
+        @Override
+        public boolean shallowStructuralEquals(Builder first, Builder second) {
+            if(first == second) return true;
+            if(first == null || second == null) return false;
+
+            return first.releasable == second.releasable &&
+                    super.shallowStructuralEquals(first, second);
+        }
+
+        /**
+         * Builds a new {@link LazyModule}, creating the subtree if it doesn't exist.
+         * @return The built {@link LazyModule}
+         */
+        @Override
+        public LazyModule build() {
+            logger.trace("Building LazyModule \"{}\"", getName());
+            return new LazyModule(self());
+        }
+
+        /**
+         * Searches for a module by name inside lazy subtrees that haven't been created yet, creating them one at a time
+         * until it's found. Used by {@link TUIModule.Builder#getChild(String, boolean)} after a regular search fails.
+         *
+         * @param root The module to search from.
+         * @param name The name of the module to find.
+         * @param all Whether to create every lazy subtree, rather than only those that declare {@code name}.
+         * @return The module, or null if it doesn't exist in any searched lazy subtree.
+         */
+        static TUIModule.Builder<?> findInLazySubtrees(TUIModule.Builder<?> root, String name, boolean all) {
+            List<Builder> pending = new ArrayList<>();
+            root.forEach(m -> {
+                if(m instanceof Builder lazy && !lazy.isMaterialized() && (all || lazy.provided.contains(name))) {
+                    pending.add(lazy);
+                }
+            });
+
+            for(Builder lazy : pending) {
+                TUIModule.Builder<?> found = lazy.materialize().getChild(name);
+                if(found != null) return found;
+            }
+
+            return null;
+        }
+    }
+}
@@ -0,0 +1,263 @@
+/*
+    Copyright (c) 2026 Caleb Leavell
+
+    Permission is hereby granted, free of charge, to any person obtaining a copy
+    of this software and associated documentation files (the "Software"), to deal
+    in the Software without restriction, including without limitation the rights
+    to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+    copies of the Software, and to permit persons to whom the Software is
+    furnished to do so, subject to the following conditions:
+
+    The above copyright notice and this permission notice shall be included in all
+    copies or substantial portions of the Software.
+
+    THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+    IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+    FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+    AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+    LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+    OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+    SOFTWARE.
+ */
+
+package com.calebleavell.jatui.modules;
+
+import com.calebleavell.jatui.monitoring.LatencyHistogram;
+import com.calebleavell.jatui.util.OutputSink;
+import com.calebleavell.jatui.util.SessionRecording;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Replays recorded sessions concurrently, each against its own {@link ApplicationModule}, and reports
+ * throughput, step latency percentiles, and heap growth.
+ * <br><br>
+ * Every session gets a fresh builder from {@code factory} and runs on its own virtual thread through a {@link BatchRunner}
+ * with its output discarded, so sessions share nothing but the static state of the library.
+ * Recorded think time is waited for in proportion to {@link LoadGenerator#speed(double)}; by default it is skipped.
+ * Waiting doesn't hold a platform thread, so thousands of sessions can be thinking at once.
+ * <br><br>
+ * Latency is measured per step: from when a line of input is handed to the application until the application asks
+ * for the next one (or finishes). Think time isn't included.
+ * <br><br>
+ * Example usage:
+ * <pre><code>
+ * LoadGenerator.Report report = new LoadGenerator(MyApp::builder)
+ *         .threads(1_000)
+ *         .run(Collections.nCopies(10_000, SessionRecording.load(Path.of("session.jts"))));
+ * </code></pre>
+ */
+public class LoadGenerator {
+
+    private static final Logger logger = LoggerFactory.getLogger(LoadGenerator.class);
+
+    private final Supplier<ApplicationModule.Builder> factory;
+    private int threads = Integer.MAX_VALUE;
+    private double speed = 0;
+
+    /**
+     * @param factory Creates a new, independent application builder for every session.
+     */
+    public LoadGenerator(Supplier<ApplicationModule.Builder> factory) {
+        this.factory = Objects.requireNonNull(factory, "factory cannot be null");
+    }
+
+    /**
+     * @param threads How many sessions run at once, each on its own virtual thread. By default, every session runs at once.
+     * @return self
+     */
+    public LoadGenerator threads(int threads) {
+        if(threads < 1) throw new IllegalArgumentException("threads must be positive, got " + threads);
+        this.threads = threads;
+        return this;
+    }
+
+    /**
+     * @param speed How much faster than real time recorded think time is replayed (see {@link SessionRecording#replay(double)}).
+     *              0, the default, skips think time.
+     * @return self
+     */
+    public LoadGenerator speed(double speed) {
+        if(speed < 0 || Double.isNaN(speed)) throw new IllegalArgumentException("speed cannot be negative");
+        this.speed = speed;
+        return this;
+    }
+
+    /**
+     * Replays every session and waits for all of them to finish.
+     *
+     * @param sessions The sessions to replay. The same recording may appear any number of times.
+     * @return The report of the run.
+     * @throws InterruptedException if interrupted while waiting for the sessions.
+     */
+    public Report run(List<SessionRecording> sessions) throws InterruptedException {
+        LatencyHistogram latency = new LatencyHistogram();
+        LongAdder completed = new LongAdder();
+        LongAdder exhausted = new LongAdder();
+        LongAdder lines = new LongAdder();
+
+        long heapBefore = settledHeapUsed();
+        List<MemoryPoolMXBean> heapPools = heapPools();
+        heapPools.forEach(MemoryPoolMXBean::resetPeakUsage);
+
+        Semaphore running = new Semaphore(threads);
+        ExecutorService executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("jatui-load-", 1).factory());
+
+        List<Callable<Void>> tasks = new ArrayList<>(sessions.size());
+        for(SessionRecording session : sessions) {
+            tasks.add(() -> {
+                running.acquire();
+                try {
+                    BatchRunner.Result result = new BatchRunner(factory.get())
+                            .output(OutputSink.discard())
+                            .recordSteps(false)
+                            .onStep(step -> latency.record(step.getProcessingTime().toNanos()))
+                            .run(session.replay(speed));
+                    lines.add(result.getLinesRead());
+                    if(result.isCompleted()) completed.increment();
+                    else if(result.isExhausted()) exhausted.increment();
+                    else logger.debug("replayed session failed: {}", result.getFailure().toString());
+                }
+                finally {
+                    running.release();
+                }
+                return null;
+            });
+        }
+
+        logger.info("replaying {} sessions, {} at once", sessions.size(),
+                threads == Integer.MAX_VALUE ? "all" : String.valueOf(threads));
+        long start = System.nanoTime();
+        try {
+            for(Future<Void> future : executor.invokeAll(tasks)) {
+                try {
+                    future.get();
+                }
+                catch(ExecutionException e) {
+                    logger.error("session could not be replayed: {}", e.getCause().toString());
+                }
+            }
+        }
+        finally {
+            executor.shutdownNow();
+        }
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+        long peak = 0;
+        for(MemoryPoolMXBean pool : heapPools) {
+            if(pool.getPeakUsage() != null) peak += pool.getPeakUsage().getUsed();
+        }
+
+        return new Report(sessions.size(), completed.sum(), exhausted.sum(), lines.sum(), elapsed,
+                latency.snapshot(), heapBefore, settledHeapUsed(), peak);
+    }
+
+    private static List<MemoryPoolMXBean> heapPools() {
+        List<MemoryPoolMXBean> pools = new ArrayList<>();
+        for(MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if(pool.getType() == MemoryType.HEAP && pool.isValid()) pools.add(pool);
+        }
+        return pools;
+    }
+
+    /**
+     * @return The heap used after requesting garbage collection, so short-lived garbage isn't counted.
+     */
+    private static long settledHeapUsed() {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        memory.gc();
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+
+    /**
+     * The outcome of a {@link LoadGenerator#run(List)}.
+     */
+    public static class Report {
+        private final long sessions;
+        private final long completed;
+        private final long exhausted;
+        private final long linesRead;
+        private final Duration elapsed;
+        private final LatencyHistogram.Snapshot latency;
+        private final long heapUsedBefore;
+        private final long heapUsedAfter;
+        private final long peakHeapUsed;
+
+        Report(long sessions, long completed, long exhausted, long linesRead, Duration elapsed,
+               LatencyHistogram.Snapshot latency, long heapUsedBefore, long heapUsedAfter, long peakHeapUsed) {
+            this.sessions = sessions;
+            this.completed = completed;
+            this.exhausted = exhausted;
+            this.linesRead = linesRead;
+            this.elapsed = elapsed;
+            this.latency = latency;
+            this.heapUsedBefore = heapUsedBefore;
+            this.heapUsedAfter = heapUsedAfter;
+            this.peakHeapUsed = peakHeapUsed;
+        }
+
+        /** @return How many sessions were replayed. **/
+        public long getSessions() {return sessions;}
+
+        /** @return How many sessions ran to completion. **/
+        public long getCompleted() {return completed;}
+
+        /** @return How many sessions ran out of recorded input before the application finished. **/
+        public long getExhausted() {return exhausted;}
+
+        /** @return How many sessions threw (other than running out of input). **/
+        public long getFailed() {return sessions - completed - exhausted;}
+
+        /** @return How many lines were read across all sessions. **/
+        public long getLinesRead() {return linesRead;}
+
+        /** @return How long replaying every session took. **/
+        public Duration getElapsed() {return elapsed;}
+
+        /** @return Sessions finished per second. **/
+        public double getThroughput() {
+            double seconds = elapsed.toNanos() / 1e9;
+            return seconds == 0 ? 0 : sessions / seconds;
+        }
+
+        /** @return The distribution of how long the application took to process each line of input, in nanoseconds. **/
+        public LatencyHistogram.Snapshot getLatency() {return latency;}
+
+        /** @return The heap used (after garbage collection) before the sessions ran, in bytes. **/
+        public long getHeapUsedBefore() {return heapUsedBefore;}
+
+        /** @return The heap used (after garbage collection) after the sessions ran, in bytes. **/
+        public long getHeapUsedAfter() {return heapUsedAfter;}
+
+        /** @return How much the heap retained by the sessions grew, in bytes. May be negative. **/
+        public long getHeapGrowth() {return heapUsedAfter - heapUsedBefore;}
+
+        /** @return The highest heap use while the sessions ran, in bytes. **/
+        public long getPeakHeapUsed() {return peakHeapUsed;}
+
+        /**
+         * Format: "sessions: ... | completed: ... | ... | throughput: .../s | latency: [...] | heap growth: ...B | peak heap: ...B".
+         *
+         * @return the formatted string
+         */
+        @Override
+        public String toString() {
+            return String.format("sessions: %d | completed: %d | exhausted: %d | failed: %d | elapsed: %dms | " +
+                            "throughput: %.1f/s | latency: [%s] | heap growth: %dB | peak heap: %dB",
+                    sessions, completed, exhausted, getFailed(), elapsed.toMillis(), getThroughput(),
+                    latency, getHeapGrowth(), peakHeapUsed);
+        }
+    }
+}
@@ -0,0 +1,203 @@
+/*
+    Copyright (c) 2026 Caleb Leavell
+
+    Permission is hereby granted, free of charge, to any person obtaining a copy
+    of this software and associated documentation files (the "Software"), to deal
+    in the Software without restriction, including without limitation the rights
+    to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+    copies of the Software, and to permit persons to whom the Software is
+    furnished to do so, subject to the following conditions:
+
+    The above copyright notice and this permission notice shall be included in all
+    copies or substantial portions of the Software.
+
+    THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+    IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+    FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+    AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+    LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+    OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+    SOFTWARE.
+ */
+
+package com.calebleavell.jatui.modules;
+
+/**
+ * Handles collecting a {@code long} from the user. The input is parsed directly into a primitive
+ * field and validated against the declared range (see {@link LongInputModule.Builder#range(long, long)});
+ * invalid input is recollected without throwing.
+ * <br><br>
+ * Example usage:
+ * <pre><code>
+ * LongInputModule.Builder id = LongInputModule.builder("id", "Account id: ")
+ *         .min(1)
+ *         .invalidMessage("Please enter a positive account id.");
+ * </code></pre>
+ * The value can be retrieved via {@link LongInputModule#getValue()} or
+ * {@code app.getInput("id", Long.class)}.
+ */
+public class LongInputModule extends TypedInputModule {
+
+    /** The smallest accepted value (inclusive). **/
+    private final long min;
+
+    /** The largest accepted value (inclusive). **/
+    private final long max;
+
+    /** The most recently collected value. **/
+    private long value;
+
+    /**
+     * Parses {@code input} as a base-10 {@code long} within {@code [min, max]}.
+     */
+    @Override
+    protected boolean parse(CharSequence input, int start, int end) {
+        if(!parseLong(input, start, end, min, max)) return false;
+        value = parsedLong;
+        return true;
+    }
+
+    @Override
+    protected Object getBoxedValue() {
+        return value;
+    }
+
+    /**
+     * Retrieve the value collected on {@link TypedInputModule#doRunLogic()}.
+     * @return The most recently collected value, or 0 if this module hasn't run yet.
+     */
+    public long getValue() {
+        return value;
+    }
+
+    /**
+     * Constructs a new {@link LongInputModule} given a builder. Copies {@code min} and {@code max} from the builder.
+     * @param builder The builder to construct the new module from.
+     */
+    public LongInputModule(Builder builder) {
+        super(builder);
+        this.min = builder.min;
+        this.max = builder.max;
+    }
+
+    /**
+     * Constructs a new {@link LongInputModule} builder.
+     *
+     * @param name The name of the builder.
+     * @param displayText The text that displays before getting input (e.g., "Your Input: ").
+     * @return The new builder.
+     */
+    public static Builder builder(String name, String displayText) {
+        return new Builder(name, displayText);
+    }
+
+    /**
+     * Builder for {@link LongInputModule}.
+     * <br><br>
+     * Required fields: {@code name}, {@code displayText} <br>
+     * Optional fields (with default values): {@code min}, {@code max}, {@code invalidMessage}
+     */
+    public static class Builder extends TypedInputModule.Builder<Builder> {
+
+        /** The smallest accepted value (inclusive). **/
+        protected long min = Long.MIN_VALUE;
+
+        /** The largest accepted value (inclusive). **/
+        protected long max = Long.MAX_VALUE;
+
+        protected Builder(String name, String displayText) {
+            super(Builder.class, name, displayText);
+        }
+
+        protected Builder() {
+            super(Builder.class);
+        }
+
+        /**
+         * Gets a fresh instance of this type of Builder.
+         *  Note, this is intended only for copying utility and may have unknown consequences if used in other ways.
+         * @return A fresh, empty instance.
+         */
+        @Override
+        protected Builder createInstance() {
+            return new Builder();
+        }
+
+        /**
+         * Copies {@code min} and {@code max}, and delegates to {@link TypedInputModule.Builder#shallowCopy(TypedInputModule.Builder)}.
+         * @param original The builder to copy from
+         */
+        @Override
+        protected void shallowCopy(Builder original) {
+            this.min = original.min;
+            this.max = original.max;
+            super.shallowCopy(original);
+        }
+
+        /**
+         * Sets the smallest accepted value (inclusive).
+         * @param min The minimum value.
+         * @return self
+         */
+        public Builder min(long min) {
+            this.min = min;
+            return self();
+        }
+
+        /**
+         * Sets the largest accepted value (inclusive).
+         * @param max The maximum value.
+         * @return self
+         */
+        public Builder max(long max) {
+            this.max = max;
+            return self();
+        }
+
+        /**
+         * Sets the range of accepted values (both inclusive).
+         * @param min The minimum value.
+         * @param max The maximum value.
+         * @return self
+         */
+        public Builder range(long min, long max) {
+            this.min = min;
+            this.max = max;
+            return self();
+        }
+
+        /** @return The smallest accepted value (inclusive). **/
+        public long getMin() {
+            return min;
+        }
+
+        /** @return The largest accepted value (inclusive). **/
+        public long getMax() {
+            return max;
+        }
+
+        /**
+         * Checks equality for properties given by the builder. For {@link LongInputModule}, this includes
+         * {@code min} and {@code max}, as well as other requirements provided by
+         * {@link TypedInputModule.Builder#shallowStructuralEquals(TypedInputModule.Builder, TypedInputModule.Builder)}.
+         */
+        @Override
+        public boolean shallowStructuralEquals(Builder first, Builder second) {
+            if(first == second) return true;
+            if(first == null || second == null) return false;
+
+            return first.min == second.min &&
+                    first.max == second.max &&
+                    super.shallowStructuralEquals(first, second);
+        }
+
+        /**
+         * Builds a new {@link LongInputModule} based on the configuration of this builder.
+         * @return The new {@link LongInputModule}.
+         */
+        @Override
+        public LongInputModule build() {
+            return build(LongInputModule::new);
+        }
+    }
+}
@@ -0,0 +1,77 @@
+/*
+    Copyright (c) 2026 Caleb Leavell
+
+    Permission is hereby granted, free of charge, to any person obtaining a copy
+    of this software and associated documentation files (the "Software"), to deal
+    in the Software without restriction, including without limitation the rights
+    to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+    copies of the Software, and to permit persons to whom the Software is
+    furnished to do so, subject to the following conditions:
+
+    The above copyright notice and this permission notice shall be included in all
+    copies or substantial portions of the Software.
+
+    THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+    IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+    FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+    AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+    LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+    OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+    SOFTWARE.
+ */
+
+package com.calebleavell.jatui.modules;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A {@link SnapshotStore} that keeps snapshots in memory, in their compact binary format
+ * (so a loaded snapshot is independent of the saved one). Useful for tests and for moving
+ * sessions between applications in the same process. This class is thread-safe.
+ */
+public class MemorySnapshotStore implements SnapshotStore {
+
+    private final Map<String, byte[]> snapshots = new ConcurrentHashMap<>();
+
+    @Override
+    public void save(String key, ApplicationSnapshot snapshot) {
+        Objects.requireNonNull(key, "key cannot be null");
+        snapshots.put(key, snapshot.toByteArray());
+    }
+
+    @Override
+    public ApplicationSnapshot load(String key) {
+        byte[] bytes = snapshots.get(Objects.requireNonNull(key, "key cannot be null"));
+        if(bytes == null) return null;
+        try {
+            return ApplicationSnapshot.fromByteArray(bytes);
+        }
+        catch(IOException e) {
+            throw new UncheckedIOException(e); // not thrown, since only valid snapshots are saved
+        }
+    }
+
+    @Override
+    public boolean delete(String key) {
+        return snapshots.remove(Objects.requireNonNull(key, "key cannot be null")) != null;
+    }
+
+    @Override
+    public Set<String> keys() {
+        return Set.copyOf(snapshots.keySet());
+    }
+
+    /**
+     * @return The total size of the saved snapshots in bytes.
+     */
+    public long getSizeInBytes() {
+        long size = 0;
+        for(byte[] bytes : snapshots.values()) size += bytes.length;
+        return size;
+    }
+}
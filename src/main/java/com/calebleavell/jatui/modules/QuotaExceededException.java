@@ -0,0 +1,83 @@
+/*
+    Copyright (c) 2026 Caleb Leavell
+
+    Permission is hereby granted, free of charge, to any person obtaining a copy
+    of this software and associated documentation files (the "Software"), to deal
+    in the Software without restriction, including without limitation the rights
+    to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+    copies of the Software, and to permit persons to whom the Software is
+    furnished to do so, subject to the following conditions:
+
+    The above copyright notice and this permission notice shall be included in all
+    copies or substantial portions of the Software.
+
+    THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+    IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+    FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+    AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+    LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+    OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+    SOFTWARE.
+ */
+
+package com.calebleavell.jatui.modules;
+
+/**
+ * Thrown when an {@link ApplicationModule} exceeds one of the limits of its {@link ResourceQuota}.
+ * It ends the application's run; safe handlers don't catch it.
+ */
+public class QuotaExceededException extends RuntimeException {
+
+    /**
+     * The limit of a {@link ResourceQuota} that was exceeded.
+     */
+    public enum Kind {
+        /** {@link ResourceQuota#getMaxRunStackDepth()}, in frames. **/
+        RUN_STACK_DEPTH,
+
+        /** {@link ResourceQuota#getMaxStateEntries()}, in entries. **/
+        STATE_ENTRIES,
+
+        /** {@link ResourceQuota#getMaxStateBytes()}, in bytes. **/
+        STATE_BYTES,
+
+        /** {@link ResourceQuota#getMaxBuildsPerSecond()}, in modules built within one second. **/
+        BUILD_RATE,
+
+        /** {@link ResourceQuota#getMaxHandlerCpuTime()}, in nanoseconds. **/
+        HANDLER_CPU_TIME
+    }
+
+    private static final long serialVersionUID = 1L;
+
+    private final Kind kind;
+    private final String applicationName;
+    private final long limit;
+    private final long actual;
+
+    /**
+     * @param kind The limit that was exceeded.
+     * @param applicationName The name of the application that exceeded it.
+     * @param limit The value of the limit.
+     * @param actual The value that exceeded the limit.
+     */
+    public QuotaExceededException(Kind kind, String applicationName, long limit, long actual) {
+        super(String.format("Application \"%s\" exceeded its %s quota (%d > %d)", applicationName, kind, actual, limit));
+        this.kind = kind;
+        this.applicationName = applicationName;
+        this.limit = limit;
+        this.actual = actual;
+    }
+
+    /** @return The limit that was exceeded. **/
+    public Kind getKind() {return kind;}
+
+    /** @return The name of the application that exceeded the limit. **/
+    public String getApplicationName() {return applicationName;}
+
+    /** @return The value of the limit, in the unit given by {@link QuotaExceededException#getKind()}. **/
+    public long getLimit() {return limit;}
+
+    /** @return The value that exceeded the limit, in the unit given by {@link QuotaExceededException#getKind()}. **/
+    public long getActual() {return actual;}
+}
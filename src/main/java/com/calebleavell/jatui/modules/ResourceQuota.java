@@ -0,0 +1,193 @@
+/*
+    Copyright (c) 2026 Caleb Leavell
+
+    Permission is hereby granted, free of charge, to any person obtaining a copy
+    of this software and associated documentation files (the "Software"), to deal
+    in the Software without restriction, including without limitation the rights
+    to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+    copies of the Software, and to permit persons to whom the Software is
+    furnished to do so, subject to the following conditions:
+
+    The above copyright notice and this permission notice shall be included in all
+    copies or substantial portions of the Software.
+
+    THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+    IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+    FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+    AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+    LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+    OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+    SOFTWARE.
+ */
+
+package com.calebleavell.jatui.modules;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * Limits on the resources a single {@link ApplicationModule} may use, so that one runaway session can't degrade
+ * the others hosted in the same JVM. Set via {@link ApplicationModule.Builder#quota(ResourceQuota)}.
+ * <br><br>
+ * Every limit is disabled when set to 0 (the default):
+ * <ul>
+ *     <li>{@code maxRunStackDepth}: frames on the application's run stack (see {@link TUIModule#getRunStackDepth()}).</li>
+ *     <li>{@code maxStateEntries}: entries in the application's input map.</li>
+ *     <li>{@code maxStateBytes}: the estimated size of the keys and values in the application's input map.</li>
+ *     <li>{@code maxBuildsPerSecond}: modules the scheduler builds for the application within one second,
+ *     which catches runaway {@link TUIModule#navigateTo(TUIModule.Builder)} or restart loops.</li>
+ *     <li>{@code maxHandlerCpuTime}: CPU time of a single {@link com.calebleavell.jatui.templates.InputHandler} run.
+ *     Handlers can't be interrupted, so this is checked once the handler returns.</li>
+ * </ul>
+ * Exceeding a limit throws a {@link QuotaExceededException} from the operation that exceeded it, which ends the
+ * application's run (it propagates out of {@link TUIModule#start()}, or fails the
+ * {@link EventLoop.Session}). Safe handlers don't catch it. The violation is also logged, counted per kind
+ * (see {@link ApplicationModule#getQuotaViolations(QuotaExceededException.Kind)}), and recorded in the application's
+ * {@link com.calebleavell.jatui.monitoring.ModuleMetrics}.
+ * <br><br>
+ * Example usage:
+ * <pre><code>
+ * ApplicationModule app = ApplicationModule.builder("app")
+ *         .quota(ResourceQuota.builder()
+ *                 .maxRunStackDepth(1_000)
+ *                 .maxStateEntries(10_000)
+ *                 .maxStateBytes(1 &lt;&lt; 20)
+ *                 .maxBuildsPerSecond(10_000)
+ *                 .maxHandlerCpuTime(Duration.ofMillis(100))
+ *                 .build())
+ *         .build();
+ * </code></pre>
+ */
+public final class ResourceQuota {
+
+    /** A quota with every limit disabled. This is the default for every application. **/
+    public static final ResourceQuota UNLIMITED = builder().build();
+
+    private final int maxRunStackDepth;
+    private final int maxStateEntries;
+    private final long maxStateBytes;
+    private final int maxBuildsPerSecond;
+    private final Duration maxHandlerCpuTime;
+
+    private ResourceQuota(Builder builder) {
+        this.maxRunStackDepth = builder.maxRunStackDepth;
+        this.maxStateEntries = builder.maxStateEntries;
+        this.maxStateBytes = builder.maxStateBytes;
+        this.maxBuildsPerSecond = builder.maxBuildsPerSecond;
+        this.maxHandlerCpuTime = builder.maxHandlerCpuTime;
+    }
+
+    /**
+     * @return A builder with every limit disabled.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /** @return The maximum number of frames on the run stack, or 0 if unlimited. **/
+    public int getMaxRunStackDepth() {return maxRunStackDepth;}
+
+    /** @return The maximum number of entries in the input map, or 0 if unlimited. **/
+    public int getMaxStateEntries() {return maxStateEntries;}
+
+    /** @return The maximum estimated size of the input map in bytes, or 0 if unlimited. **/
+    public long getMaxStateBytes() {return maxStateBytes;}
+
+    /** @return The maximum number of modules built per second, or 0 if unlimited. **/
+    public int getMaxBuildsPerSecond() {return maxBuildsPerSecond;}
+
+    /** @return The maximum CPU time of a single handler run, or {@link Duration#ZERO} if unlimited. **/
+    public Duration getMaxHandlerCpuTime() {return maxHandlerCpuTime;}
+
+    /**
+     * @return Whether every limit is disabled.
+     */
+    public boolean isUnlimited() {
+        return maxRunStackDepth == 0 && maxStateEntries == 0 && maxStateBytes == 0
+                && maxBuildsPerSecond == 0 && maxHandlerCpuTime.isZero();
+    }
+
+    /**
+     * Format: "ResourceQuota(maxRunStackDepth=... maxStateEntries=... ...)".
+     *
+     * @return the formatted string
+     */
+    @Override
+    public String toString() {
+        return String.format("ResourceQuota(maxRunStackDepth=%d maxStateEntries=%d maxStateBytes=%d maxBuildsPerSecond=%d maxHandlerCpuTime=%s)",
+                maxRunStackDepth, maxStateEntries, maxStateBytes, maxBuildsPerSecond, maxHandlerCpuTime);
+    }
+
+    /**
+     * Builder for {@link ResourceQuota}. Every limit defaults to 0, which disables it.
+     */
+    public static class Builder {
+        private int maxRunStackDepth = 0;
+        private int maxStateEntries = 0;
+        private long maxStateBytes = 0;
+        private int maxBuildsPerSecond = 0;
+        private Duration maxHandlerCpuTime = Duration.ZERO;
+
+        private Builder() {}
+
+        /**
+         * @param maxRunStackDepth The maximum number of frames on the application's run stack, or 0 for no limit.
+         * @return self
+         */
+        public Builder maxRunStackDepth(int maxRunStackDepth) {
+            this.maxRunStackDepth = requireNonNegative(maxRunStackDepth, "maxRunStackDepth");
+            return this;
+        }
+
+        /**
+         * @param maxStateEntries The maximum number of entries in the application's input map, or 0 for no limit.
+         * @return self
+         */
+        public Builder maxStateEntries(int maxStateEntries) {
+            this.maxStateEntries = requireNonNegative(maxStateEntries, "maxStateEntries");
+            return this;
+        }
+
+        /**
+         * @param maxStateBytes The maximum estimated size of the application's input map, or 0 for no limit.
+         * @return self
+         */
+        public Builder maxStateBytes(long maxStateBytes) {
+            if(maxStateBytes < 0) throw new IllegalArgumentException("maxStateBytes cannot be negative, got " + maxStateBytes);
+            this.maxStateBytes = maxStateBytes;
+            return this;
+        }
+
+        /**
+         * @param maxBuildsPerSecond The maximum number of modules built for the application per second, or 0 for no limit.
+         * @return self
+         */
+        public Builder maxBuildsPerSecond(int maxBuildsPerSecond) {
+            this.maxBuildsPerSecond = requireNonNegative(maxBuildsPerSecond, "maxBuildsPerSecond");
+            return this;
+        }
+
+        /**
+         * @param maxHandlerCpuTime The maximum CPU time of a single handler run, or {@link Duration#ZERO} for no limit.
+         * @return self
+         */
+        public Builder maxHandlerCpuTime(Duration maxHandlerCpuTime) {
+            Objects.requireNonNull(maxHandlerCpuTime, "maxHandlerCpuTime cannot be null");
+            if(maxHandlerCpuTime.isNegative()) throw new IllegalArgumentException("maxHandlerCpuTime cannot be negative");
+            this.maxHandlerCpuTime = maxHandlerCpuTime;
+            return this;
+        }
+
+        /**
+         * @return The configured quota.
+         */
+        public ResourceQuota build() {
+            return new ResourceQuota(this);
+        }
+
+        private static int requireNonNegative(int value, String name) {
+            if(value < 0) throw new IllegalArgumentException(name + " cannot be negative, got " + value);
+            return value;
+        }
+    }
+}
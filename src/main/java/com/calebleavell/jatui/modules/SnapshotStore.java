@@ -0,0 +1,96 @@
+/*
+    Copyright (c) 2026 Caleb Leavell
+
+    Permission is hereby granted, free of charge, to any person obtaining a copy
+    of this software and associated documentation files (the "Software"), to deal
+    in the Software without restriction, including without limitation the rights
+    to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+    copies of the Software, and to permit persons to whom the Software is
+    furnished to do so, subject to the following conditions:
+
+    The above copyright notice and this permission notice shall be included in all
+    copies or substantial portions of the Software.
+
+    THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+    IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+    FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+    AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+    LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+    OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+    SOFTWARE.
+ */
+
+package com.calebleavell.jatui.modules;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Set;
+
+/**
+ * Where {@link ApplicationSnapshot}s are kept, by key (e.g., a session id), so sessions can survive restarts or move
+ * between nodes. {@link MemorySnapshotStore} keeps them in memory and {@link FileSnapshotStore} keeps them as files
+ * in a directory; other backends (e.g., a database or a key-value service) implement this interface and can store
+ * the bytes of {@link ApplicationSnapshot#toByteArray()}.
+ * <br><br>
+ * Example usage:
+ * <pre><code>
+ * SnapshotStore store = SnapshotStore.directory(Path.of("sessions"));
+ *
+ * // before shutting down (with the event loop stopped)
+ * store.save(sessionId, session.getApplication().snapshot());
+ *
+ * // after starting again
+ * ApplicationModule app = MyApp.builder().inputSource(input).build();
+ * ApplicationSnapshot snapshot = store.load(sessionId);
+ * if(snapshot != null) app.restore(snapshot);
+ * loop.submit(app);
+ * </code></pre>
+ * Implementations are expected to be thread-safe.
+ */
+public interface SnapshotStore {
+
+    /**
+     * Saves a snapshot, replacing any snapshot saved under the same key.
+     *
+     * @param key The key to save the snapshot under.
+     * @param snapshot The snapshot.
+     * @throws IOException if the snapshot can't be saved.
+     */
+    void save(String key, ApplicationSnapshot snapshot) throws IOException;
+
+    /**
+     * @param key The key the snapshot was saved under.
+     * @return The snapshot, or null if none is saved under {@code key}.
+     * @throws IOException if the snapshot can't be loaded.
+     */
+    ApplicationSnapshot load(String key) throws IOException;
+
+    /**
+     * @param key The key the snapshot was saved under.
+     * @return Whether a snapshot was saved under {@code key}.
+     * @throws IOException if the snapshot can't be deleted.
+     */
+    boolean delete(String key) throws IOException;
+
+    /**
+     * @return The keys of every saved snapshot.
+     * @throws IOException if the keys can't be listed.
+     */
+    Set<String> keys() throws IOException;
+
+    /**
+     * @return A store that keeps snapshots in memory.
+     */
+    static MemorySnapshotStore memory() {
+        return new MemorySnapshotStore();
+    }
+
+    /**
+     * @param directory The directory to keep snapshots in. It is created if it doesn't exist.
+     * @return A store that keeps each snapshot in a file of {@code directory}.
+     * @throws IOException if the directory can't be created.
+     */
+    static FileSnapshotStore directory(Path directory) throws IOException {
+        return new FileSnapshotStore(directory);
+    }
+}
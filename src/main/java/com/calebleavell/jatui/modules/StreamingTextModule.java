@@ -0,0 +1,392 @@
+/*
+    Copyright (c) 2026 Caleb Leavell
+
+    Permission is hereby granted, free of charge, to any person obtaining a copy
+    of this software and associated documentation files (the "Software"), to deal
+    in the Software without restriction, including without limitation the rights
+    to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+    copies of the Software, and to permit persons to whom the Software is
+    furnished to do so, subject to the following conditions:
+
+    The above copyright notice and this permission notice shall be included in all
+    copies or substantial portions of the Software.
+
+    THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+    IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+    FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+    AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+    LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+    OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+    SOFTWARE.
+ */
+
+package com.calebleavell.jatui.modules;
+
+import com.calebleavell.jatui.util.OutputSink;
+
+import java.io.*;
+import java.nio.CharBuffer;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import static org.fusesource.jansi.Ansi.ansi;
+
+/**
+ * Handles displaying text that is produced incrementally, such as a large report, a file, or a log.
+ * <br><br>
+ * Unlike {@link TextModule}, the text is never held in memory as a whole. It is pulled from a {@link Reader},
+ * a {@link Stream}, or an {@link Iterator} and written through a fixed-size buffer as it arrives,
+ * so displaying it uses constant memory no matter how large it is.
+ * <br><br>
+ * The source is opened every time the module runs, and closed when it is exhausted, when an error occurs,
+ * or when the module is cancelled via {@link StreamingTextModule#terminate()}.
+ * <br><br>
+ * Example usage:
+ * <pre><code>
+ * StreamingTextModule.Builder log = StreamingTextModule.fromStream("log", () -&gt; Files.lines(logPath));
+ * </code></pre>
+ */
+public class StreamingTextModule extends TUIModule {
+
+    /** The default number of characters written at once. **/
+    public static final int DEFAULT_BUFFER_SIZE = 8192;
+
+    /** Opens the text to display. **/
+    private final Supplier<? extends Reader> source;
+
+    /** The buffer the text is copied through. Reused across runs of this module. **/
+    private final char[] buffer;
+
+    /** A view of {@code buffer} limited to the chunk being written. **/
+    private final CharBuffer chunk;
+
+    /** Whether the current run has been cancelled. **/
+    private volatile boolean cancelled = false;
+
+    /** The number of characters written during the most recent run. **/
+    private long written = 0;
+
+    /**
+     * Opens the source and writes it to the {@link OutputSink} one buffer at a time, until the source is exhausted
+     * or this module is terminated. Each chunk is flushed once written, and sources given as lines are read
+     * one line at a time, so slow sources (e.g., a log being written) are shown as they produce text.
+     * Cancellation is checked between chunks. The source is always closed afterward.
+     * <br>
+     * Also displays the ansi provided by {@link TUIModule.Builder#style(org.fusesource.jansi.Ansi)} unless
+     * disabled via {@link TUIModule.Builder#enableAnsi(boolean)}.
+     * The ansi gets reset at the end of the run.
+     */
+    @Override
+    public void doRunLogic() {
+        logger.trace("Running StreamingTextModule {}", getName());
+        cancelled = false;
+        written = 0;
+
+        OutputSink out = getOutputSink();
+        if(getAnsiEnabled()) out.write(getStyleCodes());
+
+        try(Reader reader = source.get()) {
+            if(reader == null) logger.warn("source for StreamingTextModule \"{}\" returned null", getName());
+            else {
+                int read;
+                while(!cancelled && (read = reader.read(buffer, 0, buffer.length)) != -1) {
+                    if(cancelled) break; // the read may have waited for the source
+                    chunk.clear().limit(read);
+                    out.write(chunk);
+                    written += read;
+                    // each chunk is shown as soon as it is read, rather than when the sink's buffer fills up
+                    out.flush();
+                }
+            }
+        }
+        catch(IOException | UncheckedIOException e) {
+            logger.error("failed to stream text for StreamingTextModule \"{}\": {}", getName(), e.getMessage());
+        }
+
+        if(cancelled) logger.debug("StreamingTextModule \"{}\" cancelled after {} characters", getName(), written);
+        else logger.debug("StreamingTextModule \"{}\" wrote {} characters", getName(), written);
+
+        if(getAnsiEnabled()) out.write(ansi().reset().toString());
+        out.flush();
+    }
+
+    /**
+     * Cancels the text being written (the chunk currently being written is finished first),
+     * then terminates as provided by {@link TUIModule#terminate()}. This may be called from another thread.
+     */
+    @Override
+    public void terminate() {
+        cancelled = true;
+        super.terminate();
+    }
+
+    /**
+     * @return Whether the most recent run was cancelled via {@link StreamingTextModule#terminate()}.
+     */
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    /**
+     * @return The number of characters written during the most recent run.
+     */
+    public long getWritten() {
+        return written;
+    }
+
+    /**
+     * @return The number of characters written at once.
+     */
+    public int getBufferSize() {
+        return buffer.length;
+    }
+
+    /**
+     * Checks equality for properties given by the builder. For {@link StreamingTextModule}, this includes
+     * the buffer size, as well as other requirements provided by {@link TUIModule#structuralEquals(TUIModule)}.
+     * The source isn't compared.
+     */
+    public boolean structuralEquals(StreamingTextModule other) {
+        if(this == other) return true;
+        if(other == null) return false;
+
+        return buffer.length == other.buffer.length && super.structuralEquals(other);
+    }
+
+    /**
+     * Constructs a new {@link StreamingTextModule} based on the configuration of the {@link StreamingTextModule.Builder}.
+     *
+     * @param builder The builder to construct the new module from.
+     */
+    public StreamingTextModule(Builder builder) {
+        super(builder);
+        this.source = builder.source;
+        this.buffer = new char[builder.bufferSize];
+        this.chunk = CharBuffer.wrap(buffer);
+    }
+
+    /**
+     * Constructs a new {@link StreamingTextModule} builder that displays the text of a {@link Reader}.
+     *
+     * @param name The name of the builder.
+     * @param source Opens a new {@link Reader} every time the module runs.
+     * @return The new builder.
+     */
+    public static Builder builder(String name, Supplier<? extends Reader> source) {
+        return new Builder(name, source);
+    }
+
+    /**
+     * Constructs a new {@link StreamingTextModule} builder that displays every element of a {@link Stream} on its own line.
+     * The stream is closed after it is displayed.
+     *
+     * @param name The name of the builder.
+     * @param lines Opens a new {@link Stream} every time the module runs.
+     * @return The new builder.
+     */
+    public static Builder fromStream(String name, Supplier<? extends Stream<? extends CharSequence>> lines) {
+        Objects.requireNonNull(lines, "lines cannot be null");
+        return new Builder(name, () -> {
+            Stream<? extends CharSequence> stream = lines.get();
+            return new LineReader(stream.iterator(), stream);
+        });
+    }
+
+    /**
+     * Constructs a new {@link StreamingTextModule} builder that displays every element of an {@link Iterator} on its own line.
+     * If the iterator is {@link AutoCloseable}, it is closed after it is displayed.
+     *
+     * @param name The name of the builder.
+     * @param lines Creates a new {@link Iterator} every time the module runs.
+     * @return The new builder.
+     */
+    public static Builder fromIterator(String name, Supplier<? extends Iterator<? extends CharSequence>> lines) {
+        Objects.requireNonNull(lines, "lines cannot be null");
+        return new Builder(name, () -> {
+            Iterator<? extends CharSequence> iterator = lines.get();
+            return new LineReader(iterator, iterator instanceof AutoCloseable closeable ? closeable : null);
+        });
+    }
+
+    /**
+     * Builder for {@link StreamingTextModule}.
+     * <br><br>
+     * Required fields: {@code name}, {@code source} <br>
+     * Optional fields (with default values): {@code bufferSize} ({@link StreamingTextModule#DEFAULT_BUFFER_SIZE})
+     */
+    public static class Builder extends TUIModule.Builder<Builder> {
+
+        /**
+         * Opens the text to display.
+         *
+         * @implNote
+         * This isn't checked in {@link Builder#shallowStructuralEquals(Builder, Builder)},
+         * since separately declared lambdas are never equal.
+         */
+        protected Supplier<? extends Reader> source;
+
+        /** The number of characters written at once. **/
+        protected int bufferSize = DEFAULT_BUFFER_SIZE;
+
+        protected Builder(String name, Supplier<? extends Reader> source) {
+            super(Builder.class, name);
+            this.source = source;
+        }
+
+        protected Builder() {
+            super(Builder.class);
+        }
+
+        /**
+         * Gets a fresh instance of this type of Builder.
+         *  Note, this is intended only for copying utility and may have unknown consequences if used in other ways.
+         * @return A fresh, empty instance.
+         */
+        @Override
+        protected Builder createInstance() {
+            return new Builder();
+        }
+
+        /**
+         * Copies {@code source} and {@code bufferSize},
+         * and delegates to {@link TUIModule.Builder#shallowCopy(TUIModule.Builder)}.
+         * @param original The builder to copy from.
+         */
+        @Override
+        public void shallowCopy(Builder original) {
+            this.source = original.source;
+            this.bufferSize = original.bufferSize;
+            super.shallowCopy(original);
+        }
+
+        /**
+         * Sets the source of the text to display.
+         * @param source Opens a new {@link Reader} every time the module runs.
+         * @return self
+         */
+        public Builder source(Supplier<? extends Reader> source) {
+            this.source = source;
+            return self();
+        }
+
+        /**
+         * @return The supplier that opens the text to display.
+         */
+        public Supplier<? extends Reader> getSource() {
+            return source;
+        }
+
+        /**
+         * Sets the number of characters written at once. This is the most text that is held in memory at a time.
+         * @param bufferSize The size of the buffer. Must be positive.
+         * @return self
+         */
+        public Builder bufferSize(int bufferSize) {
+            if(bufferSize <= 0) throw new IllegalArgumentException("bufferSize must be positive: " + bufferSize);
+            this.bufferSize = bufferSize;
+            return self();
+        }
+
+        /**
+         * @return The number of characters written at once.
+         */
+        public int getBufferSize() {
+            return bufferSize;
+        }
+
+        /**
+         * Checks equality for properties given by the builder. For {@link StreamingTextModule}, this includes
+         * {@code bufferSize},
+         * as well as other requirements provided by {@link TUIModule.Builder#shallowStructuralEquals(TUIModule.Builder, TUIModule.Builder)}.
+         */
+        @Override
+        public boolean shallowStructuralEquals(Builder first, Builder second) {
+            if(first == second) return true;
+            if(first == null || second == null) return false;
+
+            return first.bufferSize == second.bufferSize &&
+                    super.shallowStructuralEquals(first, second);
+        }
+
+        /**
+         * Builds a new {@link StreamingTextModule} based on the configuration of this builder.
+         * @return The new {@link StreamingTextModule}.
+         */
+        @Override
+        public StreamingTextModule build() {
+            logger.trace("Building StreamingTextModule \"{}\"", getName());
+            return new StreamingTextModule(self());
+        }
+    }
+
+    /**
+     * Reads the elements of an {@link Iterator} as lines, without joining them into a single String.
+     * A read returns once it has read a complete element and its separator, rather than asking the iterator
+     * for the next (which may wait for a slow source), so every line can be written as soon as it's available.
+     */
+    private static class LineReader extends Reader {
+        private static final String SEPARATOR = System.lineSeparator();
+
+        private final Iterator<? extends CharSequence> lines;
+        private final AutoCloseable onClose;
+
+        /** The element (or line separator) currently being read, and the position within it. **/
+        private CharSequence current;
+        private int position;
+        private boolean separatorNext = false;
+
+        LineReader(Iterator<? extends CharSequence> lines, AutoCloseable onClose) {
+            this.lines = lines;
+            this.onClose = onClose;
+        }
+
+        @Override
+        public int read(char[] cbuf, int off, int len) {
+            int read = 0;
+            while(read < len) {
+                if(current == null || position == current.length()) {
+                    if(separatorNext) {
+                        current = SEPARATOR;
+                        separatorNext = false;
+                    }
+                    else if(read > 0) break; // a complete element has been read
+                    else if(lines.hasNext()) {
+                        current = lines.next();
+                        if(current == null) current = "null";
+                        separatorNext = true;
+                    }
+                    else break;
+                    position = 0;
+                    continue;
+                }
+
+                int count = Math.min(len - read, current.length() - position);
+                if(current instanceof String string) {
+                    string.getChars(position, position + count, cbuf, off + read);
+                }
+                else {
+                    for(int i = 0; i < count; i++) cbuf[off + read + i] = current.charAt(position + i);
+                }
+                position += count;
+                read += count;
+            }
+            return read == 0 && len > 0 ? -1 : read;
+        }
+
+        @Override
+        public void close() throws IOException {
+            if(onClose == null) return;
+            try {
+                onClose.close();
+            }
+            catch(IOException | RuntimeException e) {
+                throw e;
+            }
+            catch(Exception e) {
+                throw new IOException(e);
+            }
+        }
+    }
+}
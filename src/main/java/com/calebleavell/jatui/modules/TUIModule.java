@@ -24,10 +24,25 @@ package com.calebleavell.jatui.modules;
 
 import com.calebleavell.jatui.core.DirectedGraphNode;
 import com.calebleavell.jatui.core.RunFrame;
+import com.calebleavell.jatui.monitoring.EventLog;
+import com.calebleavell.jatui.monitoring.InputWaitEvent;
+import com.calebleavell.jatui.monitoring.MetricsRegistry;
+import com.calebleavell.jatui.monitoring.ModuleMetrics;
+import com.calebleavell.jatui.monitoring.ModuleRunEvent;
+import com.calebleavell.jatui.monitoring.ResourceAccounting;
+import com.calebleavell.jatui.monitoring.Watchdog;
+import com.calebleavell.jatui.util.InputSource;
+import com.calebleavell.jatui.util.Interner;
+import com.calebleavell.jatui.util.OutputSink;
+import com.calebleavell.jatui.util.ScannerSource;
 import org.fusesource.jansi.Ansi;
 
 import java.io.PrintStream;
+import java.lang.ref.WeakReference;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -105,11 +120,15 @@ public abstract class TUIModule {
     private final List<TUIModule.Builder<?>> children;
 
     /**
-     * The ansi that may be displayed (Jansi object).
+     * The ansi that may be displayed (Jansi object), as given to {@link Builder#style(Ansi)},
+     * or null if the style is given by {@link TUIModule#styleCodes}.
      * Note that not every module will display ansi.
      */
     private final Ansi ansi;
 
+    /** The escape codes of the style if {@link TUIModule#ansi} is null (shared, see {@link Builder#STYLES}). **/
+    private final String styleCodes;
+
     /**
      * The Scanner that reads input from the defined source.
      * It is set to System.in by default (provided by {@link TUIModule#DEFAULT_SCANNER}).
@@ -121,6 +140,17 @@ public abstract class TUIModule {
      */
     private final Scanner scanner;
 
+    /**
+     * The {@link InputSource} this module reads lines from. It reads from {@link TUIModule#scanner}
+     * unless a source was set via {@link TUIModule.Builder#inputSource(InputSource)}.
+     */
+    private final InputSource inputSource;
+
+    /**
+     * How long this module waits for input, or null to use the application's (see {@link InputDeadline}).
+     */
+    private final InputDeadline inputDeadline;
+
     /**
      * PrintStream that outputs data to the defined location.
      * It is set to {@link System#in} by default.
@@ -131,6 +161,12 @@ public abstract class TUIModule {
      */
     private final PrintStream printStream;
 
+    /**
+     * The {@link OutputSink} this module writes text to. It writes to {@link TUIModule#printStream}
+     * unless a sink was set via {@link TUIModule.Builder#outputSink(OutputSink)}.
+     */
+    private final OutputSink outputSink;
+
     /**
      * Whether ansi will be displayed or not.
      */
@@ -139,6 +175,12 @@ public abstract class TUIModule {
     /** The Logger for the module, provided by the slf4j facade **/
     protected static final Logger logger = LoggerFactory.getLogger(TUIModule.class);
 
+    /**
+     * How many runs are iterating on the current thread, so runs started from inside another run
+     * (e.g., a module that builds and starts a module in {@link TUIModule#doRunLogic()}) don't flush the output.
+     */
+    private static final ThreadLocal<int[]> runDepth = ThreadLocal.withInitial(() -> new int[1]);
+
     /**
      * If there is a child currently running while {@link TUIModule#start() } is active, this will reference that child.
      */
@@ -154,7 +196,59 @@ public abstract class TUIModule {
     /**
      * The stack that maintains the schedule order for running modules. The scheduler is implemented in {@link TUIModule#start()}.
      */
-    private Deque<RunFrame> runStack = null;
+    private RunStack runStack = null;
+
+    /**
+     * Whether this module suspended while waiting for input (see {@link TUIModule#suspendUntilInputReady()})
+     * and is running again to collect it.
+     */
+    private boolean resuming = false;
+
+    /**
+     * Whether this module was terminated (directly or via an ancestor) while its {@link TUIModule#doRunLogic()}
+     * was running, in which case its children aren't scheduled.
+     */
+    private boolean terminatedDuringLogic = false;
+
+    /**
+     * Set by an {@link EventLoop} when the deadline of a suspended read passes.
+     */
+    private boolean inputTimedOut = false;
+
+    /**
+     * When the pending read of a suspended module times out (from {@link System#nanoTime()}),
+     * if {@link TUIModule#inputDeadlinePending} is set.
+     */
+    private long inputDeadlineNanos;
+
+    /**
+     * Whether a suspended read has a deadline at {@link TUIModule#inputDeadlineNanos}.
+     */
+    private boolean inputDeadlinePending = false;
+
+    /** Whether a warning was logged that the input source of this module can't honor its input deadline. **/
+    private boolean warnedDeadlineIgnored = false;
+
+    /**
+     * The frames (bottom to top) of a run restored from an {@link ApplicationSnapshot}, which the next
+     * {@link TUIModule#start()} or {@link TUIModule#startSuspendable()} continues instead of starting a new run.
+     */
+    private List<RunFrame> restoredRun = null;
+
+    /**
+     * The flight recorder event timing the current run of this module. Null when not running or when the event is disabled.
+     */
+    private ModuleRunEvent runEvent = null;
+
+    /**
+     * When the current run of this module began, from {@link System#nanoTime()}.
+     */
+    private long runStartNanos;
+
+    /**
+     * The metrics this module records into. Resolved on first use; see {@link TUIModule#getMetrics()}.
+     */
+    private ModuleMetrics metrics = null;
 
     /**
      * @return {@link TUIModule#name}
@@ -216,21 +310,170 @@ public abstract class TUIModule {
     public void start() {
         logger.debug("Running module \"{}\" as a source (creating new run stack)", name);
 
-        this.runStack = new ArrayDeque<>();
+        this.runStack = new RunStack(false, quotaOwner());
 
-        this.mainRun(new RunFrame(null, null, null));
+        if(!adoptRestoredRun()) this.mainRun(new RunFrame(null, null, null));
 
         this.start(runStack);
+
+        flushIfOutermost();
+    }
+
+    /**
+     * Flushes {@link TUIModule#outputSink} unless this run was started from inside another run on this thread,
+     * in which case the outermost run flushes once it finishes.
+     */
+    private void flushIfOutermost() {
+        if(outputSink != null && runDepth.get()[0] == 0) outputSink.flush();
+    }
+
+    /**
+     * Runs this module as a root like {@link TUIModule#start()}, except that the run is suspended instead of
+     * blocking whenever an input module is waiting for input that isn't ready yet. Continue the run via
+     * {@link TUIModule#resume()} once the suspended module's input source is ready. See {@link EventLoop}.
+     *
+     * @return The module waiting for input, or null if the run finished.
+     */
+    TUIModule startSuspendable() {
+        logger.debug("Running module \"{}\" as a suspendable source (creating new run stack)", name);
+
+        this.runStack = new RunStack(true, quotaOwner());
+
+        if(!adoptRestoredRun()) this.mainRun(new RunFrame(null, null, null));
+
+        return resume();
+    }
+
+    /**
+     * Moves the frames of a run restored via {@link TUIModule#restoreRun(List)} onto {@link TUIModule#runStack}.
+     *
+     * @return Whether there was a restored run to continue.
+     */
+    private boolean adoptRestoredRun() {
+        List<RunFrame> frames = restoredRun;
+        if(frames == null) return false;
+        restoredRun = null;
+
+        logger.debug("continuing restored run of module \"{}\" ({} frames)", name, frames.size());
+        for(RunFrame frame : frames) {
+            frame.module.runStack = runStack;
+            frame.module.runStartNanos = System.nanoTime();
+            runStack.frames.push(frame);
+        }
+        return true;
+    }
+
+    /**
+     * @return The frames of this module's run from the bottom of the stack to the top, or null if it isn't running
+     * (or a restored run is waiting to continue; see {@link TUIModule#restoreRun(List)}).
+     * @throws IllegalStateException if a module of the run is running, i.e., the run isn't suspended.
+     */
+    List<RunFrame> getRunFrames() {
+        if(restoredRun != null) return List.copyOf(restoredRun);
+        RunStack stack = runStack;
+        if(stack == null) return null;
+        if(stack.running) throw new IllegalStateException("Module \"" + name + "\" is running; only a suspended run can be captured");
+
+        List<RunFrame> frames = new ArrayList<>(stack.frames.size());
+        stack.frames.descendingIterator().forEachRemaining(frames::add);
+        return frames;
+    }
+
+    /**
+     * Sets up a run to continue (from where it was captured by {@link TUIModule#getRunFrames()}) the next time
+     * this module is started. The modules of the frames must have their state restored via
+     * {@link TUIModule#restoreRunState(boolean, TUIModule)}. A module that was waiting for input runs again from
+     * the start, so it displays its prompt again.
+     *
+     * @param frames The frames from the bottom of the stack to the top.
+     * @throws IllegalStateException if this module is running.
+     */
+    void restoreRun(List<RunFrame> frames) {
+        if(runStack != null) throw new IllegalStateException("Module \"" + name + "\" is running and can't be restored");
+        restoredRun = frames.isEmpty() ? null : List.copyOf(frames);
+    }
+
+    /**
+     * @return Whether a restored run is waiting to continue (see {@link TUIModule#restoreRun(List)}).
+     */
+    boolean hasRestoredRun() {
+        return restoredRun != null;
+    }
+
+    /**
+     * @return Whether this module is flagged to run again once it finishes.
+     */
+    boolean isRestarting() {
+        return restart;
+    }
+
+    /**
+     * Restores the scheduling state of a module in a restored run.
+     *
+     * @param restart Whether the module is flagged to run again once it finishes.
+     * @param currentRunningChild The child the module is running, or null.
+     */
+    void restoreRunState(boolean restart, TUIModule currentRunningChild) {
+        this.restart = restart;
+        this.currentRunningChild = currentRunningChild;
+    }
+
+    /**
+     * Continues a run started via {@link TUIModule#startSuspendable()}.
+     *
+     * @return The module waiting for input, or null if the run finished (or isn't running).
+     */
+    TUIModule resume() {
+        RunStack stack = runStack;
+        if(stack == null) return null;
+
+        TUIModule waiting = stack.suspended;
+        stack.suspended = null;
+        if(waiting == null) waiting = this.start(stack);
+        if(waiting == null) finishSuspendable();
+
+        return waiting;
+    }
+
+    /**
+     * @return The application whose {@link ResourceQuota} applies to runs rooted at this module, or null if none does.
+     */
+    ApplicationModule quotaOwner() {
+        return null;
+    }
+
+    /**
+     * Called once a run started via {@link TUIModule#startSuspendable()} finishes.
+     */
+    void finishSuspendable() {
+        flushIfOutermost();
     }
 
     /**
      * Helper for {@link TUIModule#start()}. Iterates through the runStack.
      *
      * @param runStack The stack of modules to run. It needs a local copy because the instance field will be set to null right before the final check.
+     * @return The module that suspended the run, or null if the run stack was emptied.
+     */
+    private TUIModule start(RunStack runStack) {
+        int[] depth = runDepth.get();
+        runStack.running = true;
+        depth[0]++;
+        try {
+            return runFrames(runStack);
+        }
+        finally {
+            depth[0]--;
+            runStack.running = false;
+        }
+    }
+
+    /**
+     * Runs frames until {@code runStack} is empty or a module suspends (see {@link TUIModule#start(RunStack)}).
      */
-    private void start(Deque<RunFrame> runStack) {
-        while (!runStack.isEmpty()) {
-            RunFrame frame = runStack.pop();
+    private TUIModule runFrames(RunStack runStack) {
+        while (!runStack.frames.isEmpty()) {
+            RunFrame frame = runStack.frames.pop();
             TUIModule module = frame.module;
             TUIModule parent = frame.parent;
             RunFrame.State state = frame.state;
@@ -241,12 +484,25 @@ public abstract class TUIModule {
                 case RunFrame.State.BEGIN -> {
                     logger.trace("Beginning run for module \"{}\"", module.name);
                     if(parent != null) parent.currentRunningChild = module;
-                    module.mainRun(frame);
+                    boolean watched = Watchdog.enter(this, frame);
+                    try {
+                        module.mainRun(frame);
+                    }
+                    finally {
+                        if(watched) Watchdog.exit();
+                    }
+                    if(runStack.suspended != null) {
+                        TUIModule suspended = runStack.suspended;
+                        runStack.suspended = null;
+                        return suspended;
+                    }
                 }
                 case RunFrame.State.END -> endRun(frame);
                 default -> throw new UnsupportedOperationException("Only \"BEGIN\" and \"END\" are valid RunFrame states.");
             }
         }
+
+        return null;
     }
 
     /**
@@ -256,6 +512,156 @@ public abstract class TUIModule {
      */
     public abstract void doRunLogic();
 
+    /**
+     * Lets an input module give up its turn while its input isn't ready, when it is run via
+     * {@link TUIModule#startSuspendable()} (e.g., by an {@link EventLoop}). If this returns true, the module
+     * must return from {@link TUIModule#doRunLogic()} without reading; it runs again (with
+     * {@link TUIModule#isResuming()} set) once its input source is ready, and its children only run after that.
+     * When run via {@link TUIModule#start()}, this always returns false and the module should block on its input as usual.
+     *
+     * @return Whether the run was suspended.
+     */
+    protected boolean suspendUntilInputReady() {
+        RunStack stack = runStack;
+        if(stack == null || !stack.suspendable) return false;
+        if(inputTimedOut || getInputSource().ready()) return false;
+
+        logger.trace("suspending module \"{}\" until its input is ready", name);
+        InputDeadline deadline = getEffectiveInputDeadline();
+        if(deadline != null && !inputDeadlinePending) {
+            inputDeadlineNanos = System.nanoTime() + deadline.getTimeout().toNanos();
+            inputDeadlinePending = true;
+        }
+        stack.suspended = this;
+        resuming = true;
+        return true;
+    }
+
+    /**
+     * Reads the next line of input, honoring the module's {@link TUIModule#getEffectiveInputDeadline()}.
+     * Input modules call this instead of reading from {@link TUIModule#getInputSource()} directly.
+     * The read is reported as an input wait (see {@link TUIModule#awaitInput(String, ModuleMetrics, Supplier)}).
+     * If the source can't time out (see {@link InputSource#canTimeOut()}), a warning is logged the first time,
+     * and the read waits for input without a deadline.
+     *
+     * @return The line, or null if the deadline passed first (see {@link TUIModule#onInputTimeout()}).
+     */
+    protected String readInput() {
+        inputDeadlinePending = false;
+        if(inputTimedOut) {
+            inputTimedOut = false;
+            return null;
+        }
+
+        return awaitInput(name, getMetrics(), this::readLine);
+    }
+
+    /**
+     * Reads the next line of input for {@link TUIModule#readInput()}.
+     */
+    private String readLine() {
+        InputDeadline deadline = getEffectiveInputDeadline();
+        RunStack stack = runStack;
+        // a suspendable run only reads once the source is ready; its deadline is kept by the event loop
+        if(deadline == null || (stack != null && stack.suspendable)) return getInputSource().nextLine();
+        if(!getInputSource().canTimeOut() && !warnedDeadlineIgnored) {
+            warnedDeadlineIgnored = true;
+            logger.warn("module \"{}\" has an input deadline of {}, but its input source ({}) can't time out, so it waits "
+                    + "for input without one; read from a ReaderSource, QueueSource, or ChannelSource instead",
+                    name, deadline.getTimeout(), getInputSource().getClass().getSimpleName());
+        }
+        return getInputSource().nextLine(deadline.getTimeout());
+    }
+
+    /**
+     * Runs {@code read} as a wait for input: an {@link InputWaitEvent} is open and the {@link Watchdog} knows
+     * the thread is waiting for the duration, and the time spent is recorded as think time in {@code metrics}.
+     *
+     * @param name The name of the module waiting for input.
+     * @param metrics The metrics to record think time into.
+     * @param read Reads the input.
+     * @return The result of {@code read}.
+     */
+    static <T> T awaitInput(String name, ModuleMetrics metrics, Supplier<T> read) {
+        InputWaitEvent waitEvent = InputWaitEvent.begin(name);
+        Watchdog.waitingForInput(true);
+        long waitStart = System.nanoTime();
+        try {
+            return read.get();
+        }
+        finally {
+            metrics.recordThinkTime(System.nanoTime() - waitStart);
+            Watchdog.waitingForInput(false);
+            InputWaitEvent.end(waitEvent);
+        }
+    }
+
+    /**
+     * Applies the outcome of {@link TUIModule#getEffectiveInputDeadline()} after {@link TUIModule#readInput()} timed out.
+     *
+     * @return The input to continue with, or null if the module was terminated and
+     * {@link TUIModule#doRunLogic()} should return.
+     */
+    protected String onInputTimeout() {
+        InputDeadline deadline = getEffectiveInputDeadline();
+        logger.info("input for module \"{}\" timed out after {}", name, deadline.getTimeout());
+        getMetrics().recordInputTimeout();
+
+        ApplicationModule app = getApplication();
+        boolean appRunning = app != null && ((TUIModule) app).runStack != null;
+        switch(deadline.getOutcome()) {
+            case DEFAULT -> {
+                return deadline.getDefaultInput();
+            }
+            case TERMINATE -> terminateSession();
+            case NAVIGATE -> {
+                terminate();
+                if(appRunning) app.navigateTo(deadline.getTarget());
+                else navigateTo(deadline.getTarget());
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Terminates the running application, or this module if it isn't run by one
+     * (the {@link InputDeadline.Outcome#TERMINATE} outcome of an input deadline).
+     */
+    void terminateSession() {
+        ApplicationModule app = getApplication();
+        if(app != null && ((TUIModule) app).runStack != null) app.terminate();
+        else terminate();
+    }
+
+    /**
+     * @return Whether a suspended read of this module has a deadline (see {@link TUIModule#getInputDeadlineNanos()}).
+     */
+    boolean hasInputDeadline() {
+        return inputDeadlinePending;
+    }
+
+    /**
+     * @return When the suspended read of this module times out, from {@link System#nanoTime()}.
+     */
+    long getInputDeadlineNanos() {
+        return inputDeadlineNanos;
+    }
+
+    /**
+     * Makes the suspended read of this module time out once it resumes. Called by an {@link EventLoop}.
+     */
+    void expireInput() {
+        inputTimedOut = true;
+    }
+
+    /**
+     * @return Whether this module is running again after suspending via {@link TUIModule#suspendUntilInputReady()},
+     * meaning its prompt has already been displayed.
+     */
+    protected boolean isResuming() {
+        return resuming;
+    }
+
     /**
      * Linearly schedules all children to run, and then schedules itself to end its run.
      * This is the method that will be overridden to define concrete module runtime logic.
@@ -264,15 +670,40 @@ public abstract class TUIModule {
      */
     private void mainRun(RunFrame frame) {
         logger.trace("Running children for module \"{}\"", this.name);
-        runStack.push(new RunFrame(this, frame.parent, RunFrame.State.END, frame.displacedChild));
+        RunFrame end = new RunFrame(this, frame.parent, RunFrame.State.END, frame.displacedChild);
+        runStack.frames.push(end);
+        if(!resuming) {
+            runEvent = ModuleRunEvent.begin(name, getClass());
+            runStartNanos = System.nanoTime();
+            EventLog.moduleRun(name, getClass());
+        }
 
+        terminatedDuringLogic = false;
+        ResourceAccounting.Span span = ResourceAccounting.begin();
         this.doRunLogic();
+        ResourceAccounting.endRun(span, name);
+
+        if(runStack.suspended == this) {
+            // run this module again (without its children) once its input is ready
+            runStack.frames.removeFirstOccurrence(end);
+            runStack.frames.push(new RunFrame(this, frame.parent, RunFrame.State.BEGIN, frame.displacedChild));
+            return;
+        }
+        resuming = false;
+        if(terminatedDuringLogic) {
+            terminatedDuringLogic = false;
+            return;
+        }
 
         for(TUIModule.Builder<?> child : children.reversed()) {
+            runStack.recordBuild();
+            ResourceAccounting.Span buildSpan = ResourceAccounting.begin();
             TUIModule toRun = child.build();
+            ResourceAccounting.endBuild(buildSpan, child.getName());
             toRun.runStack = runStack;
-            runStack.push(new RunFrame(toRun, this, RunFrame.State.BEGIN));
+            runStack.frames.push(new RunFrame(toRun, this, RunFrame.State.BEGIN));
         }
+        runStack.checkDepth();
     }
 
     /**
@@ -283,10 +714,14 @@ public abstract class TUIModule {
     private void endRun(RunFrame frame) {
         logger.trace("Ending run for module \"{}\"", frame.module.name);
         if(frame.parent != null) frame.parent.currentRunningChild = frame.displacedChild; // usually null
+        ModuleRunEvent.end(frame.module.runEvent);
+        frame.module.runEvent = null;
+        frame.module.getMetrics().recordRun(System.nanoTime() - frame.module.runStartNanos);
         if(frame.module.restart) {
+            frame.module.getMetrics().recordRestart();
             frame.module.restart = false;
             frame.module.terminate();
-            runStack.push(new RunFrame(frame.module, frame.parent, RunFrame.State.BEGIN, frame.displacedChild));
+            runStack.frames.push(new RunFrame(frame.module, frame.parent, RunFrame.State.BEGIN, frame.displacedChild));
         } else {
             frame.module.runStack = null;
         }
@@ -304,9 +739,14 @@ public abstract class TUIModule {
 
         TUIModule previous = this.currentRunningChild;
 
+        runStack.recordBuild();
+        ResourceAccounting.Span buildSpan = ResourceAccounting.begin();
         TUIModule toRun = module.build();
+        ResourceAccounting.endBuild(buildSpan, module.getName());
         toRun.runStack = runStack;
-        runStack.push(new RunFrame(toRun, this, RunFrame.State.BEGIN, previous));
+        toRun.getMetrics().recordNavigation();
+        runStack.frames.push(new RunFrame(toRun, this, RunFrame.State.BEGIN, previous));
+        runStack.checkDepth();
     }
 
     /**
@@ -319,7 +759,7 @@ public abstract class TUIModule {
 
         // first pass to confirm this module is running
         boolean found = false;
-        for(RunFrame frame : runStack) {
+        for(RunFrame frame : runStack.frames) {
             if(frame.module == this && frame.state == RunFrame.State.END) {
                 found = true;
                 break;
@@ -328,18 +768,22 @@ public abstract class TUIModule {
 
         if(!found) return;
 
+        getMetrics().recordTermination();
+        terminatedDuringLogic = true;
+
         Deque<RunFrame> addBack = new ArrayDeque<>();
-        while(!runStack.isEmpty()) {
-            RunFrame next = runStack.peek();
+        while(!runStack.frames.isEmpty()) {
+            RunFrame next = runStack.frames.peek();
             if (next.module == this && next.state == RunFrame.State.END) break;
             if(next.state == RunFrame.State.END) {
                 next.module.restart = false;
+                next.module.terminatedDuringLogic = true;
                 addBack.push(next);
             }
-            runStack.pop();
+            runStack.frames.pop();
         }
 
-        while(!addBack.isEmpty()) runStack.push(addBack.pop());
+        while(!addBack.isEmpty()) runStack.frames.push(addBack.pop());
     }
 
     /**
@@ -376,6 +820,15 @@ public abstract class TUIModule {
         }
     }
 
+    /**
+     * @return The number of frames currently scheduled on the run stack this module belongs to,
+     * or {@code 0} if this module isn't running.
+     */
+    public int getRunStackDepth() {
+        RunStack stack = runStack;
+        return stack == null ? 0 : stack.frames.size();
+    }
+
     /**
      * @return The {@link TUIModule#currentRunningChild}. Will be null if there is no currently running child.
      */
@@ -434,10 +887,20 @@ public abstract class TUIModule {
      * text styling of that module (e.g., coloring, bolding, etc.).
      * Ansi is provided by <a href="https://github.com/fusesource/jansi">Jansi</a>.
      *
-     * @return The ansi stored in the module.
+     * @return The ansi given to {@link Builder#style(Ansi)}, or a new {@link Ansi} with the
+     * default or merged style of the module.
      */
     public Ansi getAnsi() {
-        return this.ansi;
+        return this.ansi != null ? this.ansi : Ansi.ansi().a(styleCodes);
+    }
+
+    /**
+     * Gets the escape codes of the style of this module, without creating an {@link Ansi} for the default or merged style.
+     *
+     * @return The escape codes that {@link TUIModule#getAnsi()} produces.
+     */
+    String getStyleCodes() {
+        return this.ansi != null ? this.ansi.toString() : styleCodes;
     }
 
     /**
@@ -451,6 +914,32 @@ public abstract class TUIModule {
         return this.scanner;
     }
 
+    /**
+     * The {@link InputSource} this module reads lines from. Unless one was set via
+     * {@link TUIModule.Builder#inputSource(InputSource)}, this reads from {@link TUIModule#getScanner()}.
+     *
+     * @return The source used by this module (Note that not every module reads input).
+     */
+    public InputSource getInputSource() {
+        return this.inputSource;
+    }
+
+    /**
+     * @return The deadline set for this module via {@link TUIModule.Builder#inputDeadline(InputDeadline)}, or null.
+     */
+    public InputDeadline getInputDeadline() {
+        return this.inputDeadline;
+    }
+
+    /**
+     * @return The deadline that applies to reads by this module: its own, otherwise its application's, otherwise null.
+     */
+    public InputDeadline getEffectiveInputDeadline() {
+        if(inputDeadline != null) return inputDeadline;
+        ApplicationModule app = getApplication();
+        return (app == null || app == this) ? null : app.getInputDeadline();
+    }
+
     /**
      * PrintStream that outputs data to the defined location.
      * It is set to {@link System#in} by default.
@@ -462,6 +951,16 @@ public abstract class TUIModule {
         return this.printStream;
     }
 
+    /**
+     * The {@link OutputSink} this module writes text to. Unless one was set via
+     * {@link TUIModule.Builder#outputSink(OutputSink)}, this writes to {@link TUIModule#getPrintStream()}.
+     *
+     * @return The sink used by this module (Note that not every module writes data).
+     */
+    public OutputSink getOutputSink() {
+        return this.outputSink;
+    }
+
     /**
      * Whether ansi is enabled applies to modules who may display text
      * (e.g., {@link TextModule}). If ansi is disabled, only the raw
@@ -471,6 +970,17 @@ public abstract class TUIModule {
      */
     public boolean getAnsiEnabled() {return this.enableAnsi; }
 
+    /**
+     * Gets the metrics for this module's type and name from {@link MetricsRegistry#global()}.
+     * Every module with the same type and name shares them.
+     *
+     * @return The metrics this module records into.
+     */
+    public ModuleMetrics getMetrics() {
+        if(metrics == null) metrics = MetricsRegistry.global().module(getClass(), name);
+        return metrics;
+    }
+
     /**
      * Returns the name of this module.
      * For a formatted string of the module hierarchy stemming from this module,
@@ -585,7 +1095,7 @@ public abstract class TUIModule {
 
         return (Objects.equals(first.name, second.name) &&
                 TUIModule.shallowStructuralEquals(first.application, second.application) && // intentionally only checks shallow equality to avoid infinite recursion
-                Objects.equals(first.ansi.toString(), second.ansi.toString()) &&
+                Objects.equals(first.getStyleCodes(), second.getStyleCodes()) &&
                 Objects.equals(first.scanner, second.scanner) &&
                 Objects.equals(first.printStream, second.printStream) &&
                 first.enableAnsi == second.enableAnsi);
@@ -599,13 +1109,50 @@ public abstract class TUIModule {
     protected TUIModule(Builder<?> builder) {
         this.name = builder.name;
         this.application = builder.application;
-        this.children = new ArrayList<>(builder.children);
+        this.children = builder.getChildrenToRun();
         this.ansi = builder.ansi;
+        this.styleCodes = builder.styleCodes;
         this.scanner = builder.scanner;
+        this.inputSource = builder.getInputSource();
+        this.inputDeadline = builder.inputDeadline;
         this.printStream = builder.printStream;
+        this.outputSink = builder.getOutputSink();
         this.enableAnsi = builder.enableAnsi;
     }
 
+    /**
+     * The run stack shared by every module in a run, plus whether the run may be suspended
+     * (see {@link TUIModule#startSuspendable()}) and which module suspended it, if any.
+     */
+    private static final class RunStack {
+        /** The frames still to run, with the next one first. **/
+        private final Deque<RunFrame> frames = new ArrayDeque<>();
+        private final boolean suspendable;
+        private final ApplicationModule quotaOwner;
+        private TUIModule suspended = null;
+        /** Whether modules on this stack are being run, as opposed to the run being suspended. **/
+        private boolean running = false;
+
+        private RunStack(boolean suspendable, ApplicationModule quotaOwner) {
+            this.suspendable = suspendable;
+            this.quotaOwner = quotaOwner;
+        }
+
+        /**
+         * Counts a module build against the quota, if there is one.
+         */
+        private void recordBuild() {
+            if(quotaOwner != null) quotaOwner.recordBuild();
+        }
+
+        /**
+         * Checks the depth of this stack against the quota, if there is one.
+         */
+        private void checkDepth() {
+            if(quotaOwner != null) quotaOwner.checkRunStackDepth(frames.size());
+        }
+    }
+
     /**
      * Builder for {@link TUIModule}.
      * The builder uses a Curiously Recurring Template Pattern,
@@ -635,8 +1182,9 @@ public abstract class TUIModule {
 
         /**
          * Every child module that should be run.
+         * Changes to this list invalidate {@link Builder#structuralHash()}.
          */
-        protected List<TUIModule.Builder<?>> children = new ArrayList<>();
+        protected List<TUIModule.Builder<?>> children = new ChildList(this);
 
         /**
          * Specifies how property propagation functions for
@@ -647,8 +1195,17 @@ public abstract class TUIModule {
          * Property updating behavior is provided by {@link DirectedGraphNode.PropertyUpdateFlag}.
          * All properties are set to {@link DirectedGraphNode.PropertyUpdateFlag#UPDATE}
          * by default.
+         * <br>
+         * The flags are packed into {@link Builder#FLAG_BITS} bits per property, indexed by
+         * {@link Property#ordinal()}, and hold {@link PropertyUpdateFlag#ordinal()}
+         * (so 0 is {@link PropertyUpdateFlag#UPDATE} for every property).
+         * Use {@link TUIModule.Builder#updateFlag(Property, PropertyUpdateFlag)} to change a flag.
+         * <br>
+         * This used to be a {@code Map<Property, PropertyUpdateFlag>}; subclasses that accessed it directly should use
+         * {@link TUIModule.Builder#getPropertyUpdateFlag(Property)} and
+         * {@link TUIModule.Builder#updateFlag(Property, PropertyUpdateFlag)} instead.
          */
-        protected Map<Property, PropertyUpdateFlag> propertyUpdateFlags = new HashMap<>();
+        protected int propertyUpdateFlags = 0;
 
         // properties
 
@@ -658,10 +1215,18 @@ public abstract class TUIModule {
         protected ApplicationModule application;
 
         /**
-         * The ansi that may be displayed (Jansi object).
+         * The ansi that may be displayed (Jansi object), as given to {@link Builder#style(Ansi)},
+         * or null if the style is given by {@link Builder#styleCodes} (the default, or after merging styles).
          * Note that not every module will display ansi.
          */
-        protected Ansi ansi = Ansi.ansi();
+        protected Ansi ansi;
+
+        /**
+         * The escape codes of the style if {@link Builder#ansi} is null. Merged styles are interned via
+         * {@link Builder#STYLES}, so builders with the same merged style share one immutable string.
+         * The default style is the empty string.
+         */
+        private String styleCodes = "";
 
 
         /**
@@ -674,6 +1239,17 @@ public abstract class TUIModule {
          */
         protected Scanner scanner = TUIModule.DEFAULT_SCANNER;
 
+        /**
+         * The {@link InputSource} set via {@link Builder#inputSource(InputSource)}, or null if this module
+         * reads from {@link Builder#scanner}.
+         */
+        protected InputSource inputSource = null;
+
+        /**
+         * How long the built module waits for input, or null to use the application's (see {@link InputDeadline}).
+         */
+        protected InputDeadline inputDeadline = null;
+
         /**
          * PrintStream that outputs data to the defined location.
          * It is set to {@link System#in} by default.
@@ -684,6 +1260,18 @@ public abstract class TUIModule {
          */
         protected PrintStream printStream = System.out;
 
+        /**
+         * The {@link OutputSink} set via {@link Builder#outputSink(OutputSink)}, or null if this module
+         * writes to {@link Builder#printStream}.
+         */
+        protected OutputSink outputSink = null;
+
+        /**
+         * The sink that writes to {@link Builder#printStream}, shared by every module the print stream was set for.
+         * Created when the print stream is set (or on first use, for the default print stream).
+         */
+        private OutputSink printStreamSink = null;
+
         /**
          * Whether ansi will be displayed or not.
          */
@@ -701,8 +1289,56 @@ public abstract class TUIModule {
          * The frequency of names of all children of this module.
          * This is used to support name duplicate detection. <br>
          * An error is logged if there are name collisions.
+         * Concurrent so that separate applications can be built on separate threads.
+         */
+        protected static final Map<String, Integer> usedNames = new ConcurrentHashMap<>();
+
+        /**
+         * Shares the escape codes of identical merged styles between builders.
+         * Strings are shared rather than {@link Ansi} objects, since an {@link Ansi} can be modified.
+         * The estimated size covers a short string and its array.
          */
-        protected static final Map<String, Integer> usedNames = new HashMap<>();
+        protected static final Interner<String> STYLES = Interner.byEquality(56);
+
+        /** The number of bits used to store the {@link PropertyUpdateFlag} of each property. **/
+        private static final int FLAG_BITS = 2;
+
+        /** The mask for the bits of one property in {@link Builder#propertyUpdateFlags}. **/
+        private static final int FLAG_MASK = (1 << FLAG_BITS) - 1;
+
+        /** Every {@link PropertyUpdateFlag}, indexed by ordinal. **/
+        private static final PropertyUpdateFlag[] FLAGS = PropertyUpdateFlag.values();
+
+        static {
+            // every property's flag has to fit in propertyUpdateFlags, and every flag in FLAG_BITS
+            if(Property.values().length * FLAG_BITS > Integer.SIZE)
+                throw new IllegalStateException(Property.values().length + " properties don't fit in an int of "
+                        + FLAG_BITS + "-bit update flags; widen Builder#propertyUpdateFlags");
+            if(FLAGS.length > 1 << FLAG_BITS)
+                throw new IllegalStateException(FLAGS.length + " update flags don't fit in " + FLAG_BITS + " bits");
+        }
+
+        /** Source of {@link Builder#structureStamp}s, so every change gets a stamp that was never used before. **/
+        private static final AtomicLong STAMPS = new AtomicLong();
+
+        /**
+         * Changes whenever this builder or any builder reachable from it changes in a way that may affect
+         * {@link Builder#structuralHash()} (a name, children, or whether ansi is enabled).
+         * A change is pushed up to every (transitive) parent, see {@link Builder#structureChanged()}.
+         */
+        private volatile long structureStamp = STAMPS.incrementAndGet();
+
+        /** The cached {@link Builder#structuralHash()}, or null if it hasn't been computed. **/
+        private volatile StructuralHash structuralHash;
+
+        /**
+         * The first builder that has this one as a child, weakly held so a discarded parent can be collected.
+         * Guarded by {@code this}.
+         */
+        private WeakReference<TUIModule.Builder<?>> parent;
+
+        /** Any other builders that have this one as a child (weak keys), or null. Guarded by {@code this}. **/
+        private Set<TUIModule.Builder<?>> otherParents;
 
         /**
          * Constructs a new {@link TUIModule.Builder}.
@@ -715,9 +1351,17 @@ public abstract class TUIModule {
         public Builder(Class<B> type, String name) {
             this.type = type;
             this.name(name);
-            for(Property property : Property.values()) {
-                propertyUpdateFlags.put(property, PropertyUpdateFlag.UPDATE);
-            }
+        }
+
+        /**
+         * Summarizes how much memory interning merged styles (see {@link Builder#STYLES}) has saved.
+         * Only style escape codes are counted; the byte counts are estimates.
+         *
+         * @return A human-readable report.
+         */
+        public static String memoryReport() {
+            return String.format("styles: %d unique, %d shared, ~%d bytes saved%n",
+                    STYLES.size(), STYLES.getHits(), STYLES.getEstimatedBytesSaved());
         }
 
         /**
@@ -815,14 +1459,18 @@ public abstract class TUIModule {
         protected void shallowCopy(B original) {
             logger.trace("get a shallow copy of module \"{}\"", name);
 
+            structureChanged();
             this.name = original.name;
-            for(Property key : original.propertyUpdateFlags.keySet()) {
-                this.propertyUpdateFlags.put(key, original.propertyUpdateFlags.get(key));
-            }
+            this.propertyUpdateFlags = original.propertyUpdateFlags;
             this.setApplicationNonRecursive(original.application);
             this.ansi = original.ansi;
+            this.styleCodes = ((TUIModule.Builder<?>) original).styleCodes;
             this.scanner = original.scanner;
+            this.inputSource = original.inputSource;
+            this.inputDeadline = original.inputDeadline;
             this.printStream = original.printStream;
+            this.outputSink = original.outputSink;
+            this.printStreamSink = ((TUIModule.Builder<?>) original).printStreamSink;
             this.enableAnsi = original.enableAnsi;
         }
 
@@ -852,14 +1500,54 @@ public abstract class TUIModule {
             return children;
         }
 
+        /**
+         * Gets the children the built module runs, which are all children by default.
+         * Builders that keep a module as a child only for property propagation (e.g., the display text
+         * of an input module) override this to leave it out, rather than changing {@link Builder#children} while building.
+         *
+         * @return A new list of the children the built module runs, in order.
+         */
+        protected List<TUIModule.Builder<?>> getChildrenToRun() {
+            return new ArrayList<>(children);
+        }
+
+        /**
+         * Reads input on behalf of this builder's module for templates that read without a {@link TUIModule}
+         * of their own (e.g., from a {@link FunctionModule}), reporting it like {@link TUIModule#readInput()} does.
+         *
+         * @param metrics The metrics to record think time into.
+         * @param read Reads the input.
+         * @return The result of {@code read}.
+         */
+        protected <T> T awaitInput(ModuleMetrics metrics, Supplier<T> read) {
+            return TUIModule.awaitInput(name, metrics, read);
+        }
+
         /**
          * The {@code PropertyUpdateFlags} determine the behavior of property propagation.
          * See {@link TUIModule.Property} and {@link DirectedGraphNode.PropertyUpdateFlag}.
-         * @return The flags for each property which determine propagation behavior.
+         * Since the flags are packed into {@link Builder#propertyUpdateFlags}, this is no longer a live view:
+         * later changes aren't reflected, and flags can't be changed through it.
+         * @return An unmodifiable snapshot of the flags for each property which determine propagation behavior.
          */
         @Override
         public Map<Property, PropertyUpdateFlag> getPropertyUpdateFlags() {
-            return propertyUpdateFlags;
+            Map<Property, PropertyUpdateFlag> flags = new EnumMap<>(Property.class);
+            for(Property property : Property.values()) {
+                flags.put(property, getPropertyUpdateFlag(property));
+            }
+            return Collections.unmodifiableMap(flags);
+        }
+
+        /**
+         * Gets the flag of one property without creating a map.
+         *
+         * @param property The property given by {@link TUIModule.Property}
+         * @return The flag that determines how {@code property} propagates through this module.
+         */
+        @Override
+        public PropertyUpdateFlag getPropertyUpdateFlag(Property property) {
+            return FLAGS[(propertyUpdateFlags >>> (property.ordinal() * FLAG_BITS)) & FLAG_MASK];
         }
 
         /**
@@ -871,7 +1559,7 @@ public abstract class TUIModule {
          * @return self
          */
         public B updateFlag(Property property, PropertyUpdateFlag flag) {
-            propertyUpdateFlags.put(property, flag);
+            setFlag(property, flag);
 
             return self();
         }
@@ -888,7 +1576,7 @@ public abstract class TUIModule {
          */
         public B lockProperty(Property property) {
             logger.debug("locking property \"{}\" for \"{}\"", property.name(), name);
-            propertyUpdateFlags.put(property, PropertyUpdateFlag.HALT);
+            setFlag(property, PropertyUpdateFlag.HALT);
 
             return self();
         }
@@ -906,11 +1594,22 @@ public abstract class TUIModule {
          */
         public B unlockProperty(Property property) {
             logger.debug("unlocking property \"{}\" for module \"{}\"", property.name(), name);
-            propertyUpdateFlags.put(property, PropertyUpdateFlag.UPDATE);
+            setFlag(property, PropertyUpdateFlag.UPDATE);
 
             return self();
         }
 
+        /**
+         * Sets the bits of {@code property} in {@link TUIModule.Builder#propertyUpdateFlags}.
+         *
+         * @param property The property to set the flag of.
+         * @param flag The new flag.
+         */
+        private void setFlag(Property property, PropertyUpdateFlag flag) {
+            int shift = property.ordinal() * FLAG_BITS;
+            propertyUpdateFlags = (propertyUpdateFlags & ~(FLAG_MASK << shift)) | (flag.ordinal() << shift);
+        }
+
         /**
          * Recursively updates all properties in this module based on the given module.
          * All the properties that are updated are given by {@link TUIModule.Property}.
@@ -924,9 +1623,11 @@ public abstract class TUIModule {
         public B updateProperties(TUIModule.Builder<?> module) {
             logger.debug("updating properties for module \"{}\" based on module \"{}\"", name, module.name);
             this.application(module.getApplication());
-            this.style(module.getAnsi());
-            this.scanner(module.getScanner());
-            this.printStream(module.getPrintStream());
+            this.style(module.ansi, module.styleCodes);
+            if(module.inputSource != null) this.inputSource(module.inputSource);
+            else this.scanner(module.getScanner());
+            if(module.outputSink != null) this.outputSink(module.outputSink);
+            else this.printStream(module.getPrintStream());
             this.enableAnsi(module.getAnsiEnabled());
 
             return self();
@@ -993,11 +1694,29 @@ public abstract class TUIModule {
          * Finds a child matching the name.
          * It is recommended to name all modules uniquely so this returns a unique module every time.
          *
+         * If it isn't found, subtrees of {@link LazyModule}s that haven't been created yet are only created and searched
+         * if they declare the name ({@link LazyModule.Builder#provides(String...)}).
+         *
          * @param name The name of the child
          * @return The first found child (DFS), or <i><strong>null</strong></i> if none is found
          */
         public TUIModule.Builder<?> getChild(String name) {
-            return dfs(m -> m.getName().equals(name));
+            return getChild(name, false);
+        }
+
+        /**
+         * Finds a child matching the name.
+         * It is recommended to name all modules uniquely so this returns a unique module every time.
+         *
+         * @param name The name of the child
+         * @param searchLazy Whether to create and search every {@link LazyModule} subtree that hasn't been created yet
+         *                   if the child isn't found, rather than only those that declare the name.
+         * @return The first found child (DFS), or <i><strong>null</strong></i> if none is found
+         */
+        public TUIModule.Builder<?> getChild(String name, boolean searchLazy) {
+            TUIModule.Builder<?> found = dfs(m -> m.getName().equals(name));
+            if(found != null) return found;
+            return LazyModule.Builder.findInLazySubtrees(this, name, searchLazy);
         }
 
         /**
@@ -1035,11 +1754,12 @@ public abstract class TUIModule {
         public B name(String name) {
             logger.debug("setting name for module \"{}\" to \"{}\"", this.name, name);
 
-            usedNames.putIfAbsent(name, 0);
-            if(usedNames.get(name) != 0 && !name.equals(this.name) && !name.isEmpty()) logger.warn("Builders with duplicate name detected: \"{}\"", name);
-            if(this.name != null) usedNames.put(this.name, usedNames.get(this.name) - 1);
+            if(name != null && usedNames.getOrDefault(name, 0) != 0 && !name.equals(this.name) && !name.isEmpty())
+                logger.warn("Builders with duplicate name detected: \"{}\"", name);
+            if(this.name != null) usedNames.computeIfPresent(this.name, (n, count) -> count <= 1 ? null : count - 1);
+            structureChanged();
             this.name = name;
-            usedNames.put(this.name, usedNames.get(this.name) + 1);
+            if(name != null) usedNames.merge(name, 1, Integer::sum);
 
             return self();
         }
@@ -1053,6 +1773,7 @@ public abstract class TUIModule {
          */
         public void prependToName(String name) {
             logger.debug("prepending \"{}\" to the name of module \"{}\" to become \"{}\"", name, this.name, name + "-" + this.name);
+            structureChanged();
             this.name = name + "-" + this.name;
         }
 
@@ -1071,11 +1792,24 @@ public abstract class TUIModule {
          * If this module displays text, this is the ansi that determines the
          * text styling of that module (e.g., coloring, bolding, etc.).
          * Ansi is provided by <a href="https://github.com/fusesource/jansi">Jansi</a>.
+         * <br><br>
+         * The default and merged styles are stored as escape codes (see {@link Builder#STYLES}), so for those
+         * this returns a new {@link Ansi}, and modifying it doesn't change the style of this module.
          *
-         * @return The ansi stored in the module.
+         * @return The ansi given to {@link Builder#style(Ansi)}, or a new {@link Ansi} with the
+         * default or merged style of the module.
          */
         public Ansi getAnsi() {
-            return this.ansi;
+            return this.ansi != null ? this.ansi : Ansi.ansi().a(styleCodes);
+        }
+
+        /**
+         * Gets the escape codes of the style of this module, without creating an {@link Ansi} for the default or merged style.
+         *
+         * @return The escape codes that {@link Builder#getAnsi()} produces.
+         */
+        String getStyleCodes() {
+            return this.ansi != null ? this.ansi.toString() : styleCodes;
         }
 
         /**
@@ -1089,6 +1823,18 @@ public abstract class TUIModule {
             return this.scanner;
         }
 
+        /**
+         * The {@link InputSource} this module reads lines from. Unless one was set via
+         * {@link Builder#inputSource(InputSource)}, this is a source that reads from {@link Builder#getScanner()}.
+         *
+         * @return The source used by this module, or null if there is no scanner.
+         */
+        public InputSource getInputSource() {
+            if(inputSource != null) return inputSource;
+            if(scanner == null) return null;
+            return InputSource.of(scanner);
+        }
+
         /**
          * PrintStream that outputs data to the defined location.
          * It is set to {@link System#in} by default.
@@ -1100,6 +1846,19 @@ public abstract class TUIModule {
             return this.printStream;
         }
 
+        /**
+         * The {@link OutputSink} this module writes text to. Unless one was set via
+         * {@link Builder#outputSink(OutputSink)}, this is a sink that writes to {@link Builder#getPrintStream()}.
+         *
+         * @return The sink used by this module, or null if there is no print stream.
+         */
+        public OutputSink getOutputSink() {
+            if(outputSink != null) return outputSink;
+            if(printStream == null) return null;
+            if(printStreamSink == null) printStreamSink = OutputSink.of(printStream);
+            return printStreamSink;
+        }
+
         /**
          * Whether ansi is enabled applies to modules who may display text
          * (e.g., {@link TextModule}). If ansi is disabled, only the raw
@@ -1166,10 +1925,19 @@ public abstract class TUIModule {
          * @return self
          */
         public B style(Ansi ansi) {
+            return style(ansi, "");
+        }
+
+        /**
+         * Sets the style to {@code ansi}, or to {@code styleCodes} if {@code ansi} is null
+         * (see {@link Builder#style(Ansi)}).
+         */
+        private B style(Ansi ansi, String styleCodes) {
             logger.debug("setting ansi for \"{}\"", name);
             this.updateProperty(Property.SET_ANSI, n -> {
                 logger.trace("setting ansi for \"{}\"", n.name);
                 n.ansi = ansi;
+                n.styleCodes = styleCodes;
             });
             this.lockProperty(Property.SET_ANSI);
             return self();
@@ -1199,7 +1967,8 @@ public abstract class TUIModule {
             logger.debug("prepending ansi to module \"{}\"", name);
             this.updateProperty(Property.MERGE_ANSI, n -> {
                 logger.trace("prepending ansi to module \"{}\"", n.name);
-                n.ansi = Ansi.ansi().a(ansi).a(n.ansi);
+                n.styleCodes = shareStyle(ansi + n.getStyleCodes());
+                n.ansi = null;
             });
 
             return self();
@@ -1229,12 +1998,21 @@ public abstract class TUIModule {
             logger.debug("appending ansi to module \"{}\"", name);
             this.updateProperty(Property.MERGE_ANSI, n -> {
                 logger.trace("appending ansi to module \"{}\"", n.name);
-                n.ansi = Ansi.ansi().a(n.ansi).a(ansi);
+                n.styleCodes = shareStyle(n.getStyleCodes() + ansi);
+                n.ansi = null;
             });
 
             return self();
         }
 
+        /**
+         * @return The canonical instance of the merged style {@code styleCodes} (see {@link Builder#STYLES}).
+         * The empty style is the same literal everywhere, so it isn't interned.
+         */
+        private static String shareStyle(String styleCodes) {
+            return styleCodes.isEmpty() ? "" : STYLES.intern(styleCodes);
+        }
+
         /**
          * Sets the {@link Scanner} for this module and recursively
          * for its children.
@@ -1256,6 +2034,55 @@ public abstract class TUIModule {
             this.updateProperty(TUIModule.Property.SCANNER, n -> {
                 logger.trace("setting scanner for module \"{}\"", n.name);
                 n.scanner = scanner;
+                n.inputSource = null;
+            });
+            this.lockProperty(Property.SCANNER);
+
+            return self();
+        }
+
+        /**
+         * Sets how long the built module waits for a line of input and what happens when it doesn't arrive
+         * (see {@link InputDeadline}). An {@link ApplicationModule}'s deadline applies to every module that
+         * doesn't set its own. Unlike the input source, this doesn't propagate to children.
+         *
+         * @param inputDeadline The deadline, or null to use the application's.
+         * @return self
+         */
+        public B inputDeadline(InputDeadline inputDeadline) {
+            logger.debug("setting input deadline for module \"{}\" to {}", name, inputDeadline);
+            this.inputDeadline = inputDeadline;
+            return self();
+        }
+
+        /**
+         * @return The deadline set via {@link Builder#inputDeadline(InputDeadline)}, or null.
+         */
+        public InputDeadline getInputDeadline() {
+            return inputDeadline;
+        }
+
+        /**
+         * Sets the {@link InputSource} for this module and recursively for its children.
+         * If the source is a {@link ScannerSource}, {@link Builder#getScanner()} becomes its scanner;
+         * otherwise the scanner is left as-is but is no longer read by the built-in input modules.
+         * <br><br>
+         * The source shares {@link TUIModule.Property#SCANNER} with {@link Builder#scanner(Scanner)},
+         * so it propagates, copies, and locks the same way.
+         * <br><br>
+         * <strong>Note</strong>: Setting the source automatically locks it from further updating,
+         * either directly or via updating a parent. If this is not desired,
+         * use {@link TUIModule.Builder#unlockProperty(Property)}.
+         *
+         * @param inputSource The {@link InputSource} that this module may use.
+         * @return self
+         */
+        public B inputSource(InputSource inputSource) {
+            logger.debug("setting input source for module \"{}\"", name);
+            this.updateProperty(TUIModule.Property.SCANNER, n -> {
+                logger.trace("setting input source for module \"{}\"", n.name);
+                n.inputSource = inputSource;
+                if(inputSource instanceof ScannerSource scannerSource) n.scanner = scannerSource.getScanner();
             });
             this.lockProperty(Property.SCANNER);
 
@@ -1280,9 +2107,40 @@ public abstract class TUIModule {
          */
         public B printStream(PrintStream printStream) {
             logger.debug("setting print stream for module \"{}\"", name);
+            OutputSink sink = printStream == null ? null : OutputSink.of(printStream);
             this.updateProperty(TUIModule.Property.PRINTSTREAM, n -> {
                 logger.trace("setting print stream for module \"{}\"", n.name);
                 n.printStream = printStream;
+                n.printStreamSink = sink;
+                n.outputSink = null;
+            });
+            this.lockProperty(Property.PRINTSTREAM);
+
+            return self();
+        }
+
+        /**
+         * Sets the {@link OutputSink} for this module and recursively for its children.
+         * The sink replaces the print stream: {@link Builder#getPrintStream()} becomes {@link OutputSink#asPrintStream()},
+         * so modules that print directly still write into the sink.
+         * <br><br>
+         * The sink shares {@link TUIModule.Property#PRINTSTREAM} with {@link Builder#printStream(PrintStream)},
+         * so it propagates, copies, and locks the same way.
+         * <br><br>
+         * <strong>Note</strong>: Setting the sink automatically locks it from further updating,
+         * either directly or via updating a parent. If this is not desired,
+         * use {@link TUIModule.Builder#unlockProperty(Property)}.
+         *
+         * @param outputSink The {@link OutputSink} that this module may use.
+         * @return self
+         */
+        public B outputSink(OutputSink outputSink) {
+            logger.debug("setting output sink for module \"{}\"", name);
+            this.updateProperty(TUIModule.Property.PRINTSTREAM, n -> {
+                logger.trace("setting output sink for module \"{}\"", n.name);
+                n.outputSink = outputSink;
+                n.printStreamSink = null;
+                n.printStream = outputSink == null ? null : outputSink.asPrintStream();
             });
             this.lockProperty(Property.PRINTSTREAM);
 
@@ -1316,6 +2174,7 @@ public abstract class TUIModule {
             logger.debug("setting ansi enabled for module \"{}\" to {}", name, enable);
             this.updateProperty(Property.ENABLE_ANSI, n -> {
                 logger.trace("setting ansi enabled for module \"{}\" to {}", n.name, enable);
+                if(n.enableAnsi != enable) n.structureChanged();
                 n.enableAnsi = enable;
             });
             this.lockProperty(Property.ENABLE_ANSI);
@@ -1360,16 +2219,298 @@ public abstract class TUIModule {
             if(first == second) return true;
             if(first == null || second == null) return false;
 
-            String firstAnsi = first.ansi != null ? first.ansi.toString() : null;
-            String secondAnsi = second.ansi != null ? second.ansi.toString() : null;
-
             return (Objects.equals(first.name, second.name) &&
+                    first.enableAnsi == second.enableAnsi &&
                     TUIModule.shallowStructuralEquals(first.application, second.application) && // intentionally only checks shallow equality to avoid infinite recursion
-                    Objects.equals(firstAnsi, secondAnsi) &&
+                    styleEquals(first, second) &&
                     Objects.equals(first.scanner, second.scanner) &&
                     Objects.equals(first.printStream, second.printStream) &&
-                    Objects.equals(first.propertyUpdateFlags, second.propertyUpdateFlags) &&
-                    first.enableAnsi == second.enableAnsi);
+                    first.propertyUpdateFlags == second.propertyUpdateFlags);
+        }
+
+        /**
+         * Compares the styles of two builders by the escape codes they produce, only rendering an {@link Ansi}
+         * when they don't share the same one.
+         */
+        private static boolean styleEquals(TUIModule.Builder<?> first, TUIModule.Builder<?> second) {
+            if(first.ansi == second.ansi && first.styleCodes.equals(second.styleCodes)) return true;
+            return first.getStyleCodes().equals(second.getStyleCodes());
+        }
+
+        /**
+         * Checks for structural equality with another module, including children.
+         * <br><br>
+         * If neither module can reach another module twice, their {@link Builder#structuralHash()} is compared first,
+         * so modules that differ are usually rejected without walking their graphs. When a module is reached twice
+         * (a cycle, or a module shared by two parents), the graphs are always walked, since the hash counts the
+         * repeated module differently than {@link DirectedGraphNode#structuralEquals(DirectedGraphNode, Set)}.
+         *
+         * @param other The other module to check.
+         * @return Whether this module is structurally equal to {@code other}.
+         */
+        @Override
+        public boolean structuralEquals(TUIModule.Builder<?> other) {
+            if(other == null) return false;
+            if(this == other) return true;
+
+            StructuralHash hash = cachedStructuralHash();
+            StructuralHash otherHash = other.cachedStructuralHash();
+            if(hash.hash != otherHash.hash && hash.isTree && otherHash.isTree) return false;
+
+            return DirectedGraphNode.super.structuralEquals(other);
+        }
+
+        /**
+         * A Merkle-style hash of this module and everything reachable from it, consistent with
+         * {@link Builder#structuralEquals(Builder)}: structurally equal modules have the same hash.
+         * It combines {@link Builder#shallowStructuralHash()} of this module with the hash of each child in order.
+         * <br><br>
+         * The hash is cached, so it's computed once and then reused until any builder changes. This makes it suitable
+         * as a key for caches of rendered or built modules (confirm hits with {@link Builder#structuralEquals(Builder)},
+         * since different modules may share a hash). Hashes are only meaningful within one JVM.
+         *
+         * @return The structural hash of this module.
+         */
+        public int structuralHash() {
+            return cachedStructuralHash().hash;
+        }
+
+        /**
+         * @return The cached {@link Builder#structuralHash()}, computing it if anything reachable changed since.
+         */
+        private StructuralHash cachedStructuralHash() {
+            long stamp = structureStamp;
+            StructuralHash cached = structuralHash;
+            if(cached == null || cached.stamp != stamp) {
+                HashWalk walk = new HashWalk();
+                int hash = structuralHash(walk);
+                cached = new StructuralHash(hash, !walk.revisited, stamp);
+                structuralHash = cached;
+            }
+            return cached;
+        }
+
+        /**
+         * Helper for {@link Builder#structuralHash()}. Modules that were already visited contribute a constant.
+         *
+         * @param walk The modules visited so far.
+         * @return The structural hash of this module, given what has already been visited.
+         */
+        private int structuralHash(HashWalk walk) {
+            if(!walk.visited.add(this)) {
+                walk.revisited = true;
+                return 0;
+            }
+
+            int hash = shallowStructuralHash();
+            for(TUIModule.Builder<?> child : getChildren()) {
+                hash = 31 * hash + (child == null ? 1 : child.structuralHash(walk));
+            }
+            return hash;
+        }
+
+        /**
+         * The hash of the properties of this module (not including children) that contribute to
+         * {@link Builder#structuralHash()}. By default, this is the type, {@code name}, and {@code enableAnsi}.
+         *
+         * @implSpec
+         * Modules that are equal by {@link Builder#shallowStructuralEquals(Builder, Builder)} must have the same shallow hash.
+         * Only include fields whose setters call {@link Builder#structureChanged()}, otherwise the cached hash goes stale.
+         *
+         * @return The shallow structural hash of this module.
+         */
+        protected int shallowStructuralHash() {
+            return Objects.hash(getType(), name, enableAnsi);
+        }
+
+        /**
+         * Invalidates the cached {@link Builder#structuralHash()} of this module and of every module it can be
+         * reached from. Call this when changing a field used by {@link Builder#shallowStructuralHash()}.
+         */
+        protected void structureChanged() {
+            long stamp = STAMPS.incrementAndGet();
+            // the new stamp marks visited modules, so cycles end and nothing is allocated for a module without parents
+            Deque<TUIModule.Builder<?>> pending = null;
+            TUIModule.Builder<?> next = this;
+            while(next != null) {
+                if(next.structureStamp != stamp) {
+                    next.structureStamp = stamp;
+                    pending = next.pushParents(pending);
+                }
+                next = (pending == null || pending.isEmpty()) ? null : pending.pop();
+            }
+        }
+
+        /**
+         * Gets the structure stamp, which changes whenever this module or a module reachable from it is renamed,
+         * has children added or removed, or has ansi enabled or disabled. Other property updates
+         * (application, scanner, etc.) don't change it.
+         * Used by {@link ApplicationModule} to skip validating children that haven't changed.
+         *
+         * @return The current structure stamp.
+         */
+        long getStructureStamp() {
+            return structureStamp;
+        }
+
+        /**
+         * Records that {@code parent} has this module as a child.
+         */
+        synchronized void addParent(TUIModule.Builder<?> parent) {
+            TUIModule.Builder<?> first = this.parent == null ? null : this.parent.get();
+            if(first == null) {
+                this.parent = new WeakReference<>(parent);
+                return;
+            }
+            if(first == parent) return;
+            if(otherParents == null) otherParents = Collections.newSetFromMap(new WeakHashMap<>());
+            otherParents.add(parent);
+        }
+
+        /**
+         * Records that {@code parent} no longer has this module as a child.
+         */
+        synchronized void removeParent(TUIModule.Builder<?> parent) {
+            if(this.parent != null && this.parent.get() == parent) this.parent = null;
+            else if(otherParents != null) otherParents.remove(parent);
+        }
+
+        /**
+         * Pushes every module that has this module as a child onto {@code pending}.
+         *
+         * @param pending The modules to visit, or null if none have been allocated yet.
+         * @return {@code pending}, allocated if this module has parents.
+         */
+        private synchronized Deque<TUIModule.Builder<?>> pushParents(Deque<TUIModule.Builder<?>> pending) {
+            TUIModule.Builder<?> first = parent == null ? null : parent.get();
+            if(first == null && (otherParents == null || otherParents.isEmpty())) return pending;
+
+            if(pending == null) pending = new ArrayDeque<>();
+            if(first != null) pending.push(first);
+            if(otherParents != null) otherParents.forEach(pending::push);
+            return pending;
+        }
+
+        /**
+         * A computed {@link Builder#structuralHash()}, and the {@link Builder#structureStamp} it is valid for.
+         */
+        private static final class StructuralHash {
+            private final int hash;
+            /** Whether no module was reached twice while computing the hash. **/
+            private final boolean isTree;
+            private final long stamp;
+
+            private StructuralHash(int hash, boolean isTree, long stamp) {
+                this.hash = hash;
+                this.isTree = isTree;
+                this.stamp = stamp;
+            }
+        }
+
+        /**
+         * The modules visited while computing {@link Builder#structuralHash()}.
+         */
+        private static final class HashWalk {
+            private final Set<TUIModule.Builder<?>> visited = new HashSet<>();
+            private boolean revisited = false;
+        }
+
+        /**
+         * The list of children of a builder. Every change invalidates the cached structural hashes of the builder
+         * and of the builders it can be reached from, and the children know this builder as a parent.
+         * The backing array isn't allocated until the first child is added, so leaf modules only pay for this object.
+         */
+        private static final class ChildList extends AbstractList<TUIModule.Builder<?>> implements RandomAccess {
+            private static final TUIModule.Builder<?>[] EMPTY = new TUIModule.Builder<?>[0];
+
+            /** The builder these are the children of. **/
+            private final TUIModule.Builder<?> owner;
+            private TUIModule.Builder<?>[] elements = EMPTY;
+            private int size = 0;
+
+            private ChildList(TUIModule.Builder<?> owner) {
+                this.owner = owner;
+            }
+
+            /**
+             * Records that {@code child} was added to this list.
+             */
+            private void added(TUIModule.Builder<?> child) {
+                if(child != null) child.addParent(owner);
+            }
+
+            /**
+             * Records that {@code child} was removed, unless it's still in this list.
+             */
+            private void removed(TUIModule.Builder<?> child) {
+                if(child == null) return;
+                for(int i = 0; i < size; i ++) {
+                    if(elements[i] == child) return;
+                }
+                child.removeParent(owner);
+            }
+
+            @Override
+            public TUIModule.Builder<?> get(int index) {
+                Objects.checkIndex(index, size);
+                return elements[index];
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+
+            @Override
+            public TUIModule.Builder<?> set(int index, TUIModule.Builder<?> element) {
+                Objects.checkIndex(index, size);
+                TUIModule.Builder<?> old = elements[index];
+                elements[index] = element;
+                added(element);
+                removed(old);
+                owner.structureChanged();
+                return old;
+            }
+
+            @Override
+            public void add(int index, TUIModule.Builder<?> element) {
+                Objects.checkIndex(index, size + 1);
+                modCount++;
+                if(size == elements.length) elements = Arrays.copyOf(elements, Math.max(4, size + (size >> 1)));
+                System.arraycopy(elements, index, elements, index + 1, size - index);
+                elements[index] = element;
+                size++;
+                added(element);
+                owner.structureChanged();
+            }
+
+            @Override
+            public TUIModule.Builder<?> remove(int index) {
+                Objects.checkIndex(index, size);
+                modCount++;
+                TUIModule.Builder<?> old = elements[index];
+                System.arraycopy(elements, index + 1, elements, index, size - index - 1);
+                elements[--size] = null;
+                removed(old);
+                owner.structureChanged();
+                return old;
+            }
+
+            @Override
+            protected void removeRange(int fromIndex, int toIndex) {
+                modCount++;
+                TUIModule.Builder<?>[] old = Arrays.copyOfRange(elements, fromIndex, toIndex);
+                System.arraycopy(elements, toIndex, elements, fromIndex, size - toIndex);
+                Arrays.fill(elements, size - (toIndex - fromIndex), size, null);
+                size -= toIndex - fromIndex;
+                for(TUIModule.Builder<?> child : old) removed(child);
+                owner.structureChanged();
+            }
+
+            @Override
+            public Object[] toArray() {
+                return Arrays.copyOf(elements, size, Object[].class);
+            }
         }
 
         /**
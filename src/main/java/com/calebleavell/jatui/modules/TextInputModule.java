@@ -22,6 +22,7 @@
 
 package com.calebleavell.jatui.modules;
 
+import com.calebleavell.jatui.monitoring.EventLog;
 import com.calebleavell.jatui.templates.InputHandler;
 
 import java.util.*;
@@ -54,14 +55,25 @@ public class TextInputModule extends TUIModule {
      * <br>
      * If InputHandlers are provided via {@link TextInputModule.Builder#addHandler(FunctionModule.Builder)} or a corresponding method,
      * those are run immediately after this.
+     * When run by an {@link EventLoop}, the module suspends after displaying the prompt until a line is ready.
+     * If the line doesn't arrive before the module's {@link InputDeadline}, the deadline's outcome applies.
      */
     @Override
     public void doRunLogic() {
-        logger.info("Running TextInputModule {}", getName());
-        displayText.build().start();
-        logger.info("collecting input...");
-        input = getScanner().nextLine();
-        logger.info("input collected: \"{}\"", input);
+        logger.trace("Running TextInputModule {}", getName());
+        if(!isResuming()) {
+            displayText.build().start();
+            getPrintStream().flush(); // make sure the prompt is visible if output is buffered or asynchronous
+        }
+        if(suspendUntilInputReady()) return;
+        logger.trace("collecting input...");
+        String line = readInput();
+        if(line == null) {
+            line = onInputTimeout();
+            if(line == null) return;
+        }
+        input = line;
+        EventLog.inputCollected(getName(), input);
 
         ApplicationModule app = getApplication();
         if(app != null) app.updateInput(this, input);
@@ -296,8 +308,7 @@ public class TextInputModule extends TUIModule {
                 ApplicationModule app = this.getApplication();
                 if(app == null) return;
                 this.getPrintStream().println(exceptionMessage);
-                app.terminateChild(this.name);
-                app.navigateTo(this);
+                app.restartChild(this.name);
             }));
             handlerNum ++;
             return self();
@@ -325,28 +336,29 @@ public class TextInputModule extends TUIModule {
         /**
          * Builds a new {@link TextInputModule} based on the configuration of this builder.
          * @return The new {@link TextInputModule}.
-         * @implNote Removes and re-adds {@code displayText} and {@code handlers} to the
-         * children in order to allow {@code displayText}
-         * to a be a field of the built module, and for {@code handlers}
-         * to be at the end.
+         * @implNote The built module runs the children without {@code displayText}, which is a field of the built
+         * module, and with {@code handlers} at the end (see {@link Builder#getChildrenToRun()}).
          */
         @Override
         public TextInputModule build() {
             logger.trace("Building TextInputModule {}", getName());
-
-            // remove the display text from the children since we need it to run before the parent module
-            // it's a child in the first place so that things like setApplication() affect it as well
-            this.children.remove(displayText);
-
-            // re-add handlers to force them to the end
-            // we add them before to allow for property propagation
-            this.children.remove(handlers);
-            this.children.add(handlers);
             this.application(application);
-            TextInputModule output = new TextInputModule(self());
-            // re-add the child after constructing the module so that it can be edited if needed
-            this.children.addFirst(displayText);
-            return output;
+            return new TextInputModule(self());
+        }
+
+        /**
+         * Leaves out the display text, since it runs before the built module rather than as a child
+         * (it's a child in the first place so that things like setApplication() affect it as well),
+         * and moves the handlers to the end (they're added first to allow for property propagation).
+         *
+         * @return A new list of the children the built module runs, in order.
+         */
+        @Override
+        protected List<TUIModule.Builder<?>> getChildrenToRun() {
+            List<TUIModule.Builder<?>> toRun = super.getChildrenToRun();
+            toRun.remove(displayText);
+            if(toRun.remove(handlers)) toRun.add(handlers);
+            return toRun;
         }
     }
 
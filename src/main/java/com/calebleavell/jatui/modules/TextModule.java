@@ -22,6 +22,8 @@
 
 package com.calebleavell.jatui.modules;
 
+import com.calebleavell.jatui.monitoring.RenderEvent;
+import com.calebleavell.jatui.util.OutputSink;
 import org.fusesource.jansi.Ansi;
 
 import java.io.PrintStream;
@@ -31,7 +33,8 @@ import static org.fusesource.jansi.Ansi.ansi;
 
 /**
  * Handles the displaying of text. Usually this means displaying to console ({@link System#out}), but
- * {@link TUIModule.Builder#printStream(PrintStream)} can be used to output to other places as well.
+ * {@link TUIModule.Builder#printStream(PrintStream)} or {@link TUIModule.Builder#outputSink(OutputSink)}
+ * can be used to output to other places as well.
  */
 public class TextModule extends TUIModule {
 
@@ -69,10 +72,13 @@ public class TextModule extends TUIModule {
      */
     @Override
     public void doRunLogic() {
-        logger.info("Running TextModule {}", getName());
+        logger.trace("Running TextModule {}", getName());
+        RenderEvent renderEvent = RenderEvent.begin(getName());
+        long written = 0;
+
         if(getAnsiEnabled()) {
             logger.debug("printing ansi for {}", getName());
-            getPrintStream().print(getAnsi());
+            written += write(getStyleCodes());
         }
         else
             logger.trace("ansi disabled for {}", getName());
@@ -80,12 +86,12 @@ public class TextModule extends TUIModule {
         switch(outputType) {
             case DISPLAY_TEXT:
                 logger.debug("displaying text for \"{}\": \"{}\"", getName(), text);
-                getPrintStream().print(text);
+                written += write(String.valueOf(text));
                 break;
             case DISPLAY_APP_STATE:
                 if (getApplication() != null) {
                     logger.debug("displaying output of module \"{}\" for \"{}\": \"{}\"", text, getName(), getApplication().getInput(text));
-                    getPrintStream().print(getApplication().getInput(text));
+                    written += write(String.valueOf(getApplication().getInput(text)));
                 }
                 else logger.warn("tried to display output of module \"{}\" but application was null", text);
                 break;
@@ -96,13 +102,27 @@ public class TextModule extends TUIModule {
 
         if(getAnsiEnabled()) {
             logger.trace("resetting ansi for {}", getName());
-            getPrintStream().print(ansi().reset());
+            written += write(ansi().reset().toString());
         }
 
         if(printNewLine) {
             logger.trace("newline for {}", getName());
-            getPrintStream().println();
+            written += write(System.lineSeparator());
         }
+
+        RenderEvent.end(renderEvent, written);
+        getMetrics().recordRender(written);
+    }
+
+    /**
+     * Writes {@code output} to the {@link OutputSink} of this module.
+     *
+     * @param output The text to write.
+     * @return The number of characters written.
+     */
+    private int write(String output) {
+        getOutputSink().write(output);
+        return output.length();
     }
 
     /**
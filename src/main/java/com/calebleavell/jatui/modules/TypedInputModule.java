@@ -0,0 +1,327 @@
+/*
+    Copyright (c) 2026 Caleb Leavell
+
+    Permission is hereby granted, free of charge, to any person obtaining a copy
+    of this software and associated documentation files (the "Software"), to deal
+    in the Software without restriction, including without limitation the rights
+    to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+    copies of the Software, and to permit persons to whom the Software is
+    furnished to do so, subject to the following conditions:
+
+    The above copyright notice and this permission notice shall be included in all
+    copies or substantial portions of the Software.
+
+    THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+    IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+    FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+    AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+    LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+    OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+    SOFTWARE.
+ */
+
+package com.calebleavell.jatui.modules;
+
+import com.calebleavell.jatui.monitoring.EventLog;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Scanner;
+import java.util.function.Function;
+
+/**
+ * The abstract class for modules that collect a single typed value from the user
+ * (e.g., {@link IntInputModule}, {@link DecimalInputModule}, {@link EnumChoiceModule}).
+ * <br><br>
+ * Unlike {@link TextInputModule}, which stores the raw line and leaves conversion to
+ * handlers (e.g., {@code Integer.parseInt} inside {@link TextInputModule.Builder#addSafeHandler(String, java.util.function.Function)}),
+ * a typed input module parses the line directly into a primitive field of the module and validates it
+ * against the declared constraints. Invalid input never throws; the module displays
+ * {@link TypedInputModule.Builder#invalidMessage(String)} and collects input again.
+ * <br><br>
+ * If tied to an {@link ApplicationModule}, the parsed value is updated in the app's inputMap
+ * and can be accessed via {@link ApplicationModule#getInput(String, Class)}.
+ */
+public abstract class TypedInputModule extends TUIModule {
+
+    /** The {@link TextModule} that displays text for getting input (e.g., "Your Input: "). **/
+    private final TextModule.Builder displayText;
+
+    /** The message displayed when the collected input can't be parsed or violates a constraint. **/
+    private final String invalidMessage;
+
+    /** The result of the most recent successful call to {@link TypedInputModule#parseLong(CharSequence, int, int, long, long)}. **/
+    protected long parsedLong;
+
+    /**
+     * Displays {@code displayText}, collects a line from the scanner given in {@link TUIModule.Builder#scanner(Scanner)},
+     * and parses it via {@link TypedInputModule#parse(CharSequence, int, int)}. The input is recollected until
+     * it is valid. The parsed value is then stored in the application (if one exists).
+     * When run by an {@link EventLoop}, the module suspends after displaying the prompt until a line is ready.
+     * If the line doesn't arrive before the module's {@link InputDeadline}, the deadline's outcome applies
+     * (a default input is parsed like any other line, and if it isn't valid the session is terminated
+     * rather than waiting for input again).
+     */
+    @Override
+    public void doRunLogic() {
+        logger.trace("Running {} \"{}\"", getClass().getSimpleName(), getName());
+
+        boolean prompt = !isResuming();
+        while(true) {
+            if(prompt) {
+                displayText.build().start();
+                getPrintStream().flush();
+            }
+            prompt = true;
+            if(suspendUntilInputReady()) return;
+            String line = readInput();
+            boolean timedOut = line == null;
+            if(timedOut) {
+                line = onInputTimeout();
+                if(line == null) return;
+            }
+            EventLog.inputCollected(getName(), line);
+
+            int start = 0;
+            int end = line.length();
+            while(start < end && Character.isWhitespace(line.charAt(start))) start ++;
+            while(end > start && Character.isWhitespace(line.charAt(end - 1))) end --;
+
+            if(parse(line, start, end)) break;
+
+            if(timedOut) {
+                // waiting again would time out into the same default forever
+                logger.warn("default input \"{}\" of \"{}\" isn't valid, so its input deadline terminates instead",
+                        line, getName());
+                terminateSession();
+                return;
+            }
+
+            logger.debug("invalid input for \"{}\": \"{}\"", getName(), line);
+            getPrintStream().println(invalidMessage);
+        }
+
+        ApplicationModule app = getApplication();
+        if(app != null) app.updateInput(this, getBoxedValue());
+    }
+
+    /**
+     * Parses {@code input} between {@code start} (inclusive) and {@code end} (exclusive) and
+     * stores the result in the module if it is valid. Leading and trailing whitespace
+     * has already been excluded from the range.
+     *
+     * @param input The line collected from the user.
+     * @param start The index of the first non-whitespace character.
+     * @param end The index after the last non-whitespace character.
+     * @return Whether the input was valid. If false, the stored value must not change.
+     */
+    protected abstract boolean parse(CharSequence input, int start, int end);
+
+    /**
+     * @return The most recently parsed value, boxed for storage in the {@link ApplicationModule}.
+     */
+    protected abstract Object getBoxedValue();
+
+    /**
+     * @return The message displayed when the collected input is invalid.
+     */
+    public String getInvalidMessage() {
+        return invalidMessage;
+    }
+
+    /**
+     * Parses a base-10 {@code long} from {@code input} without allocating or throwing, and stores it in
+     * {@link TypedInputModule#parsedLong} if it is valid.
+     * An optional leading '+' or '-' is accepted; no other non-digit characters are.
+     *
+     * @param input The characters to parse.
+     * @param start The index to start parsing at (inclusive).
+     * @param end The index to stop parsing at (exclusive).
+     * @param min The minimum allowed value (inclusive).
+     * @param max The maximum allowed value (inclusive).
+     * @return Whether the input is a valid {@code long} within {@code [min, max]}.
+     */
+    protected boolean parseLong(CharSequence input, int start, int end, long min, long max) {
+        if(start >= end) return false;
+
+        boolean negative = false;
+        int i = start;
+        char first = input.charAt(i);
+        if(first == '-' || first == '+') {
+            negative = first == '-';
+            i ++;
+            if(i == end) return false;
+        }
+
+        // accumulate negatively so that Long.MIN_VALUE can be represented
+        long limit = negative ? Long.MIN_VALUE : -Long.MAX_VALUE;
+        long multiplyLimit = limit / 10;
+        long result = 0;
+        for(; i < end; i ++) {
+            int digit = input.charAt(i) - '0';
+            if(digit < 0 || digit > 9) return false;
+            if(result < multiplyLimit) return false;
+            result *= 10;
+            if(result < limit + digit) return false;
+            result -= digit;
+        }
+
+        long value = negative ? result : -result;
+        if(value < min || value > max) return false;
+
+        parsedLong = value;
+        return true;
+    }
+
+    /**
+     * Checks equality for properties given by the builder. For {@link TypedInputModule}, this includes
+     * {@code displayText} and {@code invalidMessage}, as well as other requirements provided by
+     * {@link TUIModule#structuralEquals(TUIModule)}.
+     */
+    public boolean structuralEquals(TypedInputModule other) {
+        if(this == other) return true;
+        if(other == null) return false;
+
+        return TUIModule.Builder.structuralEquals(displayText, other.displayText) &&
+                Objects.equals(invalidMessage, other.invalidMessage) &&
+                super.structuralEquals(other);
+    }
+
+    /**
+     * Constructs a new {@link TypedInputModule} given a builder. Copies {@code displayText}
+     * and {@code invalidMessage} from the builder.
+     * @param builder The builder to construct the new module from.
+     */
+    protected TypedInputModule(Builder<?> builder) {
+        super(builder);
+        this.displayText = builder.displayText;
+        this.invalidMessage = builder.invalidMessage;
+    }
+
+    /**
+     * Builder for {@link TypedInputModule}.
+     * <br><br>
+     * Required fields: {@code name}, {@code displayText} <br>
+     * Optional fields (with default values): {@code invalidMessage}
+     *
+     * @param <B> The concrete builder extending this (CRTP).
+     */
+    public abstract static class Builder<B extends Builder<B>> extends TUIModule.Builder<B> {
+
+        /** The {@link TextModule} that displays text for getting input (e.g., "Your Input: "). **/
+        protected TextModule.Builder displayText;
+
+        /** The message displayed when the collected input is invalid. **/
+        protected String invalidMessage = TextInputModule.INVALID;
+
+        protected Builder(Class<B> type, String name, String displayText) {
+            super(type, name);
+            this.displayText = TextModule.builder(name + "-display", displayText).printNewLine(false);
+            this.children.add(this.displayText);
+        }
+
+        protected Builder(Class<B> type) {
+            super(type);
+        }
+
+        /**
+         * Copies {@code invalidMessage} and delegates to {@link TUIModule.Builder#shallowCopy(TUIModule.Builder)}.
+         * @param original The builder to copy from
+         */
+        @Override
+        protected void shallowCopy(B original) {
+            this.invalidMessage = original.invalidMessage;
+            super.shallowCopy(original);
+        }
+
+        /**
+         * In order to maintain the reference to the new {@code displayText}, access to the {@code visited} map is used,
+         * and thus {@link TUIModule.Builder#deepCopy(TUIModule.Builder, Map)} needs to be overridden.
+         *
+         * @param original The module to copy from.
+         * @param visited All children that have already been deep-copied.
+         * @return The instance that was copied into (self if {@code original} hasn't been visited yet).
+         */
+        @Override
+        protected B deepCopy(B original, Map<TUIModule.Builder<?>, TUIModule.Builder<?>> visited) {
+            B result = super.deepCopy(original, visited);
+
+            if(result == this) {
+                this.displayText = original.displayText.getType().cast(visited.get(original.displayText));
+            }
+
+            return result;
+        }
+
+        /**
+         * The {@link TextModule} that displays text for getting input (e.g., "Your Input: ").
+         *
+         * @return The display text for this module.
+         */
+        public TextModule.Builder getDisplayText() {
+            return displayText;
+        }
+
+        /**
+         * Sets the message displayed (followed by a new line) when the collected input
+         * can't be parsed or violates a constraint. Defaults to {@link TextInputModule#INVALID}.
+         *
+         * @param invalidMessage The message to display.
+         * @return self
+         */
+        public B invalidMessage(String invalidMessage) {
+            this.invalidMessage = invalidMessage;
+            return self();
+        }
+
+        /**
+         * @return The message displayed when the collected input is invalid.
+         */
+        public String getInvalidMessage() {
+            return invalidMessage;
+        }
+
+        /**
+         * Checks equality for properties given by the builder. For {@link TypedInputModule}, this includes
+         * {@code invalidMessage}, as well as other requirements provided by
+         * {@link TUIModule.Builder#shallowStructuralEquals(TUIModule.Builder, TUIModule.Builder)}.
+         */
+        @Override
+        public boolean shallowStructuralEquals(B first, B second) {
+            if(first == second) return true;
+            if(first == null || second == null) return false;
+
+            return Objects.equals(first.invalidMessage, second.invalidMessage) &&
+                    super.shallowStructuralEquals(first, second);
+        }
+
+        /**
+         * Builds a new module based on the configuration of this builder.
+         * Concrete builders implement {@code build()} by delegating to this method.
+         *
+         * @param constructor The constructor of the concrete module.
+         * @return The new module.
+         * @param <M> The type of the concrete module.
+         * @implNote The built module runs the children without {@code displayText}, so that it
+         * is a field of the built module rather than a child that runs after it (see {@link Builder#getChildrenToRun()}).
+         */
+        protected <M extends TypedInputModule> M build(Function<B, M> constructor) {
+            logger.trace("Building {} \"{}\"", getClass().getEnclosingClass().getSimpleName(), getName());
+            return constructor.apply(self());
+        }
+
+        /**
+         * Leaves out the display text, since it runs before the built module rather than as a child
+         * (same as {@link TextInputModule.Builder#getChildrenToRun()}).
+         *
+         * @return A new list of the children the built module runs, in order.
+         */
+        @Override
+        protected List<TUIModule.Builder<?>> getChildrenToRun() {
+            List<TUIModule.Builder<?>> toRun = super.getChildrenToRun();
+            toRun.remove(displayText);
+            return toRun;
+        }
+    }
+}
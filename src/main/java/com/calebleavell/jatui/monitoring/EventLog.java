@@ -0,0 +1,263 @@
+/*
+    Copyright (c) 2026 Caleb Leavell
+
+    Permission is hereby granted, free of charge, to any person obtaining a copy
+    of this software and associated documentation files (the "Software"), to deal
+    in the Software without restriction, including without limitation the rights
+    to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+    copies of the Software, and to permit persons to whom the Software is
+    furnished to do so, subject to the following conditions:
+
+    The above copyright notice and this permission notice shall be included in all
+    copies or substantial portions of the Software.
+
+    THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+    IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+    FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+    AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+    LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+    OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+    SOFTWARE.
+ */
+
+package com.calebleavell.jatui.monitoring;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.event.Level;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Structured logging of module lifecycle events, cheap enough to leave on in production.
+ * <br><br>
+ * Events are logged to the {@value EventLog#LOGGER_NAME} logger with the SLF4J key-value API
+ * (the key {@code event} holds the {@link EventLog.Type}), so they can be configured and parsed separately
+ * from the diagnostic logging of each module. For every event:
+ * <ul>
+ *     <li>Nothing (including the rendering of values) is built unless the logger is enabled
+ *     for the event type's level.</li>
+ *     <li>Only one of every {@link EventLog#setSampleRate(Type, int) sampleRate} events of a type is logged.</li>
+ *     <li>Values are rendered by {@link EventLog#render(Object)}: {@code char[]} values are redacted since
+ *     they usually hold secrets (e.g., from {@code PasswordInput}), and long values are truncated to
+ *     {@link EventLog#setMaxValueLength(int) maxValueLength} characters.</li>
+ * </ul>
+ * This class is thread-safe.
+ */
+public final class EventLog {
+
+    /** The name of the logger events are logged to. **/
+    public static final String LOGGER_NAME = "com.calebleavell.jatui.events";
+
+    /** The default maximum number of characters rendered for a value. **/
+    public static final int DEFAULT_MAX_VALUE_LENGTH = 256;
+
+    /**
+     * The kinds of events that are logged, with the level each is logged at by default.
+     */
+    public enum Type {
+        /** A module started running. **/
+        MODULE_RUN(Level.DEBUG),
+        /** An input module collected a line of input. **/
+        INPUT_COLLECTED(Level.INFO),
+        /** The input stored in an application was updated. **/
+        INPUT_UPDATED(Level.INFO),
+        /** An input handler ran its logic. **/
+        HANDLER_RUN(Level.DEBUG);
+
+        private final Level defaultLevel;
+
+        Type(Level defaultLevel) {
+            this.defaultLevel = defaultLevel;
+        }
+
+        /**
+         * @return The level this type is logged at unless changed via {@link EventLog#setLevel(Type, Level)}.
+         */
+        public Level getDefaultLevel() {
+            return defaultLevel;
+        }
+    }
+
+    private static final Logger logger = LoggerFactory.getLogger(LOGGER_NAME);
+
+    private static final Type[] TYPES = Type.values();
+    private static final AtomicReferenceArray<Level> levels = new AtomicReferenceArray<>(TYPES.length);
+    private static final AtomicIntegerArray sampleRates = new AtomicIntegerArray(TYPES.length);
+    private static final AtomicLongArray counts = new AtomicLongArray(TYPES.length);
+    private static volatile int maxValueLength = DEFAULT_MAX_VALUE_LENGTH;
+
+    static {
+        reset();
+    }
+
+    private EventLog() {}
+
+    /**
+     * Sets the level events of {@code type} are logged at.
+     *
+     * @param type The type of event.
+     * @param level The level to log at.
+     */
+    public static synchronized void setLevel(Type type, Level level) {
+        levels.set(type.ordinal(), Objects.requireNonNull(level, "level cannot be null"));
+    }
+
+    /**
+     * @param type The type of event.
+     * @return The level events of {@code type} are logged at.
+     */
+    public static Level getLevel(Type type) {
+        return levels.get(type.ordinal());
+    }
+
+    /**
+     * Only logs one out of every {@code sampleRate} events of {@code type} (the first, then every
+     * {@code sampleRate}-th after it). A rate of 1 logs every event.
+     *
+     * @param type The type of event.
+     * @param sampleRate How many events there are per event logged. Must be positive.
+     */
+    public static synchronized void setSampleRate(Type type, int sampleRate) {
+        if(sampleRate < 1) throw new IllegalArgumentException("sampleRate must be positive, got " + sampleRate);
+        sampleRates.set(type.ordinal(), sampleRate);
+        counts.set(type.ordinal(), 0);
+    }
+
+    /**
+     * @param type The type of event.
+     * @return How many events of {@code type} there are per event logged.
+     */
+    public static int getSampleRate(Type type) {
+        return sampleRates.get(type.ordinal());
+    }
+
+    /**
+     * @param maxValueLength The maximum number of characters rendered for a value. Must not be negative.
+     */
+    public static void setMaxValueLength(int maxValueLength) {
+        if(maxValueLength < 0) throw new IllegalArgumentException("maxValueLength cannot be negative");
+        EventLog.maxValueLength = maxValueLength;
+    }
+
+    /**
+     * @return The maximum number of characters rendered for a value.
+     */
+    public static int getMaxValueLength() {
+        return maxValueLength;
+    }
+
+    /**
+     * Restores every type's default level and a sample rate of 1, as well as the default max value length.
+     */
+    public static synchronized void reset() {
+        for(Type type : TYPES) {
+            levels.set(type.ordinal(), type.getDefaultLevel());
+            sampleRates.set(type.ordinal(), 1);
+            counts.set(type.ordinal(), 0);
+        }
+        maxValueLength = DEFAULT_MAX_VALUE_LENGTH;
+    }
+
+    /**
+     * Checks the level and the sample for an event. Every call counts towards the sample,
+     * so this must be called once per event, and the event logged only if it returns true.
+     *
+     * @param type The type of event.
+     * @return Whether the event should be logged.
+     */
+    public static boolean shouldLog(Type type) {
+        int i = type.ordinal();
+        if(!logger.isEnabledForLevel(levels.get(i))) return false;
+        int rate = sampleRates.get(i);
+        return rate == 1 || counts.getAndIncrement(i) % rate == 0;
+    }
+
+    /**
+     * Logs that a module started running.
+     *
+     * @param moduleName The name of the module.
+     * @param moduleType The class of the module.
+     */
+    public static void moduleRun(String moduleName, Class<?> moduleType) {
+        if(!shouldLog(Type.MODULE_RUN)) return;
+        logger.atLevel(levels.get(Type.MODULE_RUN.ordinal()))
+                .setMessage("module run")
+                .addKeyValue("event", Type.MODULE_RUN)
+                .addKeyValue("module", moduleName)
+                .addKeyValue("type", moduleType.getSimpleName())
+                .log();
+    }
+
+    /**
+     * Logs that an input module collected input.
+     *
+     * @param moduleName The name of the input module.
+     * @param input The input that was collected.
+     */
+    public static void inputCollected(String moduleName, Object input) {
+        if(!shouldLog(Type.INPUT_COLLECTED)) return;
+        logger.atLevel(levels.get(Type.INPUT_COLLECTED.ordinal()))
+                .setMessage("input collected")
+                .addKeyValue("event", Type.INPUT_COLLECTED)
+                .addKeyValue("module", moduleName)
+                .addKeyValue("value", render(input))
+                .log();
+    }
+
+    /**
+     * Logs that the input stored in an application was updated.
+     *
+     * @param appName The name of the application.
+     * @param moduleName The name the input is stored under.
+     * @param input The new input.
+     * @param forced Whether the update was forced (i.e., no module with the name had to exist).
+     */
+    public static void inputUpdated(String appName, String moduleName, Object input, boolean forced) {
+        if(!shouldLog(Type.INPUT_UPDATED)) return;
+        logger.atLevel(levels.get(Type.INPUT_UPDATED.ordinal()))
+                .setMessage("input updated")
+                .addKeyValue("event", Type.INPUT_UPDATED)
+                .addKeyValue("app", appName)
+                .addKeyValue("module", moduleName)
+                .addKeyValue("value", render(input))
+                .addKeyValue("forced", forced)
+                .log();
+    }
+
+    /**
+     * Logs that an input handler ran its logic.
+     *
+     * @param handlerName The name of the handler.
+     * @param input The input the handler ran on.
+     */
+    public static void handlerRun(String handlerName, Object input) {
+        if(!shouldLog(Type.HANDLER_RUN)) return;
+        logger.atLevel(levels.get(Type.HANDLER_RUN.ordinal()))
+                .setMessage("handler run")
+                .addKeyValue("event", Type.HANDLER_RUN)
+                .addKeyValue("handler", handlerName)
+                .addKeyValue("value", render(input))
+                .log();
+    }
+
+    /**
+     * Renders a value for logging. {@code char[]} values are redacted, and values longer than
+     * {@link EventLog#getMaxValueLength()} are truncated with a marker saying how many characters were left out.
+     *
+     * @param value The value to render.
+     * @return The rendered value.
+     */
+    public static String render(Object value) {
+        if(value == null) return "null";
+        if(value instanceof char[] chars) return "<redacted char[" + chars.length + "]>";
+
+        String rendered = String.valueOf(value);
+        int max = maxValueLength;
+        if(rendered.length() <= max) return rendered;
+        return rendered.substring(0, max) + "...(+" + (rendered.length() - max) + " chars)";
+    }
+}
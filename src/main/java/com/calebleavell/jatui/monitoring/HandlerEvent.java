@@ -0,0 +1,79 @@
+/*
+    Copyright (c) 2026 Caleb Leavell
+
+    Permission is hereby granted, free of charge, to any person obtaining a copy
+    of this software and associated documentation files (the "Software"), to deal
+    in the Software without restriction, including without limitation the rights
+    to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+    copies of the Software, and to permit persons to whom the Software is
+    furnished to do so, subject to the following conditions:
+
+    The above copyright notice and this permission notice shall be included in all
+    copies or substantial portions of the Software.
+
+    THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+    IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+    FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+    AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+    LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+    OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+    SOFTWARE.
+ */
+
+package com.calebleavell.jatui.monitoring;
+
+import jdk.jfr.*;
+
+/**
+ * Java Flight Recorder event spanning the execution of an input handler's logic
+ * (e.g., one added via {@code InputHandler#handler}).
+ * <br><br>
+ * Events are only allocated and timed while a recording has this event enabled;
+ * otherwise {@link HandlerEvent#begin(String, String)} returns null.
+ */
+@Name("com.calebleavell.jatui.Handler")
+@Label("Input Handler")
+@Category("Jatui")
+@Description("Execution of the logic that handles collected input")
+@StackTrace(false)
+public final class HandlerEvent extends Event {
+
+    @Label("Handler Name")
+    public String handlerName;
+
+    @Label("Input Name")
+    public String inputName;
+
+    @Label("Failed")
+    @Description("Whether the logic threw and the exception handler ran instead")
+    public boolean failed;
+
+    /**
+     * Starts timing handler logic if this event is enabled.
+     *
+     * @param handlerName The name of the handler that is running.
+     * @param inputName The name of the module whose input is being handled.
+     * @return The started event, or null if the event is not enabled.
+     */
+    public static HandlerEvent begin(String handlerName, String inputName) {
+        HandlerEvent event = new HandlerEvent();
+        if(!event.isEnabled()) return null;
+        event.handlerName = handlerName;
+        event.inputName = inputName;
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Ends and commits {@code event}, if it is not null.
+     *
+     * @param event The event returned by {@link HandlerEvent#begin(String, String)}.
+     * @param failed Whether the handler logic threw.
+     */
+    public static void end(HandlerEvent event, boolean failed) {
+        if(event == null) return;
+        event.end();
+        event.failed = failed;
+        if(event.shouldCommit()) event.commit();
+    }
+}
@@ -0,0 +1,67 @@
+/*
+    Copyright (c) 2026 Caleb Leavell
+
+    Permission is hereby granted, free of charge, to any person obtaining a copy
+    of this software and associated documentation files (the "Software"), to deal
+    in the Software without restriction, including without limitation the rights
+    to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+    copies of the Software, and to permit persons to whom the Software is
+    furnished to do so, subject to the following conditions:
+
+    The above copyright notice and this permission notice shall be included in all
+    copies or substantial portions of the Software.
+
+    THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+    IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+    FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+    AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+    LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+    OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+    SOFTWARE.
+ */
+
+package com.calebleavell.jatui.monitoring;
+
+import jdk.jfr.*;
+
+/**
+ * Java Flight Recorder event spanning the time a module spends blocked waiting for the user to enter input.
+ * <br><br>
+ * Events are only allocated and timed while a recording has this event enabled;
+ * otherwise {@link InputWaitEvent#begin(String)} returns null.
+ */
+@Name("com.calebleavell.jatui.InputWait")
+@Label("Input Wait")
+@Category("Jatui")
+@Description("Time spent waiting for a line of user input")
+@StackTrace(false)
+public final class InputWaitEvent extends Event {
+
+    @Label("Module Name")
+    public String moduleName;
+
+    /**
+     * Starts timing an input wait if this event is enabled.
+     *
+     * @param moduleName The name of the module collecting input.
+     * @return The started event, or null if the event is not enabled.
+     */
+    public static InputWaitEvent begin(String moduleName) {
+        InputWaitEvent event = new InputWaitEvent();
+        if(!event.isEnabled()) return null;
+        event.moduleName = moduleName;
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Ends and commits {@code event}, if it is not null.
+     *
+     * @param event The event returned by {@link InputWaitEvent#begin(String)}.
+     */
+    public static void end(InputWaitEvent event) {
+        if(event == null) return;
+        event.end();
+        if(event.shouldCommit()) event.commit();
+    }
+}
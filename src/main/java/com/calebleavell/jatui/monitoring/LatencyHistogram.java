@@ -0,0 +1,189 @@
+/*
+    Copyright (c) 2026 Caleb Leavell
+
+    Permission is hereby granted, free of charge, to any person obtaining a copy
+    of this software and associated documentation files (the "Software"), to deal
+    in the Software without restriction, including without limitation the rights
+    to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+    copies of the Software, and to permit persons to whom the Software is
+    furnished to do so, subject to the following conditions:
+
+    The above copyright notice and this permission notice shall be included in all
+    copies or substantial portions of the Software.
+
+    THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+    IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+    FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+    AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+    LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+    OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+    SOFTWARE.
+ */
+
+package com.calebleavell.jatui.monitoring;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A lock-free histogram of durations in nanoseconds.
+ * <br><br>
+ * Values are counted in log-linear buckets (in the style of HdrHistogram): every power of two is split into
+ * {@value LatencyHistogram#SUB_BUCKETS} equal sub-buckets, so percentiles are reported with a relative error of
+ * at most 1/{@value LatencyHistogram#SUB_BUCKETS} while the histogram stays a fixed size regardless of how many
+ * values are recorded. The count, total, and maximum are exact.
+ * <br><br>
+ * Recording is thread-safe and never blocks; a {@link LatencyHistogram#snapshot()} taken while values are being
+ * recorded may be off by the values recorded concurrently.
+ */
+public class LatencyHistogram {
+
+    /** The number of sub-buckets each power of two is split into. **/
+    public static final int SUB_BUCKETS = 16;
+
+    private static final int SUB_BUCKET_BITS = Integer.numberOfTrailingZeros(SUB_BUCKETS);
+    private static final int BUCKET_COUNT = SUB_BUCKETS + (Long.SIZE - 1 - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder total = new LongAdder();
+    private final AtomicLong max = new AtomicLong();
+
+    /**
+     * Records a duration. Negative durations are recorded as 0.
+     *
+     * @param nanos The duration in nanoseconds.
+     */
+    public void record(long nanos) {
+        if(nanos < 0) nanos = 0;
+        buckets.incrementAndGet(indexOf(nanos));
+        count.increment();
+        total.add(nanos);
+        if(nanos > max.get()) max.accumulateAndGet(nanos, Math::max);
+    }
+
+    /**
+     * @return The number of recorded durations.
+     */
+    public long getCount() {
+        return count.sum();
+    }
+
+    /**
+     * Estimates the duration at or below which {@code percentile} percent of the recorded durations fall.
+     *
+     * @param percentile The percentile, between 0 and 100.
+     * @return The estimated duration in nanoseconds, or 0 if nothing has been recorded.
+     */
+    public long getPercentile(double percentile) {
+        if(percentile < 0 || percentile > 100)
+            throw new IllegalArgumentException("percentile must be between 0 and 100, got " + percentile);
+
+        long[] counts = new long[BUCKET_COUNT];
+        long recorded = 0;
+        for(int i = 0; i < BUCKET_COUNT; i ++) {
+            counts[i] = buckets.get(i);
+            recorded += counts[i];
+        }
+        if(recorded == 0) return 0;
+
+        long target = Math.max(1, (long) Math.ceil(recorded * (percentile / 100)));
+        long seen = 0;
+        for(int i = 0; i < BUCKET_COUNT; i ++) {
+            seen += counts[i];
+            if(seen >= target) return Math.min(highestValueAt(i), max.get());
+        }
+        return max.get();
+    }
+
+    /**
+     * @return An immutable summary of the recorded durations.
+     */
+    public Snapshot snapshot() {
+        long n = count.sum();
+        return new Snapshot(
+                n,
+                n == 0 ? 0 : total.sum() / n,
+                getPercentile(50),
+                getPercentile(90),
+                getPercentile(99),
+                max.get());
+    }
+
+    /**
+     * Clears all recorded durations.
+     */
+    public void reset() {
+        for(int i = 0; i < BUCKET_COUNT; i ++) buckets.set(i, 0);
+        count.reset();
+        total.reset();
+        max.set(0);
+    }
+
+    /**
+     * @param value A non-negative value.
+     * @return The index of the bucket {@code value} is counted in.
+     */
+    static int indexOf(long value) {
+        if(value < SUB_BUCKETS) return (int) value;
+        int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(value);
+        int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return SUB_BUCKETS + (exponent - SUB_BUCKET_BITS) * SUB_BUCKETS + subBucket;
+    }
+
+    /**
+     * @param index The index of a bucket.
+     * @return The highest value counted in the bucket.
+     */
+    static long highestValueAt(int index) {
+        if(index < SUB_BUCKETS) return index;
+        int exponent = (index - SUB_BUCKETS) / SUB_BUCKETS + SUB_BUCKET_BITS;
+        long subBucket = (index - SUB_BUCKETS) % SUB_BUCKETS;
+        long lowest = (1L << exponent) + (subBucket << (exponent - SUB_BUCKET_BITS));
+        return lowest + (1L << (exponent - SUB_BUCKET_BITS)) - 1;
+    }
+
+    /**
+     * An immutable summary of a {@link LatencyHistogram}. All durations are in nanoseconds.
+     */
+    public static class Snapshot {
+        private final long count;
+        private final long mean;
+        private final long p50;
+        private final long p90;
+        private final long p99;
+        private final long max;
+
+        Snapshot(long count, long mean, long p50, long p90, long p99, long max) {
+            this.count = count;
+            this.mean = mean;
+            this.p50 = p50;
+            this.p90 = p90;
+            this.p99 = p99;
+            this.max = max;
+        }
+
+        public long getCount() {return count;}
+
+        public long getMean() {return mean;}
+
+        public long getP50() {return p50;}
+
+        public long getP90() {return p90;}
+
+        public long getP99() {return p99;}
+
+        public long getMax() {return max;}
+
+        /**
+         * Format: "count=... mean=...ns p50=...ns p90=...ns p99=...ns max=...ns".
+         *
+         * @return the formatted string
+         */
+        @Override
+        public String toString() {
+            return String.format("count=%d mean=%dns p50=%dns p90=%dns p99=%dns max=%dns", count, mean, p50, p90, p99, max);
+        }
+    }
+}
@@ -0,0 +1,221 @@
+/*
+    Copyright (c) 2026 Caleb Leavell
+
+    Permission is hereby granted, free of charge, to any person obtaining a copy
+    of this software and associated documentation files (the "Software"), to deal
+    in the Software without restriction, including without limitation the rights
+    to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+    copies of the Software, and to permit persons to whom the Software is
+    furnished to do so, subject to the following conditions:
+
+    The above copyright notice and this permission notice shall be included in all
+    copies or substantial portions of the Software.
+
+    THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+    IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+    FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+    AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+    LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+    OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+    SOFTWARE.
+ */
+
+package com.calebleavell.jatui.monitoring;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Holds the {@link ModuleMetrics} for every module type and name that has run.
+ * <br><br>
+ * Modules record into {@link MetricsRegistry#global()} as they run. The metrics can be read programmatically via
+ * {@link MetricsRegistry#snapshot()}, or over JMX after calling {@link MetricsRegistry#registerMBeans()}, which
+ * registers one {@link ModuleMetricsMXBean} per module under the {@value MetricsRegistry#DOMAIN} domain.
+ * <br><br>
+ * To keep memory bounded, at most {@code capacity} distinct modules are tracked; anything past that
+ * is recorded under a shared entry with type and name {@value MetricsRegistry#OVERFLOW}.
+ * Every tracked module holds three {@link LatencyHistogram}s (about 23KB in total), so the global registry's capacity
+ * is {@value MetricsRegistry#DEFAULT_CAPACITY} (about 12MB when full) unless the
+ * {@value MetricsRegistry#CAPACITY_PROPERTY} system property sets another.
+ * This class is thread-safe, and looking up existing metrics is lock-free.
+ */
+public class MetricsRegistry {
+
+    /** The JMX domain the metrics are registered under. **/
+    public static final String DOMAIN = "com.calebleavell.jatui";
+
+    /** The type and name of the entry recorded into once the registry is full. **/
+    public static final String OVERFLOW = "overflow";
+
+    /** The default maximum number of modules tracked by the global registry. **/
+    public static final int DEFAULT_CAPACITY = 512;
+
+    /** The system property that sets the maximum number of modules tracked by the global registry. **/
+    public static final String CAPACITY_PROPERTY = "jatui.metrics.capacity";
+
+    private static final Logger logger = LoggerFactory.getLogger(MetricsRegistry.class);
+
+    private static final MetricsRegistry GLOBAL = new MetricsRegistry(globalCapacity());
+
+    private final Map<String, ModuleMetrics> metrics = new ConcurrentHashMap<>();
+    private final ModuleMetrics overflow = new ModuleMetrics(OVERFLOW, OVERFLOW);
+    private final int capacity;
+    private volatile boolean registered = false;
+
+    /**
+     * @param capacity The maximum number of distinct modules tracked.
+     */
+    public MetricsRegistry(int capacity) {
+        if(capacity < 0) throw new IllegalArgumentException("capacity cannot be negative");
+        this.capacity = capacity;
+    }
+
+    /**
+     * @return The capacity set by {@value MetricsRegistry#CAPACITY_PROPERTY}, or {@link MetricsRegistry#DEFAULT_CAPACITY}
+     * if it isn't set or isn't a non-negative integer.
+     */
+    private static int globalCapacity() {
+        Integer capacity = Integer.getInteger(CAPACITY_PROPERTY);
+        if(capacity == null) return DEFAULT_CAPACITY;
+        if(capacity < 0) {
+            logger.warn("ignoring negative {} of {}", CAPACITY_PROPERTY, capacity);
+            return DEFAULT_CAPACITY;
+        }
+        return capacity;
+    }
+
+    /**
+     * @return The maximum number of distinct modules tracked.
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * @return The registry modules record into.
+     */
+    public static MetricsRegistry global() {
+        return GLOBAL;
+    }
+
+    /**
+     * Gets the metrics for a module, creating them if needed.
+     *
+     * @param type The class of the module.
+     * @param name The name of the module.
+     * @return The metrics for the module.
+     */
+    public ModuleMetrics module(Class<?> type, String name) {
+        String typeName = type.getSimpleName();
+        String key = typeName + '\0' + name;
+
+        ModuleMetrics found = metrics.get(key);
+        if(found != null) return found;
+
+        if(metrics.size() >= capacity) return overflow;
+
+        ModuleMetrics[] created = new ModuleMetrics[1];
+        found = metrics.computeIfAbsent(key, k -> created[0] = new ModuleMetrics(typeName, String.valueOf(name)));
+        if(created[0] != null && registered) register(created[0]);
+        return found;
+    }
+
+    /**
+     * @return A copy of the current metrics of every tracked module, sorted by type and then name.
+     * The overflow entry is included last if anything was recorded into it.
+     */
+    public List<ModuleMetrics.Snapshot> snapshot() {
+        List<ModuleMetrics.Snapshot> snapshots = new ArrayList<>();
+        for(ModuleMetrics m : metrics.values()) snapshots.add(m.snapshot());
+        snapshots.sort(Comparator.comparing(ModuleMetrics.Snapshot::getModuleType)
+                .thenComparing(ModuleMetrics.Snapshot::getModuleName));
+
+        ModuleMetrics.Snapshot overflowSnapshot = overflow.snapshot();
+        if(overflowSnapshot.getRuns() > 0 || overflowSnapshot.getThinkTime().getCount() > 0
+                || overflowSnapshot.getProcessingTime().getCount() > 0 || overflowSnapshot.getCharactersRendered() > 0)
+            snapshots.add(overflowSnapshot);
+
+        return snapshots;
+    }
+
+    /**
+     * @return The number of distinct modules tracked.
+     */
+    public int size() {
+        return metrics.size();
+    }
+
+    /**
+     * Clears every tracked module's metrics. The modules stay tracked (and registered, if applicable).
+     */
+    public void reset() {
+        metrics.values().forEach(ModuleMetrics::reset);
+        overflow.reset();
+    }
+
+    /**
+     * Registers an MBean for every tracked module with the platform MBean server, and keeps registering
+     * modules as they are tracked until {@link MetricsRegistry#unregisterMBeans()} is called.
+     */
+    public synchronized void registerMBeans() {
+        if(registered) return;
+        registered = true;
+        metrics.values().forEach(this::register);
+        register(overflow);
+    }
+
+    /**
+     * Unregisters every MBean registered by {@link MetricsRegistry#registerMBeans()}.
+     */
+    public synchronized void unregisterMBeans() {
+        if(!registered) return;
+        registered = false;
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        List<ModuleMetrics> all = new ArrayList<>(metrics.values());
+        all.add(overflow);
+        for(ModuleMetrics m : all) {
+            try {
+                ObjectName name = objectName(m);
+                if(server.isRegistered(name)) server.unregisterMBean(name);
+            }
+            catch(JMException e) {
+                logger.warn("could not unregister metrics for {} \"{}\": {}", m.getModuleType(), m.getModuleName(), e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * @return Whether MBeans are currently being registered.
+     */
+    public boolean isRegistered() {
+        return registered;
+    }
+
+    /**
+     * @param metrics The metrics to build the name for.
+     * @return The JMX name the metrics are registered under.
+     * @throws JMException if the name is malformed.
+     */
+    public static ObjectName objectName(ModuleMetrics metrics) throws JMException {
+        return new ObjectName(DOMAIN + ":type=ModuleMetrics,moduleType=" + ObjectName.quote(metrics.getModuleType())
+                + ",name=" + ObjectName.quote(metrics.getModuleName()));
+    }
+
+    private void register(ModuleMetrics m) {
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName name = objectName(m);
+            if(!server.isRegistered(name)) server.registerMBean(m, name);
+        }
+        catch(JMException e) {
+            logger.warn("could not register metrics for {} \"{}\": {}", m.getModuleType(), m.getModuleName(), e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,121 @@
+/*
+    Copyright (c) 2026 Caleb Leavell
+
+    Permission is hereby granted, free of charge, to any person obtaining a copy
+    of this software and associated documentation files (the "Software"), to deal
+    in the Software without restriction, including without limitation the rights
+    to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+    copies of the Software, and to permit persons to whom the Software is
+    furnished to do so, subject to the following conditions:
+
+    The above copyright notice and this permission notice shall be included in all
+    copies or substantial portions of the Software.
+
+    THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+    IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+    FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+    AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+    LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+    OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+    SOFTWARE.
+ */
+
+package com.calebleavell.jatui.monitoring;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The CPU time and allocations accounted to every module with one name by {@link ResourceAccounting}.
+ * <br><br>
+ * Totals include everything that happened while the module was running its logic or being built, including
+ * modules it ran or built itself (e.g., the prompt of an input module). Self values exclude
+ * anything accounted to those nested modules.
+ * <br><br>
+ * All methods are thread-safe.
+ */
+public class ModuleCost {
+
+    private final String moduleName;
+
+    private final LongAdder runs = new LongAdder();
+    private final LongAdder runCpuNanos = new LongAdder();
+    private final LongAdder runSelfCpuNanos = new LongAdder();
+    private final LongAdder runAllocatedBytes = new LongAdder();
+    private final LongAdder runSelfAllocatedBytes = new LongAdder();
+
+    private final LongAdder builds = new LongAdder();
+    private final LongAdder buildCpuNanos = new LongAdder();
+    private final LongAdder buildSelfCpuNanos = new LongAdder();
+    private final LongAdder buildAllocatedBytes = new LongAdder();
+    private final LongAdder buildSelfAllocatedBytes = new LongAdder();
+
+    ModuleCost(String moduleName) {
+        this.moduleName = moduleName;
+    }
+
+    void addRun(long cpu, long selfCpu, long allocated, long selfAllocated) {
+        runs.increment();
+        runCpuNanos.add(cpu);
+        runSelfCpuNanos.add(selfCpu);
+        runAllocatedBytes.add(allocated);
+        runSelfAllocatedBytes.add(selfAllocated);
+    }
+
+    void addBuild(long cpu, long selfCpu, long allocated, long selfAllocated) {
+        builds.increment();
+        buildCpuNanos.add(cpu);
+        buildSelfCpuNanos.add(selfCpu);
+        buildAllocatedBytes.add(allocated);
+        buildSelfAllocatedBytes.add(selfAllocated);
+    }
+
+    public String getModuleName() {return moduleName;}
+
+    /** @return How many times the module's logic ran. **/
+    public long getRuns() {return runs.sum();}
+
+    public long getRunCpuNanos() {return runCpuNanos.sum();}
+
+    public long getRunSelfCpuNanos() {return runSelfCpuNanos.sum();}
+
+    public long getRunAllocatedBytes() {return runAllocatedBytes.sum();}
+
+    public long getRunSelfAllocatedBytes() {return runSelfAllocatedBytes.sum();}
+
+    /** @return How many times the module was built by the scheduler. **/
+    public long getBuilds() {return builds.sum();}
+
+    public long getBuildCpuNanos() {return buildCpuNanos.sum();}
+
+    public long getBuildSelfCpuNanos() {return buildSelfCpuNanos.sum();}
+
+    public long getBuildAllocatedBytes() {return buildAllocatedBytes.sum();}
+
+    public long getBuildSelfAllocatedBytes() {return buildSelfAllocatedBytes.sum();}
+
+    /**
+     * @return The self CPU time of running and building the module combined.
+     */
+    public long getSelfCpuNanos() {
+        return getRunSelfCpuNanos() + getBuildSelfCpuNanos();
+    }
+
+    /**
+     * @return The bytes allocated by running and building the module itself combined.
+     */
+    public long getSelfAllocatedBytes() {
+        return getRunSelfAllocatedBytes() + getBuildSelfAllocatedBytes();
+    }
+
+    /**
+     * Format: "run: {@code <runs>}x cpu=...us (self ...us) alloc=...B (self ...B); build: ...".
+     *
+     * @return the formatted string
+     */
+    @Override
+    public String toString() {
+        return String.format("run: %dx cpu=%dus (self %dus) alloc=%dB (self %dB); build: %dx cpu=%dus (self %dus) alloc=%dB (self %dB)",
+                getRuns(), getRunCpuNanos() / 1000, getRunSelfCpuNanos() / 1000, getRunAllocatedBytes(), getRunSelfAllocatedBytes(),
+                getBuilds(), getBuildCpuNanos() / 1000, getBuildSelfCpuNanos() / 1000, getBuildAllocatedBytes(), getBuildSelfAllocatedBytes());
+    }
+}
@@ -0,0 +1,291 @@
+/*
+    Copyright (c) 2026 Caleb Leavell
+
+    Permission is hereby granted, free of charge, to any person obtaining a copy
+    of this software and associated documentation files (the "Software"), to deal
+    in the Software without restriction, including without limitation the rights
+    to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+    copies of the Software, and to permit persons to whom the Software is
+    furnished to do so, subject to the following conditions:
+
+    The above copyright notice and this permission notice shall be included in all
+    copies or substantial portions of the Software.
+
+    THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+    IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+    FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+    AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+    LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+    OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+    SOFTWARE.
+ */
+
+package com.calebleavell.jatui.monitoring;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters and latency histograms for every module sharing one type and name.
+ * Obtained from {@link MetricsRegistry#module(Class, String)}.
+ * <br><br>
+ * Think time is how long the user took to enter input, and processing time is how long
+ * handlers took to run on it. Run time spans a module's run including its children, so it
+ * also contains any think time of those children.
+ * <br><br>
+ * All methods are thread-safe and lock-free.
+ */
+public class ModuleMetrics implements ModuleMetricsMXBean {
+
+    private final String moduleType;
+    private final String moduleName;
+
+    private final LongAdder runs = new LongAdder();
+    private final LongAdder restarts = new LongAdder();
+    private final LongAdder terminations = new LongAdder();
+    private final LongAdder navigations = new LongAdder();
+    private final LongAdder handlerFailures = new LongAdder();
+    private final LongAdder charactersRendered = new LongAdder();
+    private final LongAdder stalls = new LongAdder();
+    private final LongAdder quotaViolations = new LongAdder();
+    private final LongAdder inputTimeouts = new LongAdder();
+
+    private final LatencyHistogram runTime = new LatencyHistogram();
+    private final LatencyHistogram thinkTime = new LatencyHistogram();
+    private final LatencyHistogram processingTime = new LatencyHistogram();
+
+    /**
+     * @param moduleType The simple name of the module class.
+     * @param moduleName The name of the module.
+     */
+    ModuleMetrics(String moduleType, String moduleName) {
+        this.moduleType = moduleType;
+        this.moduleName = moduleName;
+    }
+
+    public void recordRun(long nanos) {
+        runs.increment();
+        runTime.record(nanos);
+    }
+
+    public void recordRestart() {
+        restarts.increment();
+    }
+
+    public void recordTermination() {
+        terminations.increment();
+    }
+
+    public void recordNavigation() {
+        navigations.increment();
+    }
+
+    public void recordThinkTime(long nanos) {
+        thinkTime.record(nanos);
+    }
+
+    /**
+     * @param nanos How long the handler ran.
+     * @param failed Whether the handler threw.
+     */
+    public void recordProcessing(long nanos, boolean failed) {
+        processingTime.record(nanos);
+        if(failed) handlerFailures.increment();
+    }
+
+    public void recordRender(long characters) {
+        charactersRendered.add(characters);
+    }
+
+    /**
+     * Records that a {@link Watchdog} found the module running for longer than its budget.
+     */
+    public void recordStall() {
+        stalls.increment();
+    }
+
+    /**
+     * Records that the module (an application) exceeded one of its resource quotas.
+     */
+    public void recordQuotaViolation() {
+        quotaViolations.increment();
+    }
+
+    /**
+     * Records that the module's input didn't arrive before its deadline.
+     */
+    public void recordInputTimeout() {
+        inputTimeouts.increment();
+    }
+
+    @Override
+    public String getModuleType() {return moduleType;}
+
+    @Override
+    public String getModuleName() {return moduleName;}
+
+    @Override
+    public long getRuns() {return runs.sum();}
+
+    @Override
+    public long getRestarts() {return restarts.sum();}
+
+    @Override
+    public long getTerminations() {return terminations.sum();}
+
+    @Override
+    public long getNavigations() {return navigations.sum();}
+
+    @Override
+    public long getHandlerFailures() {return handlerFailures.sum();}
+
+    @Override
+    public long getCharactersRendered() {return charactersRendered.sum();}
+
+    @Override
+    public long getStalls() {return stalls.sum();}
+
+    @Override
+    public long getQuotaViolations() {return quotaViolations.sum();}
+
+    @Override
+    public long getInputTimeouts() {return inputTimeouts.sum();}
+
+    @Override
+    public long getRunTimeP50() {return runTime.getPercentile(50);}
+
+    @Override
+    public long getRunTimeP99() {return runTime.getPercentile(99);}
+
+    @Override
+    public long getRunTimeMax() {return runTime.snapshot().getMax();}
+
+    @Override
+    public long getThinkTimeP50() {return thinkTime.getPercentile(50);}
+
+    @Override
+    public long getThinkTimeP99() {return thinkTime.getPercentile(99);}
+
+    @Override
+    public long getProcessingTimeP50() {return processingTime.getPercentile(50);}
+
+    @Override
+    public long getProcessingTimeP99() {return processingTime.getPercentile(99);}
+
+    /**
+     * @return The run time histogram.
+     */
+    public LatencyHistogram getRunTime() {return runTime;}
+
+    /**
+     * @return The think time histogram.
+     */
+    public LatencyHistogram getThinkTime() {return thinkTime;}
+
+    /**
+     * @return The processing time histogram.
+     */
+    public LatencyHistogram getProcessingTime() {return processingTime;}
+
+    @Override
+    public void reset() {
+        runs.reset();
+        restarts.reset();
+        terminations.reset();
+        navigations.reset();
+        handlerFailures.reset();
+        charactersRendered.reset();
+        stalls.reset();
+        quotaViolations.reset();
+        inputTimeouts.reset();
+        runTime.reset();
+        thinkTime.reset();
+        processingTime.reset();
+    }
+
+    /**
+     * @return An immutable copy of the current values.
+     */
+    public Snapshot snapshot() {
+        return new Snapshot(this);
+    }
+
+    /**
+     * An immutable copy of a {@link ModuleMetrics}.
+     */
+    public static class Snapshot {
+        private final String moduleType;
+        private final String moduleName;
+        private final long runs;
+        private final long restarts;
+        private final long terminations;
+        private final long navigations;
+        private final long handlerFailures;
+        private final long charactersRendered;
+        private final long stalls;
+        private final long quotaViolations;
+        private final long inputTimeouts;
+        private final LatencyHistogram.Snapshot runTime;
+        private final LatencyHistogram.Snapshot thinkTime;
+        private final LatencyHistogram.Snapshot processingTime;
+
+        private Snapshot(ModuleMetrics metrics) {
+            this.moduleType = metrics.moduleType;
+            this.moduleName = metrics.moduleName;
+            this.runs = metrics.getRuns();
+            this.restarts = metrics.getRestarts();
+            this.terminations = metrics.getTerminations();
+            this.navigations = metrics.getNavigations();
+            this.handlerFailures = metrics.getHandlerFailures();
+            this.charactersRendered = metrics.getCharactersRendered();
+            this.stalls = metrics.getStalls();
+            this.quotaViolations = metrics.getQuotaViolations();
+            this.inputTimeouts = metrics.getInputTimeouts();
+            this.runTime = metrics.runTime.snapshot();
+            this.thinkTime = metrics.thinkTime.snapshot();
+            this.processingTime = metrics.processingTime.snapshot();
+        }
+
+        public String getModuleType() {return moduleType;}
+
+        public String getModuleName() {return moduleName;}
+
+        public long getRuns() {return runs;}
+
+        public long getRestarts() {return restarts;}
+
+        public long getTerminations() {return terminations;}
+
+        public long getNavigations() {return navigations;}
+
+        public long getHandlerFailures() {return handlerFailures;}
+
+        public long getCharactersRendered() {return charactersRendered;}
+
+        public long getStalls() {return stalls;}
+
+        public long getQuotaViolations() {return quotaViolations;}
+
+        public long getInputTimeouts() {return inputTimeouts;}
+
+        public LatencyHistogram.Snapshot getRunTime() {return runTime;}
+
+        public LatencyHistogram.Snapshot getThinkTime() {return thinkTime;}
+
+        public LatencyHistogram.Snapshot getProcessingTime() {return processingTime;}
+
+        /**
+         * Format: "{@code <moduleType>} \"{@code <moduleName>}\": runs=... restarts=... ...".
+         *
+         * @return the formatted string
+         */
+        @Override
+        public String toString() {
+            return String.format(
+                    "%s \"%s\": runs=%d restarts=%d terminations=%d navigations=%d handlerFailures=%d " +
+                            "charactersRendered=%d stalls=%d quotaViolations=%d inputTimeouts=%d " +
+                            "runTime=[%s] thinkTime=[%s] processingTime=[%s]",
+                    moduleType, moduleName, runs, restarts, terminations, navigations, handlerFailures,
+                    charactersRendered, stalls, quotaViolations, inputTimeouts, runTime, thinkTime, processingTime);
+        }
+    }
+}
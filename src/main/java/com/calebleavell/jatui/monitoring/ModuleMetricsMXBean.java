@@ -0,0 +1,71 @@
+/*
+    Copyright (c) 2026 Caleb Leavell
+
+    Permission is hereby granted, free of charge, to any person obtaining a copy
+    of this software and associated documentation files (the "Software"), to deal
+    in the Software without restriction, including without limitation the rights
+    to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+    copies of the Software, and to permit persons to whom the Software is
+    furnished to do so, subject to the following conditions:
+
+    The above copyright notice and this permission notice shall be included in all
+    copies or substantial portions of the Software.
+
+    THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+    IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+    FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+    AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+    LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+    OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+    SOFTWARE.
+ */
+
+package com.calebleavell.jatui.monitoring;
+
+/**
+ * The management interface for {@link ModuleMetrics}, registered by {@link MetricsRegistry#registerMBeans()}.
+ * All durations are in nanoseconds.
+ */
+public interface ModuleMetricsMXBean {
+
+    String getModuleType();
+
+    String getModuleName();
+
+    long getRuns();
+
+    long getRestarts();
+
+    long getTerminations();
+
+    long getNavigations();
+
+    long getHandlerFailures();
+
+    long getCharactersRendered();
+
+    long getStalls();
+
+    long getQuotaViolations();
+
+    long getInputTimeouts();
+
+    long getRunTimeP50();
+
+    long getRunTimeP99();
+
+    long getRunTimeMax();
+
+    long getThinkTimeP50();
+
+    long getThinkTimeP99();
+
+    long getProcessingTimeP50();
+
+    long getProcessingTimeP99();
+
+    /**
+     * Clears all counters and histograms.
+     */
+    void reset();
+}
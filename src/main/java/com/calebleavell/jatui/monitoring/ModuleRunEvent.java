@@ -0,0 +1,73 @@
+/*
+    Copyright (c) 2026 Caleb Leavell
+
+    Permission is hereby granted, free of charge, to any person obtaining a copy
+    of this software and associated documentation files (the "Software"), to deal
+    in the Software without restriction, including without limitation the rights
+    to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+    copies of the Software, and to permit persons to whom the Software is
+    furnished to do so, subject to the following conditions:
+
+    The above copyright notice and this permission notice shall be included in all
+    copies or substantial portions of the Software.
+
+    THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+    IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+    FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+    AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+    LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+    OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+    SOFTWARE.
+ */
+
+package com.calebleavell.jatui.monitoring;
+
+import jdk.jfr.*;
+
+/**
+ * Java Flight Recorder event spanning one run of a module, from the moment it is scheduled to begin
+ * until its run ends (i.e., after all of its children have run).
+ * <br><br>
+ * Events are only allocated and timed while a recording has this event enabled;
+ * otherwise {@link ModuleRunEvent#begin(String, Class)} returns null.
+ */
+@Name("com.calebleavell.jatui.ModuleRun")
+@Label("Module Run")
+@Category("Jatui")
+@Description("A module running from BEGIN to END, including its children")
+@StackTrace(false)
+public final class ModuleRunEvent extends Event {
+
+    @Label("Module Name")
+    public String moduleName;
+
+    @Label("Module Type")
+    public Class<?> moduleType;
+
+    /**
+     * Starts timing a module run if this event is enabled.
+     *
+     * @param moduleName The name of the module that is running.
+     * @param moduleType The class of the module that is running.
+     * @return The started event, or null if the event is not enabled.
+     */
+    public static ModuleRunEvent begin(String moduleName, Class<?> moduleType) {
+        ModuleRunEvent event = new ModuleRunEvent();
+        if(!event.isEnabled()) return null;
+        event.moduleName = moduleName;
+        event.moduleType = moduleType;
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Ends and commits {@code event}, if it is not null.
+     *
+     * @param event The event returned by {@link ModuleRunEvent#begin(String, Class)}.
+     */
+    public static void end(ModuleRunEvent event) {
+        if(event == null) return;
+        event.end();
+        if(event.shouldCommit()) event.commit();
+    }
+}
@@ -0,0 +1,73 @@
+/*
+    Copyright (c) 2026 Caleb Leavell
+
+    Permission is hereby granted, free of charge, to any person obtaining a copy
+    of this software and associated documentation files (the "Software"), to deal
+    in the Software without restriction, including without limitation the rights
+    to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+    copies of the Software, and to permit persons to whom the Software is
+    furnished to do so, subject to the following conditions:
+
+    The above copyright notice and this permission notice shall be included in all
+    copies or substantial portions of the Software.
+
+    THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+    IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+    FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+    AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+    LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+    OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+    SOFTWARE.
+ */
+
+package com.calebleavell.jatui.monitoring;
+
+import jdk.jfr.*;
+
+/**
+ * Java Flight Recorder event spanning a module writing its output.
+ * <br><br>
+ * The size is recorded in characters since encoding to bytes happens later, in the output sink.
+ * Events are only allocated and timed while a recording has this event enabled;
+ * otherwise {@link RenderEvent#begin(String)} returns null.
+ */
+@Name("com.calebleavell.jatui.Render")
+@Label("Render")
+@Category("Jatui")
+@Description("A module writing its output")
+@StackTrace(false)
+public final class RenderEvent extends Event {
+
+    @Label("Module Name")
+    public String moduleName;
+
+    @Label("Characters Written")
+    public long characters;
+
+    /**
+     * Starts timing a render if this event is enabled.
+     *
+     * @param moduleName The name of the module that is writing output.
+     * @return The started event, or null if the event is not enabled.
+     */
+    public static RenderEvent begin(String moduleName) {
+        RenderEvent event = new RenderEvent();
+        if(!event.isEnabled()) return null;
+        event.moduleName = moduleName;
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Ends and commits {@code event}, if it is not null.
+     *
+     * @param event The event returned by {@link RenderEvent#begin(String)}.
+     * @param characters The number of characters written.
+     */
+    public static void end(RenderEvent event, long characters) {
+        if(event == null) return;
+        event.end();
+        event.characters = characters;
+        if(event.shouldCommit()) event.commit();
+    }
+}
@@ -0,0 +1,235 @@
+/*
+    Copyright (c) 2026 Caleb Leavell
+
+    Permission is hereby granted, free of charge, to any person obtaining a copy
+    of this software and associated documentation files (the "Software"), to deal
+    in the Software without restriction, including without limitation the rights
+    to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+    copies of the Software, and to permit persons to whom the Software is
+    furnished to do so, subject to the following conditions:
+
+    The above copyright notice and this permission notice shall be included in all
+    copies or substantial portions of the Software.
+
+    THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+    IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+    FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+    AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+    LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+    OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+    SOFTWARE.
+ */
+
+package com.calebleavell.jatui.monitoring;
+
+import com.calebleavell.jatui.modules.TUIModule;
+
+import java.lang.management.ManagementFactory;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Opt-in accounting of the CPU time and allocated bytes spent on each module, aggregated by module name.
+ * <br><br>
+ * While enabled, the scheduler in {@link TUIModule#start()} measures the current thread's CPU time and allocated bytes
+ * (via {@link com.sun.management.ThreadMXBean}) around each module's {@link TUIModule#doRunLogic()} and each
+ * {@link TUIModule.Builder#build()} of a module it schedules. Results are read via {@link ResourceAccounting#report()},
+ * {@link ResourceAccounting#get(String)}, or {@link ResourceAccounting#toTreeString(TUIModule.Builder)}.
+ * <br><br>
+ * Measurements nest: if a module runs or builds another module (e.g., an input module displaying its prompt),
+ * the nested cost is counted in the totals of both but only in the self values of the nested module.
+ * <br><br>
+ * Allocation or CPU time measurement that is unsupported by the JVM is reported as 0.
+ * This class is thread-safe.
+ */
+public final class ResourceAccounting {
+
+    private static final java.lang.management.ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+    private static final com.sun.management.ThreadMXBean SUN_THREADS =
+            THREADS instanceof com.sun.management.ThreadMXBean sun ? sun : null;
+
+    private static final Map<String, ModuleCost> costs = new ConcurrentHashMap<>();
+    private static final ThreadLocal<Deque<Span>> spans = ThreadLocal.withInitial(ArrayDeque::new);
+    private static volatile boolean enabled = false;
+
+    private ResourceAccounting() {}
+
+    /**
+     * An in-progress measurement, created by {@link ResourceAccounting#begin()}.
+     */
+    public static final class Span {
+        private final long startCpu;
+        private final long startAllocated;
+        private long childCpu = 0;
+        private long childAllocated = 0;
+
+        private Span(long startCpu, long startAllocated) {
+            this.startCpu = startCpu;
+            this.startAllocated = startAllocated;
+        }
+    }
+
+    /**
+     * Starts accounting. Turns on thread CPU time measurement if the JVM supports but has disabled it.
+     */
+    public static void enable() {
+        if(THREADS.isCurrentThreadCpuTimeSupported() && !THREADS.isThreadCpuTimeEnabled())
+            THREADS.setThreadCpuTimeEnabled(true);
+        if(SUN_THREADS != null && SUN_THREADS.isThreadAllocatedMemorySupported() && !SUN_THREADS.isThreadAllocatedMemoryEnabled())
+            SUN_THREADS.setThreadAllocatedMemoryEnabled(true);
+        enabled = true;
+    }
+
+    /**
+     * Stops accounting. Already recorded costs are kept until {@link ResourceAccounting#reset()}.
+     */
+    public static void disable() {
+        enabled = false;
+    }
+
+    /**
+     * @return Whether accounting is enabled.
+     */
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Clears all recorded costs.
+     */
+    public static void reset() {
+        costs.clear();
+    }
+
+    /**
+     * Starts measuring on the current thread.
+     *
+     * @return The started measurement, or null if accounting is disabled.
+     */
+    public static Span begin() {
+        if(!enabled) return null;
+        Span span = new Span(cpuTime(), allocatedBytes());
+        spans.get().push(span);
+        return span;
+    }
+
+    /**
+     * Finishes a measurement of a module's run logic.
+     *
+     * @param span The measurement returned by {@link ResourceAccounting#begin()}. Nothing happens if null.
+     * @param moduleName The name of the module that ran.
+     */
+    public static void endRun(Span span, String moduleName) {
+        end(span, moduleName, true);
+    }
+
+    /**
+     * Finishes a measurement of building a module.
+     *
+     * @param span The measurement returned by {@link ResourceAccounting#begin()}. Nothing happens if null.
+     * @param moduleName The name of the module that was built.
+     */
+    public static void endBuild(Span span, String moduleName) {
+        end(span, moduleName, false);
+    }
+
+    private static void end(Span span, String moduleName, boolean run) {
+        if(span == null) return;
+        long cpu = Math.max(0, cpuTime() - span.startCpu);
+        long allocated = Math.max(0, allocatedBytes() - span.startAllocated);
+
+        // pop through spans left behind by exceptions thrown in nested modules
+        Deque<Span> stack = spans.get();
+        while(!stack.isEmpty() && stack.pop() != span);
+        Span parent = stack.peek();
+        if(parent != null) {
+            parent.childCpu += cpu;
+            parent.childAllocated += allocated;
+        }
+
+        ModuleCost cost = costs.computeIfAbsent(String.valueOf(moduleName), ModuleCost::new);
+        long selfCpu = Math.max(0, cpu - span.childCpu);
+        long selfAllocated = Math.max(0, allocated - span.childAllocated);
+        if(run) cost.addRun(cpu, selfCpu, allocated, selfAllocated);
+        else cost.addBuild(cpu, selfCpu, allocated, selfAllocated);
+    }
+
+    /**
+     * @param moduleName The name of a module.
+     * @return The cost recorded for the module, or null if none has been recorded.
+     */
+    public static ModuleCost get(String moduleName) {
+        return costs.get(moduleName);
+    }
+
+    /**
+     * @return The cost of every module that has been recorded, most expensive (by self CPU time) first.
+     */
+    public static List<ModuleCost> report() {
+        List<ModuleCost> report = new ArrayList<>(costs.values());
+        report.sort(Comparator.comparingLong(ModuleCost::getSelfCpuNanos).reversed()
+                .thenComparing(Comparator.comparingLong(ModuleCost::getSelfAllocatedBytes).reversed())
+                .thenComparing(ModuleCost::getModuleName));
+        return report;
+    }
+
+    /**
+     * Generates a tree of {@code root} and its children (like {@link TUIModule#toTreeString()}) where each
+     * module is annotated with its recorded cost. Automatically caps recursion to 6 levels.
+     *
+     * @param root The module to start from.
+     * @return formatted string
+     */
+    public static String toTreeString(TUIModule.Builder<?> root) {
+        return toTreeString(root, 6);
+    }
+
+    /**
+     * Generates a tree of {@code root} and its children (like {@link TUIModule#toTreeString()}) where each
+     * module is annotated with its recorded cost.
+     *
+     * @param root The module to start from.
+     * @param maxDepth How deep to allow the recursion to go.
+     * @return formatted string
+     */
+    public static String toTreeString(TUIModule.Builder<?> root, int maxDepth) {
+        StringBuilder output = new StringBuilder();
+        toTreeString(root, 0, maxDepth, output);
+        return output.toString();
+    }
+
+    private static void toTreeString(TUIModule.Builder<?> module, int indent, int maxDepth, StringBuilder output) {
+        if(module == null || indent > maxDepth) return;
+
+        output.append("\t".repeat(indent))
+                .append(module.getName()).append(" -- ").append(moduleType(module).getSimpleName());
+
+        ModuleCost cost = costs.get(module.getName());
+        if(cost != null) output.append(" [").append(cost).append(']');
+        output.append(String.format("%n"));
+
+        for(TUIModule.Builder<?> child : module.getChildren()) {
+            toTreeString(child, indent + 1, maxDepth, output);
+        }
+    }
+
+    /**
+     * @param module A module builder.
+     * @return The module class for nested builders (e.g., {@code TextModule} for {@code TextModule.Builder}),
+     * or the builder's own class otherwise (e.g., for templates).
+     */
+    private static Class<?> moduleType(TUIModule.Builder<?> module) {
+        Class<?> type = module.getClass();
+        Class<?> enclosing = type.getEnclosingClass();
+        return enclosing != null && TUIModule.class.isAssignableFrom(enclosing) ? enclosing : type;
+    }
+
+    private static long cpuTime() {
+        return THREADS.isCurrentThreadCpuTimeSupported() ? THREADS.getCurrentThreadCpuTime() : 0;
+    }
+
+    private static long allocatedBytes() {
+        return SUN_THREADS != null && SUN_THREADS.isThreadAllocatedMemorySupported()
+                ? SUN_THREADS.getCurrentThreadAllocatedBytes() : 0;
+    }
+}
@@ -0,0 +1,360 @@
+/*
+    Copyright (c) 2026 Caleb Leavell
+
+    Permission is hereby granted, free of charge, to any person obtaining a copy
+    of this software and associated documentation files (the "Software"), to deal
+    in the Software without restriction, including without limitation the rights
+    to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+    copies of the Software, and to permit persons to whom the Software is
+    furnished to do so, subject to the following conditions:
+
+    The above copyright notice and this permission notice shall be included in all
+    copies or substantial portions of the Software.
+
+    THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+    IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+    FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+    AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+    LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+    OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+    SOFTWARE.
+ */
+
+package com.calebleavell.jatui.monitoring;
+
+import com.calebleavell.jatui.core.RunFrame;
+import com.calebleavell.jatui.modules.TUIModule;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * Detects modules that run for longer than a budget (e.g., a {@code FunctionModule} whose supplier or an input
+ * handler whose logic stalls) and reports them with stack samples of the thread running the module.
+ * <br><br>
+ * The scheduler in {@link TUIModule#start()} publishes the {@link RunFrame} each thread is running while at least
+ * one watchdog is started. A watchdog checks those frames every sample interval on its own daemon thread. Once a
+ * frame has run for longer than the budget, it captures a stack sample every interval (up to
+ * {@value Watchdog#MAX_SAMPLES} per stall) and reports a {@link Stall} for each sample: the first is logged
+ * at warn and the rest at debug, the module's {@link ModuleMetrics#getStalls()} is incremented once per stall,
+ * and the callback (if any) is called with every report.
+ * <br><br>
+ * Time spent waiting for user input is not counted towards the budget.
+ * <br><br>
+ * Example usage:
+ * <pre><code>
+ * try(Watchdog watchdog = new Watchdog(Duration.ofSeconds(2)).start()) {
+ *     app.start();
+ * }
+ * </code></pre>
+ */
+public class Watchdog implements AutoCloseable {
+
+    /** The default time between checks (and stack samples). **/
+    public static final Duration DEFAULT_SAMPLE_INTERVAL = Duration.ofMillis(100);
+
+    /** The maximum number of stack samples kept per stall. **/
+    public static final int MAX_SAMPLES = 32;
+
+    private static final Logger logger = LoggerFactory.getLogger(Watchdog.class);
+
+    /** The watchdogs that are currently started. **/
+    private static final List<Watchdog> started = new CopyOnWriteArrayList<>();
+
+    /** What every scheduling thread is running, while any watchdog is started. **/
+    private static final Map<Thread, Activity> activities = new ConcurrentHashMap<>();
+    private static final ThreadLocal<Activity> localActivity = ThreadLocal.withInitial(() -> new Activity(Thread.currentThread()));
+
+    private final long budgetNanos;
+    private final long intervalNanos;
+    private final Consumer<Stall> onStall;
+    private final LongAdder stalls = new LongAdder();
+    private final Map<Activity, Stall> current = new HashMap<>();
+    private Thread checker;
+
+    /**
+     * What one scheduling thread is running. Only written by that thread.
+     */
+    private static final class Activity {
+        private final Thread thread;
+        /** The frames (and when they began) displaced by nested runs, restored as those runs finish. **/
+        private final Deque<RunFrame> frames = new ArrayDeque<>();
+        private final Deque<Long> starts = new ArrayDeque<>();
+        private int depth = 0;
+        private volatile TUIModule root;
+        private volatile RunFrame frame;
+        private volatile long since;
+        private volatile boolean waitingForInput;
+
+        private Activity(Thread thread) {
+            this.thread = thread;
+        }
+    }
+
+    /**
+     * Creates a watchdog with the default sample interval and no callback. It must be started via {@link Watchdog#start()}.
+     *
+     * @param budget How long a module may run before it is reported.
+     */
+    public Watchdog(Duration budget) {
+        this(budget, DEFAULT_SAMPLE_INTERVAL, null);
+    }
+
+    /**
+     * Creates a watchdog. It must be started via {@link Watchdog#start()}.
+     *
+     * @param budget How long a module may run before it is reported.
+     * @param sampleInterval How often running modules are checked, and how often stalled ones are sampled.
+     * @param onStall Called with a report for every stack sample of a stalled module. May be null.
+     */
+    public Watchdog(Duration budget, Duration sampleInterval, Consumer<Stall> onStall) {
+        this.budgetNanos = Objects.requireNonNull(budget, "budget cannot be null").toNanos();
+        this.intervalNanos = Objects.requireNonNull(sampleInterval, "sampleInterval cannot be null").toNanos();
+        if(budgetNanos < 0) throw new IllegalArgumentException("budget cannot be negative");
+        if(intervalNanos <= 0) throw new IllegalArgumentException("sampleInterval must be positive");
+        this.onStall = onStall;
+    }
+
+    /**
+     * Starts checking running modules on a daemon thread. Does nothing if already started.
+     *
+     * @return self
+     */
+    public synchronized Watchdog start() {
+        if(checker != null) return this;
+        checker = new Thread(this::check, "jatui-watchdog");
+        checker.setDaemon(true);
+        started.add(this);
+        checker.start();
+        return this;
+    }
+
+    /**
+     * Stops checking running modules and waits for the checking thread to exit.
+     */
+    @Override
+    public synchronized void close() {
+        if(checker == null) return;
+        started.remove(this);
+        checker.interrupt();
+        try {
+            checker.join();
+        }
+        catch(InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        checker = null;
+        if(started.isEmpty()) activities.clear();
+    }
+
+    /**
+     * @return Whether this watchdog is started.
+     */
+    public synchronized boolean isStarted() {
+        return checker != null;
+    }
+
+    /**
+     * @return How many stalls this watchdog has detected.
+     */
+    public long getStallCount() {
+        return stalls.sum();
+    }
+
+    /**
+     * Called by the scheduler before it runs a frame on the current thread.
+     * Does nothing unless a watchdog is started.
+     *
+     * @param root The module the scheduler was started from.
+     * @param frame The frame about to run.
+     * @return Whether the frame is tracked, in which case {@link Watchdog#exit()} must be called after it runs.
+     */
+    public static boolean enter(TUIModule root, RunFrame frame) {
+        if(started.isEmpty()) return false;
+        Activity activity = localActivity.get();
+        if(activity.depth == 0) {
+            activity.root = root;
+            activity.waitingForInput = false;
+            activities.put(activity.thread, activity);
+        }
+        else {
+            activity.frames.push(activity.frame);
+            activity.starts.push(activity.since);
+        }
+        activity.depth ++;
+        activity.since = System.nanoTime();
+        activity.frame = frame;
+        return true;
+    }
+
+    /**
+     * Called by the scheduler after a frame tracked by {@link Watchdog#enter(TUIModule, RunFrame)} has run.
+     */
+    public static void exit() {
+        Activity activity = localActivity.get();
+        activity.depth --;
+        if(activity.depth <= 0) {
+            activity.depth = 0;
+            activity.frames.clear();
+            activity.starts.clear();
+            activity.frame = null;
+            activity.root = null;
+            activities.remove(activity.thread);
+            return;
+        }
+        activity.since = activity.starts.pop();
+        activity.frame = activity.frames.pop();
+    }
+
+    /**
+     * Marks the current thread as waiting for (or done waiting for) user input, which doesn't count towards the budget.
+     * Once done waiting, the budget of the running module restarts.
+     *
+     * @param waiting Whether the thread is about to wait for input.
+     */
+    public static void waitingForInput(boolean waiting) {
+        if(started.isEmpty()) return;
+        Activity activity = localActivity.get();
+        if(!waiting) activity.since = System.nanoTime();
+        activity.waitingForInput = waiting;
+    }
+
+    /**
+     * Checks every running module each interval until interrupted.
+     */
+    private void check() {
+        while(!Thread.currentThread().isInterrupted()) {
+            try {
+                TimeUnit.NANOSECONDS.sleep(intervalNanos);
+            }
+            catch(InterruptedException e) {
+                return;
+            }
+
+            long now = System.nanoTime();
+            current.keySet().removeIf(a -> activities.get(a.thread) != a);
+            for(Activity activity : activities.values()) {
+                RunFrame frame = activity.frame;
+                long since = activity.since;
+                if(frame == null || activity.waitingForInput || now - since <= budgetNanos) {
+                    current.remove(activity);
+                    continue;
+                }
+
+                Stall stall = current.get(activity);
+                if(stall == null || stall.frame != frame || stall.since != since) {
+                    stall = new Stall(activity.thread, frame, since, branchOf(activity.root));
+                    current.put(activity, stall);
+                    stalls.increment();
+                    frame.module.getMetrics().recordStall();
+                }
+                else if(stall.samples.size() >= MAX_SAMPLES) continue;
+
+                stall.samples.add(activity.thread.getStackTrace());
+                report(stall.copy(now));
+            }
+        }
+    }
+
+    private void report(Stall stall) {
+        if(stall.getSamples().size() == 1)
+            logger.warn("module \"{}\" has been running for {}ms (budget {}ms) on thread \"{}\": {}",
+                    stall.getModuleName(), stall.getElapsed().toMillis(), TimeUnit.NANOSECONDS.toMillis(budgetNanos),
+                    stall.getThreadName(), stall);
+        else
+            logger.debug("module \"{}\" still running after {}ms: {}", stall.getModuleName(), stall.getElapsed().toMillis(), stall);
+
+        if(onStall == null) return;
+        try {
+            onStall.accept(stall);
+        }
+        catch(RuntimeException e) {
+            logger.error("watchdog callback threw \"{}\": {}", e.getClass().getSimpleName(), e.getMessage());
+        }
+    }
+
+    /**
+     * Reads the running branch from another thread. The branch may be inconsistent if it changes while being read.
+     */
+    private static List<String> branchOf(TUIModule root) {
+        if(root == null) return List.of();
+        try {
+            return root.getCurrentRunningBranch().stream().map(TUIModule::getName).toList();
+        }
+        catch(RuntimeException e) {
+            return List.of(root.getName());
+        }
+    }
+
+    /**
+     * A report of a module running for longer than a {@link Watchdog}'s budget.
+     */
+    public static class Stall {
+        private final Thread thread;
+        private final RunFrame frame;
+        private final long since;
+        private final List<String> branch;
+        private final List<StackTraceElement[]> samples;
+        private final Duration elapsed;
+
+        private Stall(Thread thread, RunFrame frame, long since, List<String> branch) {
+            this(thread, frame, since, branch, new ArrayList<>(), Duration.ZERO);
+        }
+
+        private Stall(Thread thread, RunFrame frame, long since, List<String> branch, List<StackTraceElement[]> samples, Duration elapsed) {
+            this.thread = thread;
+            this.frame = frame;
+            this.since = since;
+            this.branch = branch;
+            this.samples = samples;
+            this.elapsed = elapsed;
+        }
+
+        private Stall copy(long now) {
+            return new Stall(thread, frame, since, branch, List.copyOf(samples), Duration.ofNanos(now - since));
+        }
+
+        /** @return The name of the thread the module is running on. **/
+        public String getThreadName() {return thread.getName();}
+
+        /** @return The frame that is running. **/
+        public RunFrame getFrame() {return frame;}
+
+        /** @return The name of the module that is running. **/
+        public String getModuleName() {return frame.module.getName();}
+
+        /** @return The names of the modules in the running branch, from the module the scheduler was started from. **/
+        public List<String> getBranch() {return branch;}
+
+        /** @return How long the module had been running when the latest sample was taken. **/
+        public Duration getElapsed() {return elapsed;}
+
+        /** @return The stack samples taken so far, oldest first. **/
+        public List<StackTraceElement[]> getSamples() {return samples;}
+
+        /**
+         * Format: "branch: [{@code <branch>}] | elapsed: {@code <elapsed>}ms | samples: {@code <n>}",
+         * followed by the latest stack sample, one frame per line.
+         *
+         * @return the formatted string
+         */
+        @Override
+        public String toString() {
+            StringBuilder output = new StringBuilder(String.format("branch: %s | elapsed: %dms | samples: %d",
+                    branch, elapsed.toMillis(), samples.size()));
+            if(!samples.isEmpty()) {
+                for(StackTraceElement element : samples.getLast()) {
+                    output.append(String.format("%n\tat ")).append(element);
+                }
+            }
+            return output.toString();
+        }
+    }
+}
@@ -0,0 +1,220 @@
+/*
+    Copyright (c) 2026 Caleb Leavell
+
+    Permission is hereby granted, free of charge, to any person obtaining a copy
+    of this software and associated documentation files (the "Software"), to deal
+    in the Software without restriction, including without limitation the rights
+    to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+    copies of the Software, and to permit persons to whom the Software is
+    furnished to do so, subject to the following conditions:
+
+    The above copyright notice and this permission notice shall be included in all
+    copies or substantial portions of the Software.
+
+    THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+    IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+    FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+    AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+    LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+    OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+    SOFTWARE.
+ */
+
+package com.calebleavell.jatui.templates;
+
+import com.calebleavell.jatui.modules.ApplicationModule;
+import com.calebleavell.jatui.util.MappedFile;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Objects;
+
+/**
+ * Handles displaying a (possibly very large) text file one page at a time.
+ * <br><br>
+ * The file is read through a {@link MappedFile}, so opening it is instant and almost no heap is used:
+ * only the lines of the current page are decoded, and searches run directly over the mapped bytes.
+ * The line count is displayed once the background indexing of the file finishes.
+ * <br><br>
+ * In addition to the commands provided by {@link PagedList#navigable(ApplicationModule)}, the user
+ * may enter {@code /text} to move to the next page containing {@code text}, or {@code /} to repeat the last search.
+ * <br><br>
+ * Example usage:
+ * <pre><code>
+ * ApplicationModule app = ApplicationModule.builder("app").build();
+ *
+ * FilePager pager = FilePager.builder("log", Path.of("server.log"))
+ *         .pageSize(40)
+ *         .navigable(app);
+ *
+ * app.setHome(pager);
+ * app.start();
+ * </code></pre>
+ */
+public class FilePager extends PagedList {
+
+    /** The file being displayed. **/
+    private MappedFile file;
+
+    /** The most recent search, repeated when the user enters {@code /}. **/
+    private String lastSearch;
+
+    protected FilePager(String name, MappedFile file) {
+        super(name, i -> file.line(i), () -> file.isIndexed() ? (int) Math.min(file.lineCount(), Integer.MAX_VALUE) : -1);
+        this.file = file;
+    }
+
+    /**
+     * Constructs a new {@link FilePager} builder that displays an already opened file.
+     *
+     * @param name The name of the builder.
+     * @param file The file to display.
+     * @return The new builder.
+     */
+    public static FilePager builder(String name, MappedFile file) {
+        Objects.requireNonNull(file, "file cannot be null");
+        return new FilePager(name, file);
+    }
+
+    /**
+     * Constructs a new {@link FilePager} builder that maps and displays a UTF-8 text file.
+     *
+     * @param name The name of the builder.
+     * @param path The file to display.
+     * @return The new builder.
+     * @throws IOException If the file can't be opened or mapped.
+     */
+    public static FilePager builder(String name, Path path) throws IOException {
+        return new FilePager(name, MappedFile.open(path));
+    }
+
+    protected FilePager() {
+        super();
+    }
+
+    /**
+     * Gets a fresh instance of this type of Builder.
+     *  Note, this is intended only for copying utility and may have unknown consequences if used in other ways.
+     * @return A fresh, empty instance.
+     */
+    @Override
+    protected FilePager createInstance() {
+        return new FilePager();
+    }
+
+    /**
+     * Copies {@code file} and {@code lastSearch},
+     * and delegates to {@link PagedList#shallowCopy(PagedList)}.
+     * @param original The builder to copy from.
+     */
+    @Override
+    public void shallowCopy(PagedList original) {
+        if(original instanceof FilePager pager) {
+            this.file = pager.file;
+            this.lastSearch = pager.lastSearch;
+        }
+        super.shallowCopy(original);
+    }
+
+    /** See {@link PagedList#pageSize(int)}. **/
+    @Override
+    public FilePager pageSize(int pageSize) {
+        super.pageSize(pageSize);
+        return this;
+    }
+
+    /** See {@link PagedList#start(int)}. **/
+    @Override
+    public FilePager start(int start) {
+        super.start(start);
+        return this;
+    }
+
+    /** See {@link PagedList#navigable(ApplicationModule)}. **/
+    @Override
+    public FilePager navigable(ApplicationModule app) {
+        super.navigable(app);
+        return this;
+    }
+
+    /** See {@link PagedList#navigable(ApplicationModule, String)}. **/
+    @Override
+    public FilePager navigable(ApplicationModule app, String prompt) {
+        super.navigable(app, prompt);
+        return this;
+    }
+
+    /** See {@link PagedList#nextPage()}. **/
+    @Override
+    public FilePager nextPage() {
+        super.nextPage();
+        return this;
+    }
+
+    /** See {@link PagedList#previousPage()}. **/
+    @Override
+    public FilePager previousPage() {
+        super.previousPage();
+        return this;
+    }
+
+    /** See {@link PagedList#jumpTo(int)}. **/
+    @Override
+    public FilePager jumpTo(int page) {
+        super.jumpTo(page);
+        return this;
+    }
+
+    /**
+     * @return The file being displayed.
+     */
+    public MappedFile getFile() {
+        return file;
+    }
+
+    /**
+     * Moves to the first page after the current one that contains {@code text}.
+     *
+     * @param text The text to search for.
+     * @return Whether a match was found. If not, the page is unchanged.
+     */
+    public boolean search(String text) {
+        lastSearch = text;
+        long from = (long) (getPage() + 1) * getPageSize();
+        long match = file.find(text, from);
+        logger.debug("searched \"{}\" from line {} of FilePager \"{}\": {}", text, from, getName(), match);
+        if(match < 0 || match / getPageSize() > Integer.MAX_VALUE) return false;
+        jumpTo((int) (match / getPageSize()));
+        return true;
+    }
+
+    /**
+     * Handles {@code /text} and {@code /} (see {@link FilePager}), and delegates everything else to
+     * {@link PagedList#handleCommand(String)}.
+     */
+    @Override
+    protected boolean handleCommand(String command) {
+        if(!command.startsWith("/")) return super.handleCommand(command);
+
+        String text = command.length() > 1 ? command.substring(1) : lastSearch;
+        if(text == null) throw new IllegalArgumentException("No previous search");
+        if(!search(text)) getPrintStream().println("Not found: " + text);
+        return true;
+    }
+
+    /**
+     * Checks equality for properties given by the builder. For {@link FilePager}, this includes
+     * the path of {@code file},
+     * as well as other requirements provided by {@link PagedList#shallowStructuralEquals(PagedList, PagedList)}.
+     */
+    @Override
+    public boolean shallowStructuralEquals(PagedList first, PagedList second) {
+        if(first == second) return true;
+        if(first == null || second == null) return false;
+
+        if(first instanceof FilePager firstPager && second instanceof FilePager secondPager
+                && !Objects.equals(firstPager.file.getPath(), secondPager.file.getPath())) return false;
+
+        return super.shallowStructuralEquals(first, second);
+    }
+}
@@ -0,0 +1,218 @@
+/*
+    Copyright (c) 2026 Caleb Leavell
+
+    Permission is hereby granted, free of charge, to any person obtaining a copy
+    of this software and associated documentation files (the "Software"), to deal
+    in the Software without restriction, including without limitation the rights
+    to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+    copies of the Software, and to permit persons to whom the Software is
+    furnished to do so, subject to the following conditions:
+
+    The above copyright notice and this permission notice shall be included in all
+    copies or substantial portions of the Software.
+
+    THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+    IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+    FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+    AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+    LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+    OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+    SOFTWARE.
+ */
+
+package com.calebleavell.jatui.templates;
+
+import com.calebleavell.jatui.modules.*;
+import com.calebleavell.jatui.util.ScreenBuffer;
+
+import java.io.PrintStream;
+import java.util.Map;
+
+/**
+ * Handles drawing modules into fixed regions of the terminal and repainting only what changed.
+ * <br><br>
+ * Every time this module runs, it blanks its {@link ScreenBuffer}, runs the modules added via
+ * {@link FullScreen#region(int, int, int, int, TUIModule.Builder)} (each of which prints into its own rectangle of
+ * the screen instead of the terminal), and then paints the difference between the new frame and the previous one.
+ * Restarting it to refresh a dashboard therefore only sends the cells that changed, instead of scrolling and reprinting
+ * every line.
+ * <br><br>
+ * After painting, the cursor is left below the screen, so modules that run afterward (such as a
+ * {@link TextInputModule}) print underneath it. If ANSI is disabled via {@link TUIModule.Builder#enableAnsi(boolean)},
+ * the whole screen is printed as plain lines instead.
+ * <br><br>
+ * Example usage:
+ * <pre><code>
+ * FullScreen dashboard = FullScreen.builder("dashboard", 80, 24)
+ *         .region(0, 0, 80, 1, TextModule.builder("title", "Status").style(ansi().bold()))
+ *         .region(2, 0, 40, 20, NumberedList.builder("jobs").addListText(jobs))
+ *         .region(2, 40, 40, 20, TextModule.builder("load", "load").outputType(TextModule.OutputType.DISPLAY_APP_STATE));
+ * </code></pre>
+ */
+public class FullScreen extends ModuleTemplate<FullScreen> {
+
+    /** The virtual screen that regions draw into. Shared with copies, since the regions' print streams write into it. **/
+    private ScreenBuffer screen;
+
+    /** Blanks the screen before the regions draw. **/
+    private FunctionModule.Builder clear;
+
+    /** Paints the screen after the regions draw. **/
+    private FunctionModule.Builder render;
+
+    /** The number of characters written by the most recent paint. **/
+    private int lastFrameSize = 0;
+
+    protected FullScreen(String name, int width, int height) {
+        super(FullScreen.class, name);
+        screen = new ScreenBuffer(width, height);
+        // the functions are pointed at this builder by build(), so this doesn't escape the constructor
+        clear = FunctionModule.builder(name + "-clear", () -> {});
+        render = FunctionModule.builder(name + "-render", () -> {});
+        main.addChild(clear);
+        main.addChild(render);
+    }
+
+    /**
+     * Constructs a new {@link FullScreen} builder.
+     *
+     * @param name The name of the builder.
+     * @param width The number of columns of the screen.
+     * @param height The number of rows of the screen.
+     * @return The new builder.
+     */
+    public static FullScreen builder(String name, int width, int height) {
+        return new FullScreen(name, width, height);
+    }
+
+    protected FullScreen() {
+        super(FullScreen.class);
+    }
+
+    /**
+     * Gets a fresh instance of this type of Builder.
+     *  Note, this is intended only for copying utility and may have unknown consequences if used in other ways.
+     * @return A fresh, empty instance.
+     */
+    @Override
+    protected FullScreen createInstance() {
+        return new FullScreen();
+    }
+
+    /**
+     * Copies {@code screen} (by reference) and delegates to {@link TUIModule.Builder#shallowCopy(TUIModule.Builder)}.
+     * @param original The builder to copy from.
+     */
+    @Override
+    public void shallowCopy(FullScreen original) {
+        this.screen = original.screen;
+        super.shallowCopy(original);
+    }
+
+    /**
+     * Copies all data of {@code original} into this module, including a deep copy
+     * of all children.
+     *
+     * @param original The module to copy from.
+     * @param visited All children that have already been deep-copied.
+     * @return The instance that was copied into (self if {@code original} hasn't been visited yet).
+     *
+     * @implNote
+     * Re-assigns {@code clear} and {@code render} to their copies ({@link FullScreen#build()} points them at this builder).
+     */
+    @Override
+    protected FullScreen deepCopy(FullScreen original, Map<TUIModule.Builder<?>, TUIModule.Builder<?>> visited) {
+        FullScreen result = super.deepCopy(original, visited);
+
+        if(result == this) {
+            clear = (FunctionModule.Builder) visited.get(original.clear);
+            render = (FunctionModule.Builder) visited.get(original.render);
+        }
+
+        return result;
+    }
+
+    /**
+     * Points the {@link FunctionModule}s that clear and paint the screen at this builder, then builds it.
+     *
+     * @return The built module.
+     */
+    @Override
+    public ContainerModule build() {
+        clear.function(this::clearScreen);
+        render.function(this::renderScreen);
+        return super.build();
+    }
+
+    /**
+     * Adds a module that draws into a rectangle of the screen. The module's print stream is set to the region's
+     * (see {@link ScreenBuffer.Region#getPrintStream()}), so everything it and its children print is drawn
+     * into the region rather than the terminal. Modules run in the order they're added.
+     *
+     * @param row The zero-based row of the top-left cell.
+     * @param col The zero-based column of the top-left cell.
+     * @param width The number of columns.
+     * @param height The number of rows.
+     * @param module The module to draw.
+     * @return self
+     */
+    public FullScreen region(int row, int col, int width, int height, TUIModule.Builder<?> module) {
+        logger.trace("adding region for \"{}\" to FullScreen \"{}\"", module.getName(), getName());
+        ScreenBuffer.Region region = screen.region(row, col, width, height);
+        module.printStream(region.getPrintStream());
+        main.addChild(main.getChildren().size() - 1, module);
+        return self();
+    }
+
+    /**
+     * Forces the next run to clear the terminal and repaint every cell
+     * (see {@link ScreenBuffer#invalidate()}).
+     * @return self
+     */
+    public FullScreen invalidate() {
+        screen.invalidate();
+        return self();
+    }
+
+    /**
+     * @return The virtual screen the regions draw into.
+     */
+    public ScreenBuffer getScreen() {
+        return screen;
+    }
+
+    /**
+     * @return The number of characters written by the most recent paint.
+     */
+    public int getLastFrameSize() {
+        return lastFrameSize;
+    }
+
+    private void clearScreen() {
+        screen.clear();
+    }
+
+    private void renderScreen() {
+        PrintStream out = getPrintStream();
+        if(getAnsiEnabled()) {
+            lastFrameSize = screen.render(out);
+            logger.debug("painted {} characters for FullScreen \"{}\"", lastFrameSize, getName());
+        }
+        else screen.renderPlain(out);
+    }
+
+    /**
+     * Checks equality for properties given by the builder. For {@link FullScreen}, this includes
+     * the size of the screen,
+     * as well as other requirements provided by {@link TUIModule.Builder#shallowStructuralEquals(TUIModule.Builder, TUIModule.Builder)}.
+     */
+    @Override
+    public boolean shallowStructuralEquals(FullScreen first, FullScreen second) {
+        if(first == second) return true;
+        if(first == null || second == null) return false;
+
+        return  first.screen.getWidth() == second.screen.getWidth() &&
+                first.screen.getHeight() == second.screen.getHeight() &&
+                super.shallowStructuralEquals(first, second);
+    }
+}
@@ -22,6 +22,10 @@
 package com.calebleavell.jatui.templates;
 
 import com.calebleavell.jatui.modules.*;
+import com.calebleavell.jatui.monitoring.EventLog;
+import com.calebleavell.jatui.monitoring.HandlerEvent;
+import com.calebleavell.jatui.monitoring.MetricsRegistry;
+import com.calebleavell.jatui.monitoring.ModuleMetrics;
 
 import java.util.Objects;
 import java.util.function.Consumer;
@@ -85,6 +89,12 @@ public class InputHandler extends ModuleTemplate<InputHandler> {
      **/
     private String moduleName;
 
+    /**
+     * Whether the children of {@code main} hold the handler for the current configuration, so building again
+     * doesn't have to replace them. Not copied, since the built handler refers to the builder that built it.
+     **/
+    private boolean handlerBuilt = false;
+
     /**
      * Specifies how to build the handler.
      */
@@ -223,6 +233,7 @@ public class InputHandler extends ModuleTemplate<InputHandler> {
     public InputHandler handler(FunctionModule.Builder handler) {
         this.handlerType = InputHandler.HandlerType.MODULE;
         this.module = handler;
+        this.handlerBuilt = false;
         return self();
     }
 
@@ -242,6 +253,7 @@ public class InputHandler extends ModuleTemplate<InputHandler> {
         this.handlerType = InputHandler.HandlerType.HANDLER;
         this.moduleName = name;
         this.logic = logic;
+        this.handlerBuilt = false;
         return self();
     }
 
@@ -264,6 +276,7 @@ public class InputHandler extends ModuleTemplate<InputHandler> {
         this.moduleName = name;
         this.logic = logic;
         this.exceptionHandler = exceptionHandler;
+        this.handlerBuilt = false;
         return self();
     }
 
@@ -303,6 +316,7 @@ public class InputHandler extends ModuleTemplate<InputHandler> {
      * @return self
      */
     private InputHandler addHandler(String name, Function<String, ?> logic) {
+        ModuleMetrics metrics = MetricsRegistry.global().module(FunctionModule.class, name);
         FunctionModule.Builder handler = FunctionModule.builder(name, () -> {
             ApplicationModule app = this.getApplication();
             if(app == null) {
@@ -310,8 +324,8 @@ public class InputHandler extends ModuleTemplate<InputHandler> {
                 return null;
             }
             String input = app.getInput(inputName, String.class);
-            logger.info("running logic on handler \"{}\" with input \"{}\"", name, input);
-            return logic.apply(input);
+            EventLog.handlerRun(name, input);
+            return runHandler(app, name, metrics, logic, input);
         }).application(getApplication());
         main.addChild(handler);
         checkForHandlerDuplicates(name);
@@ -337,6 +351,7 @@ public class InputHandler extends ModuleTemplate<InputHandler> {
      * @return self
      */
     private <T> InputHandler addSafeHandler(String name, Function<String, T> logic, Consumer<String> exceptionHandler) {
+        ModuleMetrics metrics = MetricsRegistry.global().module(FunctionModule.class, name);
         FunctionModule.Builder handler = FunctionModule.builder(name, () -> {
             ApplicationModule app = this.getApplication();
             if(app == null) {
@@ -344,10 +359,13 @@ public class InputHandler extends ModuleTemplate<InputHandler> {
                 return null;
             }
             String input = app.getInput(inputName, String.class);
-            logger.debug("running logic on safe handler \"{}\" with input \"{}\"", name, input);
-            T converted;
+            EventLog.handlerRun(name, input);
             try {
-                converted = logic.apply(input);
+                return runHandler(app, name, metrics, logic, input);
+            }
+            catch(QuotaExceededException e) {
+                // quota violations end the run instead of being recovered from
+                throw e;
             }
             catch(RuntimeException e) {
                 logger.debug("caught exception \"{}\" for safe handler \"{}\": \"{}\"", e.getClass().getSimpleName(), name, e.getMessage());
@@ -356,13 +374,44 @@ public class InputHandler extends ModuleTemplate<InputHandler> {
                 // revert to last
                 return app.getInput(name);
             }
-            return converted;
         }).application(getApplication());
         main.addChild(handler);
         checkForHandlerDuplicates(name);
         return self();
     }
 
+    /**
+     * Runs {@code logic} on {@code input} for the handler {@code name}, recording how long it took (and whether it threw)
+     * into {@code metrics} and a {@link HandlerEvent}, and then checking the application's handler CPU quota.
+     * The quota isn't checked if {@code logic} itself exceeded a quota.
+     *
+     * @return What {@code logic} returned.
+     */
+    private <T> T runHandler(ApplicationModule app, String name, ModuleMetrics metrics, Function<String, T> logic, String input) {
+        HandlerEvent event = HandlerEvent.begin(name, inputName);
+        long start = System.nanoTime();
+        long cpuStart = app.startHandlerCpuTimer();
+        boolean failed = true;
+        T result;
+        try {
+            result = logic.apply(input);
+            failed = false;
+        }
+        catch(QuotaExceededException e) {
+            throw e;
+        }
+        catch(RuntimeException e) {
+            app.checkHandlerCpuTime(name, cpuStart);
+            throw e;
+        }
+        finally {
+            metrics.recordProcessing(System.nanoTime() - start, failed);
+            HandlerEvent.end(event, failed);
+        }
+        app.checkHandlerCpuTime(name, cpuStart);
+        return result;
+    }
+
     /**
      * Logs an error at build-time if multiple modules have names that
      * collide with the name of the input to handle.
@@ -370,7 +419,7 @@ public class InputHandler extends ModuleTemplate<InputHandler> {
      * @param name The name of the input that's being handled.
      */
     private void checkForHandlerDuplicates(String name) {
-        if(TUIModule.Builder.usedNames.get(name) >= 2)
+        if(TUIModule.Builder.usedNames.getOrDefault(name, 0) >= 2)
             logger.error("Duplicate names detected: Input Handler \"{}\" is attempting to handle \"{}\", but {} modules have that name.",
                     this.name, name, TUIModule.Builder.usedNames.get(name) - 1);
     }
@@ -398,8 +447,12 @@ public class InputHandler extends ModuleTemplate<InputHandler> {
      * @return The built {@link InputHandler}.
      *
      * @implNote Clears the children first to ensure consistency when building multiple times.
+     * The children are only replaced the first time and after the handler is reconfigured, so building
+     * again (e.g., every time the input is collected) doesn't change the structure of the application.
      */
     public ContainerModule build() {
+        if(handlerBuilt) return super.build();
+
         if(handlerType == InputHandler.HandlerType.HANDLER || handlerType == InputHandler.HandlerType.SAFE_HANDLER) {
             for(TUIModule.Builder<?> child : main.getChildren()) {
                 child.name(""); //prevent duplicate name warning
@@ -413,6 +466,7 @@ public class InputHandler extends ModuleTemplate<InputHandler> {
             case HANDLER -> addHandler(moduleName, logic);
             case SAFE_HANDLER -> addSafeHandler(moduleName, logic, exceptionHandler);
         }
+        handlerBuilt = true;
 
         return super.build();
     }
@@ -24,6 +24,7 @@ package com.calebleavell.jatui.templates;
 
 import com.calebleavell.jatui.modules.ModuleTemplate;
 import com.calebleavell.jatui.modules.TUIModule;
+import org.fusesource.jansi.Ansi;
 
 import java.util.Objects;
 
@@ -51,6 +52,9 @@ import static org.fusesource.jansi.Ansi.ansi;
  */
 public class NumberedList extends ModuleTemplate<NumberedList> {
 
+    /** The style of the identifier of every list item. Only read, never given to a builder. **/
+    private static final Ansi BOLD = ansi().bold();
+
     /** The value of the identifier of the first list item (e.g., "[5] item"). **/
     private int start = 1;
 
@@ -113,7 +117,7 @@ public class NumberedList extends ModuleTemplate<NumberedList> {
         int currentNum = (i * step) + start;
         main.addChild(
                 TextChain.builder(name + "-" + currentNum)
-                        .addText("[" + currentNum + "] ", ansi().bold())
+                        .addStyledText("[" + currentNum + "] ", BOLD)
                         .addText(listText)
                         .newLine());
         i ++;
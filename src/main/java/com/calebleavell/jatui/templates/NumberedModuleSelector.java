@@ -24,10 +24,14 @@ package com.calebleavell.jatui.templates;
 
 import com.calebleavell.jatui.core.DirectedGraphNode;
 import com.calebleavell.jatui.modules.*;
+import com.calebleavell.jatui.util.PrefixIndex;
 
+import java.io.PrintStream;
 import java.util.ArrayList;
 import java.util.List;
 
+import static org.fusesource.jansi.Ansi.ansi;
+
 /**
  * Handles navigating to a module based on a user's decision.
  * <br><br>
@@ -51,6 +55,10 @@ import java.util.List;
  * Hello
  * Exiting...
  * </pre>
+ * <br>
+ * For menus with many options, {@link NumberedModuleSelector#filterable()} lets the user type part of an
+ * option's label instead of a number. Only the matching options are displayed (with their original numbers),
+ * and the user is asked for their choice again.
  */
 public class NumberedModuleSelector extends ModuleTemplate<NumberedModuleSelector> {
     /**
@@ -63,6 +71,21 @@ public class NumberedModuleSelector extends ModuleTemplate<NumberedModuleSelecto
      */
     private NumberedList list;
 
+    /**
+     * The display text of every option, in the same order as {@code modules}.
+     */
+    private final List<String> labels = new ArrayList<>();
+
+    /**
+     * Whether non-numeric input is treated as a search over {@code labels}.
+     */
+    private boolean filterable = false;
+
+    /**
+     * The index used to search {@code labels}. Built when first searched, and discarded when a module is added.
+     */
+    private PrefixIndex index;
+
     /**
      * Constructor for {@link NumberedModuleSelector}.
      *
@@ -76,6 +99,11 @@ public class NumberedModuleSelector extends ModuleTemplate<NumberedModuleSelecto
         TextInputModule.Builder collectInput = TextInputModule.builder(name + "-input", "Your choice: ")
                 .application(app)
                 .addSafeHandler(name + "-goto-module", input -> {
+                    if(filterable && !isNumber(input)) {
+                        displayMatches(input);
+                        app.restartChild(getName() + "-input");
+                        return "Displayed matching modules";
+                    }
                     int index = Integer.parseInt(input);
                     NameOrModule nameOrModule = modules.get(index - 1);
                     TUIModule.Builder<?> toRun = nameOrModule.getModule(app);
@@ -122,6 +150,8 @@ public class NumberedModuleSelector extends ModuleTemplate<NumberedModuleSelecto
         for(NameOrModule m : original.modules) {
             this.modules.add(m.getCopy());
         }
+        this.labels.addAll(original.labels);
+        this.filterable = original.filterable;
         this.list = original.list.getCopy();
         super.shallowCopy(original);
     }
@@ -136,6 +166,8 @@ public class NumberedModuleSelector extends ModuleTemplate<NumberedModuleSelecto
     private NumberedModuleSelector addModule(String displayText, NameOrModule module){
         logger.trace("adding module with displayText \"{}\" to NumberedModuleSelector \"{}\"", displayText, getName());
         this.modules.add(module);
+        this.labels.add(displayText);
+        this.index = null;
         list.addListText(displayText);
         return self();
     }
@@ -193,9 +225,94 @@ public class NumberedModuleSelector extends ModuleTemplate<NumberedModuleSelecto
         return addModule(module.getName(), module);
     }
 
+    /**
+     * Lets the user type part of an option's label instead of its number. Each word typed is matched against
+     * the start of the words in every label (case-insensitive), and only the options matching every word are displayed,
+     * numbered as they are in the full list. The user is then asked for their choice again.
+     * <br><br>
+     * Searches are backed by a {@link PrefixIndex}, so they stay fast for menus with hundreds of options.
+     *
+     * @return self
+     */
+    public NumberedModuleSelector filterable() {
+        return filterable(true);
+    }
+
+    /**
+     * Sets whether the user may type part of an option's label instead of its number.
+     * See {@link NumberedModuleSelector#filterable()}.
+     *
+     * @param filterable Whether non-numeric input searches the options.
+     * @return self
+     */
+    public NumberedModuleSelector filterable(boolean filterable) {
+        logger.trace("setting filterable to {} for NumberedModuleSelector \"{}\"", filterable, getName());
+        this.filterable = filterable;
+        return self();
+    }
+
+    /**
+     * @return Whether non-numeric input searches the options (see {@link NumberedModuleSelector#filterable()}).
+     */
+    public boolean isFilterable() {
+        return filterable;
+    }
+
+    /**
+     * Finds the options whose labels match {@code query} (see {@link NumberedModuleSelector#filterable()}).
+     *
+     * @param query The words to search for.
+     * @return The zero-based indices of the matching options, in ascending order.
+     */
+    public int[] search(String query) {
+        if(index == null) {
+            logger.debug("building search index for NumberedModuleSelector \"{}\"", getName());
+            index = new PrefixIndex();
+            for(String label : labels) index.add(label);
+        }
+        return index.search(query);
+    }
+
+    /**
+     * Displays the options matching {@code query} in the same format as {@link NumberedList}.
+     *
+     * @param query The words to search for.
+     */
+    private void displayMatches(String query) {
+        int[] matches = search(query);
+        logger.debug("{} options match \"{}\" for NumberedModuleSelector \"{}\"", matches.length, query, getName());
+
+        PrintStream out = getPrintStream();
+        if(matches.length == 0) {
+            out.println("No options match \"" + query.strip() + "\"");
+            return;
+        }
+
+        for(int match : matches) {
+            if(getAnsiEnabled()) out.print(ansi().bold());
+            out.print("[" + (match + 1) + "] ");
+            if(getAnsiEnabled()) out.print(ansi().reset());
+            out.println(labels.get(match));
+        }
+    }
+
+    /**
+     * @param input The input to check.
+     * @return Whether {@code input} is an optionally signed integer.
+     */
+    private static boolean isNumber(String input) {
+        if(input.isEmpty()) return false;
+        int start = (input.charAt(0) == '-' || input.charAt(0) == '+') ? 1 : 0;
+        if(start == input.length()) return false;
+        for(int i = start; i < input.length(); i++) {
+            if(!Character.isDigit(input.charAt(i))) return false;
+        }
+        return true;
+    }
+
     /**
      * Checks equality for properties given by the builder. For {@link NumberedModuleSelector}, this includes
-     * {@code modules},
+     * {@code modules}, {@code labels}, {@code filterable},
      * as well as other requirements provided by {@link TUIModule.Builder#shallowStructuralEquals(TUIModule.Builder, TUIModule.Builder)}.
      */
     @Override
@@ -204,6 +321,8 @@ public class NumberedModuleSelector extends ModuleTemplate<NumberedModuleSelecto
         if(first == null || second == null) return false;
 
         if(first.modules.size() != second.modules.size()) return false;
+        if(first.filterable != second.filterable) return false;
+        if(!first.labels.equals(second.labels)) return false;
 
         for(int i = 0; i < first.modules.size(); i ++) {
             NameOrModule firstNameOrModule = first.modules.get(i);
@@ -0,0 +1,615 @@
+/*
+    Copyright (c) 2026 Caleb Leavell
+
+    Permission is hereby granted, free of charge, to any person obtaining a copy
+    of this software and associated documentation files (the "Software"), to deal
+    in the Software without restriction, including without limitation the rights
+    to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+    copies of the Software, and to permit persons to whom the Software is
+    furnished to do so, subject to the following conditions:
+
+    The above copyright notice and this permission notice shall be included in all
+    copies or substantial portions of the Software.
+
+    THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+    IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+    FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+    AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+    LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+    OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+    SOFTWARE.
+ */
+
+package com.calebleavell.jatui.templates;
+
+import com.calebleavell.jatui.modules.*;
+
+import java.io.PrintStream;
+import java.util.*;
+import java.util.function.IntFunction;
+import java.util.function.IntPredicate;
+import java.util.function.IntSupplier;
+
+import static org.fusesource.jansi.Ansi.ansi;
+
+/**
+ * Handles displaying a large data source as a numbered list, one page at a time.
+ * <br><br>
+ * Unlike {@link NumberedList}, which creates modules for every item up front, {@link PagedList}
+ * only formats the rows of the current page when it runs. Rows are fetched from the data source on demand,
+ * so displaying a page costs time and memory proportional to the page size rather than the size of the data.
+ * <br><br>
+ * The data source can be a {@link List}, an {@link IntFunction} paired with a size, or an {@link Iterator}.
+ * An {@link Iterator} is only consumed as far as the pages that have been displayed, and is forward-only:
+ * only the rows from the current page onward are kept, so earlier pages can't be displayed again.
+ * <br><br>
+ * Example usage:
+ * <pre><code>
+ * ApplicationModule app = ApplicationModule.builder("app").build();
+ *
+ * PagedList list = PagedList.builder("users", users)
+ *         .pageSize(10)
+ *         .navigable(app);
+ *
+ * app.setHome(list);
+ * app.start();
+ * </code></pre>
+ * <br>
+ * Outputs:
+ * <pre>
+ * <b>[1]</b> alice
+ * <b>[2]</b> bob
+ * ...
+ * <b>[10]</b> judy
+ * Page 1/42
+ * (n)ext, (p)revious, page number, or (q)uit: n
+ * <b>[11]</b> karl
+ * ...
+ * </pre>
+ */
+public class PagedList extends ModuleTemplate<PagedList> {
+
+    /** The default prompt displayed when collecting navigation input. **/
+    public static final String DEFAULT_PROMPT = "(n)ext, (p)revious, page number, or (q)uit: ";
+
+    /** Fetches the text for a row by its zero-based index, returning {@code null} past the end of the data. **/
+    private IntFunction<String> rows;
+
+    /** Supplies the number of rows, or {@code -1} if it isn't known yet. **/
+    private IntSupplier size;
+
+    /**
+     * Checks whether a row exists by its zero-based index, without formatting it.
+     * Unused for an {@link Iterator} data source, which is checked through {@code iteratorRows} instead.
+     **/
+    private IntPredicate exists;
+
+    /** The buffered {@link Iterator} data source, or null if the data source isn't an {@link Iterator}. **/
+    private IteratorRows iteratorRows;
+
+    /** The maximum number of rows displayed at once. **/
+    private int pageSize = 10;
+
+    /** The value of the identifier of the first row (e.g., "[5] item"). **/
+    private int start = 1;
+
+    /** The zero-based index of the page currently displayed. **/
+    private int page = 0;
+
+    /** The module that formats and displays the current page. **/
+    private FunctionModule.Builder display;
+
+    /** The module that collects navigation input. Null unless {@link PagedList#navigable(ApplicationModule)} is called. **/
+    private TextInputModule.Builder input;
+
+    /** The module that acts on the navigation input. Null unless {@link PagedList#navigable(ApplicationModule)} is called. **/
+    private FunctionModule.Builder navigate;
+
+    protected PagedList(String name, IntFunction<String> rows, IntSupplier size) {
+        this(name, rows, size, i -> rows.apply(i) != null);
+    }
+
+    private PagedList(String name, IntFunction<String> rows, IntSupplier size, IntPredicate exists) {
+        super(PagedList.class, name);
+        this.rows = rows;
+        this.size = size;
+        this.exists = exists;
+        // the function is pointed at this builder by build(), so this doesn't escape the constructor
+        display = FunctionModule.builder(name + "-page", () -> {});
+        main.addChild(display);
+    }
+
+    /**
+     * Constructs a new {@link PagedList} builder that displays the elements of {@code items}.
+     * The list is read when a page is displayed, so later changes to {@code items} are reflected.
+     *
+     * @param name The name of the builder.
+     * @param items The items to display. Each item is displayed via {@link String#valueOf(Object)}.
+     * @return The new builder.
+     */
+    public static PagedList builder(String name, List<?> items) {
+        Objects.requireNonNull(items, "items cannot be null");
+        return new PagedList(name, i -> i < items.size() ? String.valueOf(items.get(i)) : null, items::size,
+                i -> i < items.size());
+    }
+
+    /**
+     * Constructs a new {@link PagedList} builder that displays rows produced by {@code rows}.
+     * {@code rows} is only called for the rows of the page being displayed.
+     *
+     * @param name The name of the builder.
+     * @param size The number of rows.
+     * @param rows Produces the text for the row at a zero-based index in {@code [0, size)}.
+     * @return The new builder.
+     */
+    public static PagedList builder(String name, int size, IntFunction<?> rows) {
+        Objects.requireNonNull(rows, "rows cannot be null");
+        if(size < 0) throw new IllegalArgumentException("size cannot be negative: " + size);
+        return new PagedList(name, i -> i < size ? String.valueOf(rows.apply(i)) : null, () -> size, i -> i < size);
+    }
+
+    /**
+     * Constructs a new {@link PagedList} builder that displays the elements of {@code items}.
+     * Elements are consumed from {@code items} only as pages are displayed. The list is forward-only:
+     * rows before the current page are dropped when a page is displayed, so memory stays proportional to the page size,
+     * and {@link PagedList#previousPage()} or jumping to an earlier page does nothing.
+     * Checking a later page (see {@link PagedList#hasPage(int)}) drops the rows between the current page and that one.
+     * Copies of the builder share the iterator.
+     *
+     * @param name The name of the builder.
+     * @param items The items to display. Each item is displayed via {@link String#valueOf(Object)}.
+     * @return The new builder.
+     */
+    public static PagedList builder(String name, Iterator<?> items) {
+        Objects.requireNonNull(items, "items cannot be null");
+        IteratorRows buffer = new IteratorRows(items);
+        PagedList list = new PagedList(name, buffer::get, buffer::size, null);
+        list.iteratorRows = buffer;
+        return list;
+    }
+
+    protected PagedList() {
+        super(PagedList.class);
+    }
+
+    /**
+     * Gets a fresh instance of this type of Builder.
+     *  Note, this is intended only for copying utility and may have unknown consequences if used in other ways.
+     * @return A fresh, empty instance.
+     */
+    @Override
+    protected PagedList createInstance() {
+        return new PagedList();
+    }
+
+    /**
+     * Copies the data source, {@code pageSize}, {@code start}, and {@code page},
+     * and delegates to {@link TUIModule.Builder#shallowCopy(TUIModule.Builder)}.
+     * @param original The builder to copy from.
+     */
+    @Override
+    public void shallowCopy(PagedList original) {
+        this.rows = original.rows;
+        this.size = original.size;
+        this.exists = original.exists;
+        this.iteratorRows = original.iteratorRows;
+        this.pageSize = original.pageSize;
+        this.start = original.start;
+        this.page = original.page;
+        super.shallowCopy(original);
+    }
+
+    /**
+     * Copies all data of {@code original} into this module, including a deep copy
+     * of all children.
+     *
+     * @param original The module to copy from.
+     * @param visited All children that have already been deep-copied.
+     * @return The instance that was copied into (self if {@code original} hasn't been visited yet).
+     *
+     * @implNote
+     * Re-assigns {@code display}, {@code input}, and {@code navigate} to their copies, and points
+     * {@code navigate} at this builder so the copy pages independently of {@code original}
+     * ({@link PagedList#build()} points {@code display} at it).
+     */
+    @Override
+    protected PagedList deepCopy(PagedList original, Map<TUIModule.Builder<?>, TUIModule.Builder<?>> visited) {
+        PagedList result = super.deepCopy(original, visited);
+
+        if(result == this) {
+            display = (FunctionModule.Builder) visited.get(original.display);
+            if(original.input != null) {
+                input = (TextInputModule.Builder) visited.get(original.input);
+                navigate = ((FunctionModule.Builder) visited.get(original.navigate)).function(this::navigate);
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Points the {@link FunctionModule} that displays the page at this builder, then builds it.
+     *
+     * @return The built module.
+     */
+    @Override
+    public ContainerModule build() {
+        display.function(this::displayPage);
+        return super.build();
+    }
+
+    /**
+     * Sets the maximum number of rows displayed at once.
+     *
+     * @param pageSize The number of rows per page. Must be positive.
+     * @return self
+     */
+    public PagedList pageSize(int pageSize) {
+        if(pageSize <= 0) throw new IllegalArgumentException("pageSize must be positive: " + pageSize);
+        logger.trace("setting page size of {} to {}", getName(), pageSize);
+        this.page = (page * this.pageSize) / pageSize;
+        this.pageSize = pageSize;
+        return self();
+    }
+
+    /**
+     * {@code start} is the value of the identifier of the first row (e.g., "[5] item").
+     * @param start The starting number for the list.
+     * @return self
+     **/
+    public PagedList start(int start) {
+        logger.trace("setting start of {} to {}", getName(), start);
+        this.start = start;
+        return self();
+    }
+
+    /**
+     * Adds an input prompt after the page that lets the user move between pages.
+     * The user may enter {@code n} (next), {@code p} (previous), a page number, or {@code q} (quit, or an empty line).
+     * Any other input displays {@link TextInputModule#INVALID} and the page is displayed again.
+     * Navigating re-runs this module, so only the new page is formatted.
+     * <br><br>
+     * Custom commands can be supported by overriding {@link PagedList#handleCommand(String)}.
+     *
+     * @param app The application to work with. Calls {@link TUIModule.Builder#application(ApplicationModule)}.
+     * @return self
+     */
+    public PagedList navigable(ApplicationModule app) {
+        return navigable(app, DEFAULT_PROMPT);
+    }
+
+    /**
+     * Adds an input prompt after the page that lets the user move between pages.
+     * See {@link PagedList#navigable(ApplicationModule)}.
+     *
+     * @param app The application to work with. Calls {@link TUIModule.Builder#application(ApplicationModule)}.
+     * @param prompt The text to display before collecting navigation input.
+     * @return self
+     */
+    public PagedList navigable(ApplicationModule app, String prompt) {
+        if(input != null) {
+            logger.warn("PagedList \"{}\" is already navigable", getName());
+            return self();
+        }
+        input = TextInputModule.builder(name + "-input", prompt);
+        navigate = FunctionModule.builder(name + "-navigate", this::navigate);
+        main.addChild(input);
+        main.addChild(navigate);
+        return application(app);
+    }
+
+    /**
+     * Moves to the next page, if there is one.
+     * @return self
+     */
+    public PagedList nextPage() {
+        if(hasNextPage()) page++;
+        return self();
+    }
+
+    /**
+     * Moves to the previous page, if there is one. Does nothing if the list is {@link PagedList#isForwardOnly() forward-only}.
+     * @return self
+     */
+    public PagedList previousPage() {
+        if(hasPage(page - 1)) page--;
+        return self();
+    }
+
+    /**
+     * Moves to a page. Does nothing if {@code page} doesn't exist (see {@link PagedList#hasPage(int)}).
+     *
+     * @param page The zero-based index of the page to display.
+     * @return self
+     */
+    public PagedList jumpTo(int page) {
+        if(hasPage(page)) this.page = page;
+        else logger.warn("page {} does not exist for PagedList \"{}\"", page, getName());
+        return self();
+    }
+
+    /**
+     * Checks whether a page exists. The first page always exists, even if there is no data.
+     * For an {@link Iterator} data source, this consumes the iterator up to the first row of {@code page},
+     * and pages before the current one don't exist since their rows have been dropped.
+     * Only the rows of the current page and of {@code page} are kept, so the pages between them stop existing.
+     *
+     * @param page The zero-based index of the page.
+     * @return Whether {@code page} has at least one row (or is the first page).
+     */
+    public boolean hasPage(int page) {
+        if(page < 0) return false;
+        if(isForwardOnly() && page < this.page) return false;
+        if(page == 0) return true;
+        long first = (long) page * pageSize;
+        if(first > Integer.MAX_VALUE) return false;
+        return iteratorRows != null ? iteratorRows.exists((int) first, pageSize) : exists.test((int) first);
+    }
+
+    /**
+     * @return The number of rows buffered from an {@link Iterator} data source, or 0 for other data sources.
+     */
+    int getBufferedRowCount() {
+        return iteratorRows == null ? 0 : iteratorRows.bufferedCount();
+    }
+
+    /**
+     * @return Whether earlier pages can't be displayed again (i.e., the data source is an {@link Iterator}).
+     */
+    public boolean isForwardOnly() {
+        return iteratorRows != null;
+    }
+
+    /**
+     * @return Whether there is a page after the current one.
+     */
+    public boolean hasNextPage() {
+        return hasPage(page + 1);
+    }
+
+    /**
+     * @return The zero-based index of the page currently displayed.
+     */
+    public int getPage() {
+        return page;
+    }
+
+    /**
+     * @return The maximum number of rows displayed at once.
+     */
+    public int getPageSize() {
+        return pageSize;
+    }
+
+    /**
+     * @return The value of the identifier of the first row.
+     */
+    public int getStart() {
+        return start;
+    }
+
+    /**
+     * The number of pages, if it is known. For an {@link Iterator} data source,
+     * this is only known once the iterator has been exhausted.
+     *
+     * @return The number of pages, or {@code -1} if it isn't known yet.
+     */
+    public int getPageCount() {
+        int rowCount = size.getAsInt();
+        if(rowCount < 0) return -1;
+        return Math.max(1, (rowCount + pageSize - 1) / pageSize);
+    }
+
+    /**
+     * Formats and displays the rows of the current page, followed by the page number
+     * if this list is {@link PagedList#navigable(ApplicationModule) navigable}.
+     */
+    protected void displayPage() {
+        PrintStream out = display.getPrintStream();
+        boolean ansiEnabled = display.getAnsiEnabled();
+        int first = page * pageSize;
+        int from = first;
+        if(iteratorRows != null) {
+            iteratorRows.discardBefore(first);
+            from = Math.max(first, iteratorRows.getOffset()); // rows may already be dropped if the page size shrank
+        }
+
+        logger.debug("displaying page {} of PagedList \"{}\"", page, getName());
+        for(int i = from; i < first + pageSize; i++) {
+            String row = rows.apply(i);
+            if(row == null) break;
+
+            if(ansiEnabled) out.print(ansi().bold());
+            out.print('[');
+            out.print(start + i);
+            out.print("] ");
+            if(ansiEnabled) out.print(ansi().reset());
+            out.println(row);
+        }
+
+        if(input != null) {
+            int pageCount = getPageCount();
+            out.print("Page ");
+            out.print(page + 1);
+            if(pageCount >= 0) {
+                out.print('/');
+                out.print(pageCount);
+            }
+            out.println();
+        }
+    }
+
+    /**
+     * Reads the navigation input from the application and acts on it via {@link PagedList#handleCommand(String)}.
+     */
+    private void navigate() {
+        ApplicationModule app = getApplication();
+        if(app == null) {
+            logger.warn("tried to navigate PagedList \"{}\" but app was null", getName());
+            return;
+        }
+
+        String command = app.getInput(input.getName(), String.class);
+        boolean redisplay;
+        try {
+            redisplay = handleCommand(command == null ? "" : command.strip());
+        }
+        catch(IllegalArgumentException e) {
+            logger.debug("invalid navigation input \"{}\" for PagedList \"{}\"", command, getName());
+            input.getPrintStream().println(TextInputModule.INVALID);
+            redisplay = true;
+        }
+
+        if(redisplay) app.restartChild(getName());
+    }
+
+    /**
+     * Acts on navigation input collected when this list is {@link PagedList#navigable(ApplicationModule) navigable}.
+     * Override this to support additional commands.
+     *
+     * @param command The input, with surrounding whitespace stripped.
+     * @return {@code true} to display the (possibly new) page again and collect more input,
+     * or {@code false} to stop navigating and continue past this module.
+     * @throws IllegalArgumentException If {@code command} isn't valid.
+     */
+    protected boolean handleCommand(String command) {
+        switch(command.toLowerCase()) {
+            case "", "q", "quit" -> {
+                return false;
+            }
+            case "n", "next" -> {
+                nextPage();
+                return true;
+            }
+            case "p", "prev", "previous" -> {
+                if(isForwardOnly()) throw new IllegalArgumentException("PagedList is forward-only: " + command);
+                previousPage();
+                return true;
+            }
+            default -> {
+                int target = Integer.parseInt(command) - 1; // NumberFormatException is an IllegalArgumentException
+                if(!hasPage(target)) throw new IllegalArgumentException("Page does not exist: " + command);
+                jumpTo(target);
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Checks equality for properties given by the builder. For {@link PagedList}, this includes
+     * the concrete class, {@code pageSize}, {@code start}, {@code page}, and whether it is navigable,
+     * as well as other requirements provided by {@link TUIModule.Builder#shallowStructuralEquals(TUIModule.Builder, TUIModule.Builder)}.
+     * The data source isn't compared.
+     */
+    @Override
+    public boolean shallowStructuralEquals(PagedList first, PagedList second) {
+        if(first == second) return true;
+        if(first == null || second == null) return false;
+
+        return  first.getClass() == second.getClass() &&
+                first.pageSize == second.pageSize &&
+                first.start == second.start &&
+                first.page == second.page &&
+                (first.input == null) == (second.input == null) &&
+                super.shallowStructuralEquals(first, second);
+    }
+
+    /**
+     * Buffers the elements of an {@link Iterator} as they're requested, so rows
+     * can be fetched by index without consuming more of the iterator than needed.
+     * Only the rows of the current page (from {@code offset} onward) and of the page most recently checked
+     * by {@link IteratorRows#exists(int, int)} (from {@code aheadOffset} onward) are kept;
+     * rows before the current page are dropped by {@link IteratorRows#discardBefore(int)},
+     * and rows skipped between the two pages are dropped as they're read.
+     * Elements are formatted when they're fetched, not when they're buffered.
+     */
+    private static class IteratorRows {
+        private final Iterator<?> iterator;
+
+        /** The consumed elements of the current page, starting at index {@code offset}. **/
+        private final List<Object> buffer = new ArrayList<>();
+
+        /** The index of the first element in {@code buffer}. **/
+        private int offset = 0;
+
+        /** The consumed elements of a later page, starting at index {@code aheadOffset}. **/
+        private final List<Object> ahead = new ArrayList<>();
+
+        /** The index of the first element in {@code ahead}. **/
+        private int aheadOffset = 0;
+
+        /** The number of elements consumed from {@code iterator}. **/
+        private int consumed = 0;
+
+        IteratorRows(Iterator<?> iterator) {
+            this.iterator = iterator;
+        }
+
+        /**
+         * Consumes elements up to {@code index}, keeping those that continue the current page (up to
+         * {@code pageSize} rows) or that start at {@code index}, and dropping the rest.
+         */
+        private void fill(int index, int pageSize) {
+            while(consumed <= index && iterator.hasNext()) {
+                int position = consumed++;
+                Object row = iterator.next();
+                if(ahead.isEmpty() && position == offset + buffer.size() && position - offset < pageSize) {
+                    buffer.add(row);
+                }
+                else if(!ahead.isEmpty() && position == aheadOffset + ahead.size() && position - aheadOffset < pageSize) {
+                    ahead.add(row);
+                }
+                else if(position == index) {
+                    ahead.clear();
+                    aheadOffset = position;
+                    ahead.add(row);
+                }
+            }
+        }
+
+        private boolean isKept(int index) {
+            if(index >= offset && index < offset + buffer.size()) return true;
+            return index >= aheadOffset && index < aheadOffset + ahead.size();
+        }
+
+        boolean exists(int index, int pageSize) {
+            fill(index, pageSize);
+            return isKept(index);
+        }
+
+        String get(int index) {
+            if(index < offset) throw new IllegalStateException("row " + index + " has already been dropped");
+            fill(index, Integer.MAX_VALUE);
+            if(index < offset + buffer.size()) return String.valueOf(buffer.get(index - offset));
+            if(index >= aheadOffset && index < aheadOffset + ahead.size()) {
+                return String.valueOf(ahead.get(index - aheadOffset));
+            }
+            return null;
+        }
+
+        void discardBefore(int index) {
+            if(!ahead.isEmpty() && index >= aheadOffset) {
+                buffer.clear();
+                buffer.addAll(ahead);
+                offset = aheadOffset;
+                ahead.clear();
+            }
+            int count = Math.min(index - offset, buffer.size());
+            if(count <= 0) return;
+            buffer.subList(0, count).clear();
+            offset += count;
+        }
+
+        int getOffset() {
+            return offset;
+        }
+
+        int bufferedCount() {
+            return buffer.size() + ahead.size();
+        }
+
+        int size() {
+            return iterator.hasNext() ? -1 : consumed;
+        }
+    }
+}
@@ -24,6 +24,10 @@ package com.calebleavell.jatui.templates;
 
 import com.calebleavell.jatui.core.DirectedGraphNode;
 import com.calebleavell.jatui.modules.*;
+import com.calebleavell.jatui.monitoring.MetricsRegistry;
+import com.calebleavell.jatui.monitoring.ModuleMetrics;
+import com.calebleavell.jatui.util.InputSource;
+import com.calebleavell.jatui.util.ScannerSource;
 
 import java.io.Console;
 import java.util.ArrayList;
@@ -86,6 +90,11 @@ public class PasswordInput extends ModuleTemplate<PasswordInput> {
     private boolean storeInput = false;
     private boolean storeMatch = false;
 
+    /**
+     * The metrics think time is recorded into. Looked up on the first run and again after the name changes.
+     */
+    private volatile ModuleMetrics inputMetrics;
+
     /**
      * Constructs a new {@link PasswordInput} builder.
      *
@@ -101,7 +110,8 @@ public class PasswordInput extends ModuleTemplate<PasswordInput> {
         super(PasswordInput.class, name);
         this.displayText = displayText;
         this.passwordSupplier = passwordSupplier;
-        main.addChild(FunctionModule.builder(name+"-input", this::createPasswordInput));
+        main.addChild(FunctionModule.builder(name+"-prompt", this::displayPrompt));
+        main.addChild(FunctionModule.builder(name+"-input", this::createPasswordInput).readsInput(true));
     }
 
     /**
@@ -305,14 +315,17 @@ public class PasswordInput extends ModuleTemplate<PasswordInput> {
      *
      * @param name The unique name of this module.
      * @return self
-     * @implNote sets the names of the {@link FunctionModule} that collects input to stay
+     * @implNote sets the names of the {@link FunctionModule}s that display the prompt and collect input to stay
      * consistent with the new name.
      */
     @Override
     public PasswordInput name(String name) {
         if(this.name == null) return super.name(name);
+        FunctionModule.Builder prompt = main.getChild(this.name+"-prompt", FunctionModule.Builder.class);
+        prompt.name(name + "-prompt");
         FunctionModule.Builder input = main.getChild(this.name+"-input", FunctionModule.Builder.class);
         input.name(name + "-input");
+        inputMetrics = null;
         return super.name(name);
     }
 
@@ -334,7 +347,7 @@ public class PasswordInput extends ModuleTemplate<PasswordInput> {
 
     /**
      * Builds a new {@link ContainerModule} with the configuration from this builder.
-     * Ensures the {@link FunctionModule} that collects input is up-to-date
+     * Ensures the {@link FunctionModule}s that display the prompt and collect input are up-to-date
      * with the most recent configuration.
      *
      * @return self
@@ -342,11 +355,22 @@ public class PasswordInput extends ModuleTemplate<PasswordInput> {
     @Override
     public ContainerModule build() {
         // update the input function to reflect the most recent name, input, and application
+        FunctionModule.Builder prompt = main.getChild(this.name+"-prompt", FunctionModule.Builder.class);
+        prompt.function(this::displayPrompt);
         FunctionModule.Builder input = main.getChild(this.name+"-input", FunctionModule.Builder.class);
         input.function(this::createPasswordInput);
         return super.build();
     }
 
+    /**
+     * Displays {@code displayText} before input is collected. This is its own module so that,
+     * under an {@link EventLoop}, the prompt is shown before the run waits for input.
+     */
+    private void displayPrompt() {
+        this.getPrintStream().print(this.displayText);
+        this.getPrintStream().flush();
+    }
+
     /**
      * Handles, collecting, validating, and cleaning the inputted password.
      *
@@ -355,19 +379,18 @@ public class PasswordInput extends ModuleTemplate<PasswordInput> {
     private char[] createPasswordInput() {
         Console console = System.console();
 
-        this.getPrintStream().print(this.displayText);
-
         boolean match = true;
         char[] input = new char[0];
         char[] correct = new char[0];
         try {
-            // just reads the input normally if the Scanner was set to something custom or if Console is null
+            // just reads the input normally if the input source was set to something custom or if Console is null
             // otherwise, read as a password from console
-            if(this.getScanner() != TUIModule.DEFAULT_SCANNER || console == null) {
-                input = this.getScanner().nextLine().toCharArray();
+            InputSource source = this.getInputSource();
+            if(!(source instanceof ScannerSource scannerSource && scannerSource.getScanner() == TUIModule.DEFAULT_SCANNER) || console == null) {
+                input = awaitInput(getInputMetrics(), () -> source.nextLine().toCharArray());
             }
             else {
-                input = console.readPassword();
+                input = awaitInput(getInputMetrics(), console::readPassword);
             }
 
             correct = this.passwordSupplier.get();
@@ -383,6 +406,18 @@ public class PasswordInput extends ModuleTemplate<PasswordInput> {
         return saveStateIfConfigured(input, match);
     }
 
+    /**
+     * @return The metrics think time is recorded into, looked up once per name.
+     */
+    private ModuleMetrics getInputMetrics() {
+        ModuleMetrics metrics = inputMetrics;
+        if(metrics == null) {
+            metrics = MetricsRegistry.global().module(PasswordInput.class, getName());
+            inputMetrics = metrics;
+        }
+        return metrics;
+    }
+
     /**
      * Checks if two char arrays are equivalent without exiting early
      * (helps avoid timing attacks but can't provide cryptographic guarantees).
@@ -131,6 +131,25 @@ public class TextChain extends ModuleTemplate<TextChain> {
         return self();
     }
 
+    /**
+     * Adds a new {@link TextModule} as a child of this module, styled via {@link TUIModule.Builder#prependStyle(Ansi)}
+     * rather than {@link TUIModule.Builder#style(Ansi)}. Texts with the same {@code style} then share its escape codes
+     * instead of each keeping an {@link Ansi}, which suits chains built many times (e.g., list items).
+     * Like {@link TextChain#addText(String, Ansi)}, the style isn't replaced by setting the style of a parent.
+     * To print a new line after this text, call {@link TextChain#newLine()}.
+     *
+     * @param text The text to add.
+     * @param style The style of the text. Ansi is reset automatically after {@code text} is displayed.
+     * @return self.
+     */
+    public TextChain addStyledText(String text, Ansi style) {
+        this.addText(TextModule.builder(main.getName() + "-" + iterator, text)
+                .prependStyle(style)
+                .lockProperty(TUIModule.Property.SET_ANSI)
+                .printNewLine(false));
+        return self();
+    }
+
     /**
      * Adds a new {@link TextModule} as a child of this module.
      * To print a new line after this text, call {@link TextChain#newLine()}.
@@ -0,0 +1,268 @@
+/*
+    Copyright (c) 2026 Caleb Leavell
+
+    Permission is hereby granted, free of charge, to any person obtaining a copy
+    of this software and associated documentation files (the "Software"), to deal
+    in the Software without restriction, including without limitation the rights
+    to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+    copies of the Software, and to permit persons to whom the Software is
+    furnished to do so, subject to the following conditions:
+
+    The above copyright notice and this permission notice shall be included in all
+    copies or substantial portions of the Software.
+
+    THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+    IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+    FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+    AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+    LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+    OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+    SOFTWARE.
+ */
+
+package com.calebleavell.jatui.util;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.charset.Charset;
+import java.util.Objects;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * An {@link OutputStream} that hands bytes to a dedicated writer thread, so a slow terminal or socket
+ * doesn't block the thread producing output (usually the thread running the modules).
+ * <br><br>
+ * Bytes are copied into a bounded single-producer/single-consumer ring buffer, which the writer thread drains
+ * into the underlying stream. Writing only blocks when the ring buffer is full. {@link AsyncOutputStream#flush()}
+ * blocks until everything written so far has reached the underlying stream, and is called by the input modules
+ * before they read input so prompts are always visible.
+ * <br><br>
+ * Only one thread may write to this stream at a time. Wrapping it in a {@link PrintStream}
+ * (see {@link AsyncOutputStream#printStream(OutputStream)}) satisfies this, since {@link PrintStream} serializes writes.
+ * <br><br>
+ * Example usage:
+ * <pre><code>
+ * ApplicationModule app = ApplicationModule.builder("app")
+ *         .printStream(AsyncOutputStream.printStream(System.out))
+ *         .build();
+ * </code></pre>
+ */
+public final class AsyncOutputStream extends OutputStream {
+
+    /** The default capacity of the ring buffer in bytes. **/
+    public static final int DEFAULT_CAPACITY = 1 << 16;
+
+    private static final Logger logger = LoggerFactory.getLogger(AsyncOutputStream.class);
+
+    private final OutputStream out;
+    private final byte[] ring;
+    private final int mask;
+
+    /** The total number of bytes written into the ring. Only written by the producer. **/
+    private volatile long head = 0;
+
+    /** The total number of bytes drained from the ring. Only written by the writer thread. **/
+    private volatile long tail = 0;
+
+    private volatile boolean closed = false;
+
+    /** Whether the writer thread is (about to be) parked waiting for bytes. **/
+    private volatile boolean idle = false;
+
+    /** The first exception thrown by the underlying stream, rethrown to the producer. **/
+    private volatile IOException failure;
+
+    private volatile Thread producer;
+    private final Thread writer;
+
+    /**
+     * Creates a stream with a ring buffer of {@link AsyncOutputStream#DEFAULT_CAPACITY} bytes.
+     *
+     * @param out The stream to write to.
+     */
+    public AsyncOutputStream(OutputStream out) {
+        this(out, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a stream and starts its writer thread.
+     *
+     * @param out The stream to write to.
+     * @param capacity The capacity of the ring buffer in bytes, rounded up to a power of two.
+     */
+    public AsyncOutputStream(OutputStream out, int capacity) {
+        this.out = Objects.requireNonNull(out, "out cannot be null");
+        if(capacity <= 0) throw new IllegalArgumentException("capacity must be positive: " + capacity);
+        int size = Integer.highestOneBit(Math.max(capacity - 1, 1)) << 1;
+        this.ring = new byte[size];
+        this.mask = size - 1;
+
+        writer = new Thread(this::drain, "jatui-async-output");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    /**
+     * Creates a {@link PrintStream} that writes through a new {@link AsyncOutputStream}, using the charset of
+     * {@code out} if it is a {@link PrintStream}.
+     *
+     * @param out The stream to write to.
+     * @return The new print stream.
+     */
+    public static PrintStream printStream(OutputStream out) {
+        Charset charset = out instanceof PrintStream printStream ? printStream.charset() : Charset.defaultCharset();
+        return new PrintStream(new AsyncOutputStream(out), false, charset);
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        awaitSpace(1);
+        ring[(int) (head & mask)] = (byte) b;
+        publish(head + 1);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        Objects.checkFromIndexSize(off, len, b.length);
+        while(len > 0) {
+            int free = awaitSpace(1);
+            int index = (int) (head & mask);
+            int count = Math.min(len, Math.min(free, ring.length - index));
+            System.arraycopy(b, off, ring, index, count);
+            publish(head + count);
+            off += count;
+            len -= count;
+        }
+    }
+
+    /**
+     * Blocks until everything written so far has been written to and flushed by the underlying stream.
+     *
+     * @throws IOException If the underlying stream failed, or the current thread is interrupted.
+     */
+    @Override
+    public void flush() throws IOException {
+        checkState();
+        long target = head;
+        producer = Thread.currentThread();
+        while(tail < target) {
+            checkFailure();
+            LockSupport.unpark(writer);
+            LockSupport.parkNanos(this, 1_000_000);
+            if(Thread.interrupted()) throw new InterruptedIOException("interrupted while flushing");
+        }
+        checkFailure();
+        synchronized(out) {
+            out.flush();
+        }
+    }
+
+    /**
+     * Flushes, stops the writer thread, and closes the underlying stream.
+     *
+     * @throws IOException If the underlying stream failed.
+     */
+    @Override
+    public void close() throws IOException {
+        if(closed) return;
+        try {
+            flush();
+        }
+        finally {
+            closed = true;
+            LockSupport.unpark(writer);
+            out.close();
+        }
+    }
+
+    /**
+     * @return The number of bytes written but not yet handed to the underlying stream.
+     */
+    public int pending() {
+        return (int) (head - tail);
+    }
+
+    /**
+     * @return The capacity of the ring buffer in bytes.
+     */
+    public int capacity() {
+        return ring.length;
+    }
+
+    /**
+     * Blocks until at least {@code needed} bytes are free in the ring.
+     *
+     * @return The number of free bytes.
+     */
+    private int awaitSpace(int needed) throws IOException {
+        checkState();
+        int free;
+        while((free = ring.length - (int) (head - tail)) < needed) {
+            checkFailure();
+            producer = Thread.currentThread();
+            LockSupport.unpark(writer);
+            LockSupport.parkNanos(this, 1_000_000);
+            if(Thread.interrupted()) throw new InterruptedIOException("interrupted while waiting for output to drain");
+        }
+        return free;
+    }
+
+    private void publish(long newHead) {
+        head = newHead;
+        if(idle) LockSupport.unpark(writer);
+    }
+
+    private void checkState() throws IOException {
+        if(closed) throw new IOException("stream closed");
+        checkFailure();
+    }
+
+    private void checkFailure() throws IOException {
+        IOException e = failure;
+        if(e != null) throw new IOException("asynchronous write failed", e);
+    }
+
+    /**
+     * The writer thread's loop: writes each contiguous run of available bytes to the underlying stream.
+     */
+    private void drain() {
+        while(true) {
+            long available = head - tail;
+            if(available == 0) {
+                if(closed) return;
+                // announce before re-checking, so a producer publishing in between always sees idle and unparks
+                idle = true;
+                if(head == tail && !closed) LockSupport.park(this);
+                idle = false;
+                continue;
+            }
+
+            int index = (int) (tail & mask);
+            int count = (int) Math.min(available, ring.length - index);
+            try {
+                synchronized(out) {
+                    out.write(ring, index, count);
+                }
+            }
+            catch(IOException e) {
+                logger.error("asynchronous write failed: {}", e.getMessage());
+                failure = e;
+                tail = head; // discard so the producer doesn't wait forever
+                wakeProducer();
+                return;
+            }
+            tail += count;
+            wakeProducer();
+        }
+    }
+
+    private void wakeProducer() {
+        Thread waiting = producer;
+        if(waiting != null) LockSupport.unpark(waiting);
+    }
+}
@@ -0,0 +1,199 @@
+/*
+    Copyright (c) 2026 Caleb Leavell
+
+    Permission is hereby granted, free of charge, to any person obtaining a copy
+    of this software and associated documentation files (the "Software"), to deal
+    in the Software without restriction, including without limitation the rights
+    to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+    copies of the Software, and to permit persons to whom the Software is
+    furnished to do so, subject to the following conditions:
+
+    The above copyright notice and this permission notice shall be included in all
+    copies or substantial portions of the Software.
+
+    THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+    IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+    FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+    AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+    LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+    OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+    SOFTWARE.
+ */
+
+package com.calebleavell.jatui.util;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.util.Objects;
+
+/**
+ * An {@link OutputSink} that writes to a {@link WritableByteChannel}, such as a {@link java.nio.channels.SocketChannel}.
+ * <br><br>
+ * Text is encoded with a {@link CharsetEncoder} straight into a reused direct {@link ByteBuffer}, which is written to
+ * the channel when it fills up or when the sink is flushed. No intermediate {@code byte[]} or {@link String} is created
+ * for text written as a {@link String}.
+ * <br><br>
+ * The channel should be in blocking mode. Failures to write are thrown as {@link UncheckedIOException}.
+ * The sink is safe to use from multiple threads.
+ */
+public class ChannelSink implements OutputSink, AutoCloseable {
+
+    /** The default capacity of the byte buffer. **/
+    public static final int DEFAULT_BUFFER_SIZE = 8192;
+
+    /** The number of chars copied out of a {@link CharSequence} at a time. **/
+    private static final int CHUNK = 1024;
+
+    private final WritableByteChannel channel;
+    private final Charset charset;
+    private final CharsetEncoder encoder;
+    private final ByteBuffer bytes;
+    private final CharBuffer chars = CharBuffer.allocate(CHUNK);
+    private final char[] chunk = chars.array();
+    private final PrintStream printStream;
+
+    /**
+     * Creates a sink with a buffer of {@link ChannelSink#DEFAULT_BUFFER_SIZE} bytes.
+     *
+     * @param channel The channel to write to.
+     * @param charset The charset to encode text with.
+     */
+    public ChannelSink(WritableByteChannel channel, Charset charset) {
+        this(channel, charset, DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * @param channel The channel to write to.
+     * @param charset The charset to encode text with.
+     * @param bufferSize The capacity of the direct byte buffer.
+     */
+    public ChannelSink(WritableByteChannel channel, Charset charset, int bufferSize) {
+        this.channel = Objects.requireNonNull(channel, "channel cannot be null");
+        this.charset = Objects.requireNonNull(charset, "charset cannot be null");
+        this.encoder = charset.newEncoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        this.bytes = ByteBuffer.allocateDirect(Math.max(bufferSize, (int) Math.ceil(encoder.maxBytesPerChar()) * 2));
+        this.printStream = new PrintStream(new OutputStream() {
+            @Override
+            public void write(int b) {
+                ChannelSink.this.write(new byte[] {(byte) b}, 0, 1);
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) {
+                ChannelSink.this.write(b, off, len);
+            }
+
+            @Override
+            public void flush() {
+                ChannelSink.this.flush();
+            }
+        }, false, charset);
+    }
+
+    @Override
+    public synchronized void write(CharSequence text) {
+        int length = text.length();
+        int position = 0;
+        while(position < length) {
+            int count = Math.min(chars.remaining(), length - position);
+            int offset = chars.position();
+            if(text instanceof String string) string.getChars(position, position + count, chunk, offset);
+            else for(int i = 0; i < count; i++) chunk[offset + i] = text.charAt(position + i);
+            chars.position(offset + count);
+            position += count;
+            encodeChars();
+        }
+    }
+
+    /**
+     * Encodes the chars buffered in {@code chars} into {@code bytes}, draining {@code bytes} whenever it fills up.
+     * A trailing high surrogate is kept in {@code chars} until its pair arrives.
+     */
+    private void encodeChars() {
+        chars.flip();
+        while(true) {
+            CoderResult result = encoder.encode(chars, bytes, false);
+            if(result.isOverflow()) drain();
+            else break;
+        }
+        chars.compact();
+    }
+
+    /**
+     * Writes bytes that are already encoded (from {@link ChannelSink#asPrintStream()}), after any buffered text.
+     */
+    private synchronized void write(byte[] b, int off, int len) {
+        while(len > 0) {
+            if(!bytes.hasRemaining()) drain();
+            int count = Math.min(len, bytes.remaining());
+            bytes.put(b, off, count);
+            off += count;
+            len -= count;
+        }
+    }
+
+    /**
+     * Writes everything in {@code bytes} to the channel.
+     */
+    private void drain() {
+        bytes.flip();
+        try {
+            while(bytes.hasRemaining()) channel.write(bytes);
+        }
+        catch(IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        finally {
+            bytes.clear();
+        }
+    }
+
+    @Override
+    public synchronized void flush() {
+        if(bytes.position() > 0) drain();
+    }
+
+    /**
+     * @return A {@link PrintStream} (using this sink's charset) that writes into this sink.
+     */
+    @Override
+    public PrintStream asPrintStream() {
+        return printStream;
+    }
+
+    /**
+     * @return The charset text is encoded with.
+     */
+    public Charset getCharset() {
+        return charset;
+    }
+
+    /**
+     * Encodes any remaining text, flushes, and closes the channel.
+     */
+    @Override
+    public synchronized void close() {
+        chars.flip();
+        while(encoder.encode(chars, bytes, true).isOverflow()) drain();
+        while(encoder.flush(bytes).isOverflow()) drain();
+        chars.clear();
+        flush();
+        try {
+            channel.close();
+        }
+        catch(IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,234 @@
+/*
+    Copyright (c) 2026 Caleb Leavell
+
+    Permission is hereby granted, free of charge, to any person obtaining a copy
+    of this software and associated documentation files (the "Software"), to deal
+    in the Software without restriction, including without limitation the rights
+    to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+    copies of the Software, and to permit persons to whom the Software is
+    furnished to do so, subject to the following conditions:
+
+    The above copyright notice and this permission notice shall be included in all
+    copies or substantial portions of the Software.
+
+    THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+    IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+    FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+    AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+    LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+    OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+    SOFTWARE.
+ */
+
+package com.calebleavell.jatui.util;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.SelectableChannel;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.charset.Charset;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * An {@link InputSource} that reads lines from a non-blocking {@link SelectableChannel},
+ * such as a {@link java.nio.channels.SocketChannel} or the source of a {@link java.nio.channels.Pipe}.
+ * <br><br>
+ * The channel is put in non-blocking mode, so {@link ChannelSource#ready()} only reads what has already arrived.
+ * An {@link com.calebleavell.jatui.modules.EventLoop} registers the channel with its {@link Selector} and resumes
+ * the module waiting on it once data arrives, so idle sessions don't need a thread. Outside an event loop,
+ * {@link ChannelSource#nextLine()} waits on a selector of its own.
+ * <br><br>
+ * Lines are split on {@code '\n'} (a trailing {@code '\r'} is dropped) before decoding, so the charset must encode
+ * {@code '\n'} as the single byte {@code 0x0A} (e.g., UTF-8, ISO-8859-1, or US-ASCII).
+ * Failures to read are thrown as {@link UncheckedIOException}. This class is not thread-safe.
+ */
+public class ChannelSource implements InputSource, Closeable {
+
+    /** The default capacity of the byte buffer. **/
+    public static final int DEFAULT_BUFFER_SIZE = 8192;
+
+    private final SelectableChannel selectable;
+    private final ReadableByteChannel channel;
+    private final Charset charset;
+    private final ByteBuffer buffer;
+
+    /** Bytes read but not yet returned as a line. **/
+    private byte[] pending = new byte[256];
+    private int pendingLength = 0;
+    /** How much of {@code pending} is known not to contain {@code '\n'}. **/
+    private int scanned = 0;
+    private boolean endOfStream = false;
+    private long linesRead = 0;
+
+    /**
+     * Creates a source with a buffer of {@link ChannelSource#DEFAULT_BUFFER_SIZE} bytes.
+     *
+     * @param channel The channel to read from. It is switched to non-blocking mode.
+     * @param charset The charset lines are encoded in.
+     * @param <C> The type of the channel.
+     * @throws IOException if the channel can't be switched to non-blocking mode.
+     */
+    public <C extends SelectableChannel & ReadableByteChannel> ChannelSource(C channel, Charset charset) throws IOException {
+        this(channel, charset, DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * @param channel The channel to read from. It is switched to non-blocking mode.
+     * @param charset The charset lines are encoded in.
+     * @param bufferSize The capacity of the direct byte buffer reads go through.
+     * @param <C> The type of the channel.
+     * @throws IOException if the channel can't be switched to non-blocking mode.
+     */
+    public <C extends SelectableChannel & ReadableByteChannel> ChannelSource(C channel, Charset charset, int bufferSize) throws IOException {
+        this.selectable = Objects.requireNonNull(channel, "channel cannot be null");
+        this.channel = channel;
+        this.charset = Objects.requireNonNull(charset, "charset cannot be null");
+        this.buffer = ByteBuffer.allocateDirect(Math.max(bufferSize, 16));
+        channel.configureBlocking(false);
+    }
+
+    /**
+     * {@inheritDoc}
+     * Waits for data to arrive if no complete line has been read yet.
+     *
+     * @throws UncheckedIOException if the channel fails.
+     */
+    @Override
+    public String nextLine() {
+        if(!ready()) await(0);
+        return takeLine();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws UncheckedIOException if the channel fails.
+     */
+    @Override
+    public String nextLine(Duration timeout) {
+        if(!ready() && !await(Math.max(timeout.toMillis(), 1))) return null;
+        return takeLine();
+    }
+
+    @Override
+    public boolean canTimeOut() {
+        return true;
+    }
+
+    private String takeLine() {
+        int newline = indexOfNewline();
+        if(newline < 0) {
+            if(pendingLength == 0) throw new NoSuchElementException("No line found");
+            newline = pendingLength; // last line, without a terminator
+        }
+
+        int end = newline;
+        if(end > 0 && pending[end - 1] == '\r') end --;
+        String line = new String(pending, 0, end, charset);
+
+        int consumed = Math.min(newline + 1, pendingLength);
+        System.arraycopy(pending, consumed, pending, 0, pendingLength - consumed);
+        pendingLength -= consumed;
+        scanned = 0;
+        linesRead ++;
+        return line;
+    }
+
+    /**
+     * Reads whatever has arrived on the channel without blocking.
+     *
+     * @return Whether a complete line has arrived or the channel reached the end of its stream.
+     * @throws UncheckedIOException if the channel fails.
+     */
+    @Override
+    public boolean ready() {
+        if(indexOfNewline() >= 0 || endOfStream) return true;
+        fill();
+        return indexOfNewline() >= 0 || endOfStream;
+    }
+
+    /**
+     * @return The channel lines are read from, for registering with a {@link Selector}.
+     */
+    public SelectableChannel getChannel() {
+        return selectable;
+    }
+
+    /**
+     * @return The number of lines read so far.
+     */
+    public long getLinesRead() {
+        return linesRead;
+    }
+
+    /**
+     * Closes the underlying channel.
+     *
+     * @throws IOException if the channel fails to close.
+     */
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private int indexOfNewline() {
+        for(int i = scanned; i < pendingLength; i ++) {
+            if(pending[i] == '\n') return i;
+        }
+        scanned = pendingLength;
+        return -1;
+    }
+
+    private void fill() {
+        try {
+            int read;
+            while((read = channel.read(buffer)) > 0) {
+                buffer.flip();
+                if(pendingLength + read > pending.length) {
+                    pending = Arrays.copyOf(pending, Math.max(pending.length * 2, pendingLength + read));
+                }
+                buffer.get(pending, pendingLength, read);
+                pendingLength += read;
+                buffer.clear();
+            }
+            if(read < 0) endOfStream = true;
+        }
+        catch(IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Waits for the source to be ready.
+     *
+     * @param timeoutMillis How long to wait, or 0 to wait indefinitely.
+     * @return Whether the source is ready.
+     */
+    private boolean await(long timeoutMillis) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        try(Selector selector = Selector.open()) {
+            selectable.register(selector, SelectionKey.OP_READ);
+            while(!ready()) {
+                if(timeoutMillis == 0) {
+                    selector.select();
+                    continue;
+                }
+                long remaining = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+                if(remaining <= 0) return false;
+                selector.select(remaining);
+            }
+            return true;
+        }
+        catch(IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,51 @@
+/*
+    Copyright (c) 2026 Caleb Leavell
+
+    Permission is hereby granted, free of charge, to any person obtaining a copy
+    of this software and associated documentation files (the "Software"), to deal
+    in the Software without restriction, including without limitation the rights
+    to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+    copies of the Software, and to permit persons to whom the Software is
+    furnished to do so, subject to the following conditions:
+
+    The above copyright notice and this permission notice shall be included in all
+    copies or substantial portions of the Software.
+
+    THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+    IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+    FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+    AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+    LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+    OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+    SOFTWARE.
+ */
+
+package com.calebleavell.jatui.util;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+
+/**
+ * An {@link OutputSink} that discards everything written to it, for running without displaying output
+ * (e.g., in {@link com.calebleavell.jatui.modules.BatchRunner}).
+ */
+public final class DiscardSink implements OutputSink {
+
+    /** The shared instance, returned by {@link OutputSink#discard()}. **/
+    public static final DiscardSink INSTANCE = new DiscardSink();
+
+    private final PrintStream printStream = new PrintStream(OutputStream.nullOutputStream());
+
+    private DiscardSink() {}
+
+    @Override
+    public void write(CharSequence text) {}
+
+    @Override
+    public void flush() {}
+
+    @Override
+    public PrintStream asPrintStream() {
+        return printStream;
+    }
+}
@@ -0,0 +1,123 @@
+/*
+    Copyright (c) 2026 Caleb Leavell
+
+    Permission is hereby granted, free of charge, to any person obtaining a copy
+    of this software and associated documentation files (the "Software"), to deal
+    in the Software without restriction, including without limitation the rights
+    to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+    copies of the Software, and to permit persons to whom the Software is
+    furnished to do so, subject to the following conditions:
+
+    The above copyright notice and this permission notice shall be included in all
+    copies or substantial portions of the Software.
+
+    THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+    IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+    FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+    AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+    LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+    OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+    SOFTWARE.
+ */
+
+package com.calebleavell.jatui.util;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.NoSuchElementException;
+import java.util.Scanner;
+
+/**
+ * A source of the lines of input that modules read.
+ * <br><br>
+ * Modules traditionally read from a {@link Scanner}, which matches every line against a regular expression.
+ * An {@link InputSource} lets the source decide how lines are read: {@link ScannerSource} reads from a
+ * {@link Scanner} as before, and {@link ReaderSource} reads from a {@link BufferedReader}
+ * (e.g., a file opened via NIO), which is much faster for scripted input.
+ * <br><br>
+ * A source is set on a module via {@link com.calebleavell.jatui.modules.TUIModule.Builder#inputSource(InputSource)}
+ * and propagates like a scanner.
+ * <br><br>
+ * {@link QueueSource} and {@link ChannelSource} can also tell whether a line is ready, so many sessions
+ * reading from them can share a single thread (see {@link com.calebleavell.jatui.modules.EventLoop}).
+ */
+public interface InputSource {
+
+    /**
+     * Reads the next line, without its line terminator.
+     *
+     * @return The next line.
+     * @throws NoSuchElementException if there are no more lines.
+     */
+    String nextLine();
+
+    /**
+     * Reads the next line, waiting at most {@code timeout} for it. Used by modules with an input deadline
+     * (see {@link com.calebleavell.jatui.modules.InputDeadline}).
+     * <br><br>
+     * Sources that can't wait with a timeout (see {@link InputSource#canTimeOut()}) ignore it and wait for the line.
+     *
+     * @param timeout How long to wait for the line.
+     * @return The next line, or null if it didn't arrive in time.
+     * @throws NoSuchElementException if there are no more lines.
+     */
+    default String nextLine(Duration timeout) {
+        return nextLine();
+    }
+
+    /**
+     * Whether {@link InputSource#nextLine(Duration)} honors its timeout. Sources that can't tell whether a line has
+     * arrived without blocking (e.g., {@link ScannerSource}, since a {@link Scanner} may already hold lines it read
+     * ahead) can't, so modules reading from them wait for input without a deadline, and log a warning.
+     * To read {@link System#in} with a deadline, use a {@link ReaderSource} instead.
+     *
+     * @return Whether reads can time out.
+     */
+    default boolean canTimeOut() {
+        return false;
+    }
+
+    /**
+     * Whether {@link InputSource#nextLine()} can return (or throw because there are no more lines) without blocking.
+     * An {@link com.calebleavell.jatui.modules.EventLoop} only resumes a module waiting on this source once it is ready.
+     * Sources that can't tell (e.g., {@link ScannerSource}) are always ready.
+     *
+     * @return Whether a line can be read without blocking.
+     */
+    default boolean ready() {
+        return true;
+    }
+
+    /**
+     * @param scanner The scanner to read from.
+     * @return A source that reads lines from {@code scanner}.
+     */
+    static ScannerSource of(Scanner scanner) {
+        return new ScannerSource(scanner);
+    }
+
+    /**
+     * @param reader The reader to read from.
+     * @return A source that reads lines from {@code reader}.
+     */
+    static ReaderSource of(BufferedReader reader) {
+        return new ReaderSource(reader);
+    }
+
+    /**
+     * Opens a file for reading lines via {@link Files#newBufferedReader(Path, Charset)}.
+     * The source should be closed once it is no longer needed.
+     *
+     * @param path The file to read.
+     * @param charset The charset the file is encoded in.
+     * @return A source that reads lines from the file.
+     * @throws IOException if the file could not be opened.
+     */
+    static ReaderSource of(Path path, Charset charset) throws IOException {
+        return new ReaderSource(Files.newBufferedReader(path, charset));
+    }
+}
@@ -0,0 +1,130 @@
+/*
+    Copyright (c) 2026 Caleb Leavell
+
+    Permission is hereby granted, free of charge, to any person obtaining a copy
+    of this software and associated documentation files (the "Software"), to deal
+    in the Software without restriction, including without limitation the rights
+    to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+    copies of the Software, and to permit persons to whom the Software is
+    furnished to do so, subject to the following conditions:
+
+    The above copyright notice and this permission notice shall be included in all
+    copies or substantial portions of the Software.
+
+    THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+    IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+    FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+    AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+    LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+    OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+    SOFTWARE.
+ */
+
+package com.calebleavell.jatui.util;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Shares one canonical instance between values that are interchangeable (hash-consing).
+ * <br><br>
+ * {@link Interner#intern(Object)} returns the first value it saw with the same key, so builders that would
+ * otherwise each keep their own copy of an identical object (e.g., the escape codes of the same style)
+ * all point at one instance. Values given to an interner must not be mutated afterward.
+ * <br><br>
+ * To keep memory bounded, at most {@code capacity} values are kept; once full, new values are returned as-is.
+ * This class is thread-safe.
+ *
+ * @param <T> The type of value being interned.
+ */
+public class Interner<T> {
+
+    /** The default maximum number of canonical values kept. **/
+    public static final int DEFAULT_CAPACITY = 4096;
+
+    private final Map<Object, T> values = new ConcurrentHashMap<>();
+    private final Function<? super T, ?> key;
+    private final int capacity;
+    private final long instanceSize;
+    private final LongAdder hits = new LongAdder();
+
+    /**
+     * @param key Gets the key two values are compared by. Values with equal keys are considered interchangeable.
+     * @param capacity The maximum number of canonical values kept.
+     * @param instanceSize The estimated size of one value in bytes, used by {@link Interner#getEstimatedBytesSaved()}.
+     */
+    public Interner(Function<? super T, ?> key, int capacity, long instanceSize) {
+        this.key = Objects.requireNonNull(key, "key cannot be null");
+        this.capacity = capacity;
+        this.instanceSize = instanceSize;
+    }
+
+    /**
+     * Creates an interner that compares values with {@link Object#equals(Object)}.
+     *
+     * @param instanceSize The estimated size of one value in bytes.
+     * @return The new interner.
+     * @param <T> The type of value being interned.
+     */
+    public static <T> Interner<T> byEquality(long instanceSize) {
+        return new Interner<>(Function.identity(), DEFAULT_CAPACITY, instanceSize);
+    }
+
+    /**
+     * Gets the canonical instance for {@code value}.
+     *
+     * @param value The value to intern (may be null, in which case null is returned).
+     * @return The canonical value with the same key as {@code value}, which is {@code value} itself
+     * if it's the first of its kind.
+     */
+    public T intern(T value) {
+        if(value == null) return null;
+
+        Object k = key.apply(value);
+        T canonical = values.get(k);
+
+        if(canonical == null) {
+            if(values.size() >= capacity) return value;
+            canonical = values.putIfAbsent(k, value);
+            if(canonical == null) return value;
+        }
+
+        hits.increment();
+        return canonical;
+    }
+
+    /**
+     * @return The number of canonical values currently kept.
+     */
+    public int size() {
+        return values.size();
+    }
+
+    /**
+     * @return The number of times {@link Interner#intern(Object)} returned an existing instance instead of the one given.
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * An estimate of the memory saved by sharing, assuming each hit would otherwise have kept its own instance.
+     *
+     * @return The estimated number of bytes saved.
+     */
+    public long getEstimatedBytesSaved() {
+        return getHits() * instanceSize;
+    }
+
+    /**
+     * Forgets every canonical value and resets the statistics.
+     * Values already handed out stay shared.
+     */
+    public void clear() {
+        values.clear();
+        hits.reset();
+    }
+}
@@ -0,0 +1,351 @@
+/*
+    Copyright (c) 2026 Caleb Leavell
+
+    Permission is hereby granted, free of charge, to any person obtaining a copy
+    of this software and associated documentation files (the "Software"), to deal
+    in the Software without restriction, including without limitation the rights
+    to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+    copies of the Software, and to permit persons to whom the Software is
+    furnished to do so, subject to the following conditions:
+
+    The above copyright notice and this permission notice shall be included in all
+    copies or substantial portions of the Software.
+
+    THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+    IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+    FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+    AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+    LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+    OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+    SOFTWARE.
+ */
+
+package com.calebleavell.jatui.util;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * A read-only, memory-mapped view of a text file that can be read by line.
+ * <br><br>
+ * The file is mapped with {@link FileChannel#map} (in segments, so files larger than 2 GB are supported),
+ * so its contents are paged in by the operating system as they're read instead of being loaded onto the heap.
+ * <br><br>
+ * When opened, a background thread builds a sparse index that records the offset of every
+ * {@link MappedFile#INDEX_INTERVAL}th line. Reading a line only needs to scan forward from the nearest indexed line,
+ * so lines can be read while the index is still being built, and the heap used by the index is a small
+ * fraction of the file size. A read past the indexed region adds the lines it scans to the index,
+ * so neither later reads nor the background thread scan them again.
+ * <br><br>
+ * Lines are separated by {@code \n}, and a trailing {@code \r} is removed.
+ * Instances are safe to read from multiple threads.
+ */
+public class MappedFile implements AutoCloseable {
+
+    /** The number of lines between entries of the line index. **/
+    public static final int INDEX_INTERVAL = 1024;
+
+    /** The number of bytes returned for a line by {@link MappedFile#line(long)} before it is truncated. **/
+    public static final int DEFAULT_MAX_LINE_BYTES = 4096;
+
+    private static final Logger logger = LoggerFactory.getLogger(MappedFile.class);
+
+    /** The size of every mapped segment except possibly the last (1 GB). **/
+    private static final int SEGMENT_SHIFT = 30;
+    private static final long SEGMENT_SIZE = 1L << SEGMENT_SHIFT;
+
+    private final Path path;
+    private final Charset charset;
+
+    /** Whether {@code charset} is UTF-8, so lines are truncated at character boundaries. **/
+    private final boolean utf8;
+    private final long size;
+    private final MappedByteBuffer[] segments;
+
+    /**
+     * {@code index[k]} is the offset of line {@code k * INDEX_INTERVAL}. Only the first {@code indexed} entries are valid.
+     * The array is only replaced, never modified below {@code indexed}, so it can be read without locking.
+     * Entries are appended (by the indexer or by readers) while holding the lock on {@code this}.
+     */
+    private volatile long[] index = new long[64];
+
+    /** The number of valid entries in {@code index}. **/
+    private volatile int indexed = 0;
+
+    /** The total number of lines, or {@code -1} until the index is complete. **/
+    private volatile long lineCount = -1;
+
+    private volatile boolean closed = false;
+
+    private final Thread indexer;
+
+    /**
+     * Opens and maps a UTF-8 text file, and starts indexing it in the background.
+     *
+     * @param path The file to open.
+     * @return The mapped file.
+     * @throws IOException If the file can't be opened or mapped.
+     */
+    public static MappedFile open(Path path) throws IOException {
+        return open(path, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Opens and maps a text file, and starts indexing it in the background.
+     *
+     * @param path The file to open.
+     * @param charset The charset the file is encoded in. Must encode {@code \n} as the single byte {@code 0x0A}.
+     * @return The mapped file.
+     * @throws IOException If the file can't be opened or mapped.
+     */
+    public static MappedFile open(Path path, Charset charset) throws IOException {
+        MappedFile file = new MappedFile(path, charset);
+        file.indexer.start();
+        return file;
+    }
+
+    private MappedFile(Path path, Charset charset) throws IOException {
+        this.path = path;
+        this.charset = charset;
+        this.utf8 = charset.equals(StandardCharsets.UTF_8);
+
+        try(FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            this.size = channel.size();
+            int count = (int) ((size + SEGMENT_SIZE - 1) >>> SEGMENT_SHIFT);
+            this.segments = new MappedByteBuffer[count];
+            for(int i = 0; i < count; i++) {
+                long position = (long) i << SEGMENT_SHIFT;
+                segments[i] = channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(SEGMENT_SIZE, size - position));
+            }
+        }
+
+        index[0] = 0;
+        indexed = 1;
+        logger.debug("mapped \"{}\" ({} bytes in {} segments)", path, size, segments.length);
+
+        indexer = new Thread(this::buildIndex, "jatui-index-" + path.getFileName());
+        indexer.setDaemon(true);
+    }
+
+    /**
+     * Scans the file from the last indexed line to the end, appending every {@link MappedFile#INDEX_INTERVAL}th line offset.
+     */
+    private void buildIndex() {
+        int entry = indexed - 1;
+        long position = index[entry];
+        int lines = 0;
+
+        while(position < size && !closed) {
+            if(byteAt(position++) != '\n') continue;
+            if(position == size) break; // a trailing newline doesn't start another line
+            if(++lines == INDEX_INTERVAL) {
+                lines = 0;
+                appendIndex(++entry, position);
+
+                // skip what readers have already indexed
+                int available = indexed;
+                if(available - 1 > entry) {
+                    entry = available - 1;
+                    position = index[entry];
+                }
+            }
+        }
+
+        if(closed) return;
+        lineCount = size == 0 ? 0 : (long) entry * INDEX_INTERVAL + lines + 1;
+        logger.debug("indexed {} lines of \"{}\"", lineCount, path);
+    }
+
+    /**
+     * Records the offset of line {@code entry * INDEX_INTERVAL}, unless it has already been recorded.
+     * Entries are only appended in order, so {@code entry} is ignored unless it is the next one.
+     */
+    private synchronized void appendIndex(int entry, long offset) {
+        int count = indexed;
+        if(entry != count) return;
+
+        long[] current = index;
+        if(count == current.length) {
+            current = Arrays.copyOf(current, count * 2);
+            index = current;
+        }
+        current[count] = offset;
+        indexed = count + 1;
+    }
+
+    /**
+     * Reads a byte at an absolute offset.
+     */
+    private byte byteAt(long position) {
+        return segments[(int) (position >>> SEGMENT_SHIFT)].get((int) (position & (SEGMENT_SIZE - 1)));
+    }
+
+    /**
+     * Finds the offset of the start of a line, scanning forward from the nearest indexed line.
+     * Lines scanned past the end of the index are added to it.
+     *
+     * @return The offset, or {@code -1} if the file has fewer than {@code line + 1} lines.
+     */
+    private long offsetOf(long line) {
+        if(line < 0) return -1;
+        long count = lineCount;
+        if(count >= 0 && line >= count) return -1;
+
+        int available = indexed;
+        long[] snapshot = index;
+        int entry = (int) Math.min(line / INDEX_INTERVAL, available - 1);
+        long position = snapshot[entry];
+        long remaining = line - (long) entry * INDEX_INTERVAL;
+        int lines = 0;
+
+        while(remaining > 0) {
+            if(position >= size) return -1;
+            if(byteAt(position++) != '\n') continue;
+            remaining--;
+            if(++lines == INDEX_INTERVAL) {
+                lines = 0;
+                entry++;
+                if(entry == indexed && position < size) appendIndex(entry, position);
+            }
+        }
+        return position < size ? position : -1;
+    }
+
+    /**
+     * Reads a line, truncated to {@link MappedFile#DEFAULT_MAX_LINE_BYTES} bytes.
+     *
+     * @param line The zero-based index of the line.
+     * @return The line without its line separator, or {@code null} if the file has no such line.
+     */
+    public String line(long line) {
+        return line(line, DEFAULT_MAX_LINE_BYTES);
+    }
+
+    /**
+     * Reads a line, truncated to {@code maxBytes} bytes. For UTF-8, the line is truncated at the last whole character
+     * that fits, so a character is never cut in half.
+     *
+     * @param line The zero-based index of the line.
+     * @param maxBytes The maximum number of bytes to decode.
+     * @return The line without its line separator, or {@code null} if the file has no such line.
+     */
+    public String line(long line, int maxBytes) {
+        long start = offsetOf(line);
+        if(start < 0) return null;
+
+        long end = start;
+        long limit = Math.min(size, start + maxBytes);
+        while(end < limit && byteAt(end) != '\n') end++;
+        if(utf8 && end == limit && end < size) {
+            // back up to the first byte of a character that didn't fit (continuation bytes are 10xxxxxx)
+            while(end > start && (byteAt(end) & 0xC0) == 0x80) end--;
+        }
+        if(end > start && byteAt(end - 1) == '\r' && (end == size || byteAt(end) == '\n')) end--;
+
+        byte[] bytes = new byte[(int) (end - start)];
+        int segment = (int) (start >>> SEGMENT_SHIFT);
+        int offset = (int) (start & (SEGMENT_SIZE - 1));
+        if(bytes.length == 0 || segment == (int) ((end - 1) >>> SEGMENT_SHIFT)) {
+            segments[segment].get(offset, bytes);
+        }
+        else {
+            for(int i = 0; i < bytes.length; i++) bytes[i] = byteAt(start + i);
+        }
+        return new String(bytes, charset);
+    }
+
+    /**
+     * Finds the first line at or after {@code fromLine} that contains {@code text}.
+     * The file is searched byte-by-byte in its mapped form, without decoding lines that don't match.
+     *
+     * @param text The text to search for.
+     * @param fromLine The zero-based index of the first line to search.
+     * @return The zero-based index of the matching line, or {@code -1} if there is none.
+     */
+    public long find(String text, long fromLine) {
+        byte[] pattern = text.getBytes(charset);
+        long position = offsetOf(Math.max(0, fromLine));
+        if(position < 0) return -1;
+        if(pattern.length == 0) return Math.max(0, fromLine);
+
+        long line = Math.max(0, fromLine);
+        long last = size - pattern.length;
+        byte first = pattern[0];
+
+        for(; position <= last && !closed; position++) {
+            byte b = byteAt(position);
+            if(b == '\n') {
+                line++;
+                continue;
+            }
+            if(b != first) continue;
+
+            int i = 1;
+            while(i < pattern.length && byteAt(position + i) == pattern[i]) i++;
+            if(i == pattern.length) return line;
+        }
+        return -1;
+    }
+
+    /**
+     * @return The total number of lines, or {@code -1} if the file hasn't been fully indexed yet.
+     */
+    public long lineCount() {
+        return lineCount;
+    }
+
+    /**
+     * @return Whether the line index is complete.
+     */
+    public boolean isIndexed() {
+        return lineCount >= 0;
+    }
+
+    /**
+     * @return The number of lines that are known to exist so far (a lower bound of the line count while indexing).
+     */
+    public long indexedLines() {
+        long count = lineCount;
+        return count >= 0 ? count : (long) (indexed - 1) * INDEX_INTERVAL;
+    }
+
+    /**
+     * Blocks until the line index is complete.
+     *
+     * @throws InterruptedException If the current thread is interrupted while waiting.
+     */
+    public void awaitIndexed() throws InterruptedException {
+        indexer.join();
+    }
+
+    /**
+     * @return The size of the file in bytes.
+     */
+    public long size() {
+        return size;
+    }
+
+    /**
+     * @return The path of the file.
+     */
+    public Path getPath() {
+        return path;
+    }
+
+    /**
+     * Stops indexing. The mapping itself is released when this object is garbage collected.
+     */
+    @Override
+    public void close() {
+        closed = true;
+    }
+}
@@ -0,0 +1,111 @@
+/*
+    Copyright (c) 2026 Caleb Leavell
+
+    Permission is hereby granted, free of charge, to any person obtaining a copy
+    of this software and associated documentation files (the "Software"), to deal
+    in the Software without restriction, including without limitation the rights
+    to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+    copies of the Software, and to permit persons to whom the Software is
+    furnished to do so, subject to the following conditions:
+
+    The above copyright notice and this permission notice shall be included in all
+    copies or substantial portions of the Software.
+
+    THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+    IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+    FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+    AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+    LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+    OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+    SOFTWARE.
+ */
+
+package com.calebleavell.jatui.util;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * An {@link OutputSink} that keeps everything written to it in memory. Useful for tests and for capturing output.
+ */
+public class MemorySink implements OutputSink {
+
+    private final StringBuilder text = new StringBuilder();
+
+    private final PrintStream printStream = new PrintStream(new DecodingStream(), false, StandardCharsets.UTF_8);
+
+    @Override
+    public synchronized void write(CharSequence text) {
+        this.text.append(text);
+    }
+
+    @Override
+    public void flush() {
+        // nothing is buffered
+    }
+
+    /**
+     * @return A {@link PrintStream} whose output is decoded back into this sink.
+     */
+    @Override
+    public PrintStream asPrintStream() {
+        return printStream;
+    }
+
+    /**
+     * @return Everything written so far.
+     */
+    public synchronized String getOutput() {
+        return text.toString();
+    }
+
+    /**
+     * Discards everything written so far.
+     */
+    public synchronized void clear() {
+        text.setLength(0);
+    }
+
+    /**
+     * Decodes the UTF-8 bytes printed to {@link MemorySink#asPrintStream()} back into text,
+     * holding on to incomplete sequences until the rest of their bytes arrive.
+     */
+    private class DecodingStream extends OutputStream {
+        private final CharsetDecoder decoder = StandardCharsets.UTF_8.newDecoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        private final CharBuffer chars = CharBuffer.allocate(256);
+        private ByteBuffer pending = ByteBuffer.allocate(16);
+
+        @Override
+        public void write(int b) {
+            write(new byte[] {(byte) b}, 0, 1);
+        }
+
+        @Override
+        public synchronized void write(byte[] b, int off, int len) {
+            if(pending.remaining() < len) {
+                ByteBuffer grown = ByteBuffer.allocate(pending.position() + len);
+                pending.flip();
+                grown.put(pending);
+                pending = grown;
+            }
+            pending.put(b, off, len);
+            pending.flip();
+            while(decoder.decode(pending, chars, false).isOverflow()) appendChars();
+            appendChars();
+            pending.compact();
+        }
+
+        private void appendChars() {
+            chars.flip();
+            MemorySink.this.write(chars);
+            chars.clear();
+        }
+    }
+}
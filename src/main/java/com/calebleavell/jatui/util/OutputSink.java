@@ -0,0 +1,104 @@
+/*
+    Copyright (c) 2026 Caleb Leavell
+
+    Permission is hereby granted, free of charge, to any person obtaining a copy
+    of this software and associated documentation files (the "Software"), to deal
+    in the Software without restriction, including without limitation the rights
+    to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+    copies of the Software, and to permit persons to whom the Software is
+    furnished to do so, subject to the following conditions:
+
+    The above copyright notice and this permission notice shall be included in all
+    copies or substantial portions of the Software.
+
+    THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+    IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+    FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+    AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+    LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+    OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+    SOFTWARE.
+ */
+
+package com.calebleavell.jatui.util;
+
+import java.io.PrintStream;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.Charset;
+
+/**
+ * A destination for the text modules display.
+ * <br><br>
+ * Modules traditionally write to a {@link PrintStream}, which encodes every print through its own synchronized writer.
+ * An {@link OutputSink} lets the destination decide how text is encoded and delivered: {@link PrintStreamSink} writes
+ * to a {@link PrintStream} as before, {@link ChannelSink} encodes directly into a reused buffer and writes it to a
+ * {@link WritableByteChannel} (such as a socket), and {@link MemorySink} keeps the text in memory for tests.
+ * <br><br>
+ * A sink is set on a module via {@link com.calebleavell.jatui.modules.TUIModule.Builder#outputSink(OutputSink)}
+ * and propagates like a print stream. Modules that still print to {@link com.calebleavell.jatui.modules.TUIModule#getPrintStream()}
+ * receive {@link OutputSink#asPrintStream()}, which writes into the same sink in order.
+ * <br><br>
+ * Text may be buffered until {@link OutputSink#flush()}, which input modules call before reading input
+ * and the scheduler calls when a run finishes.
+ */
+public interface OutputSink {
+
+    /**
+     * Writes text.
+     * @param text The text to write.
+     */
+    void write(CharSequence text);
+
+    /**
+     * Writes text followed by {@link System#lineSeparator()}.
+     * @param text The text to write.
+     */
+    default void writeLine(CharSequence text) {
+        write(text);
+        write(System.lineSeparator());
+    }
+
+    /**
+     * Delivers any buffered text to the destination.
+     */
+    void flush();
+
+    /**
+     * Gets a {@link PrintStream} that writes into this sink, for code that requires one.
+     * The same instance is returned every time.
+     *
+     * @return The print stream view of this sink.
+     */
+    PrintStream asPrintStream();
+
+    /**
+     * @param printStream The stream to write to.
+     * @return A sink that writes to {@code printStream}.
+     */
+    static OutputSink of(PrintStream printStream) {
+        return new PrintStreamSink(printStream);
+    }
+
+    /**
+     * @param channel The channel to write to. It should be in blocking mode.
+     * @param charset The charset to encode text with.
+     * @return A sink that encodes text into a direct buffer and writes it to {@code channel}.
+     */
+    static ChannelSink of(WritableByteChannel channel, Charset charset) {
+        return new ChannelSink(channel, charset);
+    }
+
+    /**
+     * @return A sink that keeps everything written to it in memory.
+     */
+    static MemorySink memory() {
+        return new MemorySink();
+    }
+
+    /**
+     * @return A sink that discards everything written to it.
+     */
+    static OutputSink discard() {
+        return DiscardSink.INSTANCE;
+    }
+}
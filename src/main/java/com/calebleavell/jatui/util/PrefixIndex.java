@@ -0,0 +1,130 @@
+/*
+    Copyright (c) 2026 Caleb Leavell
+
+    Permission is hereby granted, free of charge, to any person obtaining a copy
+    of this software and associated documentation files (the "Software"), to deal
+    in the Software without restriction, including without limitation the rights
+    to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+    copies of the Software, and to permit persons to whom the Software is
+    furnished to do so, subject to the following conditions:
+
+    The above copyright notice and this permission notice shall be included in all
+    copies or substantial portions of the Software.
+
+    THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+    IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+    FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+    AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+    LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+    OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+    SOFTWARE.
+ */
+
+package com.calebleavell.jatui.util;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * Indexes labels by the prefixes of their words, so labels can be searched as the user types.
+ * <br><br>
+ * Labels are split into words on any character that isn't a letter or digit, and matching is case-insensitive.
+ * A query matches a label if every word of the query is a prefix of some word in the label.
+ * <br><br>
+ * Example usage:
+ * <pre><code>
+ * PrefixIndex index = new PrefixIndex();
+ * index.add("Display Hello");   // 0
+ * index.add("Display World");   // 1
+ * index.add("Exit");            // 2
+ *
+ * index.search("disp wor");     // [1]
+ * index.search("e");            // [2]
+ * </code></pre>
+ */
+public class PrefixIndex {
+
+    /** Maps each lowercase word to the ids of the labels containing it. Sorted so prefixes are contiguous ranges. **/
+    private final NavigableMap<String, BitSet> words = new TreeMap<>();
+
+    /** The number of labels that have been added. **/
+    private int size = 0;
+
+    /**
+     * Adds a label to the index.
+     *
+     * @param label The label to index.
+     * @return The id of the label, which is the number of labels added before it.
+     */
+    public int add(String label) {
+        int id = size++;
+        for(String word : split(label)) {
+            words.computeIfAbsent(word, ignored -> new BitSet()).set(id);
+        }
+        return id;
+    }
+
+    /**
+     * Splits text into lowercase words: runs of letters and digits ({@link Character#isLetterOrDigit(int)}).
+     * Labels and queries are both split by this, so a query word always lines up with the label words it should match.
+     *
+     * @param text The text to split.
+     * @return The words, in order.
+     */
+    private static List<String> split(String text) {
+        String lower = text.toLowerCase();
+        List<String> result = new ArrayList<>();
+        int start = -1;
+        int i = 0;
+        while(i <= lower.length()) {
+            int codePoint = i < lower.length() ? lower.codePointAt(i) : -1;
+            boolean wordChar = codePoint >= 0 && Character.isLetterOrDigit(codePoint);
+            if(wordChar && start < 0) start = i;
+            else if(!wordChar && start >= 0) {
+                result.add(lower.substring(start, i));
+                start = -1;
+            }
+            i += codePoint >= 0 ? Character.charCount(codePoint) : 1;
+        }
+        return result;
+    }
+
+    /**
+     * @return The number of labels that have been added.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Finds the labels matching {@code query}. A query with no words matches every label.
+     *
+     * @param query The words to search for, each of which may be the prefix of a word.
+     * @return The ids of the matching labels, in ascending order.
+     */
+    public int[] search(String query) {
+        BitSet result = null;
+        for(String term : split(query)) {
+            BitSet matches = new BitSet();
+            for(Map.Entry<String, BitSet> entry : words.tailMap(term, true).entrySet()) {
+                if(!entry.getKey().startsWith(term)) break;
+                matches.or(entry.getValue());
+            }
+
+            if(result == null) result = matches;
+            else result.and(matches);
+
+            if(result.isEmpty()) return new int[0];
+        }
+
+        if(result == null) {
+            result = new BitSet();
+            result.set(0, size);
+        }
+        return result.stream().toArray();
+    }
+}
@@ -0,0 +1,61 @@
+/*
+    Copyright (c) 2026 Caleb Leavell
+
+    Permission is hereby granted, free of charge, to any person obtaining a copy
+    of this software and associated documentation files (the "Software"), to deal
+    in the Software without restriction, including without limitation the rights
+    to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+    copies of the Software, and to permit persons to whom the Software is
+    furnished to do so, subject to the following conditions:
+
+    The above copyright notice and this permission notice shall be included in all
+    copies or substantial portions of the Software.
+
+    THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+    IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+    FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+    AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+    LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+    OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+    SOFTWARE.
+ */
+
+package com.calebleavell.jatui.util;
+
+import java.io.PrintStream;
+import java.util.Objects;
+
+/**
+ * An {@link OutputSink} that writes to a {@link PrintStream}. This is how modules write when they're given a
+ * print stream via {@link com.calebleavell.jatui.modules.TUIModule.Builder#printStream(PrintStream)}.
+ */
+public class PrintStreamSink implements OutputSink {
+
+    private final PrintStream printStream;
+
+    /**
+     * @param printStream The stream to write to.
+     */
+    public PrintStreamSink(PrintStream printStream) {
+        this.printStream = Objects.requireNonNull(printStream, "printStream cannot be null");
+    }
+
+    @Override
+    public void write(CharSequence text) {
+        if(text instanceof String string) printStream.print(string);
+        else printStream.append(text);
+    }
+
+    @Override
+    public void flush() {
+        printStream.flush();
+    }
+
+    /**
+     * @return The stream this sink writes to.
+     */
+    @Override
+    public PrintStream asPrintStream() {
+        return printStream;
+    }
+}
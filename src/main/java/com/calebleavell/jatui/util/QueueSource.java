@@ -0,0 +1,200 @@
+/*
+    Copyright (c) 2026 Caleb Leavell
+
+    Permission is hereby granted, free of charge, to any person obtaining a copy
+    of this software and associated documentation files (the "Software"), to deal
+    in the Software without restriction, including without limitation the rights
+    to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+    copies of the Software, and to permit persons to whom the Software is
+    furnished to do so, subject to the following conditions:
+
+    The above copyright notice and this permission notice shall be included in all
+    copies or substantial portions of the Software.
+
+    THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+    IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+    FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+    AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+    LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+    OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+    SOFTWARE.
+ */
+
+package com.calebleavell.jatui.util;
+
+import java.io.Closeable;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * An {@link InputSource} of lines handed to it in memory, e.g., by a network handler or a test.
+ * <br><br>
+ * Lines are read in the order they were offered. Reading blocks until a line is offered or the source is closed,
+ * but the source knows whether a line is ready (see {@link InputSource#ready()}) and can notify a listener once it is
+ * (see {@link QueueSource#whenReady(Runnable)}), so an {@link com.calebleavell.jatui.modules.EventLoop}
+ * never has to block on it. This class is thread-safe.
+ */
+public class QueueSource implements InputSource, Closeable {
+
+    private final Deque<String> lines = new ArrayDeque<>();
+    private boolean closed = false;
+    private Runnable listener = null;
+
+    /**
+     * Queues a line to be read.
+     *
+     * @param line The line, without its line terminator.
+     * @return self
+     * @throws IllegalStateException if the source is closed.
+     */
+    public QueueSource offer(String line) {
+        Objects.requireNonNull(line, "line cannot be null");
+        Runnable toNotify;
+        synchronized(lines) {
+            if(closed) throw new IllegalStateException("Cannot offer a line to a closed source");
+            lines.add(line);
+            lines.notifyAll();
+            toNotify = takeListener();
+        }
+        if(toNotify != null) toNotify.run();
+        return this;
+    }
+
+    /**
+     * Queues lines to be read, in order.
+     *
+     * @param lines The lines, without their line terminators.
+     * @return self
+     * @throws IllegalStateException if the source is closed.
+     */
+    public QueueSource offer(String... lines) {
+        for(String line : lines) offer(line);
+        return this;
+    }
+
+    /**
+     * Waits for the next line.
+     *
+     * @throws NoSuchElementException if the source is closed and has no more lines,
+     * or if the thread is interrupted while waiting.
+     */
+    @Override
+    public String nextLine() {
+        synchronized(lines) {
+            while(lines.isEmpty()) {
+                if(closed) throw new NoSuchElementException("No line found");
+                try {
+                    lines.wait();
+                }
+                catch(InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new NoSuchElementException("Interrupted while waiting for a line");
+                }
+            }
+            return lines.poll();
+        }
+    }
+
+    /**
+     * Waits at most {@code timeout} for the next line.
+     *
+     * @throws NoSuchElementException if the source is closed and has no more lines,
+     * or if the thread is interrupted while waiting.
+     */
+    @Override
+    public String nextLine(Duration timeout) {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        synchronized(lines) {
+            while(lines.isEmpty()) {
+                if(closed) throw new NoSuchElementException("No line found");
+                long remaining = deadline - System.nanoTime();
+                if(remaining <= 0) return null;
+                try {
+                    TimeUnit.NANOSECONDS.timedWait(lines, remaining);
+                }
+                catch(InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new NoSuchElementException("Interrupted while waiting for a line");
+                }
+            }
+            return lines.poll();
+        }
+    }
+
+    @Override
+    public boolean canTimeOut() {
+        return true;
+    }
+
+    /**
+     * @return Whether a line is queued or the source is closed.
+     */
+    @Override
+    public boolean ready() {
+        synchronized(lines) {
+            return !lines.isEmpty() || closed;
+        }
+    }
+
+    /**
+     * Runs {@code listener} once this source is {@link QueueSource#ready()}: immediately if it already is,
+     * otherwise on the thread that offers the next line or closes the source. Only the most recent listener
+     * is kept, and it runs at most once.
+     *
+     * @param listener What to run once the source is ready.
+     */
+    public void whenReady(Runnable listener) {
+        Objects.requireNonNull(listener, "listener cannot be null");
+        synchronized(lines) {
+            if(lines.isEmpty() && !closed) {
+                this.listener = listener;
+                return;
+            }
+            this.listener = null;
+        }
+        listener.run();
+    }
+
+    /**
+     * @return The number of lines that are queued and haven't been read.
+     */
+    public int size() {
+        synchronized(lines) {
+            return lines.size();
+        }
+    }
+
+    /**
+     * @return Whether the source was closed.
+     */
+    public boolean isClosed() {
+        synchronized(lines) {
+            return closed;
+        }
+    }
+
+    /**
+     * Stops accepting lines. Lines already queued can still be read, after which {@link QueueSource#nextLine()}
+     * throws {@link NoSuchElementException}.
+     */
+    @Override
+    public void close() {
+        Runnable toNotify;
+        synchronized(lines) {
+            closed = true;
+            lines.notifyAll();
+            toNotify = takeListener();
+        }
+        if(toNotify != null) toNotify.run();
+    }
+
+    private Runnable takeListener() {
+        Runnable toNotify = listener;
+        listener = null;
+        return toNotify;
+    }
+}
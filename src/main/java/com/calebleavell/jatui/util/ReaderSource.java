@@ -0,0 +1,129 @@
+/*
+    Copyright (c) 2026 Caleb Leavell
+
+    Permission is hereby granted, free of charge, to any person obtaining a copy
+    of this software and associated documentation files (the "Software"), to deal
+    in the Software without restriction, including without limitation the rights
+    to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+    copies of the Software, and to permit persons to whom the Software is
+    furnished to do so, subject to the following conditions:
+
+    The above copyright notice and this permission notice shall be included in all
+    copies or substantial portions of the Software.
+
+    THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+    IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+    FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+    AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+    LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+    OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+    SOFTWARE.
+ */
+
+package com.calebleavell.jatui.util;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * An {@link InputSource} that reads lines from a {@link BufferedReader}.
+ * <br><br>
+ * Unlike a {@link java.util.Scanner}, no pattern matching is done per line, so this is suited to scripted input
+ * with many lines (see {@link com.calebleavell.jatui.modules.BatchRunner}).
+ * It can also wait for a line with a timeout, e.g., to read {@link System#in} with an input deadline via
+ * {@code new ReaderSource(new BufferedReader(new InputStreamReader(System.in)))}. This class is not thread-safe.
+ */
+public class ReaderSource implements InputSource, Closeable {
+
+    /** The longest pause between checks for input while waiting with a timeout. **/
+    private static final long MAX_POLL_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+
+    private final BufferedReader reader;
+    private long linesRead = 0;
+
+    /**
+     * @param reader The reader to read from.
+     */
+    public ReaderSource(BufferedReader reader) {
+        this.reader = Objects.requireNonNull(reader, "reader cannot be null");
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws UncheckedIOException if the reader fails.
+     */
+    @Override
+    public String nextLine() {
+        String line;
+        try {
+            line = reader.readLine();
+        }
+        catch(IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        if(line == null) throw new NoSuchElementException("No line found");
+        linesRead ++;
+        return line;
+    }
+
+    /**
+     * Waits at most {@code timeout} for input by checking {@link BufferedReader#ready()} and parking the thread
+     * in between (no thread is started), then reads the line. Once input has arrived, the rest of its line is
+     * waited for without a timeout. A reader at the end of its input isn't ready, so the wait ends with the timeout
+     * rather than {@link NoSuchElementException}.
+     *
+     * @throws UncheckedIOException if the reader fails.
+     * @throws NoSuchElementException if the thread is interrupted while waiting.
+     */
+    @Override
+    public String nextLine(Duration timeout) {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        long pause = TimeUnit.MICROSECONDS.toNanos(100);
+        try {
+            while(!reader.ready()) {
+                long remaining = deadline - System.nanoTime();
+                if(remaining <= 0) return null;
+                LockSupport.parkNanos(Math.min(pause, remaining));
+                if(Thread.interrupted()) {
+                    Thread.currentThread().interrupt();
+                    throw new NoSuchElementException("Interrupted while waiting for a line");
+                }
+                pause = Math.min(pause * 2, MAX_POLL_NANOS);
+            }
+        }
+        catch(IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return nextLine();
+    }
+
+    @Override
+    public boolean canTimeOut() {
+        return true;
+    }
+
+    /**
+     * @return The number of lines read so far.
+     */
+    public long getLinesRead() {
+        return linesRead;
+    }
+
+    /**
+     * Closes the underlying reader.
+     *
+     * @throws IOException if the reader fails to close.
+     */
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
@@ -0,0 +1,54 @@
+/*
+    Copyright (c) 2026 Caleb Leavell
+
+    Permission is hereby granted, free of charge, to any person obtaining a copy
+    of this software and associated documentation files (the "Software"), to deal
+    in the Software without restriction, including without limitation the rights
+    to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+    copies of the Software, and to permit persons to whom the Software is
+    furnished to do so, subject to the following conditions:
+
+    The above copyright notice and this permission notice shall be included in all
+    copies or substantial portions of the Software.
+
+    THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+    IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+    FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+    AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+    LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+    OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+    SOFTWARE.
+ */
+
+package com.calebleavell.jatui.util;
+
+import java.util.Objects;
+import java.util.Scanner;
+
+/**
+ * An {@link InputSource} that reads from a {@link Scanner}. This is how modules read when they're given a
+ * scanner via {@link com.calebleavell.jatui.modules.TUIModule.Builder#scanner(Scanner)}.
+ */
+public class ScannerSource implements InputSource {
+
+    private final Scanner scanner;
+
+    /**
+     * @param scanner The scanner to read from.
+     */
+    public ScannerSource(Scanner scanner) {
+        this.scanner = Objects.requireNonNull(scanner, "scanner cannot be null");
+    }
+
+    @Override
+    public String nextLine() {
+        return scanner.nextLine();
+    }
+
+    /**
+     * @return The scanner this source reads from.
+     */
+    public Scanner getScanner() {
+        return scanner;
+    }
+}
@@ -0,0 +1,395 @@
+/*
+    Copyright (c) 2026 Caleb Leavell
+
+    Permission is hereby granted, free of charge, to any person obtaining a copy
+    of this software and associated documentation files (the "Software"), to deal
+    in the Software without restriction, including without limitation the rights
+    to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+    copies of the Software, and to permit persons to whom the Software is
+    furnished to do so, subject to the following conditions:
+
+    The above copyright notice and this permission notice shall be included in all
+    copies or substantial portions of the Software.
+
+    THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+    IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+    FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+    AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+    LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+    OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+    SOFTWARE.
+ */
+
+package com.calebleavell.jatui.util;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A virtual grid of character cells that is drawn into and then painted to a terminal
+ * by emitting only the cells that changed since the last paint.
+ * <br><br>
+ * The buffer keeps two grids: the <i>back</i> grid, which is drawn into, and the <i>front</i> grid,
+ * which mirrors what the terminal currently shows. {@link ScreenBuffer#render(PrintStream)} compares them and writes
+ * only cursor moves, style changes, and changed cells, then makes the front grid match the back grid.
+ * A screen that barely changes between frames therefore costs only a few bytes to refresh.
+ * <br><br>
+ * Text is drawn through a {@link Region}, which exposes a {@link PrintStream} that writes into a rectangle of cells.
+ * ANSI SGR sequences (such as those printed by a styled {@link com.calebleavell.jatui.modules.TextModule})
+ * are interpreted as cell styles rather than drawn. Text that doesn't fit in the region is clipped.
+ * <br><br>
+ * Every code point occupies exactly one cell; wide characters aren't accounted for.
+ */
+public class ScreenBuffer {
+
+    private static final String ESC = "\u001b[";
+    private static final int BLANK = ' ';
+
+    /** The largest gap on a row that is rewritten rather than skipped with a cursor move. **/
+    private static final int MAX_REWRITTEN_GAP = 4;
+
+    private final int width;
+    private final int height;
+
+    private final int[] backChars;
+    private final String[] backStyles;
+    private final int[] frontChars;
+    private final String[] frontStyles;
+
+    /** Whether the terminal's contents are unknown, so the next render must paint everything. **/
+    private boolean invalid = true;
+
+    private final List<Region> regions = new ArrayList<>();
+
+    /** Reused between renders so painting a frame doesn't allocate once the builder has grown. **/
+    private final StringBuilder frame = new StringBuilder();
+
+    /**
+     * Creates a blank screen buffer.
+     *
+     * @param width The number of columns.
+     * @param height The number of rows.
+     */
+    public ScreenBuffer(int width, int height) {
+        if(width <= 0 || height <= 0) throw new IllegalArgumentException("width and height must be positive: " + width + "x" + height);
+        this.width = width;
+        this.height = height;
+
+        int cells = width * height;
+        backChars = new int[cells];
+        backStyles = new String[cells];
+        frontChars = new int[cells];
+        frontStyles = new String[cells];
+        Arrays.fill(backChars, BLANK);
+        Arrays.fill(backStyles, "");
+        Arrays.fill(frontChars, BLANK);
+        Arrays.fill(frontStyles, "");
+    }
+
+    /**
+     * @return The number of columns.
+     */
+    public int getWidth() {
+        return width;
+    }
+
+    /**
+     * @return The number of rows.
+     */
+    public int getHeight() {
+        return height;
+    }
+
+    /**
+     * Creates a rectangular region to draw into. The region is clipped to the screen.
+     *
+     * @param row The zero-based row of the top-left cell.
+     * @param col The zero-based column of the top-left cell.
+     * @param width The number of columns.
+     * @param height The number of rows.
+     * @return The new region.
+     */
+    public Region region(int row, int col, int width, int height) {
+        if(row < 0 || col < 0 || width <= 0 || height <= 0)
+            throw new IllegalArgumentException("invalid region: " + row + "," + col + " " + width + "x" + height);
+        Region region = new Region(row, col, Math.min(width, this.width - col), Math.min(height, this.height - row));
+        regions.add(region);
+        return region;
+    }
+
+    /**
+     * Blanks the back grid and moves the cursor of every region back to its top-left cell,
+     * so a new frame can be drawn.
+     */
+    public void clear() {
+        Arrays.fill(backChars, BLANK);
+        Arrays.fill(backStyles, "");
+        for(Region region : regions) region.home();
+    }
+
+    /**
+     * Sets a cell of the back grid. Cells outside the screen are ignored.
+     *
+     * @param row The zero-based row.
+     * @param col The zero-based column.
+     * @param codePoint The character to display.
+     * @param style The SGR parameters of the cell (e.g., {@code "1;31"}), or {@code ""} for the default style.
+     */
+    public void set(int row, int col, int codePoint, String style) {
+        if(row < 0 || row >= height || col < 0 || col >= width) return;
+        int cell = row * width + col;
+        backChars[cell] = codePoint;
+        backStyles[cell] = style;
+    }
+
+    /**
+     * @return The character drawn at a cell of the back grid.
+     */
+    public int getChar(int row, int col) {
+        return backChars[row * width + col];
+    }
+
+    /**
+     * @return The SGR parameters of a cell of the back grid, or {@code ""} for the default style.
+     */
+    public String getStyle(int row, int col) {
+        return backStyles[row * width + col];
+    }
+
+    /**
+     * @return The text of a row of the back grid, with trailing blanks removed.
+     */
+    public String getRow(int row) {
+        StringBuilder text = new StringBuilder(width);
+        for(int col = 0; col < width; col++) text.appendCodePoint(backChars[row * width + col]);
+        return text.toString().stripTrailing();
+    }
+
+    /**
+     * Forgets what the terminal shows, so the next {@link ScreenBuffer#render(PrintStream)} clears and repaints everything.
+     * Call this if something else may have written to the terminal.
+     */
+    public void invalidate() {
+        invalid = true;
+    }
+
+    /**
+     * Paints the back grid to {@code out} using ANSI escape sequences, writing only what changed since the last render.
+     * The first render (or the first after {@link ScreenBuffer#invalidate()}) clears the terminal first.
+     * Afterward, the cursor is left at the start of the row below the screen.
+     *
+     * @param out The terminal to paint to.
+     * @return The number of characters written.
+     */
+    public int render(PrintStream out) {
+        frame.setLength(0);
+
+        int cursorRow = -1;
+        int cursorCol = -1;
+        String style = ""; // every render (like every styled module) ends by resetting the style
+
+        if(invalid) frame.append(ESC).append("0m").append(ESC).append("2J");
+
+        for(int row = 0; row < height; row++) {
+            for(int col = 0; col < width; col++) {
+                int cell = row * width + col;
+                if(!invalid && unchanged(cell)) continue;
+                if(invalid && backChars[cell] == BLANK && backStyles[cell].isEmpty()) continue; // already cleared
+
+                if(row != cursorRow || col != cursorCol) {
+                    if(row == cursorRow && col > cursorCol && col - cursorCol <= MAX_REWRITTEN_GAP && canRewrite(cell - (col - cursorCol), cell, style)) {
+                        for(int gap = cell - (col - cursorCol); gap < cell; gap++) frame.appendCodePoint(backChars[gap]);
+                    }
+                    else frame.append(ESC).append(row + 1).append(';').append(col + 1).append('H');
+                }
+
+                String cellStyle = backStyles[cell];
+                if(!cellStyle.equals(style)) {
+                    frame.append(ESC).append('0');
+                    if(!cellStyle.isEmpty()) frame.append(';').append(cellStyle);
+                    frame.append('m');
+                    style = cellStyle;
+                }
+
+                frame.appendCodePoint(backChars[cell]);
+                frontChars[cell] = backChars[cell];
+                frontStyles[cell] = cellStyle;
+                cursorRow = row;
+                cursorCol = col + 1;
+            }
+        }
+
+        if(invalid) {
+            for(int cell = 0; cell < backChars.length; cell++) {
+                frontChars[cell] = backChars[cell];
+                frontStyles[cell] = backStyles[cell];
+            }
+        }
+
+        if(!style.isEmpty()) frame.append(ESC).append("0m");
+        if(cursorRow >= 0 || invalid) frame.append(ESC).append(height + 1).append(";1H");
+        invalid = false;
+
+        out.print(frame);
+        out.flush();
+        return frame.length();
+    }
+
+    /**
+     * Prints every row of the back grid as a line of plain text, without escape sequences or styles.
+     * This is used when ANSI is disabled.
+     *
+     * @param out The stream to print to.
+     */
+    public void renderPlain(PrintStream out) {
+        for(int row = 0; row < height; row++) out.println(getRow(row));
+        out.flush();
+        invalid = true;
+    }
+
+    private boolean unchanged(int cell) {
+        return backChars[cell] == frontChars[cell] && backStyles[cell].equals(frontStyles[cell]);
+    }
+
+    /**
+     * Checks whether the skipped cells in {@code [from, to)} can be rewritten instead of moving the cursor past them.
+     * Skipped cells already show their back grid contents, so this only requires that they share {@code style}.
+     */
+    private boolean canRewrite(int from, int to, String style) {
+        for(int cell = from; cell < to; cell++) {
+            if(!backStyles[cell].equals(style)) return false;
+        }
+        return true;
+    }
+
+    /**
+     * A rectangle of cells with its own cursor that text can be printed into.
+     * Newlines move to the start of the next row of the region, text past the right or bottom edge is clipped,
+     * and ANSI SGR sequences change the style of the following cells.
+     */
+    public class Region {
+        private final int top;
+        private final int left;
+        private final int regionWidth;
+        private final int regionHeight;
+
+        private int row = 0;
+        private int col = 0;
+        private String style = "";
+
+        private final PrintStream printStream;
+
+        /** The state of the escape sequence being parsed: 0 for none, 1 after ESC, 2 inside a CSI sequence. **/
+        private int escape = 0;
+        private final StringBuilder parameters = new StringBuilder();
+
+        /** The code point being decoded from UTF-8 and the number of continuation bytes it still needs. **/
+        private int codePoint = 0;
+        private int remaining = 0;
+
+        private Region(int top, int left, int width, int height) {
+            this.top = top;
+            this.left = left;
+            this.regionWidth = width;
+            this.regionHeight = height;
+            this.printStream = new PrintStream(new OutputStream() {
+                @Override
+                public void write(int b) {
+                    decode(b & 0xFF);
+                }
+            }, false, StandardCharsets.UTF_8);
+        }
+
+        /**
+         * @return A {@link PrintStream} that draws into this region. It can be given to a module via
+         * {@link com.calebleavell.jatui.modules.TUIModule.Builder#printStream(PrintStream)}.
+         */
+        public PrintStream getPrintStream() {
+            return printStream;
+        }
+
+        /**
+         * @return The number of columns in this region.
+         */
+        public int getWidth() {
+            return regionWidth;
+        }
+
+        /**
+         * @return The number of rows in this region.
+         */
+        public int getHeight() {
+            return regionHeight;
+        }
+
+        /**
+         * Moves the cursor to the top-left cell and resets the style.
+         */
+        public void home() {
+            row = 0;
+            col = 0;
+            style = "";
+            escape = 0;
+        }
+
+        /**
+         * Decodes one byte of UTF-8.
+         */
+        private void decode(int b) {
+            if(remaining > 0 && (b & 0xC0) == 0x80) {
+                codePoint = (codePoint << 6) | (b & 0x3F);
+                if(--remaining == 0) put(codePoint);
+                return;
+            }
+
+            remaining = 0;
+            if(b < 0x80) put(b);
+            else if((b & 0xE0) == 0xC0) { codePoint = b & 0x1F; remaining = 1; }
+            else if((b & 0xF0) == 0xE0) { codePoint = b & 0x0F; remaining = 2; }
+            else if((b & 0xF8) == 0xF0) { codePoint = b & 0x07; remaining = 3; }
+            else put(0xFFFD);
+        }
+
+        /**
+         * Draws one code point at the cursor, or interprets it as part of an escape sequence or control character.
+         */
+        private void put(int c) {
+            if(escape == 1) {
+                escape = c == '[' ? 2 : 0;
+                parameters.setLength(0);
+                return;
+            }
+            if(escape == 2) {
+                if((c >= '0' && c <= '9') || c == ';') parameters.append((char) c);
+                else {
+                    escape = 0;
+                    if(c == 'm') applySgr();
+                }
+                return;
+            }
+
+            switch(c) {
+                case 0x1B -> escape = 1;
+                case '\n' -> { row++; col = 0; }
+                case '\r' -> col = 0;
+                case '\t' -> col = (col / 8 + 1) * 8;
+                default -> {
+                    if(c < 0x20) return;
+                    if(row < regionHeight && col < regionWidth) set(top + row, left + col, c, style);
+                    col++;
+                }
+            }
+        }
+
+        private void applySgr() {
+            String sgr = parameters.toString();
+            if(sgr.isEmpty() || sgr.equals("0")) style = "";
+            else if(sgr.startsWith("0;")) style = sgr.substring(2);
+            else style = style.isEmpty() ? sgr : style + ";" + sgr;
+        }
+    }
+}
@@ -0,0 +1,99 @@
+/*
+    Copyright (c) 2026 Caleb Leavell
+
+    Permission is hereby granted, free of charge, to any person obtaining a copy
+    of this software and associated documentation files (the "Software"), to deal
+    in the Software without restriction, including without limitation the rights
+    to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+    copies of the Software, and to permit persons to whom the Software is
+    furnished to do so, subject to the following conditions:
+
+    The above copyright notice and this permission notice shall be included in all
+    copies or substantial portions of the Software.
+
+    THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+    IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+    FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+    AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+    LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+    OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+    SOFTWARE.
+ */
+
+package com.calebleavell.jatui.util;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * An {@link InputSource} that records every line read from another source, along with how long the source took
+ * to provide it (i.e., the user's think time), so the session can be replayed later.
+ * <br><br>
+ * Example usage:
+ * <pre><code>
+ * SessionRecorder recorder = new SessionRecorder(InputSource.of(TUIModule.DEFAULT_SCANNER));
+ * ApplicationModule app = ApplicationModule.builder("app").inputSource(recorder).build();
+ * app.start();
+ * recorder.getRecording().save(Path.of("session.jts"));
+ * </code></pre>
+ * This class is not thread-safe.
+ */
+public class SessionRecorder implements InputSource {
+
+    private final InputSource delegate;
+    private final List<String> lines = new ArrayList<>();
+    private long[] thinkTimes = new long[16];
+
+    /**
+     * @param delegate The source to read lines from.
+     */
+    public SessionRecorder(InputSource delegate) {
+        this.delegate = Objects.requireNonNull(delegate, "delegate cannot be null");
+    }
+
+    @Override
+    public String nextLine() {
+        long asked = System.nanoTime();
+        return record(delegate.nextLine(), asked);
+    }
+
+    /**
+     * {@inheritDoc}
+     * Lines that don't arrive in time aren't recorded.
+     */
+    @Override
+    public String nextLine(Duration timeout) {
+        long asked = System.nanoTime();
+        String line = delegate.nextLine(timeout);
+        return line == null ? null : record(line, asked);
+    }
+
+    private String record(String line, long asked) {
+        long thinkTime = System.nanoTime() - asked;
+
+        if(lines.size() == thinkTimes.length) thinkTimes = Arrays.copyOf(thinkTimes, thinkTimes.length * 2);
+        thinkTimes[lines.size()] = thinkTime;
+        lines.add(line);
+        return line;
+    }
+
+    @Override
+    public boolean canTimeOut() {
+        return delegate.canTimeOut();
+    }
+
+    @Override
+    public boolean ready() {
+        return delegate.ready();
+    }
+
+    /**
+     * @return A recording of every line read so far.
+     */
+    public SessionRecording getRecording() {
+        return new SessionRecording(lines, Arrays.copyOf(thinkTimes, lines.size()));
+    }
+}
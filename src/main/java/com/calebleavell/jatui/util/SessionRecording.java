@@ -0,0 +1,254 @@
+/*
+    Copyright (c) 2026 Caleb Leavell
+
+    Permission is hereby granted, free of charge, to any person obtaining a copy
+    of this software and associated documentation files (the "Software"), to deal
+    in the Software without restriction, including without limitation the rights
+    to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+    copies of the Software, and to permit persons to whom the Software is
+    furnished to do so, subject to the following conditions:
+
+    The above copyright notice and this permission notice shall be included in all
+    copies or substantial portions of the Software.
+
+    THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+    IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+    FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+    AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+    LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+    OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+    SOFTWARE.
+ */
+
+package com.calebleavell.jatui.util;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The lines of input a user entered during one session, along with how long they took to enter each one
+ * (their think time). Recordings are made by a {@link SessionRecorder} and replayed via
+ * {@link SessionRecording#replay(double)}, e.g., by a {@link com.calebleavell.jatui.modules.LoadGenerator}.
+ * <br><br>
+ * Recordings are saved in a compact binary format: a 4-byte magic number followed by one entry per line,
+ * each a variable-length think time in microseconds, a variable-length byte count, and the line in UTF-8.
+ * <br><br>
+ * This class is immutable.
+ */
+public final class SessionRecording {
+
+    /** The magic number every saved recording starts with ("JTS1"). **/
+    public static final int MAGIC = 0x4A545331;
+
+    /** The longest line {@link SessionRecording#read(InputStream)} accepts, in bytes, so a corrupt length can't exhaust memory. **/
+    private static final int MAX_LINE_BYTES = 1 << 20;
+
+    private final List<String> lines;
+    private final long[] thinkTimes;
+
+    /**
+     * @param lines The lines that were entered, in order.
+     * @param thinkTimes How long each line took to enter, in nanoseconds.
+     */
+    SessionRecording(List<String> lines, long[] thinkTimes) {
+        if(lines.size() != thinkTimes.length) throw new IllegalArgumentException("every line needs a think time");
+        this.lines = List.copyOf(lines);
+        this.thinkTimes = thinkTimes.clone();
+    }
+
+    /**
+     * Creates a recording of lines that were entered without any think time (e.g., a script).
+     *
+     * @param lines The lines, in order.
+     * @return The recording.
+     */
+    public static SessionRecording of(String... lines) {
+        return new SessionRecording(List.of(lines), new long[lines.length]);
+    }
+
+    /**
+     * @return The lines that were entered, in order.
+     */
+    public List<String> getLines() {
+        return lines;
+    }
+
+    /**
+     * @return The number of lines that were entered.
+     */
+    public int size() {
+        return lines.size();
+    }
+
+    /**
+     * @param index The index of a line.
+     * @return How long the line took to enter.
+     */
+    public Duration getThinkTime(int index) {
+        return Duration.ofNanos(thinkTimes[index]);
+    }
+
+    /**
+     * @return How long all the lines took to enter combined.
+     */
+    public Duration getTotalThinkTime() {
+        long total = 0;
+        for(long thinkTime : thinkTimes) total += thinkTime;
+        return Duration.ofNanos(total);
+    }
+
+    /**
+     * Creates a source that returns the recorded lines, waiting for each line's think time divided by
+     * {@code speed} before returning it. Each call returns a new, independent source.
+     *
+     * @param speed How much faster than real time to replay. 1 replays in real time, and 0 doesn't wait at all.
+     * @return A source of the recorded lines.
+     */
+    public InputSource replay(double speed) {
+        if(speed < 0 || Double.isNaN(speed)) throw new IllegalArgumentException("speed cannot be negative");
+        return new InputSource() {
+            private int next = 0;
+
+            @Override
+            public String nextLine() {
+                if(next >= lines.size()) throw new NoSuchElementException("No line found");
+                if(speed > 0) {
+                    long wait = (long) (thinkTimes[next] / speed);
+                    try {
+                        if(wait > 0) TimeUnit.NANOSECONDS.sleep(wait);
+                    }
+                    catch(InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        throw new IllegalStateException("interrupted while replaying input", e);
+                    }
+                }
+                return lines.get(next ++);
+            }
+        };
+    }
+
+    /**
+     * Writes this recording in the compact binary format.
+     *
+     * @param out The stream to write to. It is not closed.
+     * @throws IOException if writing fails.
+     */
+    public void write(OutputStream out) throws IOException {
+        DataOutputStream data = new DataOutputStream(new BufferedOutputStream(out));
+        data.writeInt(MAGIC);
+        for(int i = 0; i < lines.size(); i ++) {
+            byte[] bytes = lines.get(i).getBytes(StandardCharsets.UTF_8);
+            writeVarLong(data, TimeUnit.NANOSECONDS.toMicros(thinkTimes[i]));
+            writeVarLong(data, bytes.length);
+            data.write(bytes);
+        }
+        data.flush();
+    }
+
+    /**
+     * Saves this recording to a file in the compact binary format.
+     *
+     * @param path The file to write, which is replaced if it exists.
+     * @throws IOException if writing fails.
+     */
+    public void save(Path path) throws IOException {
+        try(OutputStream out = Files.newOutputStream(path)) {
+            write(out);
+        }
+    }
+
+    /**
+     * Reads a recording written by {@link SessionRecording#write(OutputStream)}.
+     *
+     * @param in The stream to read from, until its end. It is not closed.
+     * @return The recording.
+     * @throws IOException if reading fails or the data is not a recording.
+     */
+    public static SessionRecording read(InputStream in) throws IOException {
+        DataInputStream data = new DataInputStream(new BufferedInputStream(in));
+        if(data.readInt() != MAGIC) throw new IOException("not a session recording");
+
+        List<String> lines = new ArrayList<>();
+        List<Long> thinkTimes = new ArrayList<>();
+        while(true) {
+            int first = data.read();
+            if(first == -1) break;
+            thinkTimes.add(TimeUnit.MICROSECONDS.toNanos(readVarLong(data, first)));
+            long length = readVarLong(data, data.readUnsignedByte());
+            if(length < 0 || length > MAX_LINE_BYTES) throw new IOException("malformed session recording: line of " + length + " bytes");
+            // read rather than allocate up front, so a length past the end of the data fails without allocating it
+            byte[] bytes = data.readNBytes((int) length);
+            if(bytes.length != length) throw new EOFException("session recording ends in the middle of a line");
+            lines.add(new String(bytes, StandardCharsets.UTF_8));
+        }
+
+        long[] times = new long[thinkTimes.size()];
+        for(int i = 0; i < times.length; i ++) times[i] = thinkTimes.get(i);
+        return new SessionRecording(lines, times);
+    }
+
+    /**
+     * Loads a recording saved by {@link SessionRecording#save(Path)}.
+     *
+     * @param path The file to read.
+     * @return The recording.
+     * @throws IOException if reading fails or the file is not a recording.
+     */
+    public static SessionRecording load(Path path) throws IOException {
+        try(InputStream in = Files.newInputStream(path)) {
+            return read(in);
+        }
+    }
+
+    private static void writeVarLong(DataOutputStream out, long value) throws IOException {
+        while((value & ~0x7FL) != 0) {
+            out.writeByte((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    private static long readVarLong(DataInputStream in, int first) throws IOException {
+        long value = first & 0x7F;
+        int shift = 7;
+        int b = first;
+        while((b & 0x80) != 0) {
+            if(shift > 63) throw new IOException("malformed session recording");
+            b = in.readUnsignedByte();
+            value |= (long) (b & 0x7F) << shift;
+            shift += 7;
+        }
+        return value;
+    }
+
+    /**
+     * Format: "SessionRecording(lines: {@code <size>} | think time: {@code <total>}ms)".
+     *
+     * @return the formatted string
+     */
+    @Override
+    public String toString() {
+        return String.format("SessionRecording(lines: %d | think time: %dms)", size(), getTotalThinkTime().toMillis());
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if(this == o) return true;
+        if(!(o instanceof SessionRecording other)) return false;
+        return lines.equals(other.lines) && Arrays.equals(thinkTimes, other.thinkTimes);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(lines, Arrays.hashCode(thinkTimes));
+    }
+}
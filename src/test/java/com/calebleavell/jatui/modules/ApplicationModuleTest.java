@@ -28,6 +28,9 @@ import org.fusesource.jansi.Ansi;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import static org.fusesource.jansi.Ansi.ansi;
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -111,6 +114,119 @@ class ApplicationModuleTest {
         }
     }
 
+    @Test
+    void testValidationSkippedWhenUnchanged() {
+        try(IOCapture io = new IOCapture()) {
+            TextModule.Builder text = TextModule.builder("text", "text");
+            ApplicationModule app = ApplicationModule.builder("test-app")
+                    .addChildren(ContainerModule.builder("home").addChild(text))
+                    .enableAnsi(false)
+                    .printStream(io.getPrintStream())
+                    .build();
+
+            assertFalse(app.isValidated());
+
+            app.start();
+            boolean validatedAfterRun = app.isValidated();
+
+            text.name("renamed");
+            boolean validatedAfterRename = app.isValidated();
+
+            app.start();
+            boolean validatedAfterRestart = app.isValidated();
+
+            app.setHome(ContainerModule.builder("new-home"));
+            boolean validatedAfterNewHome = app.isValidated();
+
+            app.getHome().getChildren().add(null);
+            assertDoesNotThrow(app::checkForNameDuplicates);
+
+            assertAll(
+                    () -> assertTrue(validatedAfterRun),
+                    () -> assertFalse(validatedAfterRename),
+                    () -> assertTrue(validatedAfterRestart),
+                    () -> assertFalse(validatedAfterNewHome),
+                    () -> assertTrue(app.isValidated())
+            );
+        }
+    }
+
+    @Test
+    void testValidationSurvivesInputModules() {
+        try(IOCapture io = new IOCapture(String.format("first%nbad%nsecond%nbad%nthird%n"))) {
+            TextInputModule.Builder input = TextInputModule.builder("input", "input: ")
+                    .addSafeHandler("parsed", s -> {
+                        if(s.equals("bad")) throw new IllegalArgumentException("bad input");
+                        return s;
+                    });
+            ApplicationModule app = ApplicationModule.builder("test-app")
+                    .addChildren(ContainerModule.builder("home").addChild(input))
+                    .enableAnsi(false)
+                    .scanner(io.getScanner())
+                    .printStream(io.getPrintStream())
+                    .build();
+            ApplicationModule other = ApplicationModule.builder("other-app")
+                    .addChildren(TextModule.builder("text", "text"))
+                    .enableAnsi(false)
+                    .printStream(io.getPrintStream())
+                    .build();
+            List<TUIModule.Builder<?>> inputChildren = new ArrayList<>(input.getChildren());
+
+            app.start(); // the first run builds the handlers
+            app.start(); // the input module restarts after "bad"
+            boolean validatedAfterRun = app.isValidated();
+
+            other.start();
+            other.getChildren().getFirst().name("renamed");
+            boolean validatedAfterOtherChanged = app.isValidated();
+
+            app.start();
+            boolean validatedAfterRestart = app.isValidated();
+
+            assertAll(
+                    () -> assertEquals("third", app.getInput("parsed")),
+                    () -> assertTrue(validatedAfterRun),
+                    () -> assertTrue(validatedAfterOtherChanged),
+                    () -> assertTrue(validatedAfterRestart),
+                    () -> assertEquals(inputChildren, input.getChildren())
+            );
+        }
+    }
+
+    @Test
+    void testIncrementalNameCounts() {
+        TextModule.Builder first = TextModule.builder("first", "first");
+        TextModule.Builder second = TextModule.builder("second", "second");
+        ContainerModule.Builder container = ContainerModule.builder("container").addChildren(first, second);
+        ApplicationModule app = ApplicationModule.builder("test-app").addChildren(container).build();
+
+        app.checkForNameDuplicates();
+        boolean validatedAfterFirstCheck = app.isValidated();
+
+        second.name("first");
+        boolean validatedAfterRename = app.isValidated();
+        app.checkForNameDuplicates();
+        boolean validatedAfterSecondCheck = app.isValidated();
+
+        assertAll(
+                () -> assertTrue(validatedAfterFirstCheck),
+                () -> assertFalse(validatedAfterRename),
+                () -> assertTrue(validatedAfterSecondCheck),
+                () -> assertEquals(2, app.getNameFrequency("first")),
+                () -> assertEquals(0, app.getNameFrequency("second"))
+        );
+
+        second.name("second");
+        app.getChildren().add(container);
+        app.checkForNameDuplicates();
+
+        assertAll(
+                () -> assertEquals(2, app.getNameFrequency("first")),
+                () -> assertEquals(2, app.getNameFrequency("second")),
+                () -> assertEquals(2, app.getNameFrequency("container"))
+        );
+    }
+
     @Test
     void testResetMemory() {
         ApplicationModule app = ApplicationModule.builder("app").build();
@@ -0,0 +1,389 @@
+/*
+    Copyright (c) 2026 Caleb Leavell
+
+    Permission is hereby granted, free of charge, to any person obtaining a copy
+    of this software and associated documentation files (the "Software"), to deal
+    in the Software without restriction, including without limitation the rights
+    to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+    copies of the Software, and to permit persons to whom the Software is
+    furnished to do so, subject to the following conditions:
+
+    The above copyright notice and this permission notice shall be included in all
+    copies or substantial portions of the Software.
+
+    THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+    IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+    FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+    AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+    LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+    OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+    SOFTWARE.
+ */
+
+package com.calebleavell.jatui.modules;
+
+import com.calebleavell.jatui.templates.TextChain;
+import com.calebleavell.jatui.util.InputSource;
+import com.calebleavell.jatui.util.MemorySink;
+import com.calebleavell.jatui.util.OutputSink;
+import com.calebleavell.jatui.util.QueueSource;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ApplicationSnapshotTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+    private enum Color {RED, GREEN}
+
+    /** An enum the tests never register. **/
+    private enum Shape {CIRCLE}
+
+    /** An input class the tests register via {@link ApplicationSnapshot#allowClasses(Class[])}. **/
+    private static final class Point implements Serializable {
+        private final int x;
+        private final int y;
+
+        private Point(int x, int y) {
+            this.x = x;
+            this.y = y;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Point other && x == other.x && y == other.y;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * x + y;
+        }
+    }
+
+    /** An input class that is never registered. **/
+    private static final class Unregistered implements Serializable {}
+
+    /**
+     * Name, then a container asking for an age and a color, then a greeting. Counts how often the intro runs.
+     */
+    private static ApplicationModule app(String name, InputSource input, OutputSink output, AtomicInteger intros) {
+        return ApplicationModule.builder(name)
+                .addChildren(
+                        FunctionModule.builder(name + "-intro", intros::incrementAndGet),
+                        TextInputModule.builder(name + "-name", "Name: "),
+                        ContainerModule.builder(name + "-details")
+                                .addChildren(
+                                        IntInputModule.builder(name + "-age", "Age: "),
+                                        TextInputModule.builder(name + "-color", "Color: ")),
+                        TextChain.builder(name + "-greeting")
+                                .addText("Hello, ").addModuleOutput(name + "-name").addText("!").newLine())
+                .inputSource(input)
+                .outputSink(output)
+                .enableAnsi(false)
+                .onExit(ModuleFactory.empty("exit"))
+                .build();
+    }
+
+    /**
+     * Runs {@code app} on an event loop until its output ends with {@code prompt}, then stops the loop.
+     */
+    private static void runUntilPrompt(ApplicationModule app, MemorySink output, String prompt) throws Exception {
+        try(EventLoop loop = new EventLoop()) {
+            EventLoop.Session session = loop.submit(app);
+            Thread thread = new Thread(loop::run, "snapshot-test");
+            thread.setDaemon(true);
+            thread.start();
+
+            long deadline = System.nanoTime() + TIMEOUT.toNanos();
+            while(!output.getOutput().endsWith(prompt)) {
+                if(System.nanoTime() > deadline) fail("timed out waiting for \"" + prompt + "\"");
+                Thread.sleep(1);
+            }
+            loop.stop();
+            thread.join(TIMEOUT.toMillis());
+            assertFalse(thread.isAlive());
+            assertFalse(session.isDone());
+        }
+    }
+
+    @Test
+    void testInputsRoundTrip() throws IOException {
+        ApplicationModule app = app("snapshot-inputs", new QueueSource(), OutputSink.memory(), new AtomicInteger());
+        app.forceUpdateInput("string", "text");
+        app.forceUpdateInput("int", 42);
+        app.forceUpdateInput("long", 1L << 40);
+        app.forceUpdateInput("double", 2.5);
+        app.forceUpdateInput("boolean", true);
+        app.forceUpdateInput("char", 'c');
+        app.forceUpdateInput("big integer", BigInteger.TEN.pow(30));
+        app.forceUpdateInput("big decimal", new BigDecimal("-12.345"));
+        app.forceUpdateInput("enum", Color.GREEN);
+        app.forceUpdateInput("list", new ArrayList<>(List.of("a", "b")));
+        app.forceUpdateInput("null", null);
+        app.forceUpdateInput("password", "secret".toCharArray());
+
+        ApplicationSnapshot.allowClasses(Color.class);
+        ApplicationSnapshot snapshot = ApplicationSnapshot.fromByteArray(app.snapshot().toByteArray());
+        ApplicationModule restored = app("snapshot-inputs", new QueueSource(), OutputSink.memory(), new AtomicInteger());
+        restored.forceUpdateInput("stale", "gone");
+        restored.restore(snapshot);
+
+        assertAll(
+                () -> assertEquals("snapshot-inputs", snapshot.getApplicationName()),
+                () -> assertFalse(snapshot.hasRun()),
+                () -> assertEquals(11, snapshot.getInputs().size()),
+                () -> assertEquals("text", restored.getInput("string")),
+                () -> assertEquals(42, restored.getInput("int")),
+                () -> assertEquals(1L << 40, restored.getInput("long")),
+                () -> assertEquals(2.5, restored.getInput("double")),
+                () -> assertEquals(true, restored.getInput("boolean")),
+                () -> assertEquals('c', restored.getInput("char")),
+                () -> assertEquals(BigInteger.TEN.pow(30), restored.getInput("big integer")),
+                () -> assertEquals(new BigDecimal("-12.345"), restored.getInput("big decimal")),
+                () -> assertEquals(Color.GREEN, restored.getInput("enum")),
+                () -> assertEquals(List.of("a", "b"), restored.getInput("list")),
+                () -> assertTrue(restored.getInputs().containsKey("null")),
+                () -> assertNull(restored.getInput("password")),
+                () -> assertNull(restored.getInput("stale"))
+        );
+    }
+
+    @Test
+    void testSnapshotIsIndependentOfLaterChanges() {
+        ApplicationModule app = app("snapshot-copy", new QueueSource(), OutputSink.memory(), new AtomicInteger());
+        List<String> list = new ArrayList<>(List.of("before"));
+        app.forceUpdateInput("list", list);
+
+        ApplicationSnapshot snapshot = app.snapshot();
+        list.add("after");
+
+        assertEquals(List.of("before"), snapshot.getInputs().get("list"));
+    }
+
+    @Test
+    void testUnserializableInput() {
+        ApplicationModule app = app("snapshot-unserializable", new QueueSource(), OutputSink.memory(), new AtomicInteger());
+        app.forceUpdateInput("object", new Object());
+
+        assertThrows(IllegalArgumentException.class, app::snapshot);
+    }
+
+    @Test
+    void testSerializedInputAllowlist() throws IOException {
+        ApplicationModule app = app("snapshot-allowlist", new QueueSource(), OutputSink.memory(), new AtomicInteger());
+        app.forceUpdateInput("point", new Point(1, 2));
+        app.forceUpdateInput("time", java.time.LocalDate.of(2024, 1, 2));
+        app.forceUpdateInput("immutable", Map.of("key", List.of(1, 2)));
+        byte[] registered = app.snapshot().toByteArray();
+
+        app.forceUpdateInput("unregistered", new Unregistered());
+        byte[] unregistered = app.snapshot().toByteArray();
+
+        app.resetMemory();
+        app.forceUpdateInput("java.base", new AtomicInteger(5));
+        byte[] notAllowed = app.snapshot().toByteArray();
+
+        app.resetMemory();
+        app.forceUpdateInput("enum", Shape.CIRCLE);
+        byte[] unregisteredEnum = app.snapshot().toByteArray();
+
+        app.resetMemory();
+        app.forceUpdateInput("enum", java.util.concurrent.TimeUnit.SECONDS);
+        byte[] javaBaseEnum = app.snapshot().toByteArray();
+
+        ApplicationSnapshot.allowClasses(Point.class);
+        ApplicationSnapshot snapshot = ApplicationSnapshot.fromByteArray(registered);
+
+        assertAll(
+                () -> assertEquals(new Point(1, 2), snapshot.getInputs().get("point")),
+                () -> assertEquals(java.time.LocalDate.of(2024, 1, 2), snapshot.getInputs().get("time")),
+                () -> assertEquals(Map.of("key", List.of(1, 2)), snapshot.getInputs().get("immutable")),
+                () -> assertThrows(IOException.class, () -> ApplicationSnapshot.fromByteArray(unregistered)),
+                () -> assertThrows(IOException.class, () -> ApplicationSnapshot.fromByteArray(notAllowed)),
+                () -> assertThrows(IOException.class, () -> ApplicationSnapshot.fromByteArray(unregisteredEnum)),
+                () -> assertEquals(java.util.concurrent.TimeUnit.SECONDS,
+                        ApplicationSnapshot.fromByteArray(javaBaseEnum).getInputs().get("enum"))
+        );
+    }
+
+    @Test
+    void testSuspendedRunContinuesAfterRestore() throws Exception {
+        AtomicInteger intros = new AtomicInteger();
+        MemorySink output = OutputSink.memory();
+        QueueSource input = new QueueSource().offer("Alice", "30");
+        ApplicationModule app = app("snapshot-run", input, output, intros);
+        runUntilPrompt(app, output, "Color: ");
+
+        ApplicationSnapshot snapshot = ApplicationSnapshot.fromByteArray(app.snapshot().toByteArray());
+
+        MemorySink restoredOutput = OutputSink.memory();
+        QueueSource restoredInput = new QueueSource().offer("green");
+        restoredInput.close();
+        ApplicationModule restored = app("snapshot-run", restoredInput, restoredOutput, intros);
+        restored.restore(snapshot);
+        restored.start();
+
+        assertAll(
+                () -> assertTrue(snapshot.hasRun()),
+                () -> assertTrue(snapshot.getFrameCount() > 0),
+                () -> assertEquals(1, intros.get()),
+                () -> assertEquals(String.format("Color: Hello, Alice!%n"), restoredOutput.getOutput()),
+                () -> assertEquals("Alice", restored.getInput("snapshot-run-name")),
+                () -> assertEquals(30, restored.getInput("snapshot-run-age")),
+                () -> assertEquals("green", restored.getInput("snapshot-run-color")),
+                () -> assertNull(restored.getCurrentRunningChild()),
+                () -> assertEquals(0, restored.getRunStackDepth())
+        );
+
+    }
+
+    @Test
+    void testRestoredRunOnEventLoop() throws Exception {
+        AtomicInteger intros = new AtomicInteger();
+        MemorySink output = OutputSink.memory();
+        ApplicationModule app = app("snapshot-loop", new QueueSource().offer("Alice"), output, intros);
+        runUntilPrompt(app, output, "Age: ");
+
+        MemorySnapshotStore store = SnapshotStore.memory();
+        store.save("session-1", app.snapshot());
+
+        QueueSource input = new QueueSource();
+        MemorySink restoredOutput = OutputSink.memory();
+        ApplicationModule restored = app("snapshot-loop", input, restoredOutput, intros);
+        restored.restore(store.load("session-1"));
+
+        try(EventLoop loop = new EventLoop()) {
+            EventLoop.Session session = loop.submit(restored);
+            input.offer("31", "red");
+            loop.runUntilIdle();
+
+            assertAll(
+                    () -> assertTrue(session.isDone()),
+                    () -> assertNull(session.getFailure()),
+                    () -> assertEquals(1, intros.get()),
+                    () -> assertEquals(String.format("Age: Color: Hello, Alice!%n"), restoredOutput.getOutput()),
+                    () -> assertEquals(31, restored.getInput("snapshot-loop-age"))
+            );
+        }
+    }
+
+    @Test
+    void testSnapshotWhileRunning() {
+        List<ApplicationModule> holder = new ArrayList<>();
+        List<RuntimeException> thrown = new ArrayList<>();
+        ApplicationModule app = ApplicationModule.builder("snapshot-running")
+                .addChildren(FunctionModule.builder("snapshot-running-function", () -> {
+                    try {
+                        holder.getFirst().snapshot();
+                    }
+                    catch(RuntimeException e) {
+                        thrown.add(e);
+                    }
+                }))
+                .outputSink(OutputSink.memory())
+                .onExit(ModuleFactory.empty("exit"))
+                .build();
+        holder.add(app);
+
+        app.start();
+
+        assertEquals(1, thrown.size());
+        assertInstanceOf(IllegalStateException.class, thrown.getFirst());
+    }
+
+    @Test
+    void testRestoreIntoOtherApplication() throws Exception {
+        MemorySink output = OutputSink.memory();
+        ApplicationModule app = app("snapshot-other", new QueueSource(), output, new AtomicInteger());
+        runUntilPrompt(app, output, "Name: ");
+        ApplicationSnapshot snapshot = app.snapshot();
+
+        ApplicationModule renamed = app("snapshot-renamed", new QueueSource(), OutputSink.memory(), new AtomicInteger());
+        ApplicationModule different = ApplicationModule.builder("snapshot-other")
+                .addChildren(TextModule.builder("snapshot-other-text", "text"))
+                .build();
+
+        assertAll(
+                () -> assertThrows(IllegalArgumentException.class, () -> renamed.restore(snapshot)),
+                () -> assertThrows(IllegalArgumentException.class, () -> different.restore(snapshot)),
+                () -> assertThrows(IllegalStateException.class, () -> app.restore(snapshot))
+        );
+    }
+
+    @Test
+    void testMalformedSnapshot() {
+        ApplicationModule app = app("snapshot-malformed", new QueueSource(), OutputSink.memory(), new AtomicInteger());
+        byte[] bytes = app.snapshot().toByteArray();
+        byte[] truncated = Arrays.copyOf(bytes, bytes.length - 1);
+
+        // the magic number, then a name whose length is negative or far past the end of the data
+        byte[] negative = {0x4A, 0x54, 0x41, 0x31, -1, -1, -1, -1, -1, -1, -1, -1, -1, 0x01};
+        byte[] huge = {0x4A, 0x54, 0x41, 0x31, -1, -1, -1, 0x7F};
+        byte[] pastEnd = {0x4A, 0x54, 0x41, 0x31, -1, -1, 0x01, 'a'};
+
+        assertAll(
+                () -> assertThrows(IOException.class, () -> ApplicationSnapshot.fromByteArray(new byte[] {1, 2, 3, 4})),
+                () -> assertThrows(IOException.class, () -> ApplicationSnapshot.fromByteArray(truncated)),
+                () -> assertThrows(IOException.class, () -> ApplicationSnapshot.fromByteArray(negative)),
+                () -> assertThrows(IOException.class, () -> ApplicationSnapshot.fromByteArray(huge)),
+                () -> assertThrows(IOException.class, () -> ApplicationSnapshot.fromByteArray(pastEnd))
+        );
+    }
+
+    @Test
+    void testMemorySnapshotStore() {
+        MemorySnapshotStore store = SnapshotStore.memory();
+        ApplicationModule app = app("snapshot-memory", new QueueSource(), OutputSink.memory(), new AtomicInteger());
+        app.forceUpdateInput("key", "value");
+
+        store.save("a", app.snapshot());
+
+        assertAll(
+                () -> assertEquals("value", store.load("a").getInputs().get("key")),
+                () -> assertNull(store.load("b")),
+                () -> assertEquals(Set.of("a"), store.keys()),
+                () -> assertTrue(store.getSizeInBytes() > 0),
+                () -> assertTrue(store.delete("a")),
+                () -> assertFalse(store.delete("a")),
+                () -> assertEquals(Set.of(), store.keys())
+        );
+    }
+
+    @Test
+    void testFileSnapshotStore(@TempDir Path directory) throws IOException {
+        FileSnapshotStore store = SnapshotStore.directory(directory.resolve("snapshots"));
+        ApplicationModule app = app("snapshot-file", new QueueSource(), OutputSink.memory(), new AtomicInteger());
+        app.forceUpdateInput("key", "first");
+        store.save("session-1", app.snapshot());
+        app.forceUpdateInput("key", "second");
+        store.save("session-1", app.snapshot());
+        store.save("session-2", app.snapshot());
+
+        Map<String, Object> inputs = store.load("session-1").getInputs();
+
+        assertAll(
+                () -> assertEquals("second", inputs.get("key")),
+                () -> assertNull(store.load("missing")),
+                () -> assertEquals(Set.of("session-1", "session-2"), store.keys()),
+                () -> assertTrue(store.delete("session-2")),
+                () -> assertEquals(Set.of("session-1"), store.keys()),
+                () -> assertThrows(IllegalArgumentException.class, () -> store.load("../escape")),
+                () -> assertThrows(IllegalArgumentException.class, () -> store.save(".hidden", app.snapshot()))
+        );
+    }
+}
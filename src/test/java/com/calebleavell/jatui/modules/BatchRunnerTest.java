@@ -0,0 +1,170 @@
+/*
+    Copyright (c) 2026 Caleb Leavell
+
+    Permission is hereby granted, free of charge, to any person obtaining a copy
+    of this software and associated documentation files (the "Software"), to deal
+    in the Software without restriction, including without limitation the rights
+    to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+    copies of the Software, and to permit persons to whom the Software is
+    furnished to do so, subject to the following conditions:
+
+    The above copyright notice and this permission notice shall be included in all
+    copies or substantial portions of the Software.
+
+    THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+    IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+    FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+    AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+    LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+    OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+    SOFTWARE.
+ */
+
+package com.calebleavell.jatui.modules;
+
+import com.calebleavell.jatui.templates.TextChain;
+import com.calebleavell.jatui.util.InputSource;
+import com.calebleavell.jatui.util.MemorySink;
+import com.calebleavell.jatui.util.OutputSink;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static org.fusesource.jansi.Ansi.ansi;
+import static org.junit.jupiter.api.Assertions.*;
+
+class BatchRunnerTest {
+
+    private static InputSource lines(String text) {
+        return InputSource.of(new BufferedReader(new StringReader(text)));
+    }
+
+    private static ApplicationModule.Builder app() {
+        return ApplicationModule.builder("batch-app")
+                .addChildren(
+                        TextInputModule.builder("name", "Name: "),
+                        IntInputModule.builder("age", "Age: "),
+                        TextChain.builder("greeting")
+                                .addText("Hello, ").addModuleOutput("name").addText("!").newLine()
+                                .style(ansi().bold()))
+                .onExit(ModuleFactory.empty("exit"));
+    }
+
+    @Test
+    void testRunReportsSteps() {
+        BatchRunner.Result result = new BatchRunner(app()).recordSteps(true).run(lines("Bob\nabc\n42\n"));
+        List<BatchRunner.Step> steps = result.getSteps();
+
+        assertAll(
+                () -> assertTrue(result.isCompleted()),
+                () -> assertFalse(result.isExhausted()),
+                () -> assertNull(result.getFailure()),
+                () -> assertEquals(3, result.getLinesRead()),
+                () -> assertEquals(3, steps.size()),
+                () -> assertEquals("name", steps.get(0).getModuleName()),
+                () -> assertEquals("Bob", steps.get(0).getValue()),
+                () -> assertEquals("age", steps.get(1).getModuleName()),
+                () -> assertEquals("abc", steps.get(1).getLine()),
+                () -> assertEquals("age", steps.get(2).getModuleName()),
+                () -> assertEquals(3, steps.get(2).getLineNumber()),
+                () -> assertEquals(42, steps.get(2).getValue())
+        );
+    }
+
+    @Test
+    void testRunLeavesBuilderUnchanged() {
+        ApplicationModule.Builder app = app();
+        InputSource source = app.getInputSource();
+
+        BatchRunner.Result first = new BatchRunner(app).run(lines("Bob\n42\n"));
+        BatchRunner.Result second = new BatchRunner(app).run(lines("Ann\n7\n"));
+
+        assertAll(
+                () -> assertTrue(first.isCompleted()),
+                () -> assertTrue(second.isCompleted()),
+                () -> assertEquals(source.getClass(), app.getInputSource().getClass()),
+                () -> assertTrue(app.getAnsiEnabled())
+        );
+    }
+
+    @Test
+    void testOutputWithoutAnsi() {
+        MemorySink sink = OutputSink.memory();
+        new BatchRunner(app()).output(sink).run(lines("Bob\n42\n"));
+
+        String output = sink.getOutput();
+        assertAll(
+                () -> assertTrue(output.contains("Hello, Bob!")),
+                () -> assertFalse(output.contains("\u001b["))
+        );
+    }
+
+    @Test
+    void testExhausted() {
+        BatchRunner.Result result = new BatchRunner(app()).recordSteps(true).run(lines("Bob\n"));
+
+        assertAll(
+                () -> assertFalse(result.isCompleted()),
+                () -> assertTrue(result.isExhausted()),
+                () -> assertInstanceOf(NoSuchElementException.class, result.getFailure()),
+                () -> assertEquals(1, result.getSteps().size()),
+                () -> assertEquals("Bob", result.getSteps().getFirst().getValue())
+        );
+    }
+
+    @Test
+    void testFailure() {
+        ApplicationModule.Builder app = ApplicationModule.builder("batch-failing-app")
+                .addChildren(
+                        TextInputModule.builder("input", "> "),
+                        FunctionModule.builder("fail", () -> {throw new IllegalStateException("failed");}))
+                .onExit(ModuleFactory.empty("exit"));
+
+        BatchRunner.Result result = new BatchRunner(app).recordSteps(true).run(lines("line\n"));
+
+        assertAll(
+                () -> assertFalse(result.isCompleted()),
+                () -> assertFalse(result.isExhausted()),
+                () -> assertInstanceOf(IllegalStateException.class, result.getFailure()),
+                () -> assertEquals(1, result.getSteps().size())
+        );
+    }
+
+    @Test
+    void testOnStepWithoutRecording() {
+        List<BatchRunner.Step> streamed = new ArrayList<>();
+        BatchRunner.Result result = new BatchRunner(app())
+                .onStep(streamed::add)
+                .run(lines("Bob\n42\n"));
+
+        assertAll(
+                () -> assertTrue(result.getSteps().isEmpty()),
+                () -> assertEquals(2, streamed.size()),
+                () -> assertEquals(42, streamed.getLast().getValue()),
+                () -> assertFalse(streamed.getLast().getProcessingTime().isNegative())
+        );
+    }
+
+    @Test
+    void testRunFromFile(@TempDir Path dir) throws IOException {
+        Path script = dir.resolve("script.txt");
+        Files.writeString(script, "Alice\n30\n", StandardCharsets.UTF_8);
+
+        BatchRunner.Result result = new BatchRunner(app()).recordSteps(true).run(script, StandardCharsets.UTF_8);
+
+        assertAll(
+                () -> assertTrue(result.isCompleted()),
+                () -> assertEquals(2, result.getLinesRead()),
+                () -> assertEquals(30, result.getSteps().getLast().getValue())
+        );
+    }
+}
@@ -0,0 +1,81 @@
+/*
+    Copyright (c) 2026 Caleb Leavell
+
+    Permission is hereby granted, free of charge, to any person obtaining a copy
+    of this software and associated documentation files (the "Software"), to deal
+    in the Software without restriction, including without limitation the rights
+    to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+    copies of the Software, and to permit persons to whom the Software is
+    furnished to do so, subject to the following conditions:
+
+    The above copyright notice and this permission notice shall be included in all
+    copies or substantial portions of the Software.
+
+    THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+    IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+    FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+    AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+    LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+    OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+    SOFTWARE.
+ */
+
+package com.calebleavell.jatui.modules;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Measures how much memory a leaf builder allocates, using the per-thread allocation counter of the JVM.
+ */
+class BuilderFootprintTest {
+
+    private static final int BUILDERS = 20_000;
+
+    /**
+     * Bytes allocated per leaf {@link TextModule.Builder}, which is 160 on a 64-bit JVM with compressed oops
+     * (the style is shared and leaves don't allocate child storage). The bound leaves room for other layouts.
+     **/
+    private static final long MAX_BYTES_PER_BUILDER = 192;
+
+    @Test
+    void testLeafBuilderFootprint() {
+        assumeTrue(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean);
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threads.isThreadAllocatedMemorySupported() && threads.isThreadAllocatedMemoryEnabled());
+
+        TextModule.Builder[] builders = new TextModule.Builder[BUILDERS];
+        String[][] names = new String[5][BUILDERS];
+        for(int round = 0; round < names.length; round++) {
+            for(int i = 0; i < BUILDERS; i++) names[round][i] = "footprint-" + round + "-" + i;
+        }
+        long bytesPerBuilder = Long.MAX_VALUE;
+
+        // take the best of a few rounds so class loading and JIT warmup aren't counted
+        // (names are unique and created up front so duplicate-name warnings and string building aren't counted either)
+        for(int round = 0; round < names.length; round++) {
+            long threadId = Thread.currentThread().threadId();
+            long before = threads.getThreadAllocatedBytes(threadId);
+            for(int i = 0; i < BUILDERS; i++) {
+                builders[i] = TextModule.builder(names[round][i], "text");
+            }
+            long after = threads.getThreadAllocatedBytes(threadId);
+            bytesPerBuilder = Math.min(bytesPerBuilder, (after - before) / BUILDERS);
+        }
+
+        long footprint = bytesPerBuilder;
+
+        TextModule.Builder first = builders[0];
+        TextModule.Builder last = builders[BUILDERS - 1];
+
+        assertAll(
+                () -> assertTrue(footprint <= MAX_BYTES_PER_BUILDER, "allocated " + footprint + " bytes per builder"),
+                () -> assertSame(first.getStyleCodes(), last.getStyleCodes()),
+                () -> assertTrue(first.getChildren().isEmpty())
+        );
+    }
+}
@@ -0,0 +1,151 @@
+/*
+    Copyright (c) 2026 Caleb Leavell
+
+    Permission is hereby granted, free of charge, to any person obtaining a copy
+    of this software and associated documentation files (the "Software"), to deal
+    in the Software without restriction, including without limitation the rights
+    to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+    copies of the Software, and to permit persons to whom the Software is
+    furnished to do so, subject to the following conditions:
+
+    The above copyright notice and this permission notice shall be included in all
+    copies or substantial portions of the Software.
+
+    THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+    IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+    FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+    AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+    LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+    OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+    SOFTWARE.
+ */
+
+package com.calebleavell.jatui.modules;
+
+import com.calebleavell.jatui.util.IOCapture;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DecimalInputModuleTest {
+
+    private double parse(String input) {
+        DecimalInputModule module;
+        try(IOCapture io = new IOCapture(input)) {
+            module = DecimalInputModule.builder("decimal", "")
+                    .scanner(io.getScanner())
+                    .printStream(io.getPrintStream())
+                    .enableAnsi(false)
+                    .build();
+            module.start();
+        }
+        return module.getValue();
+    }
+
+    @Test
+    void testRun() {
+        ApplicationModule app = ApplicationModule.builder("app").build();
+
+        try(IOCapture io = new IOCapture("2.5")) {
+            DecimalInputModule.Builder input = DecimalInputModule.builder("decimal", "decimal: ")
+                    .scanner(io.getScanner())
+                    .printStream(io.getPrintStream())
+                    .enableAnsi(false)
+                    .application(app);
+
+            input.build().start();
+        }
+
+        assertEquals(2.5, app.getInput("decimal", Double.class));
+    }
+
+    @Test
+    void testFormats() {
+        assertAll(
+                () -> assertEquals(3.0, parse("3")),
+                () -> assertEquals(-2.5, parse("-2.5")),
+                () -> assertEquals(0.5, parse(".5")),
+                () -> assertEquals(5.0, parse("5.")),
+                () -> assertEquals(0.05, parse("0.05")),
+                () -> assertEquals(1.5, parse("+1.50")),
+                () -> assertEquals(6.02e23, parse("6.02e23")),
+                () -> assertEquals(1e-5, parse("1E-5")),
+                () -> assertEquals(0.1, parse("0.1")),
+                () -> assertEquals(123456789012345678.9, parse("123456789012345678.9")),
+                () -> assertEquals(Double.parseDouble("0.30000000000000004"), parse("0.30000000000000004")),
+                () -> assertEquals(0.0, parse("0"))
+        );
+    }
+
+    @Test
+    void testInvalidInputIsRecollected() {
+        DecimalInputModule input;
+        String output;
+
+        try(IOCapture io = new IOCapture(String.format("NaN%nInfinity%n1e400%n1.2.3%n1e%n.%n-%n0x10%n1.5%n"))) {
+            input = DecimalInputModule.builder("decimal", "")
+                    .invalidMessage("invalid")
+                    .scanner(io.getScanner())
+                    .printStream(io.getPrintStream())
+                    .enableAnsi(false)
+                    .build();
+
+            input.start();
+
+            output = io.getOutput();
+        }
+
+        assertAll(
+                () -> assertEquals(1.5, input.getValue()),
+                () -> assertEquals(String.format("invalid%n").repeat(8), output)
+        );
+    }
+
+    @Test
+    void testRange() {
+        DecimalInputModule input;
+
+        try(IOCapture io = new IOCapture(String.format("-0.1%n1.01%n0.75%n"))) {
+            input = DecimalInputModule.builder("decimal", "")
+                    .range(0, 1)
+                    .scanner(io.getScanner())
+                    .printStream(io.getPrintStream())
+                    .enableAnsi(false)
+                    .build();
+
+            input.start();
+        }
+
+        assertEquals(0.75, input.getValue());
+    }
+
+    @Nested
+    class BuilderTest {
+
+        @Test
+        void testCopy() {
+            DecimalInputModule.Builder original = DecimalInputModule.builder("input", "input: ")
+                    .range(-0.5, 8.25);
+
+            DecimalInputModule.Builder copy = original.getCopy();
+
+            assertAll(
+                    () -> assertTrue(copy.structuralEquals(original)),
+                    () -> assertEquals(-0.5, copy.getMin()),
+                    () -> assertEquals(8.25, copy.getMax()));
+        }
+
+        @Test
+        void testShallowStructuralEquals() {
+            DecimalInputModule.Builder input1 = DecimalInputModule.builder("input", "input: ").min(1.5);
+            DecimalInputModule.Builder input2 = DecimalInputModule.builder("input", "input: ").min(1.5);
+            DecimalInputModule.Builder input3 = DecimalInputModule.builder("input", "input: ").min(1.25);
+
+            assertAll(
+                    () -> assertTrue(input1.structuralEquals(input2)),
+                    () -> assertFalse(input1.structuralEquals(input3))
+            );
+        }
+    }
+}
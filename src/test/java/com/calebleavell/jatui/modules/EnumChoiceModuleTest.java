@@ -0,0 +1,139 @@
+/*
+    Copyright (c) 2026 Caleb Leavell
+
+    Permission is hereby granted, free of charge, to any person obtaining a copy
+    of this software and associated documentation files (the "Software"), to deal
+    in the Software without restriction, including without limitation the rights
+    to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+    copies of the Software, and to permit persons to whom the Software is
+    furnished to do so, subject to the following conditions:
+
+    The above copyright notice and this permission notice shall be included in all
+    copies or substantial portions of the Software.
+
+    THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+    IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+    FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+    AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+    LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+    OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+    SOFTWARE.
+ */
+
+package com.calebleavell.jatui.modules;
+
+import com.calebleavell.jatui.util.IOCapture;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EnumChoiceModuleTest {
+
+    enum Size { SMALL, MEDIUM, LARGE }
+
+    enum Color { RED, GREEN }
+
+    @Test
+    void testRun() {
+        ApplicationModule app = ApplicationModule.builder("app").build();
+
+        String output;
+        try(IOCapture io = new IOCapture("medium")) {
+            EnumChoiceModule.Builder<Size> input = EnumChoiceModule.builder("size", "size: ", Size.class)
+                    .scanner(io.getScanner())
+                    .printStream(io.getPrintStream())
+                    .enableAnsi(false)
+                    .application(app);
+
+            input.build().start();
+
+            output = io.getOutput();
+        }
+
+        assertAll(
+                () -> assertEquals("size: ", output),
+                () -> assertEquals(Size.MEDIUM, app.getInput("size", Size.class))
+        );
+    }
+
+    @Test
+    void testInvalidInputIsRecollected() {
+        EnumChoiceModule<Size> input;
+        String output;
+
+        try(IOCapture io = new IOCapture(String.format("huge%n2%nLarge%n"))) {
+            input = EnumChoiceModule.builder("size", "", Size.class)
+                    .invalidMessage("invalid")
+                    .scanner(io.getScanner())
+                    .printStream(io.getPrintStream())
+                    .enableAnsi(false)
+                    .build();
+
+            input.start();
+
+            output = io.getOutput();
+        }
+
+        assertAll(
+                () -> assertEquals(Size.LARGE, input.getValue()),
+                () -> assertEquals(String.format("invalid%ninvalid%n"), output)
+        );
+    }
+
+    @Test
+    void testAcceptNumbers() {
+        EnumChoiceModule<Size> input;
+        String output;
+
+        try(IOCapture io = new IOCapture(String.format("0%n4%n2%n"))) {
+            input = EnumChoiceModule.builder("size", "", Size.class)
+                    .acceptNumbers(true)
+                    .invalidMessage("invalid")
+                    .scanner(io.getScanner())
+                    .printStream(io.getPrintStream())
+                    .enableAnsi(false)
+                    .build();
+
+            input.start();
+
+            output = io.getOutput();
+        }
+
+        assertAll(
+                () -> assertEquals(Size.MEDIUM, input.getValue()),
+                () -> assertEquals(String.format("invalid%ninvalid%n"), output)
+        );
+    }
+
+    @Nested
+    class BuilderTest {
+
+        @Test
+        void testCopy() {
+            EnumChoiceModule.Builder<Size> original = EnumChoiceModule.builder("size", "size: ", Size.class)
+                    .acceptNumbers(true);
+
+            EnumChoiceModule.Builder<Size> copy = original.getCopy();
+
+            assertAll(
+                    () -> assertTrue(copy.structuralEquals(original)),
+                    () -> assertEquals(Size.class, copy.getEnumType()),
+                    () -> assertTrue(copy.getAcceptNumbers()));
+        }
+
+        @Test
+        void testShallowStructuralEquals() {
+            EnumChoiceModule.Builder<Size> input1 = EnumChoiceModule.builder("input", "input: ", Size.class);
+            EnumChoiceModule.Builder<Size> input2 = EnumChoiceModule.builder("input", "input: ", Size.class);
+            EnumChoiceModule.Builder<Size> input3 = EnumChoiceModule.builder("input", "input: ", Size.class).acceptNumbers(true);
+            EnumChoiceModule.Builder<Color> input4 = EnumChoiceModule.builder("input", "input: ", Color.class);
+
+            assertAll(
+                    () -> assertTrue(input1.structuralEquals(input2)),
+                    () -> assertFalse(input1.structuralEquals(input3)),
+                    () -> assertFalse(input1.structuralEquals(input4))
+            );
+        }
+    }
+}
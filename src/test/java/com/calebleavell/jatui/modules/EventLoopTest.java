@@ -0,0 +1,261 @@
+/*
+    Copyright (c) 2026 Caleb Leavell
+
+    Permission is hereby granted, free of charge, to any person obtaining a copy
+    of this software and associated documentation files (the "Software"), to deal
+    in the Software without restriction, including without limitation the rights
+    to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+    copies of the Software, and to permit persons to whom the Software is
+    furnished to do so, subject to the following conditions:
+
+    The above copyright notice and this permission notice shall be included in all
+    copies or substantial portions of the Software.
+
+    THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+    IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+    FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+    AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+    LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+    OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+    SOFTWARE.
+ */
+
+package com.calebleavell.jatui.modules;
+
+import com.calebleavell.jatui.templates.PasswordInput;
+import com.calebleavell.jatui.templates.TextChain;
+import com.calebleavell.jatui.util.ChannelSource;
+import com.calebleavell.jatui.util.IOCapture;
+import com.calebleavell.jatui.util.InputSource;
+import com.calebleavell.jatui.util.MemorySink;
+import com.calebleavell.jatui.util.OutputSink;
+import com.calebleavell.jatui.util.QueueSource;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Pipe;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EventLoopTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+    private static ApplicationModule app(String name, InputSource input, OutputSink output) {
+        return ApplicationModule.builder(name)
+                .addChildren(
+                        TextInputModule.builder(name + "-name", "Name: "),
+                        IntInputModule.builder(name + "-age", "Age: "),
+                        TextChain.builder(name + "-greeting")
+                                .addText("Hello, ").addModuleOutput(name + "-name").addText("!").newLine())
+                .inputSource(input)
+                .outputSink(output)
+                .enableAnsi(false)
+                .onExit(ModuleFactory.empty("exit"))
+                .build();
+    }
+
+    private static Thread runInBackground(EventLoop loop) {
+        Thread thread = new Thread(loop::run, "event-loop-test");
+        thread.setDaemon(true);
+        thread.start();
+        return thread;
+    }
+
+    private static void waitFor(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TIMEOUT.toNanos();
+        while(!condition.getAsBoolean()) {
+            if(System.nanoTime() > deadline) fail("timed out waiting for condition");
+            Thread.sleep(1);
+        }
+    }
+
+    @Test
+    void testSuspendsUntilInputIsReady() throws Exception {
+        QueueSource input = new QueueSource();
+        MemorySink output = OutputSink.memory();
+
+        try(EventLoop loop = new EventLoop()) {
+            EventLoop.Session session = loop.submit(app("loop-app", input, output));
+            Thread thread = runInBackground(loop);
+
+            waitFor(() -> output.getOutput().equals("Name: "));
+            assertFalse(session.isDone());
+            input.offer("Alice");
+            waitFor(() -> output.getOutput().endsWith("Age: "));
+            input.offer("not a number");
+            waitFor(() -> output.getOutput().endsWith("Age: Error: Invalid Input" + System.lineSeparator() + "Age: "));
+            input.offer("30");
+
+            assertTrue(session.await(TIMEOUT));
+            loop.stop();
+            thread.join(TIMEOUT.toMillis());
+
+            assertAll(
+                    () -> assertNull(session.getFailure()),
+                    () -> assertEquals(4, session.getResumeCount()),
+                    () -> assertEquals("Alice", session.getApplication().getInput("loop-app-name")),
+                    () -> assertEquals(30, session.getApplication().getInput("loop-app-age")),
+                    () -> assertEquals(String.format("Name: Age: Error: Invalid Input%nAge: Hello, Alice!%n"), output.getOutput()),
+                    () -> assertEquals(0, loop.getSessionCount()),
+                    () -> assertFalse(thread.isAlive())
+            );
+        }
+    }
+
+    @Test
+    void testPasswordInputSuspends() throws Exception {
+        QueueSource passwordInput = new QueueSource();
+        QueueSource otherInput = new QueueSource();
+        MemorySink output = OutputSink.memory();
+        MemorySink otherOutput = OutputSink.memory();
+
+        try(EventLoop loop = new EventLoop()) {
+            EventLoop.Session session = loop.submit(ApplicationModule.builder("loop-password-app")
+                    .addChildren(PasswordInput.builder("loop-password", "Password: ", "secret"::toCharArray)
+                            .storeIfMatched())
+                    .inputSource(passwordInput)
+                    .outputSink(output)
+                    .onExit(ModuleFactory.empty("exit"))
+                    .build());
+            EventLoop.Session other = loop.submit(app("loop-password-other", otherInput, otherOutput));
+            Thread thread = runInBackground(loop);
+
+            waitFor(() -> output.getOutput().equals("Password: "));
+            // the waiting password input doesn't hold the loop
+            otherInput.offer("Bob", "40");
+            assertTrue(other.await(TIMEOUT));
+            assertFalse(session.isDone());
+
+            passwordInput.offer("secret");
+            assertTrue(session.await(TIMEOUT));
+            loop.stop();
+            thread.join(TIMEOUT.toMillis());
+
+            assertAll(
+                    () -> assertNull(session.getFailure()),
+                    () -> assertEquals(true, session.getApplication().getInput("loop-password-is-matched"))
+            );
+        }
+    }
+
+    @Test
+    void testManySessionsShareOneThread() throws Exception {
+        int count = 1000;
+        Set<Thread> threads = ConcurrentHashMap.newKeySet();
+        List<QueueSource> inputs = new ArrayList<>();
+        List<EventLoop.Session> sessions = new ArrayList<>();
+
+        try(EventLoop loop = new EventLoop()) {
+            for(int i = 0; i < count; i ++) {
+                QueueSource input = new QueueSource();
+                // every session shares its module names so the global metrics registry doesn't fill up
+                ApplicationModule app = app("many", input, OutputSink.discard());
+                app.getChildren().add(FunctionModule.builder("many-thread", () -> threads.add(Thread.currentThread())));
+                inputs.add(input);
+                sessions.add(loop.submit(app));
+            }
+
+            Thread thread = runInBackground(loop);
+
+            for(int i = 0; i < count; i ++) inputs.get(i).offer("user-" + i);
+            for(int i = 0; i < count; i ++) inputs.get(i).offer(String.valueOf(i));
+            for(EventLoop.Session session : sessions) assertTrue(session.await(TIMEOUT));
+
+            loop.stop();
+            thread.join(TIMEOUT.toMillis());
+
+            for(int i = 0; i < count; i ++) {
+                ApplicationModule app = sessions.get(i).getApplication();
+                assertNull(sessions.get(i).getFailure());
+                assertEquals("user-" + i, app.getInput("many-name"));
+                assertEquals(i, app.getInput("many-age"));
+            }
+            assertEquals(Set.of(thread), threads);
+        }
+    }
+
+    @Test
+    void testChannelSource() throws Exception {
+        Pipe pipe = Pipe.open();
+        MemorySink output = OutputSink.memory();
+
+        try(EventLoop loop = new EventLoop(); ChannelSource input = new ChannelSource(pipe.source(), StandardCharsets.UTF_8)) {
+            EventLoop.Session session = loop.submit(app("channel-app", input, output));
+            Thread thread = runInBackground(loop);
+
+            waitFor(() -> output.getOutput().equals("Name: "));
+            pipe.sink().write(ByteBuffer.wrap("Bo".getBytes(StandardCharsets.UTF_8)));
+            Thread.sleep(20);
+            assertEquals("Name: ", output.getOutput());
+            pipe.sink().write(ByteBuffer.wrap("b\r\n41\n".getBytes(StandardCharsets.UTF_8)));
+
+            assertTrue(session.await(TIMEOUT));
+            loop.stop();
+            thread.join(TIMEOUT.toMillis());
+
+            assertAll(
+                    () -> assertNull(session.getFailure()),
+                    () -> assertEquals("Bob", session.getApplication().getInput("channel-app-name")),
+                    () -> assertEquals(41, session.getApplication().getInput("channel-app-age"))
+            );
+        }
+        finally {
+            pipe.sink().close();
+        }
+    }
+
+    @Test
+    void testRunUntilIdle() throws IOException {
+        QueueSource ready = new QueueSource().offer("Carol", "25");
+        QueueSource closed = new QueueSource();
+        closed.close();
+
+        try(EventLoop loop = new EventLoop(); IOCapture io = new IOCapture("Dave\n52")) {
+            EventLoop.Session first = loop.submit(app("idle-queue", ready, OutputSink.discard()));
+            EventLoop.Session second = loop.submit(app("idle-closed", closed, OutputSink.discard()));
+            EventLoop.Session third = loop.submit(ApplicationModule.builder("idle-scanner")
+                    .addChildren(TextInputModule.builder("idle-scanner-name", "Name: "))
+                    .scanner(io.getScanner())
+                    .printStream(io.getPrintStream())
+                    .onExit(ModuleFactory.empty("exit"))
+                    .build());
+
+            loop.runUntilIdle();
+
+            assertAll(
+                    () -> assertTrue(first.isDone()),
+                    () -> assertNull(first.getFailure()),
+                    () -> assertEquals(25, first.getApplication().getInput("idle-queue-age")),
+                    () -> assertTrue(second.isDone()),
+                    () -> assertInstanceOf(NoSuchElementException.class, second.getFailure()),
+                    () -> assertTrue(third.isDone()),
+                    () -> assertEquals("Dave", third.getApplication().getInput("idle-scanner-name")),
+                    () -> assertEquals(0, loop.getSessionCount())
+            );
+        }
+    }
+
+    @Test
+    void testStartIsUnchanged() {
+        QueueSource input = new QueueSource().offer("Erin", "x", "19");
+        MemorySink output = OutputSink.memory();
+
+        ApplicationModule app = app("blocking-app", input, output);
+        app.start();
+
+        assertAll(
+                () -> assertEquals(19, app.getInput("blocking-app-age")),
+                () -> assertEquals(String.format("Name: Age: Error: Invalid Input%nAge: Hello, Erin!%n"), output.getOutput())
+        );
+    }
+}
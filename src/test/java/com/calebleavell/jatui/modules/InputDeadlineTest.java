@@ -0,0 +1,300 @@
+/*
+    Copyright (c) 2026 Caleb Leavell
+
+    Permission is hereby granted, free of charge, to any person obtaining a copy
+    of this software and associated documentation files (the "Software"), to deal
+    in the Software without restriction, including without limitation the rights
+    to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+    copies of the Software, and to permit persons to whom the Software is
+    furnished to do so, subject to the following conditions:
+
+    The above copyright notice and this permission notice shall be included in all
+    copies or substantial portions of the Software.
+
+    THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+    IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+    FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+    AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+    LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+    OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+    SOFTWARE.
+ */
+
+package com.calebleavell.jatui.modules;
+
+import com.calebleavell.jatui.monitoring.MetricsRegistry;
+import com.calebleavell.jatui.templates.TextChain;
+import com.calebleavell.jatui.util.MemorySink;
+import com.calebleavell.jatui.util.OutputSink;
+import com.calebleavell.jatui.util.QueueSource;
+import com.calebleavell.jatui.util.ReaderSource;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.PipedReader;
+import java.io.PipedWriter;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Scanner;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InputDeadlineTest {
+
+    private static final Duration SHORT = Duration.ofMillis(20);
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+    private static ApplicationModule.Builder app(String name, QueueSource input, MemorySink output) {
+        return ApplicationModule.builder(name)
+                .inputSource(input)
+                .outputSink(output)
+                .enableAnsi(false)
+                .onExit(ModuleFactory.empty("exit"));
+    }
+
+    @Test
+    void testFactories() {
+        TUIModule.Builder<?> target = ModuleFactory.empty("target");
+        InputDeadline useDefault = InputDeadline.useDefault(SHORT, "default");
+        InputDeadline terminate = InputDeadline.terminate(SHORT);
+        InputDeadline navigate = InputDeadline.navigateTo(SHORT, target);
+
+        assertAll(
+                () -> assertEquals(InputDeadline.Outcome.DEFAULT, useDefault.getOutcome()),
+                () -> assertEquals("default", useDefault.getDefaultInput()),
+                () -> assertEquals(SHORT, useDefault.getTimeout()),
+                () -> assertEquals(InputDeadline.Outcome.TERMINATE, terminate.getOutcome()),
+                () -> assertEquals(InputDeadline.Outcome.NAVIGATE, navigate.getOutcome()),
+                () -> assertSame(target, navigate.getTarget()),
+                () -> assertThrows(IllegalArgumentException.class, () -> InputDeadline.terminate(Duration.ZERO)),
+                () -> assertThrows(IllegalArgumentException.class, () -> InputDeadline.terminate(Duration.ofMillis(-1))),
+                () -> assertThrows(NullPointerException.class, () -> InputDeadline.navigateTo(SHORT, null))
+        );
+    }
+
+    @Test
+    void testInputBeforeDeadline() {
+        QueueSource input = new QueueSource().offer("Alice");
+        ApplicationModule app = app("deadline-in-time", input, OutputSink.memory())
+                .addChildren(TextInputModule.builder("deadline-in-time-name", "Name: ")
+                        .inputDeadline(InputDeadline.useDefault(TIMEOUT, "guest")))
+                .build();
+
+        app.start();
+
+        assertEquals("Alice", app.getInput("deadline-in-time-name"));
+    }
+
+    @Test
+    void testSourceThatCantTimeOut() {
+        MemorySink output = OutputSink.memory();
+        ApplicationModule app = ApplicationModule.builder("deadline-scanner")
+                .scanner(new Scanner("Alice" + System.lineSeparator()))
+                .outputSink(output)
+                .enableAnsi(false)
+                .onExit(ModuleFactory.empty("exit"))
+                .addChildren(TextInputModule.builder("deadline-scanner-name", "Name: ")
+                        .inputDeadline(InputDeadline.useDefault(SHORT, "guest")))
+                .build();
+
+        app.start(); // waits for the line without a deadline, and logs a warning
+
+        assertAll(
+                () -> assertFalse(app.getInputSource().canTimeOut()),
+                () -> assertEquals("Alice", app.getInput("deadline-scanner-name"))
+        );
+    }
+
+    @Test
+    void testReaderSourceDeadline() throws IOException {
+        try(PipedWriter writer = new PipedWriter()) {
+            ApplicationModule app = ApplicationModule.builder("deadline-reader")
+                    .inputSource(new ReaderSource(new BufferedReader(new PipedReader(writer))))
+                    .outputSink(OutputSink.memory())
+                    .enableAnsi(false)
+                    .onExit(ModuleFactory.empty("exit"))
+                    .addChildren(TextInputModule.builder("deadline-reader-name", "Name: ")
+                            .inputDeadline(InputDeadline.useDefault(SHORT, "guest")))
+                    .build();
+
+            app.start();
+
+            assertEquals("guest", app.getInput("deadline-reader-name"));
+        }
+    }
+
+    @Test
+    void testDefaultOutcome() {
+        QueueSource input = new QueueSource();
+        MemorySink output = OutputSink.memory();
+        ApplicationModule app = app("deadline-default", input, output)
+                .addChildren(
+                        TextInputModule.builder("deadline-default-name", "Name: ")
+                                .inputDeadline(InputDeadline.useDefault(SHORT, "guest")),
+                        IntInputModule.builder("deadline-default-age", "Age: ")
+                                .inputDeadline(InputDeadline.useDefault(SHORT, "7")),
+                        TextChain.builder("deadline-default-greeting")
+                                .addText("Hello, ").addModuleOutput("deadline-default-name").addText("!").newLine())
+                .build();
+
+        app.start();
+
+        assertAll(
+                () -> assertEquals("guest", app.getInput("deadline-default-name")),
+                () -> assertEquals(7, app.getInput("deadline-default-age")),
+                () -> assertEquals(String.format("Name: Age: Hello, guest!%n"), output.getOutput()),
+                () -> assertEquals(1, MetricsRegistry.global()
+                        .module(TextInputModule.class, "deadline-default-name").getInputTimeouts())
+        );
+    }
+
+    @Test
+    void testInvalidDefaultTerminates() {
+        List<String> ran = new ArrayList<>();
+        QueueSource input = new QueueSource();
+        ApplicationModule app = app("deadline-invalid", input, OutputSink.memory())
+                .addChildren(
+                        IntInputModule.builder("deadline-invalid-age", "Age: ")
+                                .inputDeadline(InputDeadline.useDefault(SHORT, "abc")),
+                        FunctionModule.builder("deadline-invalid-after", () -> ran.add("after")))
+                .onExit(FunctionModule.builder("deadline-invalid-exit", () -> ran.add("exit")))
+                .build();
+
+        assertTimeoutPreemptively(TIMEOUT, app::start);
+
+        assertAll(
+                () -> assertNull(app.getInput("deadline-invalid-age")),
+                () -> assertEquals(List.of("exit"), ran)
+        );
+    }
+
+    @Test
+    void testApplicationDeadlineAppliesUnlessOverridden() {
+        QueueSource input = new QueueSource();
+        ApplicationModule app = app("deadline-app", input, OutputSink.memory())
+                .inputDeadline(InputDeadline.useDefault(SHORT, "from app"))
+                .addChildren(
+                        TextInputModule.builder("deadline-app-first", "First: "),
+                        TextInputModule.builder("deadline-app-second", "Second: ")
+                                .inputDeadline(InputDeadline.useDefault(SHORT, "from module")))
+                .build();
+
+        app.start();
+
+        assertAll(
+                () -> assertEquals("from app", app.getInput("deadline-app-first")),
+                () -> assertEquals("from module", app.getInput("deadline-app-second"))
+        );
+    }
+
+    @Test
+    void testTerminateOutcome() {
+        List<String> ran = new ArrayList<>();
+        QueueSource input = new QueueSource();
+        ApplicationModule app = app("deadline-terminate", input, OutputSink.memory())
+                .inputDeadline(InputDeadline.terminate(SHORT))
+                .addChildren(
+                        TextInputModule.builder("deadline-terminate-name", "Name: ")
+                                .addChild(FunctionModule.builder("deadline-terminate-child", () -> ran.add("child"))),
+                        FunctionModule.builder("deadline-terminate-after", () -> ran.add("after")))
+                .onExit(FunctionModule.builder("deadline-terminate-exit", () -> ran.add("exit")))
+                .build();
+
+        app.start();
+
+        assertAll(
+                () -> assertNull(app.getInput("deadline-terminate-name")),
+                () -> assertEquals(List.of("exit"), ran)
+        );
+    }
+
+    @Test
+    void testNavigateOutcome() {
+        List<String> ran = new ArrayList<>();
+        QueueSource input = new QueueSource();
+        ApplicationModule app = app("deadline-navigate", input, OutputSink.memory())
+                .addChildren(TextInputModule.builder("deadline-navigate-name", "Name: ")
+                        .inputDeadline(InputDeadline.navigateTo(SHORT,
+                                FunctionModule.builder("deadline-navigate-idle", () -> ran.add("idle"))))
+                        .addChild(FunctionModule.builder("deadline-navigate-child", () -> ran.add("child"))))
+                .build();
+
+        app.start();
+
+        assertAll(
+                () -> assertNull(app.getInput("deadline-navigate-name")),
+                () -> assertEquals(List.of("idle"), ran)
+        );
+    }
+
+    @Test
+    void testEventLoopReclaimsIdleSession() throws Exception {
+        QueueSource idleInput = new QueueSource();
+        QueueSource activeInput = new QueueSource();
+
+        try(EventLoop loop = new EventLoop()) {
+            EventLoop.Session idle = loop.submit(app("deadline-loop-idle", idleInput, OutputSink.memory())
+                    .inputDeadline(InputDeadline.terminate(SHORT))
+                    .addChildren(TextInputModule.builder("deadline-loop-idle-name", "Name: "))
+                    .build());
+            EventLoop.Session active = loop.submit(app("deadline-loop-active", activeInput, OutputSink.memory())
+                    .inputDeadline(InputDeadline.useDefault(TIMEOUT, "too late"))
+                    .addChildren(TextInputModule.builder("deadline-loop-active-name", "Name: "))
+                    .build());
+
+            Thread thread = new Thread(loop::run, "input-deadline-test");
+            thread.setDaemon(true);
+            thread.start();
+
+            assertTrue(idle.await(TIMEOUT));
+            assertFalse(active.isDone());
+            activeInput.offer("Bob");
+            assertTrue(active.await(TIMEOUT));
+            loop.stop();
+            thread.join(TIMEOUT.toMillis());
+
+            assertAll(
+                    () -> assertNull(idle.getFailure()),
+                    () -> assertNull(idle.getApplication().getInput("deadline-loop-idle-name")),
+                    () -> assertEquals("Bob", active.getApplication().getInput("deadline-loop-active-name")),
+                    () -> assertEquals(0, loop.getSessionCount())
+            );
+        }
+    }
+
+    @Test
+    void testEventLoopDefaultOutcome() throws Exception {
+        QueueSource input = new QueueSource();
+        MemorySink output = OutputSink.memory();
+
+        try(EventLoop loop = new EventLoop()) {
+            EventLoop.Session session = loop.submit(app("deadline-loop-default", input, output)
+                    .addChildren(
+                            TextInputModule.builder("deadline-loop-default-name", "Name: ")
+                                    .inputDeadline(InputDeadline.useDefault(SHORT, "guest")),
+                            TextInputModule.builder("deadline-loop-default-color", "Color: "))
+                    .build());
+
+            Thread thread = new Thread(loop::run, "input-deadline-test");
+            thread.setDaemon(true);
+            thread.start();
+
+            long deadline = System.nanoTime() + TIMEOUT.toNanos();
+            while(!output.getOutput().endsWith("Color: ")) {
+                if(System.nanoTime() > deadline) fail("timed out waiting for the second prompt");
+                Thread.sleep(1);
+            }
+            input.offer("blue");
+            assertTrue(session.await(TIMEOUT));
+            loop.stop();
+            thread.join(TIMEOUT.toMillis());
+
+            assertAll(
+                    () -> assertEquals("guest", session.getApplication().getInput("deadline-loop-default-name")),
+                    () -> assertEquals("blue", session.getApplication().getInput("deadline-loop-default-color"))
+            );
+        }
+    }
+}
@@ -0,0 +1,183 @@
+/*
+    Copyright (c) 2026 Caleb Leavell
+
+    Permission is hereby granted, free of charge, to any person obtaining a copy
+    of this software and associated documentation files (the "Software"), to deal
+    in the Software without restriction, including without limitation the rights
+    to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+    copies of the Software, and to permit persons to whom the Software is
+    furnished to do so, subject to the following conditions:
+
+    The above copyright notice and this permission notice shall be included in all
+    copies or substantial portions of the Software.
+
+    THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+    IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+    FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+    AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+    LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+    OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+    SOFTWARE.
+ */
+
+package com.calebleavell.jatui.modules;
+
+import com.calebleavell.jatui.util.IOCapture;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IntInputModuleTest {
+    @Test
+    void testRun() {
+        ApplicationModule app = ApplicationModule.builder("app").build();
+
+        String output;
+        try(IOCapture io = new IOCapture(" 42 ")) {
+            IntInputModule.Builder input = IntInputModule.builder("number", "number: ")
+                    .scanner(io.getScanner())
+                    .printStream(io.getPrintStream())
+                    .enableAnsi(false)
+                    .application(app);
+
+            input.build().start();
+
+            output = io.getOutput();
+        }
+
+        assertAll(
+                () -> assertEquals("number: ", output),
+                () -> assertEquals(42, app.getInput("number", Integer.class))
+        );
+    }
+
+    @Test
+    void testInvalidInputIsRecollected() {
+        IntInputModule input;
+        String output;
+
+        try(IOCapture io = new IOCapture(String.format("abc%n%n12a%n2147483648%n-7%n"))) {
+            input = IntInputModule.builder("number", "number: ")
+                    .invalidMessage("invalid")
+                    .scanner(io.getScanner())
+                    .printStream(io.getPrintStream())
+                    .enableAnsi(false)
+                    .build();
+
+            input.start();
+
+            output = io.getOutput();
+        }
+
+        assertAll(
+                () -> assertEquals(-7, input.getValue()),
+                () -> assertEquals(String.format("number: invalid%n".repeat(4) + "number: "), output)
+        );
+    }
+
+    @Test
+    void testRange() {
+        IntInputModule input;
+
+        try(IOCapture io = new IOCapture(String.format("0%n11%n+10%n"))) {
+            input = IntInputModule.builder("number", "number: ")
+                    .range(1, 10)
+                    .scanner(io.getScanner())
+                    .printStream(io.getPrintStream())
+                    .build();
+
+            input.start();
+        }
+
+        assertEquals(10, input.getValue());
+    }
+
+    @Test
+    void testBounds() {
+        IntInputModule min;
+        IntInputModule max;
+
+        try(IOCapture io = new IOCapture(String.format("-2147483648%n2147483647%n"))) {
+            min = IntInputModule.builder("min", "")
+                    .scanner(io.getScanner())
+                    .printStream(io.getPrintStream())
+                    .build();
+            max = IntInputModule.builder("max", "")
+                    .scanner(io.getScanner())
+                    .printStream(io.getPrintStream())
+                    .build();
+
+            min.start();
+            max.start();
+        }
+
+        assertAll(
+                () -> assertEquals(Integer.MIN_VALUE, min.getValue()),
+                () -> assertEquals(Integer.MAX_VALUE, max.getValue())
+        );
+    }
+
+    @Test
+    void testStructuralEquals() {
+        IntInputModule input1 = IntInputModule.builder("input", "input: ").build();
+        IntInputModule input2 = IntInputModule.builder("input", "input: ").build();
+        IntInputModule input3 = IntInputModule.builder("input", "other: ").build();
+        IntInputModule input4 = IntInputModule.builder("input", "input: ").invalidMessage("other").build();
+
+        assertAll(
+                () -> assertTrue(input1.structuralEquals(input2)),
+                () -> assertTrue(input2.structuralEquals(input1)),
+                () -> assertFalse(input1.structuralEquals(input3)),
+                () -> assertFalse(input1.structuralEquals(input4))
+        );
+    }
+
+    @Nested
+    class BuilderTest {
+
+        @Test
+        void testCopy() {
+            IntInputModule.Builder original = IntInputModule.builder("input", "input: ")
+                    .range(3, 8)
+                    .invalidMessage("invalid");
+
+            IntInputModule.Builder copy = original.getCopy();
+
+            assertAll(
+                    () -> assertTrue(copy.structuralEquals(original)),
+                    () -> assertEquals(3, copy.getMin()),
+                    () -> assertEquals(8, copy.getMax()),
+                    () -> assertEquals("invalid", copy.getInvalidMessage()),
+                    () -> assertNotSame(original.getDisplayText(), copy.getDisplayText()),
+                    () -> assertTrue(copy.getDisplayText().structuralEquals(original.getDisplayText())));
+        }
+
+        @Test
+        void testShallowStructuralEquals() {
+            IntInputModule.Builder input1 = IntInputModule.builder("input", "input: ").range(1, 5);
+            IntInputModule.Builder input2 = IntInputModule.builder("input", "input: ").range(1, 5);
+            IntInputModule.Builder input3 = IntInputModule.builder("input", "input: ").range(1, 6);
+            IntInputModule.Builder input4 = IntInputModule.builder("input", "input: ").range(0, 5);
+
+            assertAll(
+                    () -> assertTrue(input1.structuralEquals(input2)),
+                    () -> assertFalse(input1.structuralEquals(input3)),
+                    () -> assertFalse(input1.structuralEquals(input4))
+            );
+        }
+
+        @Test
+        void testBuildKeepsDisplayTextAsChild() {
+            IntInputModule.Builder input = IntInputModule.builder("input", "input: ");
+
+            input.build();
+            input.build();
+
+            assertAll(
+                    () -> assertEquals(1, input.getChildren().size()),
+                    () -> assertSame(input.getDisplayText(), input.getChildren().getFirst())
+            );
+        }
+    }
+}
@@ -0,0 +1,219 @@
+/*
+    Copyright (c) 2026 Caleb Leavell
+
+    Permission is hereby granted, free of charge, to any person obtaining a copy
+    of this software and associated documentation files (the "Software"), to deal
+    in the Software without restriction, including without limitation the rights
+    to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+    copies of the Software, and to permit persons to whom the Software is
+    furnished to do so, subject to the following conditions:
+
+    The above copyright notice and this permission notice shall be included in all
+    copies or substantial portions of the Software.
+
+    THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+    IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+    FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+    AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+    LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+    OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+    SOFTWARE.
+ */
+
+package com.calebleavell.jatui.modules;
+
+import com.calebleavell.jatui.util.IOCapture;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LazyModuleTest {
+
+    @Test
+    void testRunCreatesSubtreeOnce() {
+        AtomicInteger created = new AtomicInteger();
+        String output;
+
+        try(IOCapture io = new IOCapture()) {
+            LazyModule.Builder lazy = LazyModule.builder("lazy", () -> {
+                created.incrementAndGet();
+                return TextModule.builder("lazy-text", "Lazy Text");
+            });
+
+            ApplicationModule app = ApplicationModule.builder("app")
+                    .printStream(io.getPrintStream())
+                    .enableAnsi(false)
+                    .onExit(ModuleFactory.empty("exit"))
+                    .build();
+            app.setHome(lazy);
+
+            assertEquals(0, created.get());
+
+            app.start();
+            app.start();
+
+            output = io.getOutput();
+
+            assertAll(
+                    () -> assertEquals(1, created.get()),
+                    () -> assertEquals(1, lazy.getMaterializations()),
+                    () -> assertTrue(lazy.isMaterialized())
+            );
+        }
+
+        assertEquals(String.format("Lazy Text%nLazy Text%n"), output);
+    }
+
+    @Test
+    void testGetChildCreatesSubtree() {
+        LazyModule.Builder lazy = LazyModule.builder("lazy", () -> ContainerModule.builder("lazy-main")
+                .addChild(TextModule.builder("lazy-text", "text")))
+                .provides("lazy-text");
+        ContainerModule.Builder parent = ContainerModule.builder("parent").addChild(lazy);
+
+        assertAll(
+                () -> assertEquals(lazy, parent.getChild("lazy")),
+                () -> assertFalse(lazy.isMaterialized()),
+                () -> assertNull(parent.dfs(m -> m.getName().equals("lazy-text"))),
+                () -> assertEquals("text", parent.getChild("lazy-text", TextModule.Builder.class).getText()),
+                () -> assertTrue(lazy.isMaterialized()),
+                () -> assertNotNull(parent.dfs(m -> m.getName().equals("lazy-text")))
+        );
+    }
+
+    @Test
+    void testGetChildOnlyCreatesDeclaredSubtrees() {
+        LazyModule.Builder declared = LazyModule.builder("declared", () -> ContainerModule.builder("declared-main"))
+                .provides("declared-main");
+        LazyModule.Builder undeclared = LazyModule.builder("undeclared", () -> ContainerModule.builder("undeclared-main")
+                .addChild(TextModule.builder("hidden", "text")));
+        ContainerModule.Builder parent = ContainerModule.builder("parent").addChild(undeclared).addChild(declared);
+
+        assertAll(
+                () -> assertNull(parent.getChild("missing")),
+                () -> assertFalse(declared.isMaterialized()),
+                () -> assertFalse(undeclared.isMaterialized()),
+                () -> assertNull(parent.getChild("hidden")),
+                () -> assertFalse(undeclared.isMaterialized()),
+                () -> assertNotNull(parent.getChild("declared-main")),
+                () -> assertTrue(declared.isMaterialized()),
+                () -> assertFalse(undeclared.isMaterialized()),
+                () -> assertNotNull(parent.getChild("hidden", true)),
+                () -> assertTrue(undeclared.isMaterialized())
+        );
+    }
+
+    @Test
+    void testPropertiesAppliedToSubtree() {
+        PrintStream printStream = new PrintStream(new ByteArrayOutputStream());
+        PrintStream locked = new PrintStream(new ByteArrayOutputStream());
+        TextModule.Builder lockedText = TextModule.builder("locked", "text").printStream(locked);
+
+        LazyModule.Builder lazy = LazyModule.builder("lazy", () -> ContainerModule.builder("lazy-main")
+                .addChildren(TextModule.builder("free", "text"), lockedText));
+        ContainerModule.Builder parent = ContainerModule.builder("parent").addChild(lazy);
+
+        parent.printStream(printStream);
+        parent.enableAnsi(false);
+
+        lazy.materialize();
+
+        ContainerModule.Builder later = ContainerModule.builder("later");
+        lazy.getSubtree().addChild(later);
+        lazy.enableAnsi(true);
+
+        assertAll(
+                () -> assertEquals(printStream, lazy.getChild("free").getPrintStream()),
+                () -> assertEquals(locked, lockedText.getPrintStream()),
+                () -> assertTrue(lazy.getChild("free").getAnsiEnabled()),
+                () -> assertTrue(later.getAnsiEnabled())
+        );
+    }
+
+    @Test
+    void testRelease() {
+        LazyModule.Builder lazy = LazyModule.builder("lazy", () -> ContainerModule.builder("lazy-main"));
+
+        TUIModule.Builder<?> first = lazy.materialize();
+        lazy.release();
+
+        assertFalse(lazy.isMaterialized());
+
+        TUIModule.Builder<?> second = lazy.materialize();
+
+        assertAll(
+                () -> assertNotSame(first, second),
+                () -> assertEquals(2, lazy.getMaterializations()),
+                () -> assertSame(second, lazy.materialize())
+        );
+    }
+
+    @Test
+    void testBuildIncludesSubtree() {
+        LazyModule.Builder lazy = LazyModule.builder("lazy", () -> ContainerModule.builder("lazy-main"))
+                .addChild(ContainerModule.builder("after"));
+
+        LazyModule built = lazy.build();
+
+        assertAll(
+                () -> assertEquals(2, built.getChildren().size()),
+                () -> assertEquals("lazy-main", built.getChildren().getFirst().getName()),
+                () -> assertEquals("after", built.getChildren().getLast().getName())
+        );
+    }
+
+    @Nested
+    class BuilderTest {
+
+        @Test
+        void testReleasable() {
+            LazyModule.Builder lazy = LazyModule.builder("lazy", () -> ContainerModule.builder("lazy-main"));
+            TUIModule.Builder<?> subtree = lazy.materialize();
+
+            lazy.releasable(true);
+
+            assertAll(
+                    () -> assertTrue(lazy.isReleasable()),
+                    // still strongly reachable from this test, so it can't have been released
+                    () -> assertSame(subtree, lazy.getSubtree())
+            );
+        }
+
+        @Test
+        void testShallowCopy() {
+            LazyModule.Builder original = LazyModule.builder("lazy", () -> ContainerModule.builder("lazy-main"))
+                    .provides("lazy-main")
+                    .releasable(true);
+            original.materialize();
+
+            LazyModule.Builder copy = original.getCopy();
+
+            assertAll(
+                    () -> assertEquals(original.getSupplier(), copy.getSupplier()),
+                    () -> assertTrue(copy.isReleasable()),
+                    () -> assertEquals(Set.of("lazy-main"), copy.getProvided()),
+                    () -> assertFalse(copy.isMaterialized()),
+                    () -> assertTrue(original.structuralEquals(copy))
+            );
+        }
+
+        @Test
+        void testShallowStructuralEquals() {
+            LazyModule.Builder first = LazyModule.builder("lazy", () -> ContainerModule.builder("a"));
+            LazyModule.Builder second = LazyModule.builder("lazy", () -> ContainerModule.builder("b"));
+            LazyModule.Builder third = LazyModule.builder("lazy", () -> ContainerModule.builder("a")).releasable(true);
+
+            assertAll(
+                    () -> assertTrue(first.shallowStructuralEquals(first, second)),
+                    () -> assertFalse(first.shallowStructuralEquals(first, third)),
+                    () -> assertFalse(first.shallowStructuralEquals(first, null))
+            );
+        }
+    }
+}
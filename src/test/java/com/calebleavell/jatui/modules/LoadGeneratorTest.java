@@ -0,0 +1,95 @@
+/*
+    Copyright (c) 2026 Caleb Leavell
+
+    Permission is hereby granted, free of charge, to any person obtaining a copy
+    of this software and associated documentation files (the "Software"), to deal
+    in the Software without restriction, including without limitation the rights
+    to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+    copies of the Software, and to permit persons to whom the Software is
+    furnished to do so, subject to the following conditions:
+
+    The above copyright notice and this permission notice shall be included in all
+    copies or substantial portions of the Software.
+
+    THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+    IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+    FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+    AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+    LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+    OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+    SOFTWARE.
+ */
+
+package com.calebleavell.jatui.modules;
+
+import com.calebleavell.jatui.util.SessionRecording;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LoadGeneratorTest {
+
+    @Test
+    void testRun() throws InterruptedException {
+        AtomicInteger mismatches = new AtomicInteger();
+
+        LoadGenerator generator = new LoadGenerator(() -> {
+            String[] name = new String[1]; // each session gets its own
+            return ApplicationModule.builder("load-app")
+                    .onExit(ModuleFactory.empty("exit"))
+                    .addChildren(
+                            TextInputModule.builder("load-name", "Name: ")
+                                    .addHandler("load-name-store", input -> name[0] = input),
+                            TextInputModule.builder("load-count", "Count: ")
+                                    .addSafeHandler("load-check", input -> {
+                                        int count = Integer.parseInt(input);
+                                        if(!name[0].equals("user-" + count)) mismatches.incrementAndGet();
+                                        return count;
+                                    }));
+        }).threads(8);
+
+        List<SessionRecording> sessions = new ArrayList<>();
+        for(int i = 0; i < 200; i ++) sessions.add(SessionRecording.of("user-" + i, String.valueOf(i)));
+        sessions.add(SessionRecording.of("user-only"));
+
+        LoadGenerator.Report report = generator.run(sessions);
+
+        assertAll(
+                () -> assertEquals(201, report.getSessions()),
+                () -> assertEquals(200, report.getCompleted()),
+                () -> assertEquals(1, report.getExhausted()),
+                () -> assertEquals(0, report.getFailed()),
+                () -> assertEquals(401, report.getLinesRead()),
+                () -> assertEquals(401, report.getLatency().getCount()),
+                () -> assertTrue(report.getThroughput() > 0),
+                () -> assertTrue(report.getPeakHeapUsed() > 0),
+                () -> assertEquals(0, mismatches.get())
+        );
+    }
+
+    @Test
+    void testSpeedReplaysThinkTime() throws InterruptedException {
+        LoadGenerator generator = new LoadGenerator(() -> ApplicationModule.builder("load-empty-app")
+                .onExit(ModuleFactory.empty("exit")))
+                .threads(1)
+                .speed(1);
+
+        LoadGenerator.Report report = generator.run(Collections.nCopies(3, SessionRecording.of()));
+
+        assertEquals(3, report.getCompleted());
+    }
+
+    @Test
+    void testInvalidArguments() {
+        LoadGenerator generator = new LoadGenerator(() -> ApplicationModule.builder("app"));
+        assertAll(
+                () -> assertThrows(IllegalArgumentException.class, () -> generator.threads(0)),
+                () -> assertThrows(IllegalArgumentException.class, () -> generator.speed(-1))
+        );
+    }
+}
@@ -0,0 +1,128 @@
+/*
+    Copyright (c) 2026 Caleb Leavell
+
+    Permission is hereby granted, free of charge, to any person obtaining a copy
+    of this software and associated documentation files (the "Software"), to deal
+    in the Software without restriction, including without limitation the rights
+    to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+    copies of the Software, and to permit persons to whom the Software is
+    furnished to do so, subject to the following conditions:
+
+    The above copyright notice and this permission notice shall be included in all
+    copies or substantial portions of the Software.
+
+    THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+    IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+    FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+    AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+    LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+    OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+    SOFTWARE.
+ */
+
+package com.calebleavell.jatui.modules;
+
+import com.calebleavell.jatui.util.IOCapture;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LongInputModuleTest {
+    @Test
+    void testRun() {
+        ApplicationModule app = ApplicationModule.builder("app").build();
+
+        try(IOCapture io = new IOCapture("9000000000")) {
+            LongInputModule.Builder input = LongInputModule.builder("number", "number: ")
+                    .scanner(io.getScanner())
+                    .printStream(io.getPrintStream())
+                    .enableAnsi(false)
+                    .application(app);
+
+            input.build().start();
+        }
+
+        assertEquals(9_000_000_000L, app.getInput("number", Long.class));
+    }
+
+    @Test
+    void testBounds() {
+        LongInputModule min;
+        LongInputModule max;
+        String output;
+
+        try(IOCapture io = new IOCapture(String.format("-9223372036854775809%n-9223372036854775808%n9223372036854775808%n9223372036854775807%n"))) {
+            min = LongInputModule.builder("min", "")
+                    .invalidMessage("invalid")
+                    .scanner(io.getScanner())
+                    .printStream(io.getPrintStream())
+                    .enableAnsi(false)
+                    .build();
+            max = LongInputModule.builder("max", "")
+                    .invalidMessage("invalid")
+                    .scanner(io.getScanner())
+                    .printStream(io.getPrintStream())
+                    .enableAnsi(false)
+                    .build();
+
+            min.start();
+            max.start();
+
+            output = io.getOutput();
+        }
+
+        assertAll(
+                () -> assertEquals(Long.MIN_VALUE, min.getValue()),
+                () -> assertEquals(Long.MAX_VALUE, max.getValue()),
+                () -> assertEquals(String.format("invalid%ninvalid%n"), output)
+        );
+    }
+
+    @Test
+    void testRange() {
+        LongInputModule input;
+
+        try(IOCapture io = new IOCapture(String.format("0%n-1%n5%n"))) {
+            input = LongInputModule.builder("number", "number: ")
+                    .min(1)
+                    .scanner(io.getScanner())
+                    .printStream(io.getPrintStream())
+                    .enableAnsi(false)
+                    .build();
+
+            input.start();
+        }
+
+        assertEquals(5, input.getValue());
+    }
+
+    @Nested
+    class BuilderTest {
+
+        @Test
+        void testCopy() {
+            LongInputModule.Builder original = LongInputModule.builder("input", "input: ")
+                    .range(-3, 8);
+
+            LongInputModule.Builder copy = original.getCopy();
+
+            assertAll(
+                    () -> assertTrue(copy.structuralEquals(original)),
+                    () -> assertEquals(-3, copy.getMin()),
+                    () -> assertEquals(8, copy.getMax()));
+        }
+
+        @Test
+        void testShallowStructuralEquals() {
+            LongInputModule.Builder input1 = LongInputModule.builder("input", "input: ").range(1, 5);
+            LongInputModule.Builder input2 = LongInputModule.builder("input", "input: ").range(1, 5);
+            LongInputModule.Builder input3 = LongInputModule.builder("input", "input: ").range(1, 6);
+
+            assertAll(
+                    () -> assertTrue(input1.structuralEquals(input2)),
+                    () -> assertFalse(input1.structuralEquals(input3))
+            );
+        }
+    }
+}
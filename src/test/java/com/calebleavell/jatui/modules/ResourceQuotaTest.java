@@ -0,0 +1,201 @@
+/*
+    Copyright (c) 2026 Caleb Leavell
+
+    Permission is hereby granted, free of charge, to any person obtaining a copy
+    of this software and associated documentation files (the "Software"), to deal
+    in the Software without restriction, including without limitation the rights
+    to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+    copies of the Software, and to permit persons to whom the Software is
+    furnished to do so, subject to the following conditions:
+
+    The above copyright notice and this permission notice shall be included in all
+    copies or substantial portions of the Software.
+
+    THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+    IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+    FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+    AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+    LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+    OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+    SOFTWARE.
+ */
+
+package com.calebleavell.jatui.modules;
+
+import com.calebleavell.jatui.monitoring.MetricsRegistry;
+import com.calebleavell.jatui.monitoring.ModuleMetrics;
+import com.calebleavell.jatui.util.IOCapture;
+import com.calebleavell.jatui.util.OutputSink;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ResourceQuotaTest {
+
+    private static ApplicationModule.Builder app(String name, ResourceQuota quota) {
+        return ApplicationModule.builder(name)
+                .quota(quota)
+                .onExit(ModuleFactory.empty("exit"));
+    }
+
+    @Test
+    void testBuilder() {
+        ResourceQuota quota = ResourceQuota.builder()
+                .maxRunStackDepth(1)
+                .maxStateEntries(2)
+                .maxStateBytes(3)
+                .maxBuildsPerSecond(4)
+                .maxHandlerCpuTime(Duration.ofMillis(5))
+                .build();
+
+        assertAll(
+                () -> assertTrue(ResourceQuota.UNLIMITED.isUnlimited()),
+                () -> assertFalse(quota.isUnlimited()),
+                () -> assertEquals(1, quota.getMaxRunStackDepth()),
+                () -> assertEquals(2, quota.getMaxStateEntries()),
+                () -> assertEquals(3, quota.getMaxStateBytes()),
+                () -> assertEquals(4, quota.getMaxBuildsPerSecond()),
+                () -> assertEquals(Duration.ofMillis(5), quota.getMaxHandlerCpuTime()),
+                () -> assertThrows(IllegalArgumentException.class, () -> ResourceQuota.builder().maxRunStackDepth(-1)),
+                () -> assertThrows(IllegalArgumentException.class, () -> ResourceQuota.builder().maxHandlerCpuTime(Duration.ofMillis(-1))),
+                () -> assertSame(ResourceQuota.UNLIMITED, ApplicationModule.builder("quota-default").getQuota()),
+                () -> assertSame(quota, ApplicationModule.builder("quota-copy").quota(quota).getCopy().getQuota())
+        );
+    }
+
+    @Test
+    void testRunStackDepth() {
+        ApplicationModule.Builder builder = app("quota-depth-app", ResourceQuota.builder().maxRunStackDepth(50).build());
+        ContainerModule.Builder recurse = ContainerModule.builder("quota-depth-recurse");
+        recurse.addChild(FunctionModule.builder("quota-depth-navigate", () -> recurse.getApplication().navigateTo(recurse)));
+        ApplicationModule app = builder.addChild(recurse).build();
+        ModuleMetrics metrics = MetricsRegistry.global().module(ApplicationModule.class, "quota-depth-app");
+        metrics.reset();
+
+        QuotaExceededException e = assertThrows(QuotaExceededException.class, app::start);
+
+        assertAll(
+                () -> assertEquals(QuotaExceededException.Kind.RUN_STACK_DEPTH, e.getKind()),
+                () -> assertEquals("quota-depth-app", e.getApplicationName()),
+                () -> assertEquals(50, e.getLimit()),
+                () -> assertEquals(51, e.getActual()),
+                () -> assertEquals(1, app.getQuotaViolations(QuotaExceededException.Kind.RUN_STACK_DEPTH)),
+                () -> assertEquals(0, app.getQuotaViolations(QuotaExceededException.Kind.BUILD_RATE)),
+                () -> assertEquals(1, metrics.getQuotaViolations())
+        );
+    }
+
+    @Test
+    void testBuildRate() {
+        ApplicationModule.Builder builder = app("quota-build-app", ResourceQuota.builder().maxBuildsPerSecond(100).build());
+        ApplicationModule app = builder.build();
+        app.setHome(ContainerModule.builder("quota-build-home")
+                .addChildren(
+                        TextModule.builder("quota-build-text", "text").outputSink(OutputSink.discard()),
+                        ModuleFactory.restart("quota-build-restart", app)));
+
+        QuotaExceededException e = assertThrows(QuotaExceededException.class, app::start);
+
+        assertAll(
+                () -> assertEquals(QuotaExceededException.Kind.BUILD_RATE, e.getKind()),
+                () -> assertEquals(100, e.getLimit()),
+                () -> assertEquals(101, e.getActual())
+        );
+    }
+
+    @Test
+    void testStateEntries() {
+        ApplicationModule app = app("quota-entries-app", ResourceQuota.builder().maxStateEntries(3).build()).build();
+
+        app.forceUpdateInput("a", 1);
+        app.forceUpdateInput("b", 2);
+        app.forceUpdateInput("c", 3);
+        app.forceUpdateInput("a", 4); // replacing doesn't add an entry
+
+        QuotaExceededException e = assertThrows(QuotaExceededException.class, () -> app.forceUpdateInput("d", 5));
+
+        assertAll(
+                () -> assertEquals(QuotaExceededException.Kind.STATE_ENTRIES, e.getKind()),
+                () -> assertEquals(4, e.getActual()),
+                () -> assertEquals(4, app.getInput("a")),
+                () -> assertNull(app.getInput("d"))
+        );
+
+        app.resetMemory();
+        app.forceUpdateInput("d", 5);
+        assertEquals(5, app.getInput("d"));
+    }
+
+    @Test
+    void testStateBytes() {
+        ApplicationModule app = app("quota-bytes-app", ResourceQuota.builder().maxStateBytes(1_000).build()).build();
+
+        app.forceUpdateInput("small", "x".repeat(100));
+        app.forceUpdateInput("small", "x".repeat(300)); // replaces the previous size
+
+        QuotaExceededException e = assertThrows(QuotaExceededException.class,
+                () -> app.forceUpdateInput("large", "x".repeat(300)));
+
+        assertAll(
+                () -> assertEquals(QuotaExceededException.Kind.STATE_BYTES, e.getKind()),
+                () -> assertEquals(1_000, e.getLimit()),
+                () -> assertTrue(e.getActual() > 1_000),
+                () -> assertEquals(300, app.getInput("small", String.class).length()),
+                () -> assertNull(app.getInput("large")),
+                () -> assertEquals(16 + 2 * 10, ApplicationModule.estimateSize(new char[10])),
+                () -> assertEquals(32 + 16 * 3, ApplicationModule.estimateSize(List.of(1, 2, 3)))
+        );
+    }
+
+    @Test
+    void testHandlerCpuTimeIsNotCaughtBySafeHandler() {
+        ApplicationModule app = app("quota-cpu-app", ResourceQuota.builder().maxHandlerCpuTime(Duration.ofMillis(1)).build()).build();
+        boolean[] recovered = {false};
+
+        QuotaExceededException e;
+        try(IOCapture io = new IOCapture("spin")) {
+            app.setHome(TextInputModule.builder("quota-cpu-input", "> ")
+                    .scanner(io.getScanner())
+                    .printStream(io.getPrintStream())
+                    .addSafeHandler("quota-cpu-handler", input -> {
+                        long end = System.nanoTime() + 50_000_000L;
+                        long spins = 0;
+                        while(System.nanoTime() < end) spins ++;
+                        return spins;
+                    }, ignored -> recovered[0] = true));
+
+            e = assertThrows(QuotaExceededException.class, app::start);
+        }
+
+        assertAll(
+                () -> assertEquals(QuotaExceededException.Kind.HANDLER_CPU_TIME, e.getKind()),
+                () -> assertEquals(1_000_000, e.getLimit()),
+                () -> assertFalse(recovered[0]),
+                () -> assertNull(app.getInput("quota-cpu-handler"))
+        );
+    }
+
+    @Test
+    void testQuotaViolationInsideSafeHandlerPropagates() {
+        ApplicationModule app = app("quota-safe-app", ResourceQuota.builder().maxStateEntries(1).build()).build();
+        boolean[] recovered = {false};
+
+        try(IOCapture io = new IOCapture("value")) {
+            app.setHome(TextInputModule.builder("quota-safe-input", "> ")
+                    .scanner(io.getScanner())
+                    .printStream(io.getPrintStream())
+                    .addSafeHandler("quota-safe-handler", input -> {
+                        app.forceUpdateInput("extra", input);
+                        return input;
+                    }, ignored -> recovered[0] = true));
+
+            QuotaExceededException e = assertThrows(QuotaExceededException.class, app::start);
+            assertEquals(QuotaExceededException.Kind.STATE_ENTRIES, e.getKind());
+        }
+
+        assertFalse(recovered[0]);
+    }
+}
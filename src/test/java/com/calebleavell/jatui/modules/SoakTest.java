@@ -0,0 +1,252 @@
+/*
+    Copyright (c) 2026 Caleb Leavell
+
+    Permission is hereby granted, free of charge, to any person obtaining a copy
+    of this software and associated documentation files (the "Software"), to deal
+    in the Software without restriction, including without limitation the rights
+    to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+    copies of the Software, and to permit persons to whom the Software is
+    furnished to do so, subject to the following conditions:
+
+    The above copyright notice and this permission notice shall be included in all
+    copies or substantial portions of the Software.
+
+    THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+    IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+    FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+    AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+    LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+    OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+    SOFTWARE.
+ */
+
+package com.calebleavell.jatui.modules;
+
+import com.calebleavell.jatui.templates.ConfirmationPrompt;
+import com.calebleavell.jatui.templates.NumberedModuleSelector;
+import com.calebleavell.jatui.templates.TextChain;
+import com.calebleavell.jatui.util.InputSource;
+import com.calebleavell.jatui.util.OutputSink;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs representative applications for a large number of loop iterations with in-memory input
+ * and checks that the heap and the run stack stay bounded. <br>
+ * These are excluded from the default build; run them with {@code mvn test -Psoak}.
+ * The number of iterations can be set with {@code -Djatui.soak.iterations=<n>} and the allowed
+ * heap growth (in bytes) with {@code -Djatui.soak.maxHeapGrowth=<bytes>}.
+ */
+@Tag("soak")
+class SoakTest {
+
+    private static final int ITERATIONS = Integer.getInteger("jatui.soak.iterations", 1_000_000);
+    private static final long MAX_HEAP_GROWTH = Long.getLong("jatui.soak.maxHeapGrowth", 32L * 1024 * 1024);
+
+    private static final Random rand = new Random(0);
+
+    /**
+     * Based on {@code NativeComparison.libraryApp()}: a safe handler that's given invalid input,
+     * valid input, and a confirmation prompt that restarts the application.
+     */
+    @Test
+    void testLibraryApp() {
+        Probe probe = new Probe();
+        LoopSource source = new LoopSource(
+                new String[] {"not a number", "10", "-1", "n"},
+                new String[] {"-1", "y"});
+
+        ApplicationModule app = ApplicationModule.builder("soak-library-app")
+                .inputSource(source)
+                .outputSink(OutputSink.discard())
+                .enableAnsi(false)
+                .onExit(ModuleFactory.empty("exit"))
+                .build();
+
+        ConfirmationPrompt confirmExit = ConfirmationPrompt.builder("soak-library-confirm-exit", "Exit (y/n)? ")
+                .application(app)
+                .inputSource(source)
+                .outputSink(OutputSink.discard())
+                .addOnConfirm(app::terminate)
+                .addOnDeny(app::restart);
+
+        ContainerModule.Builder home = ContainerModule.builder("soak-library-home")
+                .addChildren(
+                        TextInputModule.builder("soak-library-max-input", "Maximum Number (or -1 to exit): ")
+                                .addSafeHandler("soak-library-random-number", input -> {
+                                    int max = Integer.parseInt(input);
+                                    if(max < 0) {
+                                        app.navigateTo(confirmExit);
+                                        return -1;
+                                    }
+
+                                    return rand.nextInt(max) + 1;
+                                }),
+                        TextChain.builder("soak-library-display")
+                                .addText("Generated Number: ")
+                                .addModuleOutput("soak-library-random-number").newLine(),
+                        FunctionModule.builder("soak-library-probe", () -> probe.sample(app, source)),
+                        ModuleFactory.restart("soak-library-restart-app", app));
+
+        app.setHome(home);
+
+        probe.check(app, source, ITERATIONS);
+    }
+
+    /**
+     * Based on {@code RandomNumber}: a safe handler with a custom message, a display of its output,
+     * and a numbered selector that either restarts the application or asks to exit.
+     */
+    @Test
+    void testRandomNumber() {
+        Probe probe = new Probe();
+        LoopSource source = new LoopSource(
+                new String[] {"-5x", "100", "1", "-1", "n"},
+                new String[] {"-1", "y"});
+
+        ApplicationModule app = ApplicationModule.builder("soak-random-app")
+                .inputSource(source)
+                .outputSink(OutputSink.discard())
+                .enableAnsi(false)
+                .onExit(ModuleFactory.empty("exit"))
+                .build();
+
+        ConfirmationPrompt confirmExit = ConfirmationPrompt.builder("soak-random-confirm-exit",
+                        "Are you sure you want to exit (y/n)? ")
+                .application(app)
+                .inputSource(source)
+                .outputSink(OutputSink.discard())
+                .addOnConfirm(app::terminate)
+                .addOnDeny(app::restart);
+
+        ContainerModule.Builder generator = ContainerModule.builder("soak-random-generator")
+                .addChildren(
+                        TextModule.builder("soak-random-title", "=== Random Number Generator ==="),
+                        TextInputModule.builder("soak-random-max", "Maximum Number (or -1 to exit): ")
+                                .addSafeHandler("soak-random-number", s -> {
+                                    int max = Integer.parseInt(s);
+                                    if(max < 0) {
+                                        app.navigateTo(confirmExit);
+                                        return -1;
+                                    }
+                                    return rand.nextInt(max) + 1;
+                                }, "Error: input integer (your input might be too large)"),
+                        TextChain.builder("soak-random-display")
+                                .addText("Generated Number: ")
+                                .addModuleOutput("soak-random-number")
+                                .newLine(),
+                        FunctionModule.builder("soak-random-probe", () -> probe.sample(app, source)),
+                        NumberedModuleSelector.builder("soak-random-selector", app)
+                                .addModule("Generate another number", ModuleFactory.restart("soak-random-restart", app))
+                                .addModule("Exit", confirmExit));
+
+        app.setHome(generator);
+
+        probe.check(app, source, ITERATIONS);
+    }
+
+    /**
+     * A safe handler that keeps getting invalid input without the application ever restarting,
+     * so every retry happens within the same run.
+     */
+    @Test
+    void testSafeHandlerRetries() {
+        Probe probe = new Probe();
+        LoopSource source = new LoopSource(new String[] {"not a number"}, new String[] {"7"});
+
+        ApplicationModule app = ApplicationModule.builder("soak-retry-app")
+                .inputSource(source)
+                .outputSink(OutputSink.discard())
+                .enableAnsi(false)
+                .onExit(ModuleFactory.empty("exit"))
+                .build();
+
+        app.setHome(TextInputModule.builder("soak-retry-input", "Number: ")
+                .addSafeHandler("soak-retry-number", input -> {
+                    probe.sample(app, source);
+                    return Integer.parseInt(input);
+                }, "Try again"));
+
+        probe.check(app, source, ITERATIONS + 1L);
+        assertEquals(7, app.getInput("soak-retry-number"));
+    }
+
+    /**
+     * Endlessly repeats {@code loop}, then gives {@code exit} once {@link SoakTest#ITERATIONS} loops have been read.
+     */
+    private static class LoopSource implements InputSource {
+        private final String[] loop;
+        private final String[] exit;
+        private long iterations = 0;
+        private int index = 0;
+
+        LoopSource(String[] loop, String[] exit) {
+            this.loop = loop;
+            this.exit = exit;
+        }
+
+        @Override
+        public String nextLine() {
+            String[] lines = iterations < ITERATIONS ? loop : exit;
+            if(index >= lines.length) throw new IllegalStateException("application read past the end of the soak script");
+            String line = lines[index ++];
+            if(lines == loop && index == loop.length) {
+                index = 0;
+                iterations ++;
+            }
+            return line;
+        }
+    }
+
+    /**
+     * Samples the run stack depth and the number of used builder names every loop iteration,
+     * and the heap once the application has warmed up.
+     */
+    private static class Probe {
+        private final MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        private int minDepth = Integer.MAX_VALUE;
+        private int maxDepth = 0;
+        private int warmNames = -1;
+        private int maxNames = 0;
+        private long warmHeap = -1;
+        private long samples = 0;
+
+        void sample(ApplicationModule app, LoopSource source) {
+            int depth = app.getRunStackDepth();
+            minDepth = Math.min(minDepth, depth);
+            maxDepth = Math.max(maxDepth, depth);
+            maxNames = Math.max(maxNames, TUIModule.Builder.usedNames.size());
+            samples ++;
+
+            if(warmHeap < 0 && source.iterations >= ITERATIONS / 10) {
+                warmNames = TUIModule.Builder.usedNames.size();
+                warmHeap = usedHeap();
+            }
+        }
+
+        void check(ApplicationModule app, LoopSource source, long expectedSamples) {
+            app.start();
+            long heapGrowth = usedHeap() - warmHeap;
+
+            assertAll(
+                    () -> assertEquals(ITERATIONS, source.iterations),
+                    () -> assertEquals(expectedSamples, samples),
+                    () -> assertEquals(minDepth, maxDepth, "run stack depth varied between iterations"),
+                    () -> assertEquals(warmNames, maxNames, "used builder names grew after warm-up"),
+                    () -> assertTrue(heapGrowth < MAX_HEAP_GROWTH, "heap grew by " + heapGrowth + " bytes"),
+                    () -> assertEquals(0, app.getRunStackDepth())
+            );
+        }
+
+        private long usedHeap() {
+            for(int i = 0; i < 3; i ++) System.gc();
+            return memory.getHeapMemoryUsage().getUsed();
+        }
+    }
+}
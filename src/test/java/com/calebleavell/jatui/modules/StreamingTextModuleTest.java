@@ -0,0 +1,300 @@
+/*
+    Copyright (c) 2026 Caleb Leavell
+
+    Permission is hereby granted, free of charge, to any person obtaining a copy
+    of this software and associated documentation files (the "Software"), to deal
+    in the Software without restriction, including without limitation the rights
+    to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+    copies of the Software, and to permit persons to whom the Software is
+    furnished to do so, subject to the following conditions:
+
+    The above copyright notice and this permission notice shall be included in all
+    copies or substantial portions of the Software.
+
+    THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+    IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+    FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+    AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+    LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+    OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+    SOFTWARE.
+ */
+
+package com.calebleavell.jatui.modules;
+
+import com.calebleavell.jatui.util.IOCapture;
+import com.calebleavell.jatui.util.MemorySink;
+import com.calebleavell.jatui.util.OutputSink;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.fusesource.jansi.Ansi.ansi;
+import static org.junit.jupiter.api.Assertions.*;
+
+class StreamingTextModuleTest {
+
+    @Test
+    void testReader() {
+        String output;
+        StreamingTextModule module;
+
+        try(IOCapture io = new IOCapture()) {
+            module = StreamingTextModule.builder("text", () -> new StringReader("Hello, World!"))
+                    .bufferSize(4)
+                    .printStream(io.getPrintStream())
+                    .enableAnsi(false)
+                    .build();
+
+            module.start();
+
+            output = io.getOutput();
+        }
+
+        assertAll(
+                () -> assertEquals("Hello, World!", output),
+                () -> assertEquals(13, module.getWritten()),
+                () -> assertFalse(module.isCancelled())
+        );
+    }
+
+    @Test
+    void testStreamIsWrittenAsLinesAndClosed() {
+        AtomicBoolean closed = new AtomicBoolean(false);
+        String output;
+
+        try(IOCapture io = new IOCapture()) {
+            StreamingTextModule.fromStream("text", () -> Stream.of("a", "bc", "").onClose(() -> closed.set(true)))
+                    .bufferSize(1)
+                    .printStream(io.getPrintStream())
+                    .enableAnsi(false)
+                    .build()
+                    .start();
+
+            output = io.getOutput();
+        }
+
+        assertAll(
+                () -> assertEquals(String.format("a%nbc%n%n"), output),
+                () -> assertTrue(closed.get())
+        );
+    }
+
+    @Test
+    void testIterator() {
+        String output;
+
+        try(IOCapture io = new IOCapture()) {
+            StreamingTextModule.fromIterator("text", () -> List.<CharSequence>of(new StringBuilder("x"), "y").iterator())
+                    .printStream(io.getPrintStream())
+                    .enableAnsi(false)
+                    .build()
+                    .start();
+
+            output = io.getOutput();
+        }
+
+        assertEquals(String.format("x%ny%n"), output);
+    }
+
+    @Test
+    void testEachLineIsWrittenBeforeTheNextIsRequested() {
+        List<String> outputWhenRequested = new ArrayList<>();
+
+        try(IOCapture io = new IOCapture()) {
+            Iterator<String> slow = new Iterator<>() {
+                int i = 0;
+
+                @Override
+                public boolean hasNext() {
+                    outputWhenRequested.add(io.getOutput()); // a slow source would wait here
+                    return i < 3;
+                }
+
+                @Override
+                public String next() {
+                    return Integer.toString(i++);
+                }
+            };
+
+            StreamingTextModule.fromIterator("text", () -> slow)
+                    .printStream(io.getPrintStream())
+                    .enableAnsi(false)
+                    .build()
+                    .start();
+        }
+
+        assertEquals(List.of("", String.format("0%n"), String.format("0%n1%n"), String.format("0%n1%n2%n")),
+                outputWhenRequested);
+    }
+
+    @Test
+    void testLargeOutput() {
+        String output;
+
+        try(IOCapture io = new IOCapture()) {
+            StreamingTextModule.fromStream("text", () -> IntStream.range(0, 10_000).mapToObj(Integer::toString))
+                    .bufferSize(64)
+                    .printStream(io.getPrintStream())
+                    .enableAnsi(false)
+                    .build()
+                    .start();
+
+            output = io.getOutput();
+        }
+
+        String[] lines = output.split(System.lineSeparator());
+        assertAll(
+                () -> assertEquals(10_000, lines.length),
+                () -> assertEquals("9999", lines[9999])
+        );
+    }
+
+    @Test
+    void testWritesToOutputSink() {
+        MemorySink sink = OutputSink.memory();
+
+        StreamingTextModule.builder("text", () -> new StringReader("streamed through the sink"))
+                .bufferSize(4)
+                .outputSink(sink)
+                .enableAnsi(false)
+                .build()
+                .start();
+
+        assertEquals("streamed through the sink", sink.getOutput());
+    }
+
+    @Test
+    void testRunsAgain() {
+        String output;
+
+        try(IOCapture io = new IOCapture()) {
+            StreamingTextModule module = StreamingTextModule.builder("text", () -> new StringReader("ab"))
+                    .printStream(io.getPrintStream())
+                    .enableAnsi(false)
+                    .build();
+
+            module.start();
+            module.start();
+
+            output = io.getOutput();
+        }
+
+        assertEquals("abab", output);
+    }
+
+    @Test
+    void testTerminateCancels() {
+        AtomicReference<StreamingTextModule> module = new AtomicReference<>();
+        AtomicBoolean closed = new AtomicBoolean(false);
+        String output;
+
+        try(IOCapture io = new IOCapture()) {
+            Iterator<String> infinite = new Iterator<>() {
+                int i = 0;
+
+                @Override
+                public boolean hasNext() {
+                    return true;
+                }
+
+                @Override
+                public String next() {
+                    if(i == 3) module.get().terminate();
+                    return Integer.toString(i++);
+                }
+            };
+
+            module.set(StreamingTextModule.fromStream("text", () -> Stream.generate(infinite::next).onClose(() -> closed.set(true)))
+                    .bufferSize(1)
+                    .printStream(io.getPrintStream())
+                    .enableAnsi(false)
+                    .build());
+
+            module.get().start();
+
+            output = io.getOutput();
+        }
+
+        assertAll(
+                () -> assertTrue(module.get().isCancelled()),
+                () -> assertTrue(output.startsWith(String.format("0%n1%n2%n"))),
+                () -> assertTrue(output.length() < 20),
+                () -> assertTrue(closed.get())
+        );
+    }
+
+    @Test
+    void testAnsi() {
+        String output;
+
+        try(IOCapture io = new IOCapture()) {
+            StreamingTextModule.builder("text", () -> new StringReader("hi"))
+                    .style(ansi().bold())
+                    .printStream(io.getPrintStream())
+                    .build()
+                    .start();
+
+            output = io.getOutput();
+        }
+
+        assertEquals(ansi().bold().toString() + "hi" + ansi().reset(), output);
+    }
+
+    @Test
+    void testStructuralEquals() {
+        StreamingTextModule module1 = StreamingTextModule.builder("text", () -> new StringReader("a")).build();
+        StreamingTextModule module2 = StreamingTextModule.builder("text", () -> new StringReader("b")).build();
+        StreamingTextModule module3 = StreamingTextModule.builder("text", () -> new StringReader("a")).bufferSize(1).build();
+
+        assertAll(
+                () -> assertTrue(module1.structuralEquals(module2)),
+                () -> assertFalse(module1.structuralEquals(module3))
+        );
+    }
+
+    @Nested
+    class BuilderTest {
+
+        @Test
+        void testCopy() {
+            StreamingTextModule.Builder original = StreamingTextModule.builder("text", () -> new StringReader("a"))
+                    .bufferSize(16);
+
+            StreamingTextModule.Builder copy = original.getCopy();
+
+            assertAll(
+                    () -> assertTrue(copy.structuralEquals(original)),
+                    () -> assertSame(original.getSource(), copy.getSource()),
+                    () -> assertEquals(16, copy.getBufferSize())
+            );
+        }
+
+        @Test
+        void testBufferSizeMustBePositive() {
+            StreamingTextModule.Builder builder = StreamingTextModule.builder("text", () -> new StringReader("a"));
+
+            assertThrows(IllegalArgumentException.class, () -> builder.bufferSize(0));
+        }
+
+        @Test
+        void testShallowStructuralEquals() {
+            StreamingTextModule.Builder builder1 = StreamingTextModule.builder("text", () -> new StringReader("a"));
+            StreamingTextModule.Builder builder2 = StreamingTextModule.builder("text", () -> new StringReader("a"));
+            StreamingTextModule.Builder builder3 = StreamingTextModule.builder("text", () -> new StringReader("a")).bufferSize(2);
+
+            assertAll(
+                    () -> assertTrue(builder1.structuralEquals(builder2)),
+                    () -> assertFalse(builder1.structuralEquals(builder3))
+            );
+        }
+    }
+}
@@ -24,14 +24,21 @@ package com.calebleavell.jatui.modules;
 
 import com.calebleavell.jatui.core.DirectedGraphNode;
 import com.calebleavell.jatui.util.IOCapture;
+import com.calebleavell.jatui.util.InputSource;
+import com.calebleavell.jatui.util.MemorySink;
+import com.calebleavell.jatui.util.OutputSink;
+import com.calebleavell.jatui.util.ReaderSource;
+import com.calebleavell.jatui.util.ScannerSource;
 
 import org.fusesource.jansi.Ansi;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.io.BufferedReader;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.PrintStream;
+import java.io.StringReader;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Scanner;
@@ -754,6 +761,103 @@ class TUIModuleTest {
             );
         }
 
+        @Test
+        void testSetOutputSinkAndGetOutputSink() {
+            MemorySink sink = OutputSink.memory();
+            ContainerModule.Builder test = ContainerModule.builder("test");
+            ContainerModule.Builder child = ContainerModule.builder("child");
+            test.addChild(child);
+
+            OutputSink oldSink = test.getOutputSink();
+            test.outputSink(sink);
+
+            assertAll(
+                    () -> assertEquals(System.out, oldSink.asPrintStream()),
+                    () -> assertEquals(sink, test.getOutputSink()),
+                    () -> assertEquals(sink, child.getOutputSink()),
+                    () -> assertEquals(sink.asPrintStream(), child.getPrintStream()),
+                    () -> assertEquals(sink, test.build().getOutputSink())
+            );
+
+            PrintStream ps = new PrintStream(new ByteArrayOutputStream());
+            test.unlockProperty(TUIModule.Property.PRINTSTREAM);
+            child.unlockProperty(TUIModule.Property.PRINTSTREAM);
+            test.printStream(ps);
+
+            assertAll(
+                    () -> assertEquals(ps, child.getOutputSink().asPrintStream()),
+                    () -> assertEquals(ps, child.getPrintStream()),
+                    () -> assertSame(test.getOutputSink(), child.getOutputSink()),
+                    () -> assertSame(child.getOutputSink(), child.getOutputSink())
+            );
+        }
+
+        @Test
+        void testNestedStartDoesNotFlush() {
+            MemorySink memory = OutputSink.memory();
+            int[] flushes = {0};
+            OutputSink sink = new OutputSink() {
+                @Override
+                public void write(CharSequence text) {
+                    memory.write(text);
+                }
+
+                @Override
+                public void flush() {
+                    flushes[0]++;
+                }
+
+                @Override
+                public PrintStream asPrintStream() {
+                    return memory.asPrintStream();
+                }
+            };
+
+            ContainerModule.Builder root = ContainerModule.builder("root")
+                    .addChild(FunctionModule.builder("nested", () -> {
+                        TextModule.builder("nested-text", "text").outputSink(sink).build().start();
+                        assertEquals(0, flushes[0]);
+                    }))
+                    .outputSink(sink);
+
+            root.build().start();
+
+            assertEquals(1, flushes[0]);
+        }
+
+        @Test
+        void testSetInputSourceAndGetInputSource() {
+            ReaderSource source = InputSource.of(new BufferedReader(new StringReader("line")));
+            ContainerModule.Builder test = ContainerModule.builder("test");
+            ContainerModule.Builder child = ContainerModule.builder("child");
+            test.addChild(child);
+
+            InputSource oldSource = test.getInputSource();
+            test.inputSource(source);
+
+            assertAll(
+                    () -> assertEquals(TUIModule.DEFAULT_SCANNER, ((ScannerSource) oldSource).getScanner()),
+                    () -> assertEquals(source, test.getInputSource()),
+                    () -> assertEquals(source, child.getInputSource()),
+                    () -> assertEquals(source, test.build().getInputSource())
+            );
+
+            Scanner scanner = new Scanner("input");
+            test.unlockProperty(TUIModule.Property.SCANNER);
+            child.unlockProperty(TUIModule.Property.SCANNER);
+            test.scanner(scanner);
+
+            assertAll(
+                    () -> assertEquals(scanner, ((ScannerSource) child.getInputSource()).getScanner()),
+                    () -> assertEquals(scanner, child.getScanner())
+            );
+
+            child.unlockProperty(TUIModule.Property.SCANNER);
+            Scanner other = new Scanner("other");
+            child.inputSource(InputSource.of(other));
+            assertEquals(other, child.getScanner());
+        }
+
         @Test
         void testEnableAnsiAndGetAnsiEnabled() {
             ContainerModule.Builder test = ContainerModule.builder("test");
@@ -1175,6 +1279,164 @@ class TUIModuleTest {
             );
         }
 
+        @Test
+        void testSharedStyles() {
+            ContainerModule.Builder first = ContainerModule.builder("first");
+            ContainerModule.Builder second = ContainerModule.builder("second");
+            ContainerModule.Builder parent = ContainerModule.builder("parent").addChildren(first, second);
+
+            assertSame(first.getStyleCodes(), second.getStyleCodes());
+
+            parent.appendStyle(ansi().bold());
+            first.getAnsi().fgRed(); // the shared style can't be modified through a builder
+            String firstCodes = first.getStyleCodes();
+
+            assertAll(
+                    () -> assertSame(firstCodes, second.getStyleCodes()),
+                    () -> assertNotSame(first.getAnsi(), second.getAnsi()),
+                    () -> assertEquals(ansi().bold().toString(), firstCodes),
+                    () -> assertEquals(ansi().bold().toString(), first.build().getAnsi().toString()),
+                    () -> assertTrue(TUIModule.Builder.memoryReport().contains("bytes saved"))
+            );
+        }
+
+        @Test
+        void testPackedPropertyFlags() {
+            ContainerModule.Builder test = ContainerModule.builder("test");
+
+            for(TUIModule.Property property : TUIModule.Property.values()) {
+                for(DirectedGraphNode.PropertyUpdateFlag flag : DirectedGraphNode.PropertyUpdateFlag.values()) {
+                    test.updateFlag(property, flag);
+                    assertEquals(flag, test.getPropertyUpdateFlag(property));
+                }
+            }
+
+            test.lockProperty(TUIModule.Property.SCANNER);
+            test.unlockProperty(TUIModule.Property.APPLICATION);
+
+            assertAll(
+                    () -> assertEquals(DirectedGraphNode.PropertyUpdateFlag.HALT, test.getPropertyUpdateFlags().get(TUIModule.Property.SCANNER)),
+                    () -> assertEquals(DirectedGraphNode.PropertyUpdateFlag.UPDATE, test.getPropertyUpdateFlags().get(TUIModule.Property.APPLICATION)),
+                    () -> assertEquals(DirectedGraphNode.PropertyUpdateFlag.HALT, test.getPropertyUpdateFlags().get(TUIModule.Property.PRINTSTREAM)),
+                    () -> assertEquals(TUIModule.Property.values().length, test.getPropertyUpdateFlags().size()),
+                    () -> assertThrows(UnsupportedOperationException.class, () -> test.getPropertyUpdateFlags().clear())
+            );
+        }
+
+        @Test
+        void testChildList() {
+            ContainerModule.Builder test = ContainerModule.builder("test");
+            List<TUIModule.Builder<?>> added = new ArrayList<>();
+
+            assertTrue(test.getChildren().isEmpty());
+
+            for(int i = 0; i < 10; i++) {
+                ContainerModule.Builder child = ContainerModule.builder("child-" + i);
+                added.add(child);
+                test.addChild(child);
+            }
+
+            for(List<TUIModule.Builder<?>> list : List.of(added, test.getChildren())) {
+                list.addFirst(list.get(9));
+                list.remove(10);
+                list.subList(1, 3).clear();
+            }
+
+            assertAll(
+                    () -> assertEquals(added, test.getChildren()),
+                    () -> assertEquals(added, test.build().getChildren()),
+                    () -> assertThrows(IndexOutOfBoundsException.class, () -> test.getChildren().get(added.size()))
+            );
+        }
+
+        @Test
+        void testStructuralHash() {
+            ContainerModule.Builder child = ContainerModule.builder("child");
+            ContainerModule.Builder first = ContainerModule.builder("parent").addChild(child);
+            ContainerModule.Builder second = first.getCopy();
+
+            int firstHash = first.structuralHash();
+
+            assertAll(
+                    () -> assertEquals(firstHash, first.structuralHash()),
+                    () -> assertEquals(firstHash, second.structuralHash()),
+                    () -> assertTrue(first.structuralEquals(second))
+            );
+
+            child.enableAnsi(false);
+            int afterAnsi = first.structuralHash();
+
+            child.name("renamed");
+            int afterName = first.structuralHash();
+
+            second.getChildren().clear();
+            int afterClear = second.structuralHash();
+
+            assertAll(
+                    () -> assertNotEquals(firstHash, afterAnsi),
+                    () -> assertNotEquals(afterAnsi, afterName),
+                    () -> assertNotEquals(firstHash, afterClear),
+                    () -> assertFalse(first.structuralEquals(second)),
+                    () -> assertEquals(ContainerModule.builder("parent").structuralHash(), afterClear)
+            );
+        }
+
+        @Test
+        void testStructureStamp() {
+            ContainerModule.Builder grandchild = ContainerModule.builder("grandchild");
+            ContainerModule.Builder child = ContainerModule.builder("child").addChild(grandchild);
+            ContainerModule.Builder first = ContainerModule.builder("first").addChild(child);
+            ContainerModule.Builder second = ContainerModule.builder("second").addChild(child);
+            ContainerModule.Builder unrelated = ContainerModule.builder("unrelated");
+
+            ContainerModule.Builder cyclic = ContainerModule.builder("cyclic");
+            cyclic.addChild(cyclic);
+
+            long firstStamp = first.getStructureStamp();
+            long secondStamp = second.getStructureStamp();
+            long unrelatedStamp = unrelated.getStructureStamp();
+            int unrelatedHash = unrelated.structuralHash();
+
+            grandchild.name("renamed");
+            long firstAfterRename = first.getStructureStamp();
+            long secondAfterRename = second.getStructureStamp();
+
+            first.getChildren().clear();
+            long firstAfterClear = first.getStructureStamp();
+            grandchild.name("renamed again");
+
+            long cyclicStamp = cyclic.getStructureStamp();
+            cyclic.name("cyclic-renamed");
+
+            assertAll(
+                    () -> assertNotEquals(firstStamp, firstAfterRename),
+                    () -> assertNotEquals(secondStamp, secondAfterRename),
+                    () -> assertEquals(firstAfterClear, first.getStructureStamp()),
+                    () -> assertNotEquals(secondAfterRename, second.getStructureStamp()),
+                    () -> assertEquals(unrelatedStamp, unrelated.getStructureStamp()),
+                    () -> assertEquals(unrelatedHash, unrelated.structuralHash()),
+                    () -> assertNotEquals(cyclicStamp, cyclic.getStructureStamp())
+            );
+        }
+
+        @Test
+        void testStructuralEqualsSharedChild() {
+            ContainerModule.Builder shared = ContainerModule.builder("shared");
+            ContainerModule.Builder first = ContainerModule.builder("parent").addChildren(shared, shared);
+            ContainerModule.Builder second = ContainerModule.builder("parent")
+                    .addChildren(shared, ContainerModule.builder("shared"));
+
+            ContainerModule.Builder cyclic = ContainerModule.builder("cyclic");
+            cyclic.addChild(cyclic);
+            ContainerModule.Builder cyclicCopy = cyclic.getCopy();
+
+            assertAll(
+                    () -> assertTrue(first.structuralEquals(second)),
+                    () -> assertTrue(cyclic.structuralEquals(cyclicCopy)),
+                    () -> assertEquals(cyclic.structuralHash(), cyclicCopy.structuralHash())
+            );
+        }
+
         @Test
         void testBuild() {
             ApplicationModule app = ApplicationModule.builder("app").build();
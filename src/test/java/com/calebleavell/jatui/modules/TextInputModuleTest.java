@@ -26,6 +26,11 @@ import com.calebleavell.jatui.util.IOCapture;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Scanner;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 class TextInputModuleTest {
@@ -73,6 +78,23 @@ class TextInputModuleTest {
         assertEquals("test", input.getInput());
     }
 
+    @Test
+    void testFailedReadEndsInputWait() {
+        TextInputModule input;
+
+        try(IOCapture io = new IOCapture()) {
+            input = TextInputModule.builder("failed-read-input", "input: ")
+                    .scanner(new Scanner(""))
+                    .printStream(io.getPrintStream())
+                    .enableAnsi(false)
+                    .build();
+
+            assertThrows(NoSuchElementException.class, input::start);
+        }
+
+        assertEquals(1, input.getMetrics().getThinkTime().getCount());
+    }
+
     @Test
     void testStructuralEquals() {
         TextInputModule input1 = TextInputModule.builder("input", "input: ")
@@ -229,6 +251,34 @@ class TextInputModuleTest {
             );
         }
 
+        @Test
+        void testAddSafeHandlerRetriesDoNotGrowRunStack() {
+            ApplicationModule app = ApplicationModule.builder("app")
+                    .onExit(ModuleFactory.empty("do-nothing"))
+                    .build();
+
+            List<Integer> depths = new ArrayList<>();
+            try(IOCapture io = new IOCapture("a\n".repeat(50) + "5")) {
+                TextInputModule.Builder input = TextInputModule.builder("input", "input: ")
+                        .addSafeHandler("logic", s -> {
+                            depths.add(app.getRunStackDepth());
+                            return Integer.parseInt(s);
+                        }, "retry")
+                        .scanner(io.getScanner())
+                        .printStream(io.getPrintStream());
+
+                app.setHome(input);
+                app.start();
+            }
+
+            assertAll(
+                    () -> assertEquals(5, app.getInput("logic")),
+                    () -> assertEquals(51, depths.size()),
+                    () -> assertEquals(1, depths.stream().distinct().count()),
+                    () -> assertEquals(0, app.getRunStackDepth())
+            );
+        }
+
         @Test
         void testBuild() {
             ApplicationModule app = ApplicationModule.builder("app")
@@ -23,6 +23,8 @@
 package com.calebleavell.jatui.modules;
 
 import com.calebleavell.jatui.util.IOCapture;
+import com.calebleavell.jatui.util.MemorySink;
+import com.calebleavell.jatui.util.OutputSink;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
@@ -92,6 +94,25 @@ class TextModuleTest {
         assertEquals(String.format("5%n"), output);
     }
 
+    @Test
+    void testRunDisplayTextToOutputSink() {
+        MemorySink sink = OutputSink.memory();
+
+        ApplicationModule app = ApplicationModule.builder("app")
+                .outputSink(sink)
+                .enableAnsi(false)
+                .build();
+
+        app.setHome(ContainerModule.builder("home")
+                .addChildren(
+                        TextModule.builder("first", "first"),
+                        FunctionModule.builder("print", () -> app.getPrintStream().print("-")),
+                        TextModule.builder("second", "second")));
+        app.start();
+
+        assertEquals(String.format("first%n-second%nExiting...%n"), sink.getOutput());
+    }
+
     @Test
     void testGetText() {
         TextModule text = TextModule.builder("text", "Test Text").build();
@@ -0,0 +1,141 @@
+/*
+    Copyright (c) 2026 Caleb Leavell
+
+    Permission is hereby granted, free of charge, to any person obtaining a copy
+    of this software and associated documentation files (the "Software"), to deal
+    in the Software without restriction, including without limitation the rights
+    to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+    copies of the Software, and to permit persons to whom the Software is
+    furnished to do so, subject to the following conditions:
+
+    The above copyright notice and this permission notice shall be included in all
+    copies or substantial portions of the Software.
+
+    THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+    IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+    FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+    AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+    LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+    OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+    SOFTWARE.
+ */
+
+package com.calebleavell.jatui.monitoring;
+
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import com.calebleavell.jatui.modules.ApplicationModule;
+import com.calebleavell.jatui.modules.ModuleFactory;
+import com.calebleavell.jatui.modules.TextInputModule;
+import com.calebleavell.jatui.util.IOCapture;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.slf4j.event.KeyValuePair;
+import org.slf4j.event.Level;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EventLogTest {
+
+    private ListAppender<ILoggingEvent> appender;
+
+    @BeforeEach
+    void attachAppender() {
+        EventLog.reset();
+        appender = new ListAppender<>();
+        appender.start();
+        ((ch.qos.logback.classic.Logger) LoggerFactory.getLogger(EventLog.LOGGER_NAME)).addAppender(appender);
+    }
+
+    @AfterEach
+    void detachAppender() {
+        ((ch.qos.logback.classic.Logger) LoggerFactory.getLogger(EventLog.LOGGER_NAME)).detachAppender(appender);
+        EventLog.reset();
+    }
+
+    private static Object valueOf(ILoggingEvent event, String key) {
+        for(KeyValuePair pair : event.getKeyValuePairs()) {
+            if(pair.key.equals(key)) return pair.value;
+        }
+        return null;
+    }
+
+    @Test
+    void testRender() {
+        EventLog.setMaxValueLength(5);
+
+        assertAll(
+                () -> assertEquals("null", EventLog.render(null)),
+                () -> assertEquals("12345", EventLog.render(12345)),
+                () -> assertEquals("abcde...(+3 chars)", EventLog.render("abcdefgh")),
+                () -> assertEquals("<redacted char[6]>", EventLog.render("secret".toCharArray()))
+        );
+    }
+
+    @Test
+    void testDisabledLevelNotLogged() {
+        // the test configuration logs at warn
+        EventLog.inputUpdated("app", "module", "value", false);
+        assertTrue(appender.list.isEmpty());
+    }
+
+    @Test
+    void testStructuredEvent() {
+        EventLog.setLevel(EventLog.Type.INPUT_UPDATED, Level.WARN);
+        EventLog.inputUpdated("app", "module", "value", true);
+
+        ILoggingEvent event = appender.list.getFirst();
+        assertAll(
+                () -> assertEquals(1, appender.list.size()),
+                () -> assertEquals(EventLog.Type.INPUT_UPDATED, valueOf(event, "event")),
+                () -> assertEquals("app", valueOf(event, "app")),
+                () -> assertEquals("module", valueOf(event, "module")),
+                () -> assertEquals("value", valueOf(event, "value")),
+                () -> assertEquals(true, valueOf(event, "forced"))
+        );
+    }
+
+    @Test
+    void testSampling() {
+        EventLog.setLevel(EventLog.Type.MODULE_RUN, Level.WARN);
+        EventLog.setSampleRate(EventLog.Type.MODULE_RUN, 3);
+
+        for(int i = 0; i < 7; i ++) EventLog.moduleRun("module-" + i, TextInputModule.class);
+
+        List<Object> logged = appender.list.stream().map(e -> valueOf(e, "module")).toList();
+        assertEquals(List.of("module-0", "module-3", "module-6"), logged);
+    }
+
+    @Test
+    void testInvalidSampleRate() {
+        assertThrows(IllegalArgumentException.class, () -> EventLog.setSampleRate(EventLog.Type.MODULE_RUN, 0));
+    }
+
+    @Test
+    void testInputEventsFromApplication() {
+        EventLog.setLevel(EventLog.Type.INPUT_COLLECTED, Level.WARN);
+        EventLog.setLevel(EventLog.Type.INPUT_UPDATED, Level.WARN);
+        EventLog.setMaxValueLength(3);
+
+        try(IOCapture io = new IOCapture("abcdef")) {
+            ApplicationModule app = ApplicationModule.builder("event-log-app")
+                    .addChild(TextInputModule.builder("event-log-input", "> "))
+                    .scanner(io.getScanner())
+                    .printStream(io.getPrintStream())
+                    .onExit(ModuleFactory.empty("exit"))
+                    .build();
+            app.start();
+        }
+
+        assertAll(
+                () -> assertEquals(2, appender.list.size()),
+                () -> assertEquals(EventLog.Type.INPUT_COLLECTED, valueOf(appender.list.get(0), "event")),
+                () -> assertEquals(EventLog.Type.INPUT_UPDATED, valueOf(appender.list.get(1), "event")),
+                () -> assertEquals("abc...(+3 chars)", valueOf(appender.list.get(1), "value"))
+        );
+    }
+}
@@ -0,0 +1,113 @@
+/*
+    Copyright (c) 2026 Caleb Leavell
+
+    Permission is hereby granted, free of charge, to any person obtaining a copy
+    of this software and associated documentation files (the "Software"), to deal
+    in the Software without restriction, including without limitation the rights
+    to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+    copies of the Software, and to permit persons to whom the Software is
+    furnished to do so, subject to the following conditions:
+
+    The above copyright notice and this permission notice shall be included in all
+    copies or substantial portions of the Software.
+
+    THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+    IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+    FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+    AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+    LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+    OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+    SOFTWARE.
+ */
+
+package com.calebleavell.jatui.monitoring;
+
+import com.calebleavell.jatui.modules.ApplicationModule;
+import com.calebleavell.jatui.modules.ModuleFactory;
+import com.calebleavell.jatui.modules.TextInputModule;
+import com.calebleavell.jatui.modules.TextModule;
+import com.calebleavell.jatui.util.IOCapture;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JfrEventsTest {
+
+    private static List<RecordedEvent> record(Runnable toRecord) throws IOException {
+        Path file = Files.createTempFile("jatui", ".jfr");
+        try(Recording recording = new Recording()) {
+            recording.enable(ModuleRunEvent.class);
+            recording.enable(InputWaitEvent.class);
+            recording.enable(HandlerEvent.class);
+            recording.enable(RenderEvent.class);
+            recording.start();
+            toRecord.run();
+            recording.stop();
+            recording.dump(file);
+            return RecordingFile.readAllEvents(file);
+        }
+        finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private static List<RecordedEvent> ofType(List<RecordedEvent> events, String name) {
+        return events.stream().filter(e -> e.getEventType().getName().equals(name)).toList();
+    }
+
+    @Test
+    void testEventsEmitted() throws IOException {
+        List<RecordedEvent> events;
+
+        try(IOCapture io = new IOCapture("5")) {
+            ApplicationModule app = ApplicationModule.builder("app")
+                    .addChildren(
+                            TextInputModule.builder("input", "Number: ")
+                                    .addSafeHandler("parsed", Integer::parseInt),
+                            TextModule.builder("text", "hello"))
+                    .scanner(io.getScanner())
+                    .printStream(io.getPrintStream())
+                    .enableAnsi(false)
+                    .onExit(ModuleFactory.empty("exit"))
+                    .build();
+
+            events = record(app::start);
+        }
+
+        List<RecordedEvent> runs = ofType(events, "com.calebleavell.jatui.ModuleRun");
+        List<RecordedEvent> waits = ofType(events, "com.calebleavell.jatui.InputWait");
+        List<RecordedEvent> handlers = ofType(events, "com.calebleavell.jatui.Handler");
+        List<RecordedEvent> renders = ofType(events, "com.calebleavell.jatui.Render");
+
+        assertAll(
+                () -> assertTrue(runs.stream().anyMatch(e -> "app".equals(e.getString("moduleName")))),
+                () -> assertTrue(runs.stream().anyMatch(e -> "input".equals(e.getString("moduleName"))
+                        && e.getClass("moduleType").getName().equals(TextInputModule.class.getName()))),
+                () -> assertEquals(1, waits.size()),
+                () -> assertEquals("input", waits.getFirst().getString("moduleName")),
+                () -> assertEquals(1, handlers.size()),
+                () -> assertEquals("parsed", handlers.getFirst().getString("handlerName")),
+                () -> assertFalse(handlers.getFirst().getBoolean("failed")),
+                () -> assertTrue(renders.stream().anyMatch(e -> "text".equals(e.getString("moduleName"))
+                        && e.getLong("characters") == ("hello" + System.lineSeparator()).length()))
+        );
+    }
+
+    @Test
+    void testDisabledEventsAreNotCreated() {
+        assertAll(
+                () -> assertNull(ModuleRunEvent.begin("module", TextModule.class)),
+                () -> assertNull(InputWaitEvent.begin("module")),
+                () -> assertNull(HandlerEvent.begin("handler", "input")),
+                () -> assertNull(RenderEvent.begin("module"))
+        );
+    }
+}
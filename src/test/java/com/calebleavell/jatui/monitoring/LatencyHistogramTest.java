@@ -0,0 +1,110 @@
+/*
+    Copyright (c) 2026 Caleb Leavell
+
+    Permission is hereby granted, free of charge, to any person obtaining a copy
+    of this software and associated documentation files (the "Software"), to deal
+    in the Software without restriction, including without limitation the rights
+    to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+    copies of the Software, and to permit persons to whom the Software is
+    furnished to do so, subject to the following conditions:
+
+    The above copyright notice and this permission notice shall be included in all
+    copies or substantial portions of the Software.
+
+    THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+    IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+    FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+    AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+    LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+    OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+    SOFTWARE.
+ */
+
+package com.calebleavell.jatui.monitoring;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LatencyHistogramTest {
+
+    @Test
+    void testEmpty() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+
+        assertAll(
+                () -> assertEquals(0, snapshot.getCount()),
+                () -> assertEquals(0, snapshot.getMean()),
+                () -> assertEquals(0, snapshot.getP99()),
+                () -> assertEquals(0, snapshot.getMax())
+        );
+    }
+
+    @Test
+    void testSmallValuesAreExact() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for(int i = 1; i <= 10; i ++) histogram.record(i);
+
+        assertAll(
+                () -> assertEquals(10, histogram.getCount()),
+                () -> assertEquals(5, histogram.getPercentile(50)),
+                () -> assertEquals(9, histogram.getPercentile(90)),
+                () -> assertEquals(10, histogram.getPercentile(100)),
+                () -> assertEquals(5, histogram.snapshot().getMean())
+        );
+    }
+
+    @Test
+    void testPercentileWithinRelativeError() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for(long i = 1; i <= 100_000; i ++) histogram.record(i * 1000);
+
+        long p50 = histogram.getPercentile(50);
+        long p99 = histogram.getPercentile(99);
+        double error = 1.0 / LatencyHistogram.SUB_BUCKETS;
+
+        assertAll(
+                () -> assertEquals(50_000_000, p50, 50_000_000 * error),
+                () -> assertEquals(99_000_000, p99, 99_000_000 * error),
+                () -> assertEquals(100_000_000, histogram.snapshot().getMax())
+        );
+    }
+
+    @Test
+    void testBucketBoundaries() {
+        for(long value : new long[] {0, 1, 15, 16, 17, 31, 32, 1000, 123_456_789, Long.MAX_VALUE}) {
+            int index = LatencyHistogram.indexOf(value);
+            assertTrue(LatencyHistogram.highestValueAt(index) >= value, "value " + value);
+            if(index > 0) assertTrue(LatencyHistogram.highestValueAt(index - 1) < value, "value " + value);
+        }
+    }
+
+    @Test
+    void testNegativeRecordedAsZero() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(-5);
+        assertAll(
+                () -> assertEquals(1, histogram.getCount()),
+                () -> assertEquals(0, histogram.getPercentile(100))
+        );
+    }
+
+    @Test
+    void testReset() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(100);
+        histogram.reset();
+        assertAll(
+                () -> assertEquals(0, histogram.getCount()),
+                () -> assertEquals(0, histogram.getPercentile(50)),
+                () -> assertEquals(0, histogram.snapshot().getMax())
+        );
+    }
+
+    @Test
+    void testInvalidPercentile() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertThrows(IllegalArgumentException.class, () -> histogram.getPercentile(101));
+    }
+}
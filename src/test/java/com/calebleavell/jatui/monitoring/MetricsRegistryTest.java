@@ -0,0 +1,156 @@
+/*
+    Copyright (c) 2026 Caleb Leavell
+
+    Permission is hereby granted, free of charge, to any person obtaining a copy
+    of this software and associated documentation files (the "Software"), to deal
+    in the Software without restriction, including without limitation the rights
+    to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+    copies of the Software, and to permit persons to whom the Software is
+    furnished to do so, subject to the following conditions:
+
+    The above copyright notice and this permission notice shall be included in all
+    copies or substantial portions of the Software.
+
+    THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+    IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+    FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+    AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+    LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+    OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+    SOFTWARE.
+ */
+
+package com.calebleavell.jatui.monitoring;
+
+import com.calebleavell.jatui.modules.*;
+import com.calebleavell.jatui.util.IOCapture;
+import org.junit.jupiter.api.Test;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MetricsRegistryTest {
+
+    @Test
+    void testModuleReturnsSameMetrics() {
+        MetricsRegistry registry = new MetricsRegistry(10);
+        ModuleMetrics metrics = registry.module(TextModule.class, "text");
+
+        assertAll(
+                () -> assertSame(metrics, registry.module(TextModule.class, "text")),
+                () -> assertNotSame(metrics, registry.module(TextModule.class, "other")),
+                () -> assertNotSame(metrics, registry.module(ContainerModule.class, "text")),
+                () -> assertEquals("TextModule", metrics.getModuleType()),
+                () -> assertEquals("text", metrics.getModuleName())
+        );
+    }
+
+    @Test
+    void testCapacityOverflow() {
+        MetricsRegistry registry = new MetricsRegistry(1);
+        registry.module(TextModule.class, "first");
+        ModuleMetrics overflow = registry.module(TextModule.class, "second");
+        overflow.recordRun(10);
+
+        assertAll(
+                () -> assertEquals(1, registry.getCapacity()),
+                () -> assertEquals(MetricsRegistry.DEFAULT_CAPACITY, MetricsRegistry.global().getCapacity()),
+                () -> assertEquals(1, registry.size()),
+                () -> assertEquals(MetricsRegistry.OVERFLOW, overflow.getModuleName()),
+                () -> assertEquals(2, registry.snapshot().size()),
+                () -> assertEquals(MetricsRegistry.OVERFLOW, registry.snapshot().getLast().getModuleName())
+        );
+    }
+
+    @Test
+    void testRunsRecorded() {
+        String name = "metrics-test-text";
+        ModuleMetrics metrics = MetricsRegistry.global().module(TextModule.class, name);
+        metrics.reset();
+
+        try(IOCapture io = new IOCapture("a\n5\n")) {
+            ApplicationModule app = ApplicationModule.builder("metrics-test-app")
+                    .addChildren(
+                            TextInputModule.builder("metrics-test-input", "> ")
+                                    .addSafeHandler("metrics-test-handler", Integer::parseInt, "bad"),
+                            TextModule.builder(name, "hello"))
+                    .scanner(io.getScanner())
+                    .printStream(io.getPrintStream())
+                    .enableAnsi(false)
+                    .onExit(ModuleFactory.empty("exit"))
+                    .build();
+
+            app.start();
+        }
+
+        ModuleMetrics.Snapshot text = metrics.snapshot();
+        ModuleMetrics input = MetricsRegistry.global().module(TextInputModule.class, "metrics-test-input");
+        ModuleMetrics handler = MetricsRegistry.global().module(FunctionModule.class, "metrics-test-handler");
+
+        assertAll(
+                () -> assertEquals(1, text.getRuns()),
+                () -> assertEquals(1, text.getRunTime().getCount()),
+                () -> assertEquals(("hello" + System.lineSeparator()).length(), text.getCharactersRendered()),
+                () -> assertTrue(input.getThinkTime().getCount() >= 1),
+                () -> assertTrue(handler.getHandlerFailures() >= 1),
+                () -> assertTrue(MetricsRegistry.global().snapshot().stream()
+                        .anyMatch(s -> s.getModuleName().equals(name) && s.getRuns() == 1))
+        );
+    }
+
+    @Test
+    void testRestartAndTerminationRecorded() {
+        ContainerModule.Builder container = ContainerModule.builder("metrics-test-restart");
+        ModuleMetrics metrics = MetricsRegistry.global().module(ContainerModule.class, "metrics-test-restart");
+        metrics.reset();
+
+        boolean[] restarted = {false};
+        container.addChild(FunctionModule.builder("metrics-test-restarter", () -> {
+            if(!restarted[0]) {
+                restarted[0] = true;
+                container.getApplication().restartChild("metrics-test-restart");
+            }
+        }));
+
+        ApplicationModule app = ApplicationModule.builder("metrics-test-restart-app")
+                .addChild(container)
+                .onExit(ModuleFactory.empty("exit"))
+                .build();
+        app.start();
+
+        assertAll(
+                () -> assertEquals(2, metrics.getRuns()),
+                () -> assertEquals(1, metrics.getRestarts()),
+                () -> assertEquals(1, metrics.getTerminations())
+        );
+    }
+
+    @Test
+    void testRegisterMBeans() throws Exception {
+        MetricsRegistry registry = new MetricsRegistry(10);
+        ModuleMetrics before = registry.module(TextModule.class, "mbean-before");
+        before.recordRun(100);
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+
+        registry.registerMBeans();
+        try {
+            ModuleMetrics after = registry.module(TextModule.class, "mbean-after");
+            ObjectName beforeName = MetricsRegistry.objectName(before);
+
+            assertAll(
+                    () -> assertTrue(server.isRegistered(beforeName)),
+                    () -> assertTrue(server.isRegistered(MetricsRegistry.objectName(after))),
+                    () -> assertEquals(1L, server.getAttribute(beforeName, "Runs")),
+                    () -> assertEquals("mbean-before", server.getAttribute(beforeName, "ModuleName"))
+            );
+        }
+        finally {
+            registry.unregisterMBeans();
+        }
+
+        assertFalse(server.isRegistered(MetricsRegistry.objectName(before)));
+    }
+}
@@ -0,0 +1,122 @@
+/*
+    Copyright (c) 2026 Caleb Leavell
+
+    Permission is hereby granted, free of charge, to any person obtaining a copy
+    of this software and associated documentation files (the "Software"), to deal
+    in the Software without restriction, including without limitation the rights
+    to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+    copies of the Software, and to permit persons to whom the Software is
+    furnished to do so, subject to the following conditions:
+
+    The above copyright notice and this permission notice shall be included in all
+    copies or substantial portions of the Software.
+
+    THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+    IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+    FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+    AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+    LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+    OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+    SOFTWARE.
+ */
+
+package com.calebleavell.jatui.monitoring;
+
+import com.calebleavell.jatui.modules.*;
+import com.calebleavell.jatui.util.IOCapture;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ResourceAccountingTest {
+
+    private static byte[] sink;
+
+    @AfterEach
+    void disable() {
+        ResourceAccounting.disable();
+        ResourceAccounting.reset();
+    }
+
+    @Test
+    void testDisabledByDefault() {
+        assertAll(
+                () -> assertFalse(ResourceAccounting.isEnabled()),
+                () -> assertNull(ResourceAccounting.begin())
+        );
+    }
+
+    @Test
+    void testRunAndBuildAccounted() {
+        ResourceAccounting.enable();
+
+        ContainerModule.Builder container = ContainerModule.builder("accounting-container")
+                .addChild(FunctionModule.builder("accounting-alloc", () -> sink = new byte[1 << 20]));
+        ApplicationModule app = ApplicationModule.builder("accounting-app")
+                .addChild(container)
+                .onExit(ModuleFactory.empty("exit"))
+                .build();
+        app.start();
+
+        ModuleCost alloc = ResourceAccounting.get("accounting-alloc");
+        ModuleCost parent = ResourceAccounting.get("accounting-container");
+
+        assertAll(
+                () -> assertNotNull(sink),
+                () -> assertEquals(1, alloc.getRuns()),
+                () -> assertEquals(1, alloc.getBuilds()),
+                () -> assertEquals(1, parent.getRuns()),
+                () -> assertTrue(alloc.getRunSelfAllocatedBytes() >= 1 << 20),
+                () -> assertTrue(parent.getRunSelfAllocatedBytes() < 1 << 20),
+                () -> assertTrue(ResourceAccounting.report().stream().anyMatch(c -> c == alloc))
+        );
+    }
+
+    @Test
+    void testNestedRunExcludedFromSelf() {
+        ResourceAccounting.enable();
+
+        try(IOCapture io = new IOCapture("input")) {
+            ApplicationModule app = ApplicationModule.builder("accounting-nested-app")
+                    .addChild(TextInputModule.builder("accounting-input", "prompt"))
+                    .scanner(io.getScanner())
+                    .printStream(io.getPrintStream())
+                    .onExit(ModuleFactory.empty("exit"))
+                    .build();
+            app.start();
+        }
+
+        ModuleCost input = ResourceAccounting.get("accounting-input");
+        ModuleCost prompt = ResourceAccounting.get("accounting-input-display");
+
+        assertAll(
+                () -> assertNotNull(prompt),
+                () -> assertEquals(1, input.getRuns()),
+                () -> assertTrue(input.getRunSelfCpuNanos() <= input.getRunCpuNanos()),
+                () -> assertTrue(input.getRunSelfAllocatedBytes() <= input.getRunAllocatedBytes() - prompt.getRunAllocatedBytes())
+        );
+    }
+
+    @Test
+    void testToTreeString() {
+        ResourceAccounting.enable();
+
+        ContainerModule.Builder container = ContainerModule.builder("accounting-tree")
+                .addChild(TextModule.builder("accounting-tree-text", "text").printStream(new IOCapture().getPrintStream()));
+        ApplicationModule app = ApplicationModule.builder("accounting-tree-app")
+                .addChild(container)
+                .onExit(ModuleFactory.empty("exit"))
+                .build();
+        app.start();
+
+        String tree = ResourceAccounting.toTreeString(container);
+        String[] lines = tree.split(System.lineSeparator());
+
+        assertAll(
+                () -> assertEquals(2, lines.length),
+                () -> assertTrue(lines[0].startsWith("accounting-tree -- ContainerModule [run: 1x")),
+                () -> assertTrue(lines[1].startsWith("\taccounting-tree-text -- TextModule [run: 1x"))
+        );
+    }
+}
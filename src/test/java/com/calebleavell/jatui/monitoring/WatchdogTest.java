@@ -0,0 +1,150 @@
+/*
+    Copyright (c) 2026 Caleb Leavell
+
+    Permission is hereby granted, free of charge, to any person obtaining a copy
+    of this software and associated documentation files (the "Software"), to deal
+    in the Software without restriction, including without limitation the rights
+    to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+    copies of the Software, and to permit persons to whom the Software is
+    furnished to do so, subject to the following conditions:
+
+    The above copyright notice and this permission notice shall be included in all
+    copies or substantial portions of the Software.
+
+    THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+    IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+    FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+    AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+    LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+    OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+    SOFTWARE.
+ */
+
+package com.calebleavell.jatui.monitoring;
+
+import com.calebleavell.jatui.modules.*;
+import com.calebleavell.jatui.util.IOCapture;
+import org.junit.jupiter.api.Test;
+
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Scanner;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WatchdogTest {
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        }
+        catch(InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Test
+    void testStallReported() {
+        List<Watchdog.Stall> reports = new CopyOnWriteArrayList<>();
+        ModuleMetrics metrics = MetricsRegistry.global().module(FunctionModule.class, "watchdog-slow");
+        metrics.reset();
+
+        ApplicationModule app = ApplicationModule.builder("watchdog-app")
+                .addChild(ContainerModule.builder("watchdog-container")
+                        .addChild(FunctionModule.builder("watchdog-slow", () -> sleep(300))))
+                .onExit(ModuleFactory.empty("exit"))
+                .build();
+
+        try(Watchdog watchdog = new Watchdog(Duration.ofMillis(50), Duration.ofMillis(20), reports::add).start()) {
+            app.start();
+            assertEquals(1, watchdog.getStallCount());
+        }
+
+        Watchdog.Stall first = reports.getFirst();
+        Watchdog.Stall last = reports.getLast();
+
+        assertAll(
+                () -> assertEquals("watchdog-slow", first.getModuleName()),
+                () -> assertEquals(List.of("watchdog-app", "watchdog-container", "watchdog-slow"), first.getBranch()),
+                () -> assertEquals(Thread.currentThread().getName(), first.getThreadName()),
+                () -> assertTrue(first.getElapsed().toMillis() >= 50),
+                () -> assertTrue(last.getSamples().size() > 1),
+                () -> assertTrue(Arrays.stream(last.getSamples().getLast())
+                        .anyMatch(e -> e.getMethodName().equals("sleep"))),
+                () -> assertEquals(1, metrics.getStalls())
+        );
+    }
+
+    @Test
+    void testFastModulesNotReported() {
+        List<Watchdog.Stall> reports = new CopyOnWriteArrayList<>();
+
+        ApplicationModule app = ApplicationModule.builder("watchdog-fast-app")
+                .addChild(FunctionModule.builder("watchdog-fast", () -> {}))
+                .onExit(ModuleFactory.empty("exit"))
+                .build();
+
+        try(Watchdog watchdog = new Watchdog(Duration.ofSeconds(5), Duration.ofMillis(10), reports::add).start()) {
+            app.start();
+            sleep(50);
+            assertEquals(0, watchdog.getStallCount());
+        }
+
+        assertTrue(reports.isEmpty());
+    }
+
+    @Test
+    void testInputWaitNotCounted() {
+        List<Watchdog.Stall> reports = new CopyOnWriteArrayList<>();
+
+        // input only becomes available after the budget has passed
+        InputStream slowInput = new InputStream() {
+            private final byte[] line = "input\n".getBytes();
+            private int read = 0;
+
+            @Override
+            public int read() {
+                if(read == 0) sleep(200);
+                return read < line.length ? line[read ++] : -1;
+            }
+        };
+
+        try(IOCapture io = new IOCapture()) {
+            ApplicationModule app = ApplicationModule.builder("watchdog-input-app")
+                    .addChild(TextInputModule.builder("watchdog-input", "> "))
+                    .scanner(new Scanner(slowInput))
+                    .printStream(io.getPrintStream())
+                    .onExit(ModuleFactory.empty("exit"))
+                    .build();
+
+            try(Watchdog watchdog = new Watchdog(Duration.ofMillis(50), Duration.ofMillis(10), reports::add).start()) {
+                app.start();
+                assertEquals(0, watchdog.getStallCount());
+            }
+        }
+
+        assertTrue(reports.isEmpty());
+    }
+
+    @Test
+    void testStartAndClose() {
+        Watchdog watchdog = new Watchdog(Duration.ofSeconds(1));
+        assertFalse(watchdog.isStarted());
+        watchdog.start();
+        assertTrue(watchdog.isStarted());
+        watchdog.close();
+        assertFalse(watchdog.isStarted());
+        assertFalse(Watchdog.enter(null, null));
+    }
+
+    @Test
+    void testInvalidArguments() {
+        assertAll(
+                () -> assertThrows(IllegalArgumentException.class, () -> new Watchdog(Duration.ofSeconds(-1))),
+                () -> assertThrows(IllegalArgumentException.class, () -> new Watchdog(Duration.ofSeconds(1), Duration.ZERO, null))
+        );
+    }
+}
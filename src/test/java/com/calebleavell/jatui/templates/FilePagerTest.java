@@ -0,0 +1,149 @@
+/*
+    Copyright (c) 2026 Caleb Leavell
+
+    Permission is hereby granted, free of charge, to any person obtaining a copy
+    of this software and associated documentation files (the "Software"), to deal
+    in the Software without restriction, including without limitation the rights
+    to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+    copies of the Software, and to permit persons to whom the Software is
+    furnished to do so, subject to the following conditions:
+
+    The above copyright notice and this permission notice shall be included in all
+    copies or substantial portions of the Software.
+
+    THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+    IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+    FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+    AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+    LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+    OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+    SOFTWARE.
+ */
+
+package com.calebleavell.jatui.templates;
+
+import com.calebleavell.jatui.modules.*;
+import com.calebleavell.jatui.util.IOCapture;
+import com.calebleavell.jatui.util.MappedFile;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static com.calebleavell.jatui.templates.NumberedModuleSelectorTest.lines;
+import static org.junit.jupiter.api.Assertions.*;
+
+class FilePagerTest {
+
+    @TempDir
+    Path dir;
+
+    private Path write(int lines) throws IOException {
+        Path path = dir.resolve("file.txt");
+        Files.writeString(path, IntStream.range(0, lines).mapToObj(i -> "line " + i).collect(Collectors.joining("\n")));
+        return path;
+    }
+
+    @Test
+    void testDisplay() throws Exception {
+        String output;
+
+        try(IOCapture io = new IOCapture()) {
+            FilePager pager = FilePager.builder("pager", write(10))
+                    .pageSize(3)
+                    .jumpTo(3);
+            pager.printStream(io.getPrintStream())
+                    .enableAnsi(false);
+
+            pager.build().start();
+
+            output = io.getOutput();
+        }
+
+        assertEquals(lines("[10] line 9"), output);
+    }
+
+    @Test
+    void testSearch() throws Exception {
+        FilePager pager = FilePager.builder("pager", write(100)).pageSize(10);
+
+        assertAll(
+                () -> assertTrue(pager.search("line 42")),
+                () -> assertEquals(4, pager.getPage()),
+                () -> assertFalse(pager.search("line 42")),
+                () -> assertEquals(4, pager.getPage()),
+                () -> assertTrue(pager.search("line 9")),
+                () -> assertEquals(9, pager.getPage())
+        );
+    }
+
+    @Test
+    void testNavigable() throws Exception {
+        String output;
+
+        try(IOCapture io = new IOCapture(lines("/line 4", "/", "/nothing", "q"))) {
+            ApplicationModule app = ApplicationModule.builder("app")
+                    .scanner(io.getScanner())
+                    .printStream(io.getPrintStream())
+                    .enableAnsi(false)
+                    .onExit(ModuleFactory.empty("empty"))
+                    .build();
+
+            MappedFile file = MappedFile.open(write(5));
+            file.awaitIndexed();
+
+            FilePager pager = FilePager.builder("pager", file)
+                    .pageSize(2)
+                    .navigable(app, "> ");
+
+            app.setHome(pager);
+            app.start();
+
+            output = io.getOutput();
+        }
+
+        String expected = lines(
+                "[1] line 0", "[2] line 1", "Page 1/3",
+                "> [5] line 4", "Page 3/3",
+                "> Not found: line 4",
+                "[5] line 4", "Page 3/3",
+                "> Not found: nothing",
+                "[5] line 4", "Page 3/3"
+        ) + "> ";
+
+        assertEquals(expected, output);
+    }
+
+    @Test
+    void testCopy() throws Exception {
+        FilePager original = FilePager.builder("pager", write(10)).pageSize(3).nextPage();
+
+        PagedList copy = original.getCopy();
+
+        assertAll(
+                () -> assertInstanceOf(FilePager.class, copy),
+                () -> assertSame(original.getFile(), ((FilePager) copy).getFile()),
+                () -> assertEquals(1, copy.getPage()),
+                () -> assertTrue(copy.structuralEquals(original))
+        );
+    }
+
+    @Test
+    void testShallowStructuralEquals() throws Exception {
+        Path path = write(10);
+        FilePager pager1 = FilePager.builder("pager", path);
+        FilePager pager2 = FilePager.builder("pager", path);
+        PagedList list = PagedList.builder("pager", java.util.List.of("line 0"));
+
+        assertAll(
+                () -> assertTrue(pager1.structuralEquals(pager2)),
+                () -> assertFalse(pager1.structuralEquals(list)),
+                () -> assertFalse(list.structuralEquals(pager1))
+        );
+    }
+}
@@ -0,0 +1,127 @@
+/*
+    Copyright (c) 2026 Caleb Leavell
+
+    Permission is hereby granted, free of charge, to any person obtaining a copy
+    of this software and associated documentation files (the "Software"), to deal
+    in the Software without restriction, including without limitation the rights
+    to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+    copies of the Software, and to permit persons to whom the Software is
+    furnished to do so, subject to the following conditions:
+
+    The above copyright notice and this permission notice shall be included in all
+    copies or substantial portions of the Software.
+
+    THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+    IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+    FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+    AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+    LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+    OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+    SOFTWARE.
+ */
+
+package com.calebleavell.jatui.templates;
+
+import com.calebleavell.jatui.modules.*;
+import com.calebleavell.jatui.util.IOCapture;
+
+import org.junit.jupiter.api.Test;
+
+import static com.calebleavell.jatui.templates.NumberedModuleSelectorTest.lines;
+import static org.junit.jupiter.api.Assertions.*;
+
+class FullScreenTest {
+
+    @Test
+    void testRegions() {
+        FullScreen screen = FullScreen.builder("screen", 20, 4)
+                .region(0, 0, 20, 1, TextModule.builder("title", "Title").enableAnsi(false))
+                .region(1, 2, 18, 3, NumberedList.builder("list").addListText("a", "b").enableAnsi(false));
+
+        try(IOCapture io = new IOCapture()) {
+            screen.printStream(io.getPrintStream());
+            screen.build().start();
+        }
+
+        assertAll(
+                () -> assertEquals("Title", screen.getScreen().getRow(0)),
+                () -> assertEquals("  [1] a", screen.getScreen().getRow(1)),
+                () -> assertEquals("  [2] b", screen.getScreen().getRow(2)),
+                () -> assertEquals("", screen.getScreen().getRow(3))
+        );
+    }
+
+    @Test
+    void testRepaintsOnlyChanges() {
+        int[] count = {98};
+        ApplicationModule app = ApplicationModule.builder("app").build();
+
+        FullScreen screen = FullScreen.builder("screen", 40, 10)
+                .region(0, 0, 40, 1, TextModule.builder("title", "Requests handled"))
+                .region(1, 0, 40, 1, TextModule.builder("count", "count").outputType(TextModule.OutputType.DISPLAY_APP_STATE))
+                .application(app);
+
+        String first;
+        String second;
+        try(IOCapture io = new IOCapture()) {
+            screen.printStream(io.getPrintStream());
+
+            app.forceUpdateInput("count", count[0]);
+            screen.build().start();
+            first = io.getOutput();
+
+            app.forceUpdateInput("count", count[0] + 1);
+            screen.build().start();
+            second = io.getOutput().substring(first.length());
+        }
+
+        assertAll(
+                () -> assertTrue(first.contains("Requests handled")),
+                () -> assertEquals(screen.getLastFrameSize(), second.length()),
+                () -> assertEquals("\u001b[2;2H9\u001b[11;1H", second)
+        );
+    }
+
+    @Test
+    void testAnsiDisabled() {
+        String output;
+
+        try(IOCapture io = new IOCapture()) {
+            FullScreen screen = FullScreen.builder("screen", 10, 2)
+                    .region(1, 1, 9, 1, TextModule.builder("text", "hi"))
+                    .printStream(io.getPrintStream())
+                    .enableAnsi(false);
+
+            screen.build().start();
+
+            output = io.getOutput();
+        }
+
+        assertEquals(lines("", " hi"), output);
+    }
+
+    @Test
+    void testCopy() {
+        FullScreen original = FullScreen.builder("screen", 10, 2)
+                .region(0, 0, 10, 1, TextModule.builder("text", "hi"));
+
+        FullScreen copy = original.getCopy();
+
+        assertAll(
+                () -> assertTrue(copy.structuralEquals(original)),
+                () -> assertSame(original.getScreen(), copy.getScreen())
+        );
+    }
+
+    @Test
+    void testShallowStructuralEquals() {
+        FullScreen screen1 = FullScreen.builder("screen", 10, 2);
+        FullScreen screen2 = FullScreen.builder("screen", 10, 2);
+        FullScreen screen3 = FullScreen.builder("screen", 10, 3);
+
+        assertAll(
+                () -> assertTrue(screen1.structuralEquals(screen2)),
+                () -> assertFalse(screen1.structuralEquals(screen3))
+        );
+    }
+}
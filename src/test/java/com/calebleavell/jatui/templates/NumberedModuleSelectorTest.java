@@ -314,6 +314,111 @@ class NumberedModuleSelectorTest {
         );
     }
 
+    @Test
+    void testFilterable() {
+
+        String output;
+
+        try (IOCapture io = new IOCapture(lines("disp", "zzz", "2"))) {
+            ApplicationModule app = ApplicationModule.builder("app")
+                    .scanner(io.getScanner())
+                    .printStream(io.getPrintStream())
+                    .enableAnsi(false)
+                    .onExit(ModuleFactory.empty("empty"))
+                    .build();
+
+            NumberedModuleSelector selector = NumberedModuleSelector.builder("list", app)
+                    .addModule("Exit", ModuleFactory.empty("exit-module"))
+                    .addModule("Display Hello", TextModule.builder("display-hello", "Hello")
+                            .printStream(io.getPrintStream()).enableAnsi(false))
+                    .addModule("Display World", TextModule.builder("display-world", "World")
+                            .printStream(io.getPrintStream()).enableAnsi(false))
+                    .filterable();
+
+            app.setHome(selector);
+            app.start();
+
+            output = io.getOutput();
+        }
+
+        String expected = lines(
+                "[1] Exit",
+                "[2] Display Hello",
+                "[3] Display World",
+                "Your choice: [2] Display Hello",
+                "[3] Display World",
+                "Your choice: No options match \"zzz\"",
+                "Your choice: Hello"
+        );
+
+        assertEquals(expected, output);
+    }
+
+    @Test
+    void testNotFilterableByDefault() {
+
+        String output;
+
+        try (IOCapture io = new IOCapture(lines("disp", "1"))) {
+            ApplicationModule app = ApplicationModule.builder("app")
+                    .scanner(io.getScanner())
+                    .printStream(io.getPrintStream())
+                    .enableAnsi(false)
+                    .onExit(ModuleFactory.empty("empty"))
+                    .build();
+
+            NumberedModuleSelector selector = NumberedModuleSelector.builder("list", app)
+                    .addModule("Display Hello", TextModule.builder("display-hello", "Hello")
+                            .printStream(io.getPrintStream()).enableAnsi(false));
+
+            app.setHome(selector);
+            app.start();
+
+            output = io.getOutput();
+        }
+
+        String expected = lines(
+                "[1] Display Hello",
+                "Your choice: " + TextInputModule.INVALID,
+                "Your choice: Hello"
+        );
+
+        assertEquals(expected, output);
+    }
+
+    @Test
+    void testSearch() {
+        ApplicationModule app = ApplicationModule.builder("app").build();
+
+        NumberedModuleSelector selector = NumberedModuleSelector.builder("list", app)
+                .addModule("Display Hello", "a")
+                .addModule("Display World", "b");
+
+        assertArrayEquals(new int[] {1}, selector.search("disp w"));
+
+        selector.addModule("World Tour", "c");
+
+        assertArrayEquals(new int[] {1, 2}, selector.search("world"));
+    }
+
+    @Test
+    void testCopyFilterable() {
+        ApplicationModule app = ApplicationModule.builder("app").build();
+
+        NumberedModuleSelector original = NumberedModuleSelector.builder("list", app)
+                .addModule("Display Hello", "a")
+                .filterable();
+
+        NumberedModuleSelector copy = original.getCopy();
+
+        assertAll(
+                () -> assertTrue(copy.isFilterable()),
+                () -> assertTrue(copy.structuralEquals(original)),
+                () -> assertFalse(copy.structuralEquals(original.getCopy().filterable(false))),
+                () -> assertArrayEquals(new int[] {0}, copy.search("hel"))
+        );
+    }
+
     /**
      * <p>Depending on the system, a newline is either \n or \r\n.</p>
      * <p>This method will take multiple strings and join them with <br> <i>System.lineSeparator()</i>. <br>
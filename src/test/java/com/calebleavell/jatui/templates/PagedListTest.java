@@ -0,0 +1,341 @@
+/*
+    Copyright (c) 2026 Caleb Leavell
+
+    Permission is hereby granted, free of charge, to any person obtaining a copy
+    of this software and associated documentation files (the "Software"), to deal
+    in the Software without restriction, including without limitation the rights
+    to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+    copies of the Software, and to permit persons to whom the Software is
+    furnished to do so, subject to the following conditions:
+
+    The above copyright notice and this permission notice shall be included in all
+    copies or substantial portions of the Software.
+
+    THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+    IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+    FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+    AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+    LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+    OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+    SOFTWARE.
+ */
+
+package com.calebleavell.jatui.templates;
+
+import com.calebleavell.jatui.modules.*;
+import com.calebleavell.jatui.util.IOCapture;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static com.calebleavell.jatui.templates.NumberedModuleSelectorTest.lines;
+import static org.junit.jupiter.api.Assertions.*;
+
+class PagedListTest {
+
+    private static final List<String> ITEMS = List.of("a", "b", "c", "d", "e");
+
+    @Test
+    void testDisplayFirstPage() {
+        String output;
+
+        try(IOCapture io = new IOCapture()) {
+            PagedList list = PagedList.builder("list", ITEMS)
+                    .pageSize(2)
+                    .printStream(io.getPrintStream())
+                    .enableAnsi(false);
+
+            list.build().start();
+
+            output = io.getOutput();
+        }
+
+        assertEquals(lines("[1] a", "[2] b"), output);
+    }
+
+    @Test
+    void testPaging() {
+        PagedList list = PagedList.builder("list", ITEMS).pageSize(2);
+
+        assertAll(
+                () -> assertEquals(3, list.getPageCount()),
+                () -> assertEquals(1, list.nextPage().getPage()),
+                () -> assertEquals(2, list.nextPage().getPage()),
+                () -> assertEquals(2, list.nextPage().getPage()),
+                () -> assertFalse(list.hasNextPage()),
+                () -> assertEquals(1, list.previousPage().getPage()),
+                () -> assertEquals(0, list.previousPage().previousPage().getPage()),
+                () -> assertEquals(2, list.jumpTo(2).getPage()),
+                () -> assertEquals(2, list.jumpTo(3).getPage()),
+                () -> assertEquals(2, list.jumpTo(-1).getPage())
+        );
+    }
+
+    @Test
+    void testDisplayLaterPageWithStart() {
+        String output;
+
+        try(IOCapture io = new IOCapture()) {
+            PagedList list = PagedList.builder("list", ITEMS)
+                    .pageSize(2)
+                    .start(0)
+                    .jumpTo(2)
+                    .printStream(io.getPrintStream())
+                    .enableAnsi(false);
+
+            list.build().start();
+
+            output = io.getOutput();
+        }
+
+        assertEquals(lines("[4] e"), output);
+    }
+
+    @Test
+    void testFunctionSourceOnlyFormatsVisibleRows() {
+        List<Integer> requested = new ArrayList<>();
+
+        try(IOCapture io = new IOCapture()) {
+            PagedList list = PagedList.builder("list", 1_000_000, i -> {
+                        requested.add(i);
+                        return "row " + i;
+                    })
+                    .pageSize(3)
+                    .jumpTo(1000)
+                    .printStream(io.getPrintStream())
+                    .enableAnsi(false);
+
+            assertTrue(requested.isEmpty()); // checking that the page exists doesn't format a row
+            list.build().start();
+
+            assertEquals(lines("[3001] row 3000", "[3002] row 3001", "[3003] row 3002"), io.getOutput());
+            assertEquals(333_334, list.getPageCount());
+        }
+
+        assertEquals(List.of(3000, 3001, 3002), requested);
+    }
+
+    @Test
+    void testIteratorSourceIsConsumedLazily() {
+        int[] consumed = {0};
+        var iterator = IntStream.range(0, 100).peek(i -> consumed[0]++).iterator();
+
+        PagedList list = PagedList.builder("list", iterator).pageSize(10);
+
+        assertAll(
+                () -> assertEquals(-1, list.getPageCount()),
+                () -> assertTrue(list.hasNextPage()),
+                () -> assertEquals(11, consumed[0]),
+                () -> assertEquals(5, list.jumpTo(5).getPage()),
+                () -> assertEquals(51, consumed[0]),
+                () -> assertFalse(list.hasPage(10)),
+                () -> assertEquals(10, list.getPageCount())
+        );
+    }
+
+    @Test
+    void testIteratorSourceSkipsRowsWhenJumpingAhead() {
+        var iterator = IntStream.range(0, 100_000).iterator();
+        String output;
+
+        try(IOCapture io = new IOCapture()) {
+            PagedList list = PagedList.builder("list", iterator)
+                    .pageSize(2)
+                    .printStream(io.getPrintStream())
+                    .enableAnsi(false);
+
+            list.build().start();
+            assertAll(
+                    () -> assertTrue(list.hasPage(40_000)),
+                    () -> assertEquals(3, list.getBufferedRowCount()), // the current page and the first row of page 40000
+                    () -> assertFalse(list.hasPage(1)), // skipped while checking page 40000
+                    () -> assertEquals(40_000, list.jumpTo(40_000).getPage())
+            );
+
+            list.build().start();
+            output = io.getOutput();
+            assertEquals(2, list.getBufferedRowCount());
+        }
+
+        assertEquals(lines("[1] 0", "[2] 1", "[80001] 80000", "[80002] 80001"), output);
+    }
+
+    @Test
+    void testIteratorSourceIsForwardOnly() {
+        var iterator = IntStream.range(0, 6).iterator();
+        String output;
+
+        try(IOCapture io = new IOCapture()) {
+            PagedList list = PagedList.builder("list", iterator)
+                    .pageSize(2)
+                    .printStream(io.getPrintStream())
+                    .enableAnsi(false);
+
+            list.build().start();
+            list.nextPage().build().start();
+
+            assertAll(
+                    () -> assertTrue(list.isForwardOnly()),
+                    () -> assertFalse(list.hasPage(0)),
+                    () -> assertEquals(1, list.previousPage().getPage()),
+                    () -> assertEquals(1, list.jumpTo(0).getPage()),
+                    () -> assertThrows(IllegalArgumentException.class, () -> list.handleCommand("p")),
+                    () -> assertFalse(PagedList.builder("other", ITEMS).isForwardOnly())
+            );
+
+            list.build().start();
+            output = io.getOutput();
+        }
+
+        assertEquals(lines("[1] 0", "[2] 1", "[3] 2", "[4] 3", "[3] 2", "[4] 3"), output);
+    }
+
+    @Test
+    void testDisplayAnsi() {
+        String output;
+
+        try(IOCapture io = new IOCapture()) {
+            PagedList list = PagedList.builder("list", List.of("a"))
+                    .printStream(io.getPrintStream());
+
+            list.build().start();
+
+            output = io.getOutput();
+        }
+
+        assertEquals(org.fusesource.jansi.Ansi.ansi().bold() + "[1] " + org.fusesource.jansi.Ansi.ansi().reset() + "a" + System.lineSeparator(), output);
+    }
+
+    @Test
+    void testNavigable() {
+        String output;
+
+        try(IOCapture io = new IOCapture(lines("n", "x", "3", "p", "9", "q"))) {
+            ApplicationModule app = ApplicationModule.builder("app")
+                    .scanner(io.getScanner())
+                    .printStream(io.getPrintStream())
+                    .enableAnsi(false)
+                    .onExit(ModuleFactory.empty("empty"))
+                    .build();
+
+            PagedList list = PagedList.builder("list", ITEMS)
+                    .pageSize(2)
+                    .navigable(app, "> ");
+
+            app.setHome(list);
+            app.start();
+
+            output = io.getOutput();
+        }
+
+        String expected = lines(
+                "[1] a", "[2] b", "Page 1/3",
+                "> [3] c", "[4] d", "Page 2/3",
+                "> " + TextInputModule.INVALID,
+                "[3] c", "[4] d", "Page 2/3",
+                "> [5] e", "Page 3/3",
+                "> [3] c", "[4] d", "Page 2/3",
+                "> " + TextInputModule.INVALID,
+                "[3] c", "[4] d", "Page 2/3"
+        ) + "> ";
+
+        assertEquals(expected, output);
+    }
+
+    @Test
+    void testHandleCommandOverride() {
+        String output;
+
+        try(IOCapture io = new IOCapture(lines("l", ""))) {
+            ApplicationModule app = ApplicationModule.builder("app")
+                    .scanner(io.getScanner())
+                    .printStream(io.getPrintStream())
+                    .enableAnsi(false)
+                    .onExit(ModuleFactory.empty("empty"))
+                    .build();
+
+            PagedList list = new PagedList("list", i -> i < ITEMS.size() ? ITEMS.get(i) : null, ITEMS::size) {
+                @Override
+                protected boolean handleCommand(String command) {
+                    if(command.equals("l")) {
+                        jumpTo(getPageCount() - 1);
+                        return true;
+                    }
+                    return super.handleCommand(command);
+                }
+            }.pageSize(2).navigable(app, "> ");
+
+            app.setHome(list);
+            app.start();
+
+            output = io.getOutput();
+        }
+
+        assertEquals(lines("[1] a", "[2] b", "Page 1/3", "> [5] e", "Page 3/3") + "> ", output);
+    }
+
+    @Test
+    void testCopy() {
+        ApplicationModule app = ApplicationModule.builder("app").build();
+
+        PagedList original = PagedList.builder("list", ITEMS)
+                .pageSize(2)
+                .start(5)
+                .jumpTo(1)
+                .navigable(app);
+
+        PagedList copy = original.getCopy();
+
+        assertTrue(copy.structuralEquals(original));
+
+        copy.nextPage();
+
+        assertAll(
+                () -> assertEquals(2, copy.getPage()),
+                () -> assertEquals(1, original.getPage())
+        );
+    }
+
+    @Test
+    void testCopyPagesIndependently() {
+        String output;
+
+        try(IOCapture io = new IOCapture()) {
+            PagedList original = PagedList.builder("list", ITEMS)
+                    .pageSize(2)
+                    .printStream(io.getPrintStream())
+                    .enableAnsi(false);
+
+            PagedList copy = original.getCopy().nextPage();
+
+            copy.build().start();
+
+            output = io.getOutput();
+        }
+
+        assertEquals(lines("[3] c", "[4] d"), output);
+    }
+
+    @Test
+    void testShallowStructuralEquals() {
+        ApplicationModule app = ApplicationModule.builder("app").build();
+
+        PagedList list1 = PagedList.builder("list", ITEMS).pageSize(2);
+        PagedList list2 = PagedList.builder("list", ITEMS).pageSize(2);
+        PagedList list3 = PagedList.builder("list", ITEMS).pageSize(3);
+        PagedList list4 = PagedList.builder("list", ITEMS).pageSize(2).nextPage();
+        PagedList list5 = PagedList.builder("list", ITEMS).pageSize(2).start(0);
+        PagedList list6 = PagedList.builder("list", ITEMS).pageSize(2).navigable(app);
+
+        assertAll(
+                () -> assertTrue(list1.structuralEquals(list2)),
+                () -> assertFalse(list1.structuralEquals(list3)),
+                () -> assertFalse(list1.structuralEquals(list4)),
+                () -> assertFalse(list1.structuralEquals(list5)),
+                () -> assertFalse(list1.structuralEquals(list6))
+        );
+    }
+}
@@ -77,6 +77,24 @@ class TextChainTest {
         assertEquals(ansi().bold().a("Hello, World!").reset().toString(), output);
     }
 
+    @Test
+    void testAddStyledText() {
+        String output;
+
+        try(IOCapture io = new IOCapture()) {
+            TextChain original = TextChain.builder("lines")
+                    .addStyledText("Hello, World!", ansi().bold())
+                    .style(ansi().fgRed())
+                    .printStream(io.getPrintStream());
+
+            original.build().start();
+
+            output = io.getOutput();
+        }
+
+        assertEquals(ansi().bold().a("Hello, World!").reset().toString(), output);
+    }
+
     @Test
     void testAddText() {
         String output;
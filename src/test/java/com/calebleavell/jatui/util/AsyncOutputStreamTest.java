@@ -0,0 +1,166 @@
+/*
+    Copyright (c) 2026 Caleb Leavell
+
+    Permission is hereby granted, free of charge, to any person obtaining a copy
+    of this software and associated documentation files (the "Software"), to deal
+    in the Software without restriction, including without limitation the rights
+    to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+    copies of the Software, and to permit persons to whom the Software is
+    furnished to do so, subject to the following conditions:
+
+    The above copyright notice and this permission notice shall be included in all
+    copies or substantial portions of the Software.
+
+    THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+    IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+    FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+    AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+    LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+    OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+    SOFTWARE.
+ */
+
+package com.calebleavell.jatui.util;
+
+import com.calebleavell.jatui.modules.TextInputModule;
+import org.junit.jupiter.api.Test;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.Scanner;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AsyncOutputStreamTest {
+
+    @Test
+    void testWritesInOrder() throws IOException {
+        ByteArrayOutputStream sink = new ByteArrayOutputStream();
+        StringBuilder expected = new StringBuilder();
+
+        try(AsyncOutputStream out = new AsyncOutputStream(sink, 16)) {
+            for(int i = 0; i < 1000; i++) {
+                byte[] bytes = ("line " + i + "\n").getBytes(StandardCharsets.UTF_8);
+                out.write(bytes, 0, bytes.length);
+                out.write('.');
+                expected.append("line ").append(i).append('\n').append('.');
+            }
+            out.flush();
+
+            assertAll(
+                    () -> assertEquals(expected.toString(), sink.toString(StandardCharsets.UTF_8)),
+                    () -> assertEquals(0, out.pending()),
+                    () -> assertEquals(16, out.capacity())
+            );
+        }
+    }
+
+    @Test
+    void testCapacityRoundsUpToPowerOfTwo() throws IOException {
+        try(AsyncOutputStream out = new AsyncOutputStream(OutputStream.nullOutputStream(), 100)) {
+            assertEquals(128, out.capacity());
+        }
+    }
+
+    @Test
+    void testSlowConsumerDoesNotBlockProducer() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        ByteArrayOutputStream received = new ByteArrayOutputStream();
+        OutputStream slow = new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                write(new byte[] {(byte) b}, 0, 1);
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) throws IOException {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    throw new InterruptedIOException();
+                }
+                received.write(b, off, len);
+            }
+        };
+
+        try(AsyncOutputStream out = new AsyncOutputStream(slow, 1024)) {
+            PrintStream print = new PrintStream(out, false, StandardCharsets.UTF_8);
+
+            long start = System.nanoTime();
+            print.print("Hello, World!");
+            long elapsed = System.nanoTime() - start;
+
+            assertTrue(elapsed < TimeUnit.SECONDS.toNanos(1));
+            assertEquals(0, received.size());
+
+            release.countDown();
+            print.flush();
+
+            assertEquals("Hello, World!", received.toString(StandardCharsets.UTF_8));
+        }
+    }
+
+    @Test
+    void testFailureIsReported() {
+        OutputStream failing = new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                throw new IOException("broken pipe");
+            }
+        };
+
+        AsyncOutputStream out = new AsyncOutputStream(failing, 16);
+
+        assertThrows(IOException.class, () -> {
+            out.write(1);
+            out.flush();
+        });
+    }
+
+    @Test
+    void testClose() throws IOException {
+        ByteArrayOutputStream sink = new ByteArrayOutputStream();
+        AsyncOutputStream out = new AsyncOutputStream(sink);
+
+        out.write('a');
+        out.close();
+
+        assertAll(
+                () -> assertEquals("a", sink.toString(StandardCharsets.UTF_8)),
+                () -> assertThrows(IOException.class, () -> out.write('b'))
+        );
+    }
+
+    @Test
+    void testPromptIsFlushedBeforeInput() {
+        ByteArrayOutputStream sink = new ByteArrayOutputStream();
+        String[] visibleAtRead = new String[1];
+
+        InputStream input = new InputStream() {
+            private final InputStream line = new ByteArrayInputStream("answer\n".getBytes(StandardCharsets.UTF_8));
+
+            @Override
+            public int read() throws IOException {
+                if(visibleAtRead[0] == null) visibleAtRead[0] = sink.toString(StandardCharsets.UTF_8);
+                return line.read();
+            }
+
+            @Override
+            public int read(byte[] b, int off, int len) throws IOException {
+                if(visibleAtRead[0] == null) visibleAtRead[0] = sink.toString(StandardCharsets.UTF_8);
+                return line.read(b, off, len);
+            }
+        };
+
+        TextInputModule.builder("input", "Your answer: ")
+                .scanner(new Scanner(input))
+                .printStream(AsyncOutputStream.printStream(sink))
+                .enableAnsi(false)
+                .build()
+                .start();
+
+        assertEquals("Your answer: ", visibleAtRead[0]);
+    }
+}
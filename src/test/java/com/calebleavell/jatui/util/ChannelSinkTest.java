@@ -0,0 +1,135 @@
+/*
+    Copyright (c) 2026 Caleb Leavell
+
+    Permission is hereby granted, free of charge, to any person obtaining a copy
+    of this software and associated documentation files (the "Software"), to deal
+    in the Software without restriction, including without limitation the rights
+    to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+    copies of the Software, and to permit persons to whom the Software is
+    furnished to do so, subject to the following conditions:
+
+    The above copyright notice and this permission notice shall be included in all
+    copies or substantial portions of the Software.
+
+    THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+    IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+    FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+    AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+    LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+    OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+    SOFTWARE.
+ */
+
+package com.calebleavell.jatui.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ChannelSinkTest {
+
+    @Test
+    void testWriteAndFlush() {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        ChannelSink sink = OutputSink.of(Channels.newChannel(bytes), StandardCharsets.UTF_8);
+
+        sink.write("hello ");
+        sink.writeLine(new StringBuilder("world"));
+
+        assertEquals(0, bytes.size());
+
+        sink.flush();
+
+        assertEquals("hello world" + System.lineSeparator(), bytes.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void testFillsBuffer() {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        ChannelSink sink = new ChannelSink(Channels.newChannel(bytes), StandardCharsets.UTF_8, 16);
+        StringBuilder expected = new StringBuilder();
+
+        for(int i = 0; i < 500; i++) {
+            String text = "line é中😀 " + i + "\n";
+            sink.write(text);
+            expected.append(text);
+        }
+        sink.flush();
+
+        assertEquals(expected.toString(), bytes.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void testSplitSurrogatePair() {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        ChannelSink sink = OutputSink.of(Channels.newChannel(bytes), StandardCharsets.UTF_8);
+
+        sink.write("a\ud83d");
+        sink.write("\ude00b");
+        sink.flush();
+
+        assertEquals("a😀b", bytes.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void testPrintStreamKeepsOrder() {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        ChannelSink sink = OutputSink.of(Channels.newChannel(bytes), StandardCharsets.UTF_8);
+
+        sink.write("one ");
+        sink.asPrintStream().print("two ");
+        sink.write("three");
+        sink.asPrintStream().flush();
+
+        assertAll(
+                () -> assertSame(sink.asPrintStream(), sink.asPrintStream()),
+                () -> assertEquals("one two three", bytes.toString(StandardCharsets.UTF_8))
+        );
+    }
+
+    @Test
+    void testClose() {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        WritableByteChannel channel = Channels.newChannel(bytes);
+        ChannelSink sink = OutputSink.of(channel, StandardCharsets.UTF_8);
+
+        sink.write("text");
+        sink.close();
+
+        assertAll(
+                () -> assertEquals("text", bytes.toString(StandardCharsets.UTF_8)),
+                () -> assertFalse(channel.isOpen())
+        );
+    }
+
+    @Test
+    void testWriteFailure() {
+        WritableByteChannel failing = new WritableByteChannel() {
+            @Override
+            public int write(ByteBuffer src) throws IOException {
+                throw new IOException("closed");
+            }
+
+            @Override
+            public boolean isOpen() {
+                return true;
+            }
+
+            @Override
+            public void close() {}
+        };
+
+        ChannelSink sink = OutputSink.of(failing, StandardCharsets.UTF_8);
+        sink.write("text");
+
+        assertThrows(UncheckedIOException.class, sink::flush);
+    }
+}
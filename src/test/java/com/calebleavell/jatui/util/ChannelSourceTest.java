@@ -0,0 +1,105 @@
+/*
+    Copyright (c) 2026 Caleb Leavell
+
+    Permission is hereby granted, free of charge, to any person obtaining a copy
+    of this software and associated documentation files (the "Software"), to deal
+    in the Software without restriction, including without limitation the rights
+    to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+    copies of the Software, and to permit persons to whom the Software is
+    furnished to do so, subject to the following conditions:
+
+    The above copyright notice and this permission notice shall be included in all
+    copies or substantial portions of the Software.
+
+    THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+    IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+    FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+    AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+    LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+    OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+    SOFTWARE.
+ */
+
+package com.calebleavell.jatui.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Pipe;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ChannelSourceTest {
+
+    private static void write(Pipe pipe, String text) throws IOException {
+        ByteBuffer bytes = ByteBuffer.wrap(text.getBytes(StandardCharsets.UTF_8));
+        while(bytes.hasRemaining()) pipe.sink().write(bytes);
+    }
+
+    @Test
+    void testReadyAndNextLine() throws IOException {
+        Pipe pipe = Pipe.open();
+        try(ChannelSource source = new ChannelSource(pipe.source(), StandardCharsets.UTF_8, 16)) {
+            assertFalse(source.ready());
+
+            write(pipe, "fir");
+            assertFalse(source.ready());
+
+            write(pipe, "st\r\nsécond, which is longer than the buffer\n\nlast");
+            pipe.sink().close();
+
+            assertAll(
+                    () -> assertTrue(source.ready()),
+                    () -> assertEquals("first", source.nextLine()),
+                    () -> assertEquals("sécond, which is longer than the buffer", source.nextLine()),
+                    () -> assertEquals("", source.nextLine()),
+                    () -> assertEquals("last", source.nextLine()),
+                    () -> assertTrue(source.ready()),
+                    () -> assertThrows(NoSuchElementException.class, source::nextLine),
+                    () -> assertEquals(4, source.getLinesRead())
+            );
+        }
+    }
+
+    @Test
+    void testNextLineWithTimeout() throws IOException {
+        Pipe pipe = Pipe.open();
+        try(ChannelSource source = new ChannelSource(pipe.source(), StandardCharsets.UTF_8)) {
+            write(pipe, "partial");
+            assertNull(source.nextLine(Duration.ofMillis(10)));
+
+            write(pipe, " line\n");
+            assertEquals("partial line", source.nextLine(Duration.ofMillis(10)));
+        }
+        finally {
+            pipe.sink().close();
+        }
+    }
+
+    @Test
+    void testNextLineWaitsForData() throws Exception {
+        Pipe pipe = Pipe.open();
+        try(ChannelSource source = new ChannelSource(pipe.source(), StandardCharsets.UTF_8)) {
+            Thread writer = new Thread(() -> {
+                try {
+                    Thread.sleep(20);
+                    write(pipe, "later\n");
+                }
+                catch(Exception e) {
+                    throw new RuntimeException(e);
+                }
+            });
+            writer.start();
+
+            assertEquals("later", source.nextLine());
+            writer.join();
+        }
+        finally {
+            pipe.sink().close();
+        }
+    }
+}
@@ -0,0 +1,76 @@
+/*
+    Copyright (c) 2026 Caleb Leavell
+
+    Permission is hereby granted, free of charge, to any person obtaining a copy
+    of this software and associated documentation files (the "Software"), to deal
+    in the Software without restriction, including without limitation the rights
+    to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+    copies of the Software, and to permit persons to whom the Software is
+    furnished to do so, subject to the following conditions:
+
+    The above copyright notice and this permission notice shall be included in all
+    copies or substantial portions of the Software.
+
+    THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+    IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+    FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+    AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+    LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+    OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+    SOFTWARE.
+ */
+
+package com.calebleavell.jatui.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InternerTest {
+
+    @Test
+    void testInternByEquality() {
+        Interner<List<Integer>> interner = Interner.byEquality(10);
+        List<Integer> first = List.of(1, 2);
+        List<Integer> second = List.of(1, 2);
+        List<Integer> other = List.of(3);
+
+        assertAll(
+                () -> assertSame(first, interner.intern(first)),
+                () -> assertSame(first, interner.intern(second)),
+                () -> assertSame(other, interner.intern(other)),
+                () -> assertNull(interner.intern(null)),
+                () -> assertEquals(2, interner.size()),
+                () -> assertEquals(1, interner.getHits()),
+                () -> assertEquals(10, interner.getEstimatedBytesSaved())
+        );
+    }
+
+    @Test
+    void testCapacity() {
+        Interner<String> interner = new Interner<>(s -> s, 1, 0);
+        String kept = interner.intern("kept");
+        String extra = new String("extra");
+
+        assertAll(
+                () -> assertSame(kept, interner.intern(new String("kept"))),
+                () -> assertSame(extra, interner.intern(extra)),
+                () -> assertEquals(1, interner.size())
+        );
+    }
+
+    @Test
+    void testClear() {
+        Interner<String> interner = Interner.byEquality(0);
+        interner.intern("a");
+        interner.intern("a");
+        interner.clear();
+
+        assertAll(
+                () -> assertEquals(0, interner.size()),
+                () -> assertEquals(0, interner.getHits())
+        );
+    }
+}
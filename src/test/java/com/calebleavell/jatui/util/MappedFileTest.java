@@ -0,0 +1,161 @@
+/*
+    Copyright (c) 2026 Caleb Leavell
+
+    Permission is hereby granted, free of charge, to any person obtaining a copy
+    of this software and associated documentation files (the "Software"), to deal
+    in the Software without restriction, including without limitation the rights
+    to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+    copies of the Software, and to permit persons to whom the Software is
+    furnished to do so, subject to the following conditions:
+
+    The above copyright notice and this permission notice shall be included in all
+    copies or substantial portions of the Software.
+
+    THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+    IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+    FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+    AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+    LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+    OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+    SOFTWARE.
+ */
+
+package com.calebleavell.jatui.util;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MappedFileTest {
+
+    @TempDir
+    Path dir;
+
+    private Path write(String content) throws IOException {
+        Path path = dir.resolve("file.txt");
+        Files.writeString(path, content);
+        return path;
+    }
+
+    @Test
+    void testLines() throws Exception {
+        try(MappedFile file = MappedFile.open(write("first\r\nsecond\n\nfourth"))) {
+            file.awaitIndexed();
+
+            assertAll(
+                    () -> assertEquals(4, file.lineCount()),
+                    () -> assertEquals("first", file.line(0)),
+                    () -> assertEquals("second", file.line(1)),
+                    () -> assertEquals("", file.line(2)),
+                    () -> assertEquals("fourth", file.line(3)),
+                    () -> assertNull(file.line(4)),
+                    () -> assertNull(file.line(-1))
+            );
+        }
+    }
+
+    @Test
+    void testTrailingNewline() throws Exception {
+        try(MappedFile file = MappedFile.open(write("a\nb\n"))) {
+            file.awaitIndexed();
+
+            assertAll(
+                    () -> assertEquals(2, file.lineCount()),
+                    () -> assertEquals("b", file.line(1)),
+                    () -> assertNull(file.line(2))
+            );
+        }
+    }
+
+    @Test
+    void testEmptyFile() throws Exception {
+        try(MappedFile file = MappedFile.open(write(""))) {
+            file.awaitIndexed();
+
+            assertAll(
+                    () -> assertEquals(0, file.lineCount()),
+                    () -> assertNull(file.line(0)),
+                    () -> assertEquals(-1, file.find("a", 0))
+            );
+        }
+    }
+
+    @Test
+    void testManyLines() throws Exception {
+        Path path = dir.resolve("large.txt");
+        int count = MappedFile.INDEX_INTERVAL * 5 + 17;
+        try(BufferedWriter writer = Files.newBufferedWriter(path)) {
+            for(int i = 0; i < count; i++) {
+                writer.write("line " + i);
+                writer.newLine();
+            }
+        }
+
+        try(MappedFile file = MappedFile.open(path)) {
+            // lines can be read whether or not indexing has finished
+            assertEquals("line 4000", file.line(4000));
+            // reading a line indexes the lines before it
+            assertTrue(file.indexedLines() >= 3L * MappedFile.INDEX_INTERVAL);
+
+            file.awaitIndexed();
+
+            assertAll(
+                    () -> assertTrue(file.isIndexed()),
+                    () -> assertEquals(count, file.lineCount()),
+                    () -> assertEquals(count, file.indexedLines()),
+                    () -> assertEquals("line 0", file.line(0)),
+                    () -> assertEquals("line " + MappedFile.INDEX_INTERVAL, file.line(MappedFile.INDEX_INTERVAL)),
+                    () -> assertEquals("line " + (count - 1), file.line(count - 1)),
+                    () -> assertNull(file.line(count)),
+                    () -> assertEquals(3333, file.find("line 3333", 0)),
+                    () -> assertEquals(-1, file.find("line 3333", 3334))
+            );
+        }
+    }
+
+    @Test
+    void testTruncatesLongLines() throws Exception {
+        try(MappedFile file = MappedFile.open(write("x".repeat(10_000) + "\nnext"))) {
+            assertAll(
+                    () -> assertEquals(MappedFile.DEFAULT_MAX_LINE_BYTES, file.line(0).length()),
+                    () -> assertEquals(10, file.line(0, 10).length()),
+                    () -> assertEquals("next", file.line(1))
+            );
+        }
+    }
+
+    @Test
+    void testFind() throws Exception {
+        try(MappedFile file = MappedFile.open(write("alpha\nbeta\ngamma beta\ndelta"))) {
+            assertAll(
+                    () -> assertEquals(1, file.find("beta", 0)),
+                    () -> assertEquals(2, file.find("beta", 2)),
+                    () -> assertEquals(-1, file.find("beta", 3)),
+                    () -> assertEquals(3, file.find("delta", 0)),
+                    () -> assertEquals(-1, file.find("epsilon", 0)),
+                    () -> assertEquals(2, file.find("", 2))
+            );
+        }
+    }
+
+    @Test
+    void testUnicode() throws Exception {
+        try(MappedFile file = MappedFile.open(write("héllo\n日本語"))) {
+            assertAll(
+                    () -> assertEquals("héllo", file.line(0)),
+                    () -> assertEquals("日本語", file.line(1)),
+                    () -> assertEquals(1, file.find("本", 0)),
+                    () -> assertEquals("h", file.line(0, 2)),
+                    () -> assertEquals("hé", file.line(0, 3)),
+                    () -> assertEquals("日", file.line(1, 5)),
+                    () -> assertEquals("", file.line(1, 2))
+            );
+        }
+    }
+}
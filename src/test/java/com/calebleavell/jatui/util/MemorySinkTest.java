@@ -0,0 +1,79 @@
+/*
+    Copyright (c) 2026 Caleb Leavell
+
+    Permission is hereby granted, free of charge, to any person obtaining a copy
+    of this software and associated documentation files (the "Software"), to deal
+    in the Software without restriction, including without limitation the rights
+    to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+    copies of the Software, and to permit persons to whom the Software is
+    furnished to do so, subject to the following conditions:
+
+    The above copyright notice and this permission notice shall be included in all
+    copies or substantial portions of the Software.
+
+    THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+    IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+    FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+    AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+    LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+    OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+    SOFTWARE.
+ */
+
+package com.calebleavell.jatui.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MemorySinkTest {
+
+    @Test
+    void testWrite() {
+        MemorySink sink = OutputSink.memory();
+
+        sink.write("a");
+        sink.writeLine("b");
+
+        assertEquals("ab" + System.lineSeparator(), sink.getOutput());
+    }
+
+    @Test
+    void testPrintStream() {
+        MemorySink sink = OutputSink.memory();
+        byte[] bytes = "é😀".getBytes(StandardCharsets.UTF_8);
+
+        sink.write("x");
+        // write one byte at a time to split multi-byte sequences
+        for(byte b : bytes) sink.asPrintStream().write(b);
+        sink.asPrintStream().print(5);
+
+        assertEquals("xé😀5", sink.getOutput());
+    }
+
+    @Test
+    void testClear() {
+        MemorySink sink = OutputSink.memory();
+
+        sink.write("text");
+        sink.clear();
+
+        assertEquals("", sink.getOutput());
+    }
+
+    @Test
+    void testPrintStreamSink() {
+        MemorySink memory = OutputSink.memory();
+        OutputSink sink = OutputSink.of(memory.asPrintStream());
+
+        sink.write("text");
+        sink.flush();
+
+        assertAll(
+                () -> assertSame(memory.asPrintStream(), sink.asPrintStream()),
+                () -> assertEquals("text", memory.getOutput())
+        );
+    }
+}
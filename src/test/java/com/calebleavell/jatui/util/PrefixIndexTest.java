@@ -0,0 +1,100 @@
+/*
+    Copyright (c) 2026 Caleb Leavell
+
+    Permission is hereby granted, free of charge, to any person obtaining a copy
+    of this software and associated documentation files (the "Software"), to deal
+    in the Software without restriction, including without limitation the rights
+    to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+    copies of the Software, and to permit persons to whom the Software is
+    furnished to do so, subject to the following conditions:
+
+    The above copyright notice and this permission notice shall be included in all
+    copies or substantial portions of the Software.
+
+    THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+    IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+    FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+    AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+    LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+    OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+    SOFTWARE.
+ */
+
+package com.calebleavell.jatui.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PrefixIndexTest {
+
+    private PrefixIndex index() {
+        PrefixIndex index = new PrefixIndex();
+        index.add("Display Hello");
+        index.add("Display World");
+        index.add("Exit");
+        index.add("hello-world (v2)");
+        return index;
+    }
+
+    @Test
+    void testAddReturnsSequentialIds() {
+        PrefixIndex index = new PrefixIndex();
+
+        assertAll(
+                () -> assertEquals(0, index.add("a")),
+                () -> assertEquals(1, index.add("b")),
+                () -> assertEquals(2, index.size())
+        );
+    }
+
+    @Test
+    void testSearchPrefix() {
+        PrefixIndex index = index();
+
+        assertAll(
+                () -> assertArrayEquals(new int[] {0, 1}, index.search("dis")),
+                () -> assertArrayEquals(new int[] {0, 3}, index.search("HEL")),
+                () -> assertArrayEquals(new int[] {2}, index.search("e")),
+                () -> assertArrayEquals(new int[] {3}, index.search("v2")),
+                () -> assertArrayEquals(new int[0], index.search("xyz"))
+        );
+    }
+
+    @Test
+    void testSearchMultipleWords() {
+        PrefixIndex index = index();
+
+        assertAll(
+                () -> assertArrayEquals(new int[] {1}, index.search("disp wor")),
+                () -> assertArrayEquals(new int[] {1, 3}, index.search("world")),
+                () -> assertArrayEquals(new int[] {3}, index.search("hello-world")),
+                () -> assertArrayEquals(new int[0], index.search("exit hello"))
+        );
+    }
+
+    @Test
+    void testSearchEmptyMatchesEverything() {
+        PrefixIndex index = index();
+
+        assertAll(
+                () -> assertArrayEquals(new int[] {0, 1, 2, 3}, index.search("")),
+                () -> assertArrayEquals(new int[] {0, 1, 2, 3}, index.search("  ")),
+                () -> assertArrayEquals(new int[0], new PrefixIndex().search(""))
+        );
+    }
+
+    @Test
+    void testLabelsAndQueriesSplitAlike() {
+        PrefixIndex index = new PrefixIndex();
+        index.add("\uD835\uDC00lpha mode"); // starts with a supplementary letter (mathematical bold A)
+        index.add("café_menu");
+
+        assertAll(
+                () -> assertArrayEquals(new int[] {0}, index.search("\uD835\uDC00lp")),
+                () -> assertArrayEquals(new int[0], index.search("lpha")),
+                () -> assertArrayEquals(new int[] {1}, index.search("caf menu")),
+                () -> assertArrayEquals(new int[] {1}, index.search("café_m"))
+        );
+    }
+}
@@ -0,0 +1,97 @@
+/*
+    Copyright (c) 2026 Caleb Leavell
+
+    Permission is hereby granted, free of charge, to any person obtaining a copy
+    of this software and associated documentation files (the "Software"), to deal
+    in the Software without restriction, including without limitation the rights
+    to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+    copies of the Software, and to permit persons to whom the Software is
+    furnished to do so, subject to the following conditions:
+
+    The above copyright notice and this permission notice shall be included in all
+    copies or substantial portions of the Software.
+
+    THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+    IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+    FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+    AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+    LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+    OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+    SOFTWARE.
+ */
+
+package com.calebleavell.jatui.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class QueueSourceTest {
+
+    @Test
+    void testOfferAndNextLine() {
+        QueueSource source = new QueueSource();
+        assertFalse(source.ready());
+
+        source.offer("first", "second");
+        source.close();
+
+        assertAll(
+                () -> assertTrue(source.ready()),
+                () -> assertEquals(2, source.size()),
+                () -> assertEquals("first", source.nextLine()),
+                () -> assertEquals("second", source.nextLine()),
+                () -> assertTrue(source.ready()),
+                () -> assertThrows(NoSuchElementException.class, source::nextLine),
+                () -> assertThrows(IllegalStateException.class, () -> source.offer("late"))
+        );
+    }
+
+    @Test
+    void testNextLineWaitsForOffer() throws InterruptedException {
+        QueueSource source = new QueueSource();
+        Thread producer = new Thread(() -> {
+            try {
+                Thread.sleep(20);
+            }
+            catch(InterruptedException ignored) {}
+            source.offer("later");
+        });
+        producer.start();
+
+        assertEquals("later", source.nextLine());
+        producer.join();
+    }
+
+    @Test
+    void testNextLineWithTimeout() {
+        QueueSource source = new QueueSource();
+        assertNull(source.nextLine(Duration.ofMillis(10)));
+
+        source.offer("ready");
+        assertEquals("ready", source.nextLine(Duration.ofMillis(10)));
+
+        source.close();
+        assertThrows(NoSuchElementException.class, () -> source.nextLine(Duration.ofMillis(10)));
+    }
+
+    @Test
+    void testWhenReady() {
+        QueueSource source = new QueueSource();
+        AtomicInteger notified = new AtomicInteger();
+
+        source.whenReady(notified::incrementAndGet);
+        assertEquals(0, notified.get());
+
+        source.offer("a");
+        source.offer("b");
+        assertEquals(1, notified.get());
+
+        source.whenReady(notified::incrementAndGet);
+        assertEquals(2, notified.get());
+    }
+}
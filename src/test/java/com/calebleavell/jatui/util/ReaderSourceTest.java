@@ -0,0 +1,91 @@
+/*
+    Copyright (c) 2026 Caleb Leavell
+
+    Permission is hereby granted, free of charge, to any person obtaining a copy
+    of this software and associated documentation files (the "Software"), to deal
+    in the Software without restriction, including without limitation the rights
+    to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+    copies of the Software, and to permit persons to whom the Software is
+    furnished to do so, subject to the following conditions:
+
+    The above copyright notice and this permission notice shall be included in all
+    copies or substantial portions of the Software.
+
+    THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+    IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+    FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+    AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+    LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+    OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+    SOFTWARE.
+ */
+
+package com.calebleavell.jatui.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.PipedReader;
+import java.io.PipedWriter;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReaderSourceTest {
+
+    @Test
+    void testNextLine() {
+        ReaderSource source = InputSource.of(new BufferedReader(new StringReader("first\r\nsecond\n\nlast")));
+
+        assertAll(
+                () -> assertEquals("first", source.nextLine()),
+                () -> assertEquals("second", source.nextLine()),
+                () -> assertEquals("", source.nextLine()),
+                () -> assertEquals("last", source.nextLine()),
+                () -> assertThrows(NoSuchElementException.class, source::nextLine),
+                () -> assertEquals(4, source.getLinesRead())
+        );
+    }
+
+    @Test
+    void testNextLineWithTimeout() throws IOException {
+        PipedWriter writer = new PipedWriter();
+        ReaderSource source = new ReaderSource(new BufferedReader(new PipedReader(writer)));
+
+        long start = System.nanoTime();
+        String early = source.nextLine(Duration.ofMillis(30));
+        long waited = System.nanoTime() - start;
+
+        writer.write("line" + System.lineSeparator());
+        writer.flush();
+
+        assertAll(
+                () -> assertNull(early),
+                () -> assertTrue(waited >= Duration.ofMillis(30).toNanos()),
+                () -> assertTrue(source.canTimeOut()),
+                () -> assertEquals("line", source.nextLine(Duration.ofSeconds(10))),
+                () -> assertFalse(InputSource.of(new java.util.Scanner("")).canTimeOut())
+        );
+    }
+
+    @Test
+    void testReadFailure() {
+        Reader failing = new Reader() {
+            @Override
+            public int read(char[] buffer, int offset, int length) throws IOException {
+                throw new IOException("failed");
+            }
+
+            @Override
+            public void close() {}
+        };
+
+        ReaderSource source = new ReaderSource(new BufferedReader(failing));
+        assertThrows(UncheckedIOException.class, source::nextLine);
+    }
+}
@@ -0,0 +1,169 @@
+/*
+    Copyright (c) 2026 Caleb Leavell
+
+    Permission is hereby granted, free of charge, to any person obtaining a copy
+    of this software and associated documentation files (the "Software"), to deal
+    in the Software without restriction, including without limitation the rights
+    to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+    copies of the Software, and to permit persons to whom the Software is
+    furnished to do so, subject to the following conditions:
+
+    The above copyright notice and this permission notice shall be included in all
+    copies or substantial portions of the Software.
+
+    THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+    IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+    FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+    AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+    LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+    OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+    SOFTWARE.
+ */
+
+package com.calebleavell.jatui.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.fusesource.jansi.Ansi.ansi;
+import static org.junit.jupiter.api.Assertions.*;
+
+class ScreenBufferTest {
+
+    private static final String ESC = "\u001b[";
+
+    private String render(ScreenBuffer screen) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        screen.render(new PrintStream(bytes, true, StandardCharsets.UTF_8));
+        return bytes.toString(StandardCharsets.UTF_8);
+    }
+
+    @Test
+    void testRegionPrintStream() {
+        ScreenBuffer screen = new ScreenBuffer(10, 3);
+        ScreenBuffer.Region region = screen.region(1, 2, 5, 2);
+
+        region.getPrintStream().print("hello world" + System.lineSeparator() + "héllo" + System.lineSeparator() + "clipped");
+
+        assertAll(
+                () -> assertEquals("", screen.getRow(0)),
+                () -> assertEquals("  hello", screen.getRow(1)),
+                () -> assertEquals("  héllo", screen.getRow(2))
+        );
+    }
+
+    @Test
+    void testRegionStyles() {
+        ScreenBuffer screen = new ScreenBuffer(10, 1);
+        ScreenBuffer.Region region = screen.region(0, 0, 10, 1);
+
+        region.getPrintStream().print(ansi().bold() + "a" + ansi().fgRed() + "b" + ansi().reset() + "c");
+
+        assertAll(
+                () -> assertEquals("abc", screen.getRow(0)),
+                () -> assertEquals("1", screen.getStyle(0, 0)),
+                () -> assertEquals("1;31", screen.getStyle(0, 1)),
+                () -> assertEquals("", screen.getStyle(0, 2))
+        );
+    }
+
+    @Test
+    void testFirstRenderClearsAndPaints() {
+        ScreenBuffer screen = new ScreenBuffer(5, 2);
+        screen.set(1, 1, 'x', "");
+
+        assertEquals(ESC + "0m" + ESC + "2J" + ESC + "2;2H" + "x" + ESC + "3;1H", render(screen));
+    }
+
+    @Test
+    void testRenderOnlyChangedCells() {
+        ScreenBuffer screen = new ScreenBuffer(20, 5);
+        ScreenBuffer.Region region = screen.region(0, 0, 20, 5);
+
+        region.getPrintStream().print("count: 41");
+        render(screen);
+
+        screen.clear();
+        region.getPrintStream().print("count: 42");
+
+        assertAll(
+                () -> assertEquals(ESC + "1;9H" + "2" + ESC + "6;1H", render(screen)),
+                () -> assertEquals("", render(screen))
+        );
+    }
+
+    @Test
+    void testRenderRewritesSmallGaps() {
+        ScreenBuffer screen = new ScreenBuffer(10, 1);
+        screen.set(0, 0, 'a', "");
+        screen.set(0, 3, 'b', "");
+        render(screen);
+
+        screen.set(0, 0, 'c', "");
+        screen.set(0, 3, 'd', "");
+
+        assertEquals(ESC + "1;1H" + "c  d" + ESC + "2;1H", render(screen));
+    }
+
+    @Test
+    void testRenderStyles() {
+        ScreenBuffer screen = new ScreenBuffer(3, 1);
+        render(screen);
+
+        screen.set(0, 0, 'a', "1");
+        screen.set(0, 1, 'b', "1");
+        screen.set(0, 2, 'c', "");
+
+        assertEquals(ESC + "1;1H" + ESC + "0;1m" + "ab" + ESC + "0m" + "c" + ESC + "2;1H", render(screen));
+    }
+
+    @Test
+    void testInvalidate() {
+        ScreenBuffer screen = new ScreenBuffer(3, 1);
+        screen.set(0, 0, 'a', "");
+        render(screen);
+
+        assertEquals("", render(screen));
+
+        screen.invalidate();
+
+        assertEquals(ESC + "0m" + ESC + "2J" + ESC + "1;1H" + "a" + ESC + "2;1H", render(screen));
+    }
+
+    @Test
+    void testClearResetsRegions() {
+        ScreenBuffer screen = new ScreenBuffer(5, 2);
+        ScreenBuffer.Region region = screen.region(0, 0, 5, 2);
+
+        region.getPrintStream().println("ab");
+        screen.clear();
+        region.getPrintStream().print("c");
+
+        assertAll(
+                () -> assertEquals("c", screen.getRow(0)),
+                () -> assertEquals("", screen.getRow(1))
+        );
+    }
+
+    @Test
+    void testRenderPlain() {
+        ScreenBuffer screen = new ScreenBuffer(5, 2);
+        screen.set(0, 1, 'a', "1");
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        screen.renderPlain(new PrintStream(bytes, true, StandardCharsets.UTF_8));
+
+        assertEquals(" a" + System.lineSeparator() + System.lineSeparator(), bytes.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void testInvalidSize() {
+        assertAll(
+                () -> assertThrows(IllegalArgumentException.class, () -> new ScreenBuffer(0, 1)),
+                () -> assertThrows(IllegalArgumentException.class, () -> new ScreenBuffer(1, 1).region(-1, 0, 1, 1))
+        );
+    }
+}
@@ -0,0 +1,132 @@
+/*
+    Copyright (c) 2026 Caleb Leavell
+
+    Permission is hereby granted, free of charge, to any person obtaining a copy
+    of this software and associated documentation files (the "Software"), to deal
+    in the Software without restriction, including without limitation the rights
+    to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+    copies of the Software, and to permit persons to whom the Software is
+    furnished to do so, subject to the following conditions:
+
+    The above copyright notice and this permission notice shall be included in all
+    copies or substantial portions of the Software.
+
+    THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+    IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+    FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+    AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+    LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+    OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+    SOFTWARE.
+ */
+
+package com.calebleavell.jatui.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SessionRecordingTest {
+
+    @Test
+    void testRecorder() {
+        SessionRecorder recorder = new SessionRecorder(InputSource.of(new BufferedReader(new StringReader("a\nb\n"))));
+
+        assertAll(
+                () -> assertEquals("a", recorder.nextLine()),
+                () -> assertEquals("b", recorder.nextLine()),
+                () -> assertThrows(NoSuchElementException.class, recorder::nextLine)
+        );
+
+        SessionRecording recording = recorder.getRecording();
+        assertAll(
+                () -> assertEquals(List.of("a", "b"), recording.getLines()),
+                () -> assertEquals(2, recording.size()),
+                () -> assertFalse(recording.getThinkTime(0).isNegative())
+        );
+    }
+
+    @Test
+    void testRecorderThinkTime() {
+        SessionRecorder recorder = new SessionRecorder(() -> {
+            try {
+                Thread.sleep(20);
+            }
+            catch(InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "slow";
+        });
+        recorder.nextLine();
+
+        assertTrue(recorder.getRecording().getThinkTime(0).toMillis() >= 20);
+    }
+
+    @Test
+    void testWriteAndRead() throws IOException {
+        SessionRecorder recorder = new SessionRecorder(InputSource.of(new BufferedReader(new StringReader("first\n\nüñíçødé " + "x".repeat(300) + "\n"))));
+        for(int i = 0; i < 3; i ++) recorder.nextLine();
+        SessionRecording recording = recorder.getRecording();
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        recording.write(out);
+        SessionRecording read = SessionRecording.read(new ByteArrayInputStream(out.toByteArray()));
+
+        assertAll(
+                () -> assertEquals(recording.getLines(), read.getLines()),
+                () -> assertEquals(recording.getThinkTime(2).toNanos() / 1000, read.getThinkTime(2).toNanos() / 1000)
+        );
+    }
+
+    @Test
+    void testSaveAndLoad(@TempDir Path dir) throws IOException {
+        SessionRecording recording = SessionRecording.of("1", "2", "3");
+        Path file = dir.resolve("session.jts");
+        recording.save(file);
+
+        assertEquals(recording, SessionRecording.load(file));
+    }
+
+    @Test
+    void testReadInvalid() {
+        // the magic number and a think time, then a line length that is negative, too large, or past the end
+        byte[] negative = {0x4A, 0x54, 0x53, 0x31, 0, -1, -1, -1, -1, -1, -1, -1, -1, -1, 0x01};
+        byte[] huge = {0x4A, 0x54, 0x53, 0x31, 0, -1, -1, 0x7F};
+        byte[] pastEnd = {0x4A, 0x54, 0x53, 0x31, 0, -1, 0x01, 'a'};
+
+        assertAll(
+                () -> assertThrows(IOException.class, () -> SessionRecording.read(new ByteArrayInputStream(new byte[] {1, 2, 3, 4}))),
+                () -> assertThrows(IOException.class, () -> SessionRecording.read(new ByteArrayInputStream(negative))),
+                () -> assertThrows(IOException.class, () -> SessionRecording.read(new ByteArrayInputStream(huge))),
+                () -> assertThrows(IOException.class, () -> SessionRecording.read(new ByteArrayInputStream(pastEnd)))
+        );
+    }
+
+    @Test
+    void testReplay() {
+        SessionRecording recording = SessionRecording.of("a", "b");
+        InputSource first = recording.replay(0);
+        InputSource second = recording.replay(1);
+
+        assertAll(
+                () -> assertEquals("a", first.nextLine()),
+                () -> assertEquals("a", second.nextLine()),
+                () -> assertEquals("b", first.nextLine()),
+                () -> assertThrows(NoSuchElementException.class, first::nextLine),
+                () -> assertEquals(Duration.ZERO, recording.getTotalThinkTime()),
+                () -> assertThrows(IllegalArgumentException.class, () -> recording.replay(-1))
+        );
+    }
+}